@@ -0,0 +1,169 @@
+package io.stargate.sgv2.jsonapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Documents the benchmarks are run with, by kind (the <code>document</code> parameter of the
+ * benchmarks):
+ *
+ * <ul>
+ *   <li><code>sample</code>: documents of the NoSQLBench data set (<code>
+ *       nosqlbench/sample-dataset.txt</code>, one document per line), a different path can be given
+ *       with the <code>-Dbenchmark.dataset</code> JVM option
+ *   <li><code>flat</code>: typical small document, a dozen of atomic properties
+ *   <li><code>nested</code>: small document with sub-documents and arrays
+ *   <li><code>wide</code>: document with hundreds of atomic properties
+ *   <li><code>deep</code>: document with sub-documents nested close to the maximum depth
+ *   <li><code>vector</code>: small document with an embedding vector
+ * </ul>
+ *
+ * <p>The relative path of the data set is resolved from the working directory, which is the project
+ * one when the benchmarks are run with the <code>jmh</code> profile.
+ */
+public final class BenchmarkDocuments {
+
+  /** System property for the path of the data set of the <code>sample</code> documents. */
+  public static final String DATASET_PROPERTY = "benchmark.dataset";
+
+  public static final String DEFAULT_DATASET = "nosqlbench/sample-dataset.txt";
+
+  /** Dimension of the <code>vector</code> document, the one of common embedding models. */
+  public static final int VECTOR_DIMENSION = 1536;
+
+  private static final int WIDE_PROPERTY_COUNT = 500;
+
+  /** Nesting depth of the <code>deep</code> document, maximum being 16 by default. */
+  private static final int DEEP_NESTING_DEPTH = 14;
+
+  private BenchmarkDocuments() {}
+
+  /**
+   * @param objectMapper Mapper to create the documents with
+   * @param kind Kind of the documents, see the class comment
+   * @return Documents of the given kind, all with an <code>_id</code>: one for the synthetic
+   *     kinds, the whole data set for the <code>sample</code> one
+   */
+  public static List<ObjectNode> documents(ObjectMapper objectMapper, String kind) {
+    return switch (kind) {
+      case "sample" -> sampleDocuments(objectMapper);
+      case "flat" -> List.of(flatDocument(objectMapper));
+      case "nested" -> List.of(nestedDocument(objectMapper));
+      case "wide" -> List.of(wideDocument(objectMapper));
+      case "deep" -> List.of(deepDocument(objectMapper));
+      case "vector" -> List.of(vectorDocument(objectMapper));
+      default -> throw new IllegalArgumentException("Unknown document kind: " + kind);
+    };
+  }
+
+  private static List<ObjectNode> sampleDocuments(ObjectMapper objectMapper) {
+    final Path dataset = Path.of(System.getProperty(DATASET_PROPERTY, DEFAULT_DATASET));
+    final List<String> lines;
+    try {
+      lines = Files.readAllLines(dataset);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Failed to read the sample documents from " + dataset.toAbsolutePath(), e);
+    }
+    List<ObjectNode> docs = new ArrayList<>(lines.size());
+    for (String line : lines) {
+      if (line.isBlank()) {
+        continue;
+      }
+      // data set documents have no id, assigned so that all the documents have one
+      ObjectNode doc = objectMapper.createObjectNode();
+      doc.put("_id", "sample-" + docs.size());
+      try {
+        doc.setAll((ObjectNode) objectMapper.readTree(line));
+      } catch (JsonProcessingException e) {
+        throw new UncheckedIOException("Invalid sample document in " + dataset, e);
+      }
+      docs.add(doc);
+    }
+    return docs;
+  }
+
+  /** Typical small document: a dozen of atomic properties, id not the first one */
+  private static ObjectNode flatDocument(ObjectMapper objectMapper) {
+    ObjectNode doc = objectMapper.createObjectNode();
+    doc.put("name", "Bob Smith");
+    doc.put("_id", "doc-1");
+    doc.put("email", "bob.smith@example.com");
+    doc.put("age", 42);
+    doc.put("score", 87.5);
+    doc.put("active", true);
+    doc.putNull("manager");
+    doc.put("description", "Some longer free text that is not meant to be indexed.");
+    doc.put("department", "engineering");
+    doc.put("level", 3);
+    doc.putObject("created").put("$date", 1_700_000_000_000L);
+    return doc;
+  }
+
+  /** Document with sub-documents and arrays of atomic values and of sub-documents */
+  private static ObjectNode nestedDocument(ObjectMapper objectMapper) {
+    ObjectNode doc = flatDocument(objectMapper);
+    ObjectNode address = doc.putObject("address");
+    address.put("street", "1 Main Street").put("city", "Springfield").put("zip", "12345");
+    address.putObject("geo").put("lat", 39.78).put("lng", -89.64);
+    ArrayNode tags = doc.putArray("tags");
+    for (int i = 0; i < 10; ++i) {
+      tags.add("tag" + i);
+    }
+    ArrayNode orders = doc.putArray("orders");
+    for (int i = 0; i < 5; ++i) {
+      ObjectNode order = orders.addObject();
+      order.put("id", i).put("amount", 10.5 * i).put("status", "shipped");
+      order.putArray("items").add("item-" + i).add("item-" + (i + 1));
+    }
+    return doc;
+  }
+
+  /** Document with hundreds of atomic properties of all types */
+  private static ObjectNode wideDocument(ObjectMapper objectMapper) {
+    ObjectNode doc = objectMapper.createObjectNode();
+    doc.put("_id", "wide-1");
+    for (int i = 0; i < WIDE_PROPERTY_COUNT; ++i) {
+      final String name = "field_" + i;
+      switch (i % 4) {
+        case 0 -> doc.put(name, "value of the field number " + i);
+        case 1 -> doc.put(name, i * 1.5);
+        case 2 -> doc.put(name, i % 3 == 0);
+        default -> doc.put(name, (long) i * 1_000_000L);
+      }
+    }
+    return doc;
+  }
+
+  /** Document with a chain of sub-documents, each level with atomic values and a short array */
+  private static ObjectNode deepDocument(ObjectMapper objectMapper) {
+    ObjectNode doc = objectMapper.createObjectNode();
+    doc.put("_id", "deep-1");
+    ObjectNode level = doc;
+    for (int depth = 1; depth < DEEP_NESTING_DEPTH; ++depth) {
+      level.put("name", "level " + depth).put("depth", depth);
+      level.putArray("values").add(depth).add("value " + depth).add(depth % 2 == 0);
+      level = level.putObject("child");
+    }
+    level.put("name", "leaf");
+    return doc;
+  }
+
+  /** Small document with the embedding vector, as stored by vector search applications */
+  private static ObjectNode vectorDocument(ObjectMapper objectMapper) {
+    ObjectNode doc = flatDocument(objectMapper);
+    ArrayNode vector = doc.putArray("$vector");
+    for (int i = 0; i < VECTOR_DIMENSION; ++i) {
+      vector.add((float) Math.sin(i));
+    }
+    return doc;
+  }
+}
@@ -0,0 +1,82 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.serializer;
+
+import com.datastax.oss.driver.api.core.data.CqlVector;
+import com.datastax.oss.driver.api.core.data.TupleValue;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversions of the values bound to the statements by {@link CQLBindValues}: the vector of each
+ * inserted or updated document (and of the vector searches), the document id of each write and of
+ * the reads by id, and the list values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CQLBindValuesBenchmark {
+
+  @Param({"384", "1536", "4096"})
+  public int vectorDimension;
+
+  private float[] vector;
+
+  private List<DocumentId> documentIds;
+
+  private List<Object> listValues;
+
+  private int idIndex;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    vector = new float[vectorDimension];
+    for (int i = 0; i < vectorDimension; ++i) {
+      vector[i] = random.nextFloat();
+    }
+    // ids of the different types, as they are for the documents of a collection
+    documentIds =
+        List.of(
+            DocumentId.fromString("doc-1"),
+            DocumentId.fromNumber(BigDecimal.valueOf(12345)),
+            DocumentId.fromUUID(new UUID(random.nextLong(), random.nextLong())),
+            DocumentId.fromTimestamp(1_700_000_000_000L));
+    listValues = new ArrayList<>();
+    for (int i = 0; i < 20; ++i) {
+      listValues.add((i % 2 == 0) ? "value-" + i : BigDecimal.valueOf(i));
+    }
+  }
+
+  @Benchmark
+  public CqlVector<Float> vectorValue() {
+    return CQLBindValues.getVectorValue(vector);
+  }
+
+  @Benchmark
+  public TupleValue documentIdValue() {
+    return CQLBindValues.getDocumentIdValue(documentIds.get(idIndex++ & 3));
+  }
+
+  @Benchmark
+  public List<String> listValue() {
+    return CQLBindValues.getListValue(listValues);
+  }
+}
@@ -0,0 +1,146 @@
+package io.stargate.sgv2.jsonapi.service.operation.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.google.common.collect.MinMaxPriorityQueue;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.FindOperation;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import io.stargate.sgv2.jsonapi.util.JsonNodeComparator;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the in-memory top-K sorting of the rows, as done for the sorted reads, when the sort
+ * values are kept as {@link JsonNode}s and compared with the {@link JsonNodeComparator}, with the
+ * one comparing the sort keys encoded by the {@link SortKeyEncoder}. Both include the conversion of
+ * the column values read from the row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortKeyEncoderBenchmark {
+
+  private static final int ROW_COUNT = 10_000;
+
+  /** Default page size, that is the <code>skip + limit</code> of a typical sorted find */
+  private static final int TOP_K = 20;
+
+  @Param({"1", "2", "3"})
+  public int sortFieldCount;
+
+  private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+  private List<FindOperation.OrderBy> orderBy;
+
+  private DocumentId[] ids;
+
+  /** Column values of the rows, one of String, BigDecimal or Date per sort field */
+  private Object[][] rows;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(1);
+    orderBy = new ArrayList<>();
+    for (int i = 0; i < sortFieldCount; ++i) {
+      orderBy.add(new FindOperation.OrderBy("field" + i, i % 2 == 0));
+    }
+    ids = new DocumentId[ROW_COUNT];
+    rows = new Object[ROW_COUNT][];
+    for (int i = 0; i < ROW_COUNT; ++i) {
+      ids[i] = DocumentId.fromString("doc-" + i);
+      rows[i] = new Object[sortFieldCount];
+      for (int field = 0; field < sortFieldCount; ++field) {
+        // low cardinality, so that the later fields are compared as well
+        rows[i][field] =
+            switch (field) {
+              case 0 -> "user-" + random.nextInt(50);
+              case 1 -> BigDecimal.valueOf(random.nextInt(1000), 2);
+              default -> new Date(1_700_000_000_000L + random.nextInt(100) * 1000L);
+            };
+      }
+    }
+  }
+
+  @Benchmark
+  public Object jsonNodeSort() {
+    Comparator<Object[]> comparator = jsonNodeComparator();
+    MinMaxPriorityQueue<Object[]> queue =
+        MinMaxPriorityQueue.orderedBy(comparator).maximumSize(TOP_K).create();
+    for (int i = 0; i < ROW_COUNT; ++i) {
+      List<JsonNode> sortValues = new ArrayList<>(sortFieldCount);
+      for (Object value : rows[i]) {
+        if (value instanceof String text) {
+          sortValues.add(nodeFactory.textNode(text));
+        } else if (value instanceof BigDecimal number) {
+          sortValues.add(nodeFactory.numberNode(number));
+        } else {
+          sortValues.add(nodeFactory.pojoNode(new Date(((Date) value).getTime())));
+        }
+      }
+      queue.add(new Object[] {ids[i], sortValues});
+    }
+    return queue.peekFirst();
+  }
+
+  @Benchmark
+  public Object sortKeySort() {
+    SortKeyEncoder encoder = new SortKeyEncoder(orderBy);
+    MinMaxPriorityQueue<byte[]> queue =
+        MinMaxPriorityQueue.<byte[]>orderedBy(Arrays::compareUnsigned).maximumSize(TOP_K).create();
+    for (int i = 0; i < ROW_COUNT; ++i) {
+      SortKeyEncoder.Builder sortKey = encoder.newKey();
+      for (Object value : rows[i]) {
+        if (value instanceof String text) {
+          sortKey.addText(text);
+        } else if (value instanceof BigDecimal number) {
+          sortKey.addNumber(number);
+        } else {
+          sortKey.addDate(((Date) value).getTime());
+        }
+      }
+      queue.add(sortKey.build(ids[i]));
+    }
+    return queue.peekFirst();
+  }
+
+  /** Comparator equivalent to the one used before the sort keys were introduced. */
+  @SuppressWarnings("unchecked")
+  private Comparator<Object[]> jsonNodeComparator() {
+    return (row1, row2) -> {
+      List<JsonNode> values1 = (List<JsonNode>) row1[1];
+      List<JsonNode> values2 = (List<JsonNode>) row2[1];
+      for (int i = 0; i < orderBy.size(); ++i) {
+        int diff =
+            orderBy.get(i).ascending()
+                ? JsonNodeComparator.ascending().compare(values1.get(i), values2.get(i))
+                : JsonNodeComparator.descending().compare(values1.get(i), values2.get(i));
+        if (diff != 0) {
+          return diff;
+        }
+      }
+      JsonNode id1 = ((DocumentId) row1[0]).asJson(nodeFactory);
+      JsonNode id2 = ((DocumentId) row2[0]).asJson(nodeFactory);
+      return JsonNodeComparator.ascending().compare(id1, id2);
+    };
+  }
+}
@@ -0,0 +1,92 @@
+package io.stargate.sgv2.jsonapi.service.projection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the tree-based projection (read full document, then {@link
+ * DocumentProjector#applyProjection}) with the token-stream one ({@link
+ * DocumentProjector#readWithProjection}), starting from the serialized <code>doc_json</code> as
+ * read from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentProjectorBenchmark {
+
+  private static final int VECTOR_DIMENSION = 1536;
+
+  private static final int FIELD_COUNT = 200;
+
+  @Param({
+    // narrow inclusion on a wide document
+    "{\"field_7\":1,\"nested.name\":1}",
+    // default-like exclusion of the vector
+    "{\"$vector\":0}",
+    // inclusion with $slice of an array
+    "{\"tags\":{\"$slice\":3},\"field_1\":1}"
+  })
+  public String projectionDef;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private DocumentProjector projector;
+
+  private byte[] docJson;
+
+  @Setup
+  public void setup() throws IOException {
+    projector = DocumentProjector.createFromDefinition(objectMapper.readTree(projectionDef));
+    docJson = objectMapper.writeValueAsBytes(wideDocument());
+  }
+
+  @Benchmark
+  public JsonNode treeProjection() throws IOException {
+    JsonNode document = objectMapper.readTree(docJson);
+    projector.applyProjection(document);
+    return document;
+  }
+
+  @Benchmark
+  public JsonNode tokenStreamProjection() throws IOException {
+    return projector.readWithProjection(objectMapper, objectMapper.createParser(docJson), null);
+  }
+
+  private ObjectNode wideDocument() {
+    ObjectNode doc = objectMapper.createObjectNode();
+    doc.put("_id", "doc-1");
+    for (int i = 0; i < FIELD_COUNT; ++i) {
+      doc.put("field_" + i, (i % 2 == 0) ? "value of the field number " + i : i * 1.5);
+    }
+    ObjectNode nested = doc.putObject("nested");
+    nested.put("name", "nested name");
+    nested.putObject("address").put("street", "Main Street").put("city", "Springfield");
+    ArrayNode tags = doc.putArray("tags");
+    for (int i = 0; i < 50; ++i) {
+      tags.add("tag" + i);
+    }
+    ArrayNode vector = doc.putArray("$vector");
+    for (int i = 0; i < VECTOR_DIMENSION; ++i) {
+      vector.add((float) Math.sin(i));
+    }
+    return doc;
+  }
+}
@@ -0,0 +1,118 @@
+package io.stargate.sgv2.jsonapi.service.resolver.model.impl.matcher;
+
+import com.bpodgursky.jbool_expressions.Expression;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.stargate.sgv2.api.common.cql.builder.BuiltCondition;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.FilterClause;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.LogicalExpression;
+import io.stargate.sgv2.jsonapi.api.model.command.deserializers.FilterClauseDeserializer;
+import io.stargate.sgv2.jsonapi.api.model.command.impl.FindCommand;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.ExpressionBuilder;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHashFormat;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Steps of the processing of a filter, from the JSON of the request to the conditions of the
+ * queries: deserialization by the {@link FilterClauseDeserializer}, resolution of the filters by
+ * the {@link FilterableResolver} and building of the expressions by the {@link ExpressionBuilder}.
+ * Each step starts from the output of the previous one, prepared once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+  @Param({
+    // find by id
+    "{\"_id\":\"doc-1\"}",
+    // implicit and of atomic values, with a range and an exists
+    "{\"name\":\"Bob\",\"age\":{\"$gt\":30},\"active\":true,\"address.city\":{\"$exists\":true}}",
+    // or, combined with an id $in: one query per id
+    "{\"$or\":[{\"name\":\"Bob\"},{\"age\":{\"$lt\":18}}],\"_id\":{\"$in\":[\"doc-1\",\"doc-2\"]}}",
+    // Array and sub-document values, hashed
+    "{\"tags\":{\"$all\":[\"a\",\"b\"]},\"address\":{\"city\":\"Springfield\"},\"scores\":[1,2,3]}"
+  })
+  public String filter;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final CommandContext commandContext =
+      new CommandContext(
+          "namespace",
+          "collection",
+          CollectionSettings.empty().withDocValueHashFormat(DocValueHashFormat.V2),
+          null,
+          "find",
+          null);
+
+  private FindResolver resolver;
+
+  private FindCommand command;
+
+  private LogicalExpression resolvedExpression;
+
+  @Setup
+  public void setup() throws IOException {
+    OperationsConfig operationsConfig = registerConfig();
+    resolver = new FindResolver();
+    resolver.operationsConfig = operationsConfig;
+    command = new FindCommand(deserialize(), null, null, null);
+    resolvedExpression = resolve();
+  }
+
+  @Benchmark
+  public FilterClause deserialize() throws IOException {
+    return objectMapper.readValue(filter, FilterClause.class);
+  }
+
+  @Benchmark
+  public LogicalExpression resolve() {
+    return resolver.resolve(commandContext, command);
+  }
+
+  @Benchmark
+  public List<Expression<BuiltCondition>> buildExpressions() {
+    return ExpressionBuilder.buildExpressions(resolvedExpression, null);
+  }
+
+  /**
+   * Registers the configuration with the default {@link OperationsConfig}, read by the {@link
+   * FilterClauseDeserializer} from the config provider, as there is no application to do it.
+   */
+  private static OperationsConfig registerConfig() {
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    SmallRyeConfig config =
+        new SmallRyeConfigBuilder()
+            .forClassLoader(classLoader)
+            .addDefaultSources()
+            .withMapping(OperationsConfig.class)
+            .build();
+    ConfigProviderResolver.instance().registerConfig(config, classLoader);
+    return config.getConfigMapping(OperationsConfig.class);
+  }
+
+  /** Resolver of the filters of the find command, as the resolvers of all filterable commands */
+  private static class FindResolver extends FilterableResolver<FindCommand> {}
+}
@@ -0,0 +1,143 @@
+package io.stargate.sgv2.jsonapi.service.shredding;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonProcessingMetricsReporter;
+import io.stargate.sgv2.jsonapi.benchmark.BenchmarkDocuments;
+import io.stargate.sgv2.jsonapi.config.DocumentLimitsConfig;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
+import io.stargate.sgv2.jsonapi.service.projection.IndexingProjector;
+import io.stargate.sgv2.jsonapi.service.shredding.model.WritableShreddedDocument;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the shredding of a document with a separate traversal for each of the validation,
+ * serialization, indexing projection and shredding, with the single pass one (see {@link
+ * SinglePassShredTraversal}). Time is per document; run with <code>-prof gc</code> for the bytes
+ * allocated per document (<code>gc.alloc.rate.norm</code>).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShredderBenchmark {
+
+  @Param({"flat", "nested", "vector", "sample", "wide", "deep"})
+  public String document;
+
+  @Param({"identity", "deny"})
+  public String indexing;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private Shredder multiPassShredder;
+
+  private Shredder singlePassShredder;
+
+  private IndexingProjector indexingProjector;
+
+  private List<ObjectNode> docs;
+
+  private int docIndex;
+
+  @Setup
+  public void setup() {
+    DocumentLimitsConfig limits = new DefaultLimits();
+    // stub only: invocations are not recorded
+    JsonProcessingMetricsReporter metricsReporter =
+        mock(JsonProcessingMetricsReporter.class, withSettings().stubOnly());
+    multiPassShredder = new Shredder(objectMapper, limits, metricsReporter, false);
+    singlePassShredder = new Shredder(objectMapper, limits, metricsReporter, true);
+    indexingProjector =
+        switch (indexing) {
+          case "deny" ->
+              IndexingProjector.createForIndexing(
+                  null, new HashSet<>(List.of("description", "address.geo")));
+          default -> IndexingProjector.identityProjector();
+        };
+    docs = BenchmarkDocuments.documents(objectMapper, document);
+  }
+
+  @Benchmark
+  public WritableShreddedDocument multiPassShred() {
+    return multiPassShredder.shred(
+        nextDocument(), null, indexingProjector, "benchmark", CollectionSettings.empty());
+  }
+
+  @Benchmark
+  public WritableShreddedDocument singlePassShred() {
+    return singlePassShredder.shred(
+        nextDocument(), null, indexingProjector, "benchmark", CollectionSettings.empty());
+  }
+
+  /** Cycles through the documents, the sample ones being more than one */
+  private JsonNode nextDocument() {
+    return docs.get(Math.floorMod(docIndex++, docs.size()));
+  }
+
+  private static class DefaultLimits implements DocumentLimitsConfig {
+    @Override
+    public int maxSize() {
+      return DEFAULT_MAX_DOCUMENT_SIZE;
+    }
+
+    @Override
+    public int maxDepth() {
+      return DEFAULT_MAX_DOCUMENT_DEPTH;
+    }
+
+    @Override
+    public int maxPropertyPathLength() {
+      return DEFAULT_MAX_PROPERTY_PATH_LENGTH;
+    }
+
+    @Override
+    public int maxObjectProperties() {
+      return DEFAULT_MAX_OBJECT_PROPERTIES;
+    }
+
+    @Override
+    public int maxDocumentProperties() {
+      return DEFAULT_MAX_DOC_PROPERTIES;
+    }
+
+    @Override
+    public int maxNumberLength() {
+      return DEFAULT_MAX_NUMBER_LENGTH;
+    }
+
+    @Override
+    public int maxStringLengthInBytes() {
+      return DEFAULT_MAX_STRING_LENGTH_IN_BYTES;
+    }
+
+    @Override
+    public int maxArrayLength() {
+      return DEFAULT_MAX_ARRAY_LENGTH;
+    }
+
+    @Override
+    public int maxVectorEmbeddingLength() {
+      return DEFAULT_MAX_VECTOR_EMBEDDING_LENGTH;
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package io.stargate.sgv2.jsonapi.service.shredding.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.stargate.sgv2.jsonapi.benchmark.BenchmarkDocuments;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hashing of whole documents by the {@link DocValueHasher}, in each of the {@link
+ * DocValueHashFormat}s: the hashes of all the Arrays and sub-documents are calculated, like when
+ * shredding. A new hasher is used for each document, as done for each command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocValueHasherBenchmark {
+
+  @Param({"sample", "nested", "wide", "deep", "vector"})
+  public String document;
+
+  @Param({"V1", "V2"})
+  public DocValueHashFormat format;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private List<ObjectNode> docs;
+
+  private int docIndex;
+
+  @Setup
+  public void setup() {
+    docs = BenchmarkDocuments.documents(objectMapper, document);
+  }
+
+  @Benchmark
+  public DocValueHash hash() {
+    return new DocValueHasher(format).hash(nextDocument());
+  }
+
+  /** Cycles through the documents, the sample ones being more than one */
+  private JsonNode nextDocument() {
+    return docs.get(Math.floorMod(docIndex++, docs.size()));
+  }
+}
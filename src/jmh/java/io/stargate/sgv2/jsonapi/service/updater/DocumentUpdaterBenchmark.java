@@ -0,0 +1,78 @@
+package io.stargate.sgv2.jsonapi.service.updater;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.stargate.sgv2.jsonapi.api.model.command.clause.update.UpdateClause;
+import io.stargate.sgv2.jsonapi.benchmark.BenchmarkDocuments;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Updates of the documents read from the database by the {@link DocumentUpdater}, constructed once
+ * from the update clause as done for each command. Updates are applied in place, so each one is
+ * applied to a copy of the document: <code>copy</code> measures the copy alone, to subtract from
+ * <code>apply</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentUpdaterBenchmark {
+
+  @Param({"sample", "nested", "wide", "deep", "vector"})
+  public String document;
+
+  @Param({
+    // atomic values, one of them nested
+    "{\"$set\":{\"status\":\"updated\",\"meta.count\":1},\"$unset\":{\"description\":1}}",
+    // Array and number updates
+    "{\"$inc\":{\"counter\":1},\"$push\":{\"tags\":{\"$each\":[\"x\",\"y\"]}}}",
+    // date and renaming of a property
+    "{\"$currentDate\":{\"updated\":true},\"$rename\":{\"name\":\"fullName\"}}"
+  })
+  public String update;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private DocumentUpdater updater;
+
+  private List<ObjectNode> docs;
+
+  private int docIndex;
+
+  @Setup
+  public void setup() throws IOException {
+    updater = DocumentUpdater.construct(objectMapper.readValue(update, UpdateClause.class));
+    docs = BenchmarkDocuments.documents(objectMapper, document);
+  }
+
+  @Benchmark
+  public JsonNode copy() {
+    return nextDocument().deepCopy();
+  }
+
+  @Benchmark
+  public DocumentUpdater.DocumentUpdaterResponse apply() {
+    return updater.apply(nextDocument().deepCopy(), false);
+  }
+
+  /** Cycles through the documents, the sample ones being more than one */
+  private ObjectNode nextDocument() {
+    return docs.get(Math.floorMod(docIndex++, docs.size()));
+  }
+}
@@ -19,6 +19,12 @@ public enum CommandStatus {
   /** Status for reporting existing collections. */
   @JsonProperty("collections")
   EXISTING_COLLECTIONS,
+  /**
+   * The element with boolean 'true' represents that the documents were inserted without checking
+   * if they already exist
+   */
+  @JsonProperty("existenceCheckSkipped")
+  EXISTENCE_CHECK_SKIPPED,
   /** The element has the list of inserted ids */
   @JsonProperty("insertedIds")
   INSERTED_IDS,
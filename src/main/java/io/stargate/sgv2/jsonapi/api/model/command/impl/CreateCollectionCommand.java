@@ -60,7 +60,15 @@ public record CreateCollectionCommand(
                   "Optional indexing configuration to provide allow/deny list of fields for indexing",
               type = SchemaType.OBJECT,
               implementation = IndexingConfig.class)
-          IndexingConfig indexing) {
+          IndexingConfig indexing,
+      @Valid
+          @JsonInclude(JsonInclude.Include.NON_NULL)
+          @Nullable
+          @Schema(
+              description = "Optional default options of the inserts into the collection",
+              type = SchemaType.OBJECT,
+              implementation = InsertConfig.class)
+          InsertConfig insert) {
 
     public record IdConfig(
         @Nullable
@@ -254,11 +262,27 @@ public record CreateCollectionCommand(
       }
     }
 
-    public Options(IdConfig idConfig, VectorSearchConfig vector, IndexingConfig indexing) {
+    public record InsertConfig(
+        @Nullable
+            @Schema(
+                description =
+                    "When `true` insertMany writes the documents without checking if a document with the same `_id` already exists, unless overridden by the command option",
+                defaultValue = "false",
+                type = SchemaType.BOOLEAN,
+                implementation = Boolean.class)
+            @JsonProperty("skipExistenceCheck")
+            Boolean skipExistenceCheck) {}
+
+    public Options(
+        IdConfig idConfig,
+        VectorSearchConfig vector,
+        IndexingConfig indexing,
+        InsertConfig insert) {
       // idConfig could be null, will resolve idType to empty string in table comment
       this.idConfig = idConfig;
       this.vector = vector;
       this.indexing = indexing;
+      this.insert = insert;
     }
   }
 }
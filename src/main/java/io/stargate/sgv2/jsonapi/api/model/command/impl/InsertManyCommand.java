@@ -38,5 +38,12 @@ public record InsertManyCommand(
               description =
                   "When `true` the server will insert the documents in sequential order, ensuring each document is successfully inserted before starting the next. Additionally the command will \"fail fast\", failing the first document that fails to insert. When `false` the server is free to re-order the inserts and parallelize them for performance. In this mode more than one document may fail to be inserted (aka \"fail silently\" mode).",
               defaultValue = "false")
-          boolean ordered) {}
+          boolean ordered,
+      @Nullable
+          @Schema(
+              description =
+                  "When `true` the documents are written without checking if a document with the same `_id` already exists, replacing the existing document if there is one. Meant for bulk loads of documents with unique ids, as it avoids the lightweight transaction for each document. Defaults to the `insert` option of the collection, `false` if not set.",
+              type = SchemaType.BOOLEAN,
+              implementation = Boolean.class)
+          Boolean skipExistenceCheck) {}
 }
@@ -1,5 +1,7 @@
 package io.stargate.sgv2.jsonapi.api.v1;
 
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.CollectionCommand;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
@@ -22,9 +24,11 @@ import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonProcessingMetricsReporter;
 import io.stargate.sgv2.jsonapi.config.constants.OpenApiConstants;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.exception.mappers.ThrowableCommandResultSupplier;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.SchemaCache;
 import io.stargate.sgv2.jsonapi.service.embedding.operation.EmbeddingProvider;
 import io.stargate.sgv2.jsonapi.service.embedding.operation.EmbeddingProviderFactory;
+import io.stargate.sgv2.jsonapi.service.processor.BulkInsertProcessor;
 import io.stargate.sgv2.jsonapi.service.processor.MeteredCommandProcessor;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -36,8 +40,12 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
+import java.io.InputStream;
+import java.util.function.Supplier;
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.ExampleObject;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -48,7 +56,9 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestMediaType;
 import org.jboss.resteasy.reactive.RestResponse;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 @Path(CollectionResource.BASE_PATH)
 @Produces(MediaType.APPLICATION_JSON)
@@ -59,6 +69,10 @@ public class CollectionResource {
 
   public static final String BASE_PATH = "/v1/{namespace}/{collection}";
 
+  public static final String STREAM_PATH = "/stream";
+
+  public static final String BULK_INSERT_PATH = "/bulk-insert";
+
   private final MeteredCommandProcessor meteredCommandProcessor;
 
   @Inject private SchemaCache schemaCache;
@@ -69,6 +83,8 @@ public class CollectionResource {
 
   @Inject private JsonProcessingMetricsReporter jsonProcessingMetricsReporter;
 
+  @Inject private BulkInsertProcessor bulkInsertProcessor;
+
   @Inject
   public CollectionResource(MeteredCommandProcessor meteredCommandProcessor) {
     this.meteredCommandProcessor = meteredCommandProcessor;
@@ -174,23 +190,12 @@ public class CollectionResource {
                 // otherwise use generic for now
                 return Uni.createFrom().item(new ThrowableCommandResultSupplier(error));
               } else {
-                EmbeddingProvider embeddingProvider = null;
-                if (collectionProperty.vectorConfig().vectorizeConfig() != null) {
-                  embeddingProvider =
-                      embeddingProviderFactory.getConfiguration(
-                          dataApiRequestInfo.getTenantId(),
-                          collectionProperty.vectorConfig().vectorizeConfig().provider(),
-                          collectionProperty.vectorConfig().vectorizeConfig().modelName());
-                }
-
                 CommandContext commandContext =
-                    new CommandContext(
+                    commandContext(
+                        collectionProperty,
                         namespace,
                         collection,
-                        collectionProperty,
-                        embeddingProvider,
-                        command.getClass().getSimpleName(),
-                        jsonProcessingMetricsReporter);
+                        command.getClass().getSimpleName());
 
                 // call processor
                 return meteredCommandProcessor.processCommand(commandContext, command);
@@ -198,4 +203,168 @@ public class CollectionResource {
             })
         .map(commandResult -> commandResult.map());
   }
+
+  @Operation(
+      summary = "Execute command with streamed response",
+      description =
+          "Executes a single command against a collection, streaming the response as newline"
+              + " delimited JSON. For the `find` command, each document is written as a separate"
+              + " `{\"data\":{\"document\":{...}}}` line as soon as it is read, followed by a"
+              + " last line holding the `nextPageState`. Other commands, and the `find` with sort,"
+              + " are written as a single line with the complete result. Errors are written as the"
+              + " last line, the response code is always `HTTP 200`.")
+  @Parameters(
+      value = {
+        @Parameter(name = "namespace", ref = "namespace"),
+        @Parameter(name = "collection", ref = "collection")
+      })
+  @APIResponses(
+      @APIResponse(
+          responseCode = "200",
+          description = "Call successful. Returns the stream of command results.",
+          content =
+              @Content(
+                  mediaType = RestMediaType.APPLICATION_NDJSON,
+                  schema = @Schema(implementation = CommandResult.class))))
+  @POST
+  @Path(STREAM_PATH)
+  @Produces(RestMediaType.APPLICATION_NDJSON)
+  @RestStreamElementType(MediaType.APPLICATION_JSON)
+  public Multi<CommandResult> streamCommand(
+      @NotNull @Valid CollectionCommand command,
+      @PathParam("namespace")
+          @NotNull
+          @Pattern(regexp = "[a-zA-Z][a-zA-Z0-9_]*")
+          @Size(min = 1, max = 48)
+          String namespace,
+      @PathParam("collection")
+          @NotNull
+          @Pattern(regexp = "[a-zA-Z][a-zA-Z0-9_]*")
+          @Size(min = 1, max = 48)
+          String collection) {
+    return schemaCache
+        .getCollectionSettings(dataApiRequestInfo.getTenantId(), namespace, collection)
+        .onItem()
+        .transformToMulti(
+            collectionProperty -> {
+              CommandContext commandContext =
+                  commandContext(
+                      collectionProperty,
+                      namespace,
+                      collection,
+                      command.getClass().getSimpleName());
+
+              // call processor
+              return meteredCommandProcessor.streamCommand(commandContext, command);
+            })
+        .onFailure()
+        .recoverWithItem(CollectionResource::streamFailure);
+  }
+
+  @Operation(
+      summary = "Bulk insert documents",
+      description =
+          "Inserts the documents given as newline delimited JSON, one document per line. Documents"
+              + " are read and inserted in unordered batches of up to `max-document-insert-count`"
+              + " documents, with a bounded number of batches in flight, so that the stream can"
+              + " hold any number of documents. The result of each batch is written as a separate"
+              + " line, in the order of the batches, with the `insertedIds` and the errors of the"
+              + " documents that failed. Errors reading the stream are written as the last line,"
+              + " the response code is always `HTTP 200`.")
+  @Parameters(
+      value = {
+        @Parameter(name = "namespace", ref = "namespace"),
+        @Parameter(name = "collection", ref = "collection"),
+        @Parameter(
+            name = "skipExistenceCheck",
+            description =
+                "If documents are inserted without checking if they already exist, overrides the"
+                    + " collection default.")
+      })
+  @RequestBody(
+      content =
+          @Content(
+              mediaType = RestMediaType.APPLICATION_NDJSON,
+              schema = @Schema(type = SchemaType.OBJECT)))
+  @APIResponses(
+      @APIResponse(
+          responseCode = "200",
+          description = "Call successful. Returns the stream of the batch insert results.",
+          content =
+              @Content(
+                  mediaType = RestMediaType.APPLICATION_NDJSON,
+                  schema = @Schema(implementation = CommandResult.class))))
+  @POST
+  @Path(BULK_INSERT_PATH)
+  @Consumes(RestMediaType.APPLICATION_NDJSON)
+  @Produces(RestMediaType.APPLICATION_NDJSON)
+  @RestStreamElementType(MediaType.APPLICATION_JSON)
+  @Blocking
+  public Multi<CommandResult> bulkInsert(
+      InputStream documents,
+      @QueryParam("skipExistenceCheck") Boolean skipExistenceCheck,
+      @PathParam("namespace")
+          @NotNull
+          @Pattern(regexp = "[a-zA-Z][a-zA-Z0-9_]*")
+          @Size(min = 1, max = 48)
+          String namespace,
+      @PathParam("collection")
+          @NotNull
+          @Pattern(regexp = "[a-zA-Z][a-zA-Z0-9_]*")
+          @Size(min = 1, max = 48)
+          String collection) {
+    return schemaCache
+        .getCollectionSettings(dataApiRequestInfo.getTenantId(), namespace, collection)
+        .onItem()
+        .transformToMulti(
+            collectionProperty -> {
+              CommandContext commandContext =
+                  commandContext(
+                      collectionProperty,
+                      namespace,
+                      collection,
+                      InsertManyCommand.class.getSimpleName());
+
+              // call processor
+              return bulkInsertProcessor.insertDocuments(
+                  commandContext, documents, skipExistenceCheck);
+            })
+        .onFailure()
+        .recoverWithItem(CollectionResource::streamFailure);
+  }
+
+  private static CommandResult streamFailure(Throwable throwable) {
+    Throwable error = throwable;
+    if (throwable instanceof RuntimeException && throwable.getCause() != null) {
+      error = throwable.getCause();
+    }
+    Supplier<CommandResult> failure =
+        error instanceof JsonApiException jsonApiException
+            ? jsonApiException
+            : new ThrowableCommandResultSupplier(error);
+    return failure.get();
+  }
+
+  private CommandContext commandContext(
+      CollectionSettings collectionProperty,
+      String namespace,
+      String collection,
+      String commandName) {
+    EmbeddingProvider embeddingProvider = null;
+    if (collectionProperty.vectorConfig().vectorizeConfig() != null) {
+      embeddingProvider =
+          embeddingProviderFactory.getConfiguration(
+              dataApiRequestInfo.getTenantId(),
+              collectionProperty.vectorConfig().vectorizeConfig().provider(),
+              collectionProperty.vectorConfig().vectorizeConfig().modelName());
+    }
+
+    return new CommandContext(
+        namespace,
+        collection,
+        collectionProperty,
+        embeddingProvider,
+        commandName,
+        jsonProcessingMetricsReporter);
+  }
 }
@@ -66,6 +66,16 @@ public interface JsonApiMetricsConfig {
   @WithDefault("json.docs.read")
   String jsonDocsRead();
 
+  /**
+   * Metric name for the time a command mutating the documents page by page waited for the next page
+   * to be read, used to monitor how well the page reads overlap with the mutations.
+   *
+   * @return metric name for the page stall time.
+   */
+  @NotBlank
+  @WithDefault("command.page.stall")
+  String pageStallMetrics();
+
   @NotBlank
   @WithDefault("command.processor.process")
   String metricsName();
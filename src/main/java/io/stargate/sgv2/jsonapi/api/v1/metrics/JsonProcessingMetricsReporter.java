@@ -4,16 +4,19 @@ import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.stargate.sgv2.api.common.config.MetricsConfig;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Reports metrics related to JSON byte sizes and operation counts for various commands. Utilizes
  * Micrometer's {@link MeterRegistry} for metric registration and reporting, allowing integration
  * with various monitoring systems. Metrics include JSON bytes written/read and counts of JSON
- * write/read operations, tagged with command and tenant information.
+ * write/read operations, and the time spent waiting for the pages of the documents to mutate,
+ * tagged with command and tenant information.
  */
 @ApplicationScoped
 public class JsonProcessingMetricsReporter {
@@ -68,6 +71,14 @@ public class JsonProcessingMetricsReporter {
     ds.record(docCount);
   }
 
+  public void reportPageStallMetrics(String commandName, long stallNanos) {
+    Timer timer =
+        Timer.builder(jsonApiMetricsConfig.pageStallMetrics())
+            .tags(getCustomTags(commandName))
+            .register(meterRegistry);
+    timer.record(stallNanos, TimeUnit.NANOSECONDS);
+  }
+
   private Tags getCustomTags(String commandName) {
     Tag tenantTag =
         Tag.of(tenantConfig.tenantTag(), dataApiRequestInfo.getTenantId().orElse(UNKNOWN_VALUE));
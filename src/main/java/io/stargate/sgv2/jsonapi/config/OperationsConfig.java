@@ -27,6 +27,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nullable;
@@ -43,6 +44,12 @@ public interface OperationsConfig {
    */
   public static final int DEFAULT_MAX_DOCUMENT_INSERT_COUNT = 20;
 
+  /**
+   * Defines the default maximum number of concurrently executed queries of a single request, when
+   * the <code>_id</code> $in filter is split into multiple queries; defaults to 8
+   */
+  int DEFAULT_MAX_IN_QUERY_CONCURRENCY = 8;
+
   /** @return Defines the default document page size, defaults to <code>20</code>. */
   @Max(500)
   @Positive
@@ -67,6 +74,15 @@ public interface OperationsConfig {
   @WithDefault("10000")
   int maxDocumentSortCount();
 
+  /**
+   * @return If in-memory sorting of the <code>find</code> and <code>findOne</code> commands should
+   *     first read only the document keys and sort values, and fetch the <code>doc_json</code> only
+   *     for the documents that are returned, defaults to <code>true</code>. Commands updating or
+   *     deleting the sorted documents always read them in a single phase.
+   */
+  @WithDefault("true")
+  boolean twoPhaseSortEnabled();
+
   /**
    * @return Defines the maximum limit of document that can be deleted for a request, defaults to
    *     <code>20</code>.
@@ -76,6 +92,13 @@ public interface OperationsConfig {
   @WithDefault("20")
   int maxDocumentDeleteCount();
 
+  /**
+   * @return If <code>deleteMany</code> reads the next page of the documents to delete while the
+   *     documents of the current page are being deleted, defaults to <code>true</code>.
+   */
+  @WithDefault("true")
+  boolean deletePagePrefetchEnabled();
+
   /**
    * @return Defines the maximum limit of document that can be updated for a request, defaults to
    *     <code>20</code>.
@@ -85,6 +108,15 @@ public interface OperationsConfig {
   @WithDefault("20")
   int maxDocumentUpdateCount();
 
+  /**
+   * @return Defines the maximum number of the matched documents that a single <code>updateMany
+   *     </code> request updates concurrently, defaults to <code>8</code>. Use <code>1</code> to
+   *     update the documents one after another.
+   */
+  @Positive
+  @WithDefault("8")
+  int maxDocumentUpdateConcurrency();
+
   /**
    * @return Maximum amount of documents that can be inserted using <code>insertMany</code> command.
    */
@@ -93,6 +125,47 @@ public interface OperationsConfig {
   @WithDefault("" + DEFAULT_MAX_DOCUMENT_INSERT_COUNT)
   int maxDocumentInsertCount();
 
+  /**
+   * @return Defines the maximum number of the document batches that a single bulk insert request
+   *     reads ahead and inserts concurrently, defaults to <code>4</code>. Each batch holds up to
+   *     {@link #maxDocumentInsertCount()} documents. Results are returned in the order of the
+   *     batches.
+   */
+  @Positive
+  @WithDefault("4")
+  int maxBulkInsertConcurrency();
+
+  /**
+   * @return If documents are validated, serialized, projected for indexing and shredded in a
+   *     single traversal of the document, defaults to <code>true</code>. When disabled, each of
+   *     these steps traverses the document on its own, with a deep copy of the document for the
+   *     indexing.
+   */
+  @WithDefault("true")
+  boolean singlePassShreddingEnabled();
+
+  /**
+   * @return If the documents of the <code>insertMany</code> command are shredded concurrently, on
+   *     a dedicated thread pool instead of the request thread, defaults to {@code true}. When
+   *     disabled, documents are shredded one after another by the request thread.
+   */
+  @WithDefault("true")
+  boolean parallelShreddingEnabled();
+
+  /**
+   * @return Number of threads of the pool shredding the documents of the <code>insertMany</code>
+   *     command, defaults to the number of available processors.
+   */
+  Optional<@Positive Integer> parallelShreddingThreads();
+
+  /**
+   * @return Version of the format of the Array and sub-document hashes of the new collections,
+   *     defaults to {@code 1}, the original format. Existing collections keep the format they were
+   *     created with. Set to {@code 2} for the compact format once all the nodes support it.
+   */
+  @WithDefault("1")
+  int docValueHashVersion();
+
   /**
    * @return Defines the max size of filter fields, defaults to {@code 64}. (note: this does not
    *     count the fields in '$operation' such as $in, $all)
@@ -107,6 +180,16 @@ public interface OperationsConfig {
   @WithDefault("100")
   int maxInOperatorValueSize();
 
+  /**
+   * @return Maximum number of the queries of the <code>_id</code> $in filter that a single request
+   *     executes concurrently, defaults to {@code 8}. Ids are grouped by the replica owning them,
+   *     and read by one query per replica (and page of ids), interleaved so that the in-flight
+   *     queries are spread over the replicas.
+   */
+  @Positive
+  @WithDefault("" + DEFAULT_MAX_IN_QUERY_CONCURRENCY)
+  int maxInQueryConcurrency();
+
   /**
    * @return Maximum size of documents returned with vector search, max value supported in cassandra
    *     is 1000 <code>1000</code> command.
@@ -151,6 +234,30 @@ public interface OperationsConfig {
     int retries();
   }
 
+  @NotNull
+  @Valid
+  ResultProcessingConfig resultProcessing();
+
+  /**
+   * Configuration of the processing of the query results: JSON parsing of the documents,
+   * projection, sorting and re-shredding for updates.
+   */
+  interface ResultProcessingConfig {
+
+    /**
+     * @return If query results are processed on a dedicated thread pool instead of the I/O thread
+     *     of the driver that received them, defaults to {@code true}.
+     */
+    @WithDefault("true")
+    boolean executorEnabled();
+
+    /**
+     * @return Number of threads of the result processing pool, defaults to the number of available
+     *     processors.
+     */
+    Optional<@Positive Integer> executorThreads();
+  }
+
   /** Cassandra/AstraDB related configurations. */
   @NotNull
   @Valid
@@ -158,7 +265,10 @@ public interface OperationsConfig {
 
   interface DatabaseConfig {
 
-    /** Database type can be <code>cassandra</code> or <code>astra</code>. */
+    /**
+     * Database type can be <code>cassandra</code>, <code>astra</code> or <code>in-memory</code>
+     * (for testing the throughput of the API without a database).
+     */
     @WithDefault(CASSANDRA)
     String type();
 
@@ -198,6 +308,15 @@ public interface OperationsConfig {
     @WithDefault("50")
     int sessionCacheMaxSize();
 
+    /** Flag to execute data statements as prepared statements, cached per CQLSession. */
+    @WithDefault("true")
+    boolean preparedStatementsEnabled();
+
+    /** Maximum number of prepared statements cached per CQLSession. */
+    @Positive
+    @WithDefault("1000")
+    int preparedStatementCacheMaxSize();
+
     /** DDL query retry wait in illis. */
     @WithDefault("1000")
     int ddlRetryDelayMillis();
@@ -205,6 +324,14 @@ public interface OperationsConfig {
     /** Create table cool off period before create index . */
     @WithDefault("2000")
     int ddlDelayMillis();
+
+    /**
+     * Latency added to the execution of each statement in millis, when type is <code>in-memory
+     * </code>.
+     */
+    @PositiveOrZero
+    @WithDefault("0")
+    int inMemoryLatencyMillis();
   }
 
   /** Query consistency related configs. */
@@ -254,4 +381,92 @@ public interface OperationsConfig {
   /** @return Flag to enable server side vectorization. */
   @WithDefault("false")
   boolean vectorizeEnabled();
+
+  @NotNull
+  @Valid
+  EmbeddingProviderCacheConfig embeddingProviderCache();
+
+  /**
+   * Configuration of the cache of the embedding providers, reused by the vectorize requests of a
+   * tenant to the same service and model.
+   */
+  interface EmbeddingProviderCacheConfig {
+
+    /** @return Maximum number of embedding providers in the cache, defaults to {@code 100}. */
+    @Positive
+    @WithDefault("100")
+    int maxSize();
+
+    /**
+     * @return Time in seconds after which an embedding provider that is not used is evicted from
+     *     the cache, defaults to {@code 300}.
+     */
+    @Positive
+    @WithDefault("300")
+    long ttlSeconds();
+  }
+
+  @NotNull
+  @Valid
+  EmbeddingCacheConfig embeddingCache();
+
+  /**
+   * Configuration of the cache of the embeddings returned by the embedding providers, by the hash
+   * of the vectorized text.
+   */
+  interface EmbeddingCacheConfig {
+
+    /** @return If the embeddings are cached, defaults to {@code true}. */
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * @return Maximum bytes held by the cached embeddings, defaults to {@code 67108864} (64 MiB,
+     *     about 10000 embeddings of 1536 dimensions).
+     */
+    @Positive
+    @WithDefault("67108864")
+    long maxSizeBytes();
+
+    /**
+     * @return Time in seconds after which a cached embedding is evicted, defaults to {@code 3600}.
+     */
+    @Positive
+    @WithDefault("3600")
+    long ttlSeconds();
+  }
+
+  @NotNull
+  @Valid
+  EmbeddingBatchingConfig embeddingBatching();
+
+  /**
+   * Configuration of the batching of the concurrent calls to an embedding provider, gathering their
+   * texts into a single request to the provider.
+   */
+  interface EmbeddingBatchingConfig {
+
+    /**
+     * @return If the concurrent calls to an embedding provider are batched, defaults to {@code
+     *     false}.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * @return Time in millis during which the texts of the concurrent calls are gathered, defaults
+     *     to {@code 5}.
+     */
+    @Positive
+    @WithDefault("5")
+    int windowMillis();
+
+    /**
+     * @return Maximum number of texts sent to the embedding provider in a batch, a batch being sent
+     *     before the end of its window once full, defaults to {@code 32}.
+     */
+    @Positive
+    @WithDefault("32")
+    int maxBatchSize();
+  }
 }
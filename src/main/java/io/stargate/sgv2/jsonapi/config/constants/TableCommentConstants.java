@@ -14,6 +14,10 @@ public interface TableCommentConstants {
   String COLLECTION_VECTOR_KEY = "vector";
   /** Schema version key */
   String SCHEMA_VERSION_KEY = "schema_version";
+  /** Version of the hash format of Arrays and sub-documents, see {@code DocValueHashFormat} */
+  String DOC_VALUE_HASH_VERSION_KEY = "hash_version";
+  /** Collection insert key */
+  String COLLECTION_INSERT_KEY = "insert";
   /** Default id type key */
   String DEFAULT_ID_KEY = "defaultId";
   /** Schema version value */
@@ -10,12 +10,16 @@ import io.quarkus.security.UnauthorizedException;
 import io.stargate.sgv2.jsonapi.JsonApiStartUp;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.InMemoryCqlSession;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.InMemoryStorage;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.slf4j.Logger;
@@ -45,10 +49,23 @@ public class CQLSessionCache {
   private static final String TOKEN = "token";
   /** CQLSession cache. */
   private final LoadingCache<SessionCacheKey, CqlSession> sessionCache;
+  /** Prepared statements cache for each of the sessions in the {@link #sessionCache}. */
+  private final ConcurrentMap<CqlSession, PreparedStatementCache> preparedStatementCaches =
+      new ConcurrentHashMap<>();
+  /**
+   * Storage of the in-memory sessions for each tenant, kept when the sessions are evicted from the
+   * {@link #sessionCache}.
+   */
+  private final ConcurrentMap<String, InMemoryStorage> inMemoryStorages =
+      new ConcurrentHashMap<>();
+  /** Meter registry used for the prepared statement cache metrics. */
+  private final MeterRegistry meterRegistry;
   /** Database type Astra */
   public static final String ASTRA = "astra";
   /** Database type OSS cassandra */
   public static final String CASSANDRA = "cassandra";
+  /** Database type in-memory, for testing the throughput of the API without a database */
+  public static final String IN_MEMORY = "in-memory";
 
   @ConfigProperty(name = "quarkus.application.name")
   private String APPLICATION_NAME;
@@ -56,6 +73,7 @@ public class CQLSessionCache {
   @Inject
   public CQLSessionCache(OperationsConfig operationsConfig, MeterRegistry meterRegistry) {
     this.operationsConfig = operationsConfig;
+    this.meterRegistry = meterRegistry;
     LoadingCache<SessionCacheKey, CqlSession> sessionCache =
         Caffeine.newBuilder()
             .expireAfterAccess(
@@ -76,6 +94,7 @@ public class CQLSessionCache {
                         }
                       }
                       if (session != null) {
+                        preparedStatementCaches.remove(session);
                         session.close();
                       }
                     })
@@ -130,6 +149,12 @@ public class CQLSessionCache {
           .withClassLoader(Thread.currentThread().getContextClassLoader())
           .withApplicationName(APPLICATION_NAME)
           .build();
+    } else if (IN_MEMORY.equals(databaseConfig.type())) {
+      return new InMemoryCqlSession(
+          APPLICATION_NAME,
+          inMemoryStorages.computeIfAbsent(cacheKey.tenantId(), tenantId -> new InMemoryStorage()),
+          Duration.ofMillis(databaseConfig.inMemoryLatencyMillis()),
+          databaseConfig.preparedStatementCacheMaxSize());
     }
     throw new RuntimeException("Unsupported database type: " + databaseConfig.type());
   }
@@ -148,6 +173,22 @@ public class CQLSessionCache {
     return sessionCache.get(getSessionCacheKey());
   }
 
+  /**
+   * Get the prepared statements cache for the given session, creating it on first access.
+   *
+   * @param session CQLSession obtained from {@link #getSession()}
+   * @return PreparedStatementCache of the session
+   */
+  public PreparedStatementCache getPreparedStatementCache(CqlSession session) {
+    return preparedStatementCaches.computeIfAbsent(
+        session,
+        s ->
+            new PreparedStatementCache(
+                s,
+                operationsConfig.databaseConfig().preparedStatementCacheMaxSize(),
+                meterRegistry));
+  }
+
   /**
    * Default token which will be used by the integration tests. If this property is set, then the
    * token from the request will be compared with this to perform authentication.
@@ -165,7 +206,7 @@ public class CQLSessionCache {
    */
   private SessionCacheKey getSessionCacheKey() {
     switch (operationsConfig.databaseConfig().type()) {
-      case CASSANDRA -> {
+      case CASSANDRA, IN_MEMORY -> {
         if (dataApiRequestInfo.getCassandraToken().isPresent()) {
           return new SessionCacheKey(
               dataApiRequestInfo.getTenantId().orElse(DEFAULT_TENANT),
@@ -0,0 +1,132 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Cache of {@link PreparedStatement}s for a single {@link CqlSession}, keyed by the CQL text of the
+ * statement. The first execution of a given query prepares it, subsequent executions only bind the
+ * values, so that the coordinator does not have to parse the same CQL over and over.
+ *
+ * <p>Instances are created and owned by the {@link CQLSessionCache}, and are discarded together
+ * with the session they belong to.
+ */
+public class PreparedStatementCache {
+
+  /** Metric name for prepared statement cache lookups, tagged with {@link #RESULT_TAG}. */
+  public static final String LOOKUPS_METRIC = "cql.prepared.statements.lookups";
+
+  /** Metric name for the time spent preparing statements (cache misses only). */
+  public static final String PREPARE_DURATION_METRIC = "cql.prepared.statements.prepare";
+
+  public static final String RESULT_TAG = "result";
+
+  private final CqlSession session;
+
+  private final MeterRegistry meterRegistry;
+
+  private final AsyncCache<String, PreparedStatement> cache;
+
+  private final Counter hitCounter;
+
+  private final Counter missCounter;
+
+  private final Timer prepareTimer;
+
+  public PreparedStatementCache(CqlSession session, long maxSize, MeterRegistry meterRegistry) {
+    this.session = session;
+    this.meterRegistry = meterRegistry;
+    this.cache = Caffeine.newBuilder().maximumSize(maxSize).buildAsync();
+    this.hitCounter = meterRegistry.counter(LOOKUPS_METRIC, RESULT_TAG, "hit");
+    this.missCounter = meterRegistry.counter(LOOKUPS_METRIC, RESULT_TAG, "miss");
+    this.prepareTimer = meterRegistry.timer(PREPARE_DURATION_METRIC);
+  }
+
+  /**
+   * Returns the prepared version of the given statement, preparing it if this is the first time the
+   * CQL text is seen. Failed preparations are not cached.
+   *
+   * @param statement Statement to prepare, only the query text is used.
+   * @return Stage completing with the prepared statement.
+   */
+  public CompletionStage<PreparedStatement> prepare(SimpleStatement statement) {
+    final String query = statement.getQuery();
+    CompletableFuture<PreparedStatement> cached = cache.getIfPresent(query);
+    if (cached != null) {
+      hitCounter.increment();
+      return cached;
+    }
+    missCounter.increment();
+    return cache.get(
+        query,
+        (cql, executor) -> {
+          Timer.Sample sample = Timer.start(meterRegistry);
+          return session
+              .prepareAsync(cql)
+              .whenComplete((prepared, error) -> sample.stop(prepareTimer))
+              .toCompletableFuture();
+        });
+  }
+
+  /**
+   * Binds the values and execution settings of the simple statement into a {@link BoundStatement}
+   * of the given prepared statement.
+   *
+   * @param prepared Prepared statement for the query of the <code>statement</code>.
+   * @param statement Statement carrying positional values, paging and consistency settings.
+   * @return BoundStatement ready for the execution
+   */
+  public static BoundStatement bind(PreparedStatement prepared, SimpleStatement statement) {
+    BoundStatementBuilder builder =
+        prepared
+            .boundStatementBuilder(statement.getPositionalValues().toArray())
+            .setPageSize(statement.getPageSize())
+            .setPagingState(statement.getPagingState())
+            .setConsistencyLevel(statement.getConsistencyLevel())
+            .setSerialConsistencyLevel(statement.getSerialConsistencyLevel())
+            .setIdempotent(statement.isIdempotent())
+            .setExecutionProfileName(statement.getExecutionProfileName());
+    // the driver computes the routing key from the partition key indices of the prepared statement
+    // only when all the partition key columns are bound by equality, not for `key IN ?`
+    if (statement.getRoutingKey() != null) {
+      builder
+          .setRoutingKeyspace(statement.getRoutingKeyspace())
+          .setRoutingKey(statement.getRoutingKey());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Removes the prepared statement for the given CQL text, so that it is re-prepared on next use.
+   *
+   * @param query CQL text
+   */
+  public void invalidate(String query) {
+    cache.synchronous().invalidate(query);
+  }
+
+  /** Removes all prepared statements, used after schema changes in the session. */
+  public void invalidateAll() {
+    cache.synchronous().invalidateAll();
+  }
+
+  /**
+   * Get cache size.
+   *
+   * @return cache size
+   */
+  public long cacheSize() {
+    cache.synchronous().cleanUp();
+    return cache.synchronous().estimatedSize();
+  }
+}
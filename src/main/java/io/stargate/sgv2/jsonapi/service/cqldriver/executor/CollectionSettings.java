@@ -16,6 +16,7 @@ import io.stargate.sgv2.jsonapi.config.constants.TableCommentConstants;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.projection.IndexingProjector;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHashFormat;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -30,12 +31,40 @@ import java.util.stream.Collectors;
  * @param collectionName
  * @param vectorConfig
  * @param indexingConfig
+ * @param skipExistenceCheck if insertMany skips the existence check of the documents by default
+ * @param docValueHashFormat format of the hashes of the Arrays and sub-documents, same for all the
+ *     documents of the collection
  */
 public record CollectionSettings(
     String collectionName,
     IdConfig idConfig,
     VectorConfig vectorConfig,
-    IndexingConfig indexingConfig) {
+    IndexingConfig indexingConfig,
+    boolean skipExistenceCheck,
+    DocValueHashFormat docValueHashFormat) {
+
+  public CollectionSettings(
+      String collectionName,
+      IdConfig idConfig,
+      VectorConfig vectorConfig,
+      IndexingConfig indexingConfig,
+      boolean skipExistenceCheck) {
+    this(
+        collectionName,
+        idConfig,
+        vectorConfig,
+        indexingConfig,
+        skipExistenceCheck,
+        DocValueHashFormat.V1);
+  }
+
+  public CollectionSettings(
+      String collectionName,
+      IdConfig idConfig,
+      VectorConfig vectorConfig,
+      IndexingConfig indexingConfig) {
+    this(collectionName, idConfig, vectorConfig, indexingConfig, false);
+  }
 
   private static final CollectionSettings EMPTY =
       new CollectionSettings(
@@ -47,7 +76,22 @@ public record CollectionSettings(
 
   public CollectionSettings withIdType(IdType idType) {
     return new CollectionSettings(
-        collectionName, new IdConfig(idType), vectorConfig, indexingConfig);
+        collectionName,
+        new IdConfig(idType),
+        vectorConfig,
+        indexingConfig,
+        skipExistenceCheck,
+        docValueHashFormat);
+  }
+
+  public CollectionSettings withDocValueHashFormat(DocValueHashFormat docValueHashFormat) {
+    return new CollectionSettings(
+        collectionName,
+        idConfig,
+        vectorConfig,
+        indexingConfig,
+        skipExistenceCheck,
+        docValueHashFormat);
   }
 
   public record IdConfig(IdType idType) {
@@ -419,7 +463,15 @@ public record CollectionSettings(
             ? null
             : new CreateCollectionCommand.Options.IdConfig(idType.toString());
 
-    options = new CreateCollectionCommand.Options(idConfig, vectorSearchConfig, indexingConfig);
+    // construct the insertConfig -- but only if non-default
+    CreateCollectionCommand.Options.InsertConfig insertConfig =
+        collectionSetting.skipExistenceCheck()
+            ? new CreateCollectionCommand.Options.InsertConfig(true)
+            : null;
+
+    options =
+        new CreateCollectionCommand.Options(
+            idConfig, vectorSearchConfig, indexingConfig, insertConfig);
 
     // CreateCollectionCommand object is created for convenience to generate json
     // response. The code is not creating a collection here.
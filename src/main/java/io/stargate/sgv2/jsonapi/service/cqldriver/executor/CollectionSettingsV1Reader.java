@@ -3,6 +3,7 @@ package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.stargate.sgv2.jsonapi.config.constants.TableCommentConstants;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHashFormat;
 
 /**
  * schema_version 1 sample:
@@ -39,6 +40,26 @@ public class CollectionSettingsV1Reader implements CollectionSettingsReader {
       idConfig = CollectionSettings.IdConfig.defaultIdConfig();
     }
 
-    return new CollectionSettings(collectionName, idConfig, vectorConfig, indexingConfig);
+    // construct collectionSettings insert defaults, existence checked if not set
+    final boolean skipExistenceCheck =
+        collectionOptionsNode
+            .path(TableCommentConstants.COLLECTION_INSERT_KEY)
+            .path("skipExistenceCheck")
+            .asBoolean(false);
+
+    // collections created before the hash format was recorded use the original one
+    final DocValueHashFormat docValueHashFormat =
+        DocValueHashFormat.fromVersion(
+            collectionNode
+                .path(TableCommentConstants.DOC_VALUE_HASH_VERSION_KEY)
+                .asInt(DocValueHashFormat.V1.version()));
+
+    return new CollectionSettings(
+        collectionName,
+        idConfig,
+        vectorConfig,
+        indexingConfig,
+        skipExistenceCheck,
+        docValueHashFormat);
   }
 }
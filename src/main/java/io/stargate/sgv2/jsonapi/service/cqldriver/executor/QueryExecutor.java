@@ -1,23 +1,29 @@
 package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverTimeoutException;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
 import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.config.OperationsConfig;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cqldriver.CQLSessionCache;
+import io.stargate.sgv2.jsonapi.service.cqldriver.PreparedStatementCache;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,11 +31,28 @@ import org.slf4j.LoggerFactory;
 @ApplicationScoped
 public class QueryExecutor {
   private static final Logger logger = LoggerFactory.getLogger(QueryExecutor.class);
+
+  /** Metric name for the count of executed statements, tagged by the routing. */
+  public static final String ROUTING_METRIC = "cql.statements.routing";
+
+  public static final String STATEMENT_TYPE_TAG = "statement.type";
+  public static final String ROUTED_TAG = "routed";
+
+  private static final String STATEMENT_TYPE_READ = "read";
+  private static final String STATEMENT_TYPE_VECTOR_SEARCH = "vector_search";
+  private static final String STATEMENT_TYPE_COUNT = "count";
+  private static final String STATEMENT_TYPE_WRITE = "write";
+
   private final OperationsConfig operationsConfig;
 
   /** CQLSession cache. */
   @Inject CQLSessionCache cqlSessionCache;
 
+  @Inject MeterRegistry meterRegistry;
+
+  /** Pool the read results are processed on, instead of the driver I/O threads. */
+  @Inject ResultProcessingExecutor resultProcessingExecutor;
+
   @Inject
   public QueryExecutor(OperationsConfig operationsConfig) {
     this.operationsConfig = operationsConfig;
@@ -43,7 +66,7 @@ public class QueryExecutor {
    * @param pagingState - In case of pagination, the paging state needs to be passed to fetch
    *     subsequent pages
    * @param pageSize - page size
-   * @return AsyncResultSet
+   * @return AsyncResultSet, emitted on the {@link ResultProcessingExecutor} pool
    */
   public Uni<AsyncResultSet> executeRead(
       SimpleStatement simpleStatement, Optional<String> pagingState, int pageSize) {
@@ -55,8 +78,8 @@ public class QueryExecutor {
       simpleStatement =
           simpleStatement.setPagingState(ByteBuffer.wrap(decodeBase64(pagingState.get())));
     }
-    return Uni.createFrom()
-        .completionStage(cqlSessionCache.getSession().executeAsync(simpleStatement));
+    return resultProcessingExecutor.emitOn(
+        Uni.createFrom().completionStage(executeAsync(simpleStatement, STATEMENT_TYPE_READ)));
   }
 
   /**
@@ -71,7 +94,7 @@ public class QueryExecutor {
         simpleStatement
             .setExecutionProfileName("count")
             .setConsistencyLevel(operationsConfig.queriesConfig().consistency().reads());
-    return cqlSessionCache.getSession().executeAsync(simpleStatement);
+    return executeAsync(simpleStatement, STATEMENT_TYPE_COUNT);
   }
 
   /**
@@ -85,7 +108,7 @@ public class QueryExecutor {
     simpleStatement =
         simpleStatement.setConsistencyLevel(operationsConfig.queriesConfig().consistency().reads());
 
-    return cqlSessionCache.getSession().executeAsync(simpleStatement);
+    return executeAsync(simpleStatement, STATEMENT_TYPE_COUNT);
   }
   /**
    * Execute vector search query with bound statement.
@@ -107,8 +130,24 @@ public class QueryExecutor {
       simpleStatement =
           simpleStatement.setPagingState(ByteBuffer.wrap(decodeBase64(pagingState.get())));
     }
-    return Uni.createFrom()
-        .completionStage(cqlSessionCache.getSession().executeAsync(simpleStatement));
+    return resultProcessingExecutor.emitOn(
+        Uni.createFrom()
+            .completionStage(executeAsync(simpleStatement, STATEMENT_TYPE_VECTOR_SEARCH)));
+  }
+
+  /**
+   * Groups the statements of a multi-key read by the replica owning the targeted keys, see {@link
+   * StatementGrouping#groupByReplica}.
+   *
+   * @param statements - Statements to group
+   * @return Groups of statements, or empty if the token metadata of the session is not available
+   */
+  public Optional<List<List<SimpleStatement>>> groupByReplica(List<SimpleStatement> statements) {
+    final CqlSession session = cqlSessionCache.getSession();
+    return session
+        .getMetadata()
+        .getTokenMap()
+        .map(tokenMap -> StatementGrouping.groupByReplica(statements, tokenMap));
   }
 
   /**
@@ -121,15 +160,68 @@ public class QueryExecutor {
   public Uni<AsyncResultSet> executeWrite(SimpleStatement statement) {
     return Uni.createFrom()
         .completionStage(
-            cqlSessionCache
-                .getSession()
-                .executeAsync(
-                    statement
-                        .setIdempotent(true)
-                        .setConsistencyLevel(
-                            operationsConfig.queriesConfig().consistency().writes())
-                        .setSerialConsistencyLevel(
-                            operationsConfig.queriesConfig().serialConsistency())));
+            executeAsync(
+                statement
+                    .setIdempotent(true)
+                    .setConsistencyLevel(operationsConfig.queriesConfig().consistency().writes())
+                    .setSerialConsistencyLevel(
+                        operationsConfig.queriesConfig().serialConsistency()),
+                STATEMENT_TYPE_WRITE));
+  }
+
+  /**
+   * Executes the data statement in the current session. Unless disabled by the configuration, the
+   * statement is prepared once per session (see {@link PreparedStatementCache}) and executed as a
+   * bound statement carrying the values and settings of the given simple statement.
+   *
+   * <p>Statements targeting a single document key carry the routing info (see {@link
+   * StatementRouting}), so that they are sent to a replica owning the document. Routed vs.
+   * unrouted executions are counted per statement type.
+   *
+   * @param statement - Simple statement with query and parameters.
+   * @param statementType - Type of the statement, used as the metrics tag.
+   * @return AsyncResultSet
+   */
+  private CompletionStage<AsyncResultSet> executeAsync(
+      SimpleStatement statement, String statementType) {
+    final CqlSession session = cqlSessionCache.getSession();
+    if (!operationsConfig.databaseConfig().preparedStatementsEnabled()) {
+      // key-targeted statements are routed by the operations building them
+      reportRouting(statementType, statement.getRoutingKey() != null);
+      return session.executeAsync(statement);
+    }
+    final PreparedStatementCache preparedStatements =
+        cqlSessionCache.getPreparedStatementCache(session);
+    return preparedStatements
+        .prepare(statement)
+        .thenCompose(
+            prepared -> {
+              // routing key is resolved by the driver using the partition key indices
+              BoundStatement bound = PreparedStatementCache.bind(prepared, statement);
+              reportRouting(statementType, bound.getRoutingKey() != null);
+              return session.executeAsync(bound);
+            })
+        .whenComplete(
+            (result, error) -> {
+              // schema may have changed underneath the prepared statement (like collection being
+              // re-created), make sure it gets re-prepared on next use
+              if (error != null && unwrap(error) instanceof InvalidQueryException) {
+                preparedStatements.invalidate(statement.getQuery());
+              }
+            });
+  }
+
+  private void reportRouting(String statementType, boolean routed) {
+    meterRegistry
+        .counter(
+            ROUTING_METRIC, STATEMENT_TYPE_TAG, statementType, ROUTED_TAG, String.valueOf(routed))
+        .increment();
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
   }
 
   /**
@@ -166,6 +258,18 @@ public class QueryExecutor {
   }
 
   private Uni<AsyncResultSet> executeSchemaChange(SimpleStatement boundStatement, String profile) {
+    return executeSchemaChangeWithRetry(boundStatement, profile)
+        .onItem()
+        .invoke(
+            // prepared statements may refer to the changed tables, so let them get re-prepared
+            () ->
+                cqlSessionCache
+                    .getPreparedStatementCache(cqlSessionCache.getSession())
+                    .invalidateAll());
+  }
+
+  private Uni<AsyncResultSet> executeSchemaChangeWithRetry(
+      SimpleStatement boundStatement, String profile) {
     return Uni.createFrom()
         .completionStage(
             cqlSessionCache
@@ -0,0 +1,51 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.util.InstrumentedExecutor;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Thread pool on which the results of the queries are processed. Results are completed by the
+ * driver on its I/O threads, so without the hop to this pool the downstream processing (JSON
+ * parsing of the documents, projection, in-memory sorting, re-shredding of the updated documents)
+ * would run on the I/O threads too, delaying the reading of the responses of all the sessions.
+ *
+ * <p>Pool metrics are tagged with the {@link #POOL_NAME}, see {@link InstrumentedExecutor}.
+ */
+@ApplicationScoped
+public class ResultProcessingExecutor {
+
+  /** Name of the pool, used for the thread names and as the metrics tag. */
+  public static final String POOL_NAME = "cql-result-processing";
+
+  private final InstrumentedExecutor executor;
+
+  @Inject
+  public ResultProcessingExecutor(OperationsConfig operationsConfig, MeterRegistry meterRegistry) {
+    final OperationsConfig.ResultProcessingConfig config = operationsConfig.resultProcessing();
+    executor =
+        new InstrumentedExecutor(
+            config.executorEnabled(), POOL_NAME, config.executorThreads(), meterRegistry);
+  }
+
+  /**
+   * Moves the emission of the result to the result processing pool, so that the processing chained
+   * to the returned {@link Uni} does not run on the driver I/O thread.
+   *
+   * @param result Result of a query, completed by the driver
+   * @return Same result, emitted on the result processing pool; or given result as-is if the pool
+   *     is disabled
+   */
+  public <T> Uni<T> emitOn(Uni<T> result) {
+    return executor.emitOn(result);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+}
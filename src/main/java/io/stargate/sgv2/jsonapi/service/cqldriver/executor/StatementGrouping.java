@@ -0,0 +1,44 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utility for grouping the statements of a multi-key read, like the per-id queries of the
+ * <code>_id</code> $in filter, by the replica owning the targeted document key.
+ */
+public final class StatementGrouping {
+
+  private StatementGrouping() {}
+
+  /**
+   * Groups the statements by the primary replica of the document key they target, so that the keys
+   * of a group can be read by a single statement executed on that replica. Groups are returned in
+   * the order of their first statement, order of statements within a group is retained. Statements
+   * that do not target a single key (see {@link StatementRouting}), or whose key has no known
+   * replica, form a group of their own.
+   *
+   * @param statements Statements to group
+   * @param tokenMap Token metadata of the session
+   * @return Groups of statements, together containing all the given statements
+   */
+  public static List<List<SimpleStatement>> groupByReplica(
+      List<SimpleStatement> statements, TokenMap tokenMap) {
+    Map<Object, List<SimpleStatement>> groups = new LinkedHashMap<>();
+    for (SimpleStatement statement : statements) {
+      Set<Node> replicas =
+          statement.getRoutingKey() == null
+              ? Set.of()
+              : tokenMap.getReplicas(statement.getRoutingKeyspace(), statement.getRoutingKey());
+      Object owner = replicas.isEmpty() ? new Object() : replicas.iterator().next();
+      groups.computeIfAbsent(owner, o -> new ArrayList<>()).add(statement);
+    }
+    return new ArrayList<>(groups.values());
+  }
+}
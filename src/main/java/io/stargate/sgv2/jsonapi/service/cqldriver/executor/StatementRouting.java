@@ -0,0 +1,45 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import java.nio.ByteBuffer;
+
+/**
+ * Utility for attaching routing information (keyspace and partition key) to the statements that
+ * target a single document by its <code>key</code>, so that the token-aware load balancing policy
+ * of the driver can send them directly to a replica. Operations set the routing when building the
+ * statement, from the document key they are binding.
+ *
+ * <p>The routing is carried over to the bound statement when the statement is executed prepared,
+ * see {@link io.stargate.sgv2.jsonapi.service.cqldriver.PreparedStatementCache#bind}. For the
+ * grouped reads of multiple keys (<code>key IN ?</code>), the statement is routed by the first of
+ * its keys, all of them being owned by the same replica.
+ */
+public final class StatementRouting {
+
+  /** Tuples are encoded the same way by all the protocol versions supported by the driver. */
+  private static final ProtocolVersion PROTOCOL_VERSION = ProtocolVersion.DEFAULT;
+
+  private StatementRouting() {}
+
+  /**
+   * Attaches the routing keyspace and key of the document to the statement.
+   *
+   * @param statement Statement targeting exactly one document key
+   * @param keyspace Keyspace of the collection
+   * @param documentKey Value bound to the <code>key</code> column, see {@link
+   *     io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues#getDocumentIdValue}
+   * @return Statement with the routing info
+   */
+  public static SimpleStatement routeToKey(
+      SimpleStatement statement, String keyspace, TupleValue documentKey) {
+    ByteBuffer routingKey =
+        TypeCodecs.tupleOf(documentKey.getType()).encode(documentKey, PROTOCOL_VERSION);
+    return statement
+        .setRoutingKeyspace(CqlIdentifier.fromInternal(keyspace))
+        .setRoutingKey(routingKey);
+  }
+}
@@ -0,0 +1,664 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import com.datastax.oss.driver.api.core.servererrors.SyntaxError;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.And;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.BindMarker;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.ColumnSelector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.CountSelector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Expression;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Literal;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Now;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Operator;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Or;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Relation;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Selector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.SimilaritySelector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.TableName;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Term;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Recursive descent parser of the CQL statements understood by the {@link InMemoryCqlSession}.
+ * Unquoted identifiers are case-insensitive, like in CQL, and returned in lower case.
+ */
+final class CqlParser {
+
+  private enum Kind {
+    IDENTIFIER,
+    QUOTED_IDENTIFIER,
+    STRING,
+    NUMBER,
+    SYMBOL,
+    BIND_MARKER,
+    END
+  }
+
+  private record Token(Kind kind, String text) {}
+
+  private final String cql;
+
+  private int position;
+
+  private Token token;
+
+  private int bindMarkers;
+
+  private CqlParser(String cql) {
+    this.cql = cql;
+    this.token = nextToken();
+  }
+
+  /**
+   * Parses the statement.
+   *
+   * @param cql CQL statement
+   * @return Parsed statement
+   * @throws SyntaxError if the statement is not valid, or not supported
+   */
+  static CqlStatement parse(String cql) {
+    CqlParser parser = new CqlParser(cql);
+    CqlStatement statement = parser.statement();
+    parser.acceptSymbol(";");
+    if (parser.token.kind() != Kind.END) {
+      throw parser.syntaxError();
+    }
+    return statement;
+  }
+
+  private CqlStatement statement() {
+    if (accept("SELECT")) {
+      return select();
+    }
+    if (accept("INSERT")) {
+      return insert();
+    }
+    if (accept("UPDATE")) {
+      return update();
+    }
+    if (accept("DELETE")) {
+      return delete();
+    }
+    if (accept("CREATE")) {
+      if (accept("KEYSPACE")) {
+        boolean ifNotExists = ifNotExists();
+        String name = identifier();
+        return new CqlStatement.CreateKeyspace(name, ifNotExists, options());
+      }
+      if (accept("TABLE")) {
+        return createTable();
+      }
+      if (accept("CUSTOM")) {
+        expect("INDEX");
+        return createIndex();
+      }
+      if (accept("INDEX")) {
+        return createIndex();
+      }
+    }
+    if (accept("DROP")) {
+      if (accept("KEYSPACE")) {
+        boolean ifExists = ifExists();
+        return new CqlStatement.DropKeyspace(identifier(), ifExists);
+      }
+      if (accept("TABLE")) {
+        boolean ifExists = ifExists();
+        return new CqlStatement.DropTable(tableName(), ifExists);
+      }
+    }
+    if (accept("TRUNCATE")) {
+      accept("TABLE");
+      return new CqlStatement.Truncate(tableName());
+    }
+    throw syntaxError();
+  }
+
+  private CqlStatement select() {
+    List<Selector> selectors = new ArrayList<>();
+    if (!acceptSymbol("*")) {
+      do {
+        selectors.add(selector());
+      } while (acceptSymbol(","));
+    }
+    expect("FROM");
+    TableName table = tableName();
+    Expression where = accept("WHERE") ? expression() : null;
+    String annColumn = null;
+    Term annVector = null;
+    if (accept("ORDER")) {
+      expect("BY");
+      annColumn = identifier();
+      expect("ANN");
+      expect("OF");
+      annVector = term();
+    }
+    Term limit = accept("LIMIT") ? term() : null;
+    if (accept("ALLOW")) {
+      expect("FILTERING");
+    }
+    return new CqlStatement.Select(table, selectors, where, annColumn, annVector, limit);
+  }
+
+  private Selector selector() {
+    String name = identifier();
+    if (acceptSymbol("(")) {
+      if (name.equals("count")) {
+        if (!acceptSymbol("*")) {
+          term();
+        }
+        expectSymbol(")");
+        return new CountSelector(alias("count"));
+      }
+      if (name.startsWith("similarity_")) {
+        String column = identifier();
+        expectSymbol(",");
+        Term vector = term();
+        expectSymbol(")");
+        String function = name.substring("similarity_".length());
+        return new SimilaritySelector(function, column, vector, alias(null));
+      }
+      throw syntaxError();
+    }
+    Term element = null;
+    if (acceptSymbol("[")) {
+      element = term();
+      expectSymbol("]");
+    }
+    return new ColumnSelector(name, element, alias(null));
+  }
+
+  private String alias(String defaultAlias) {
+    return accept("AS") ? identifier() : defaultAlias;
+  }
+
+  private CqlStatement insert() {
+    expect("INTO");
+    TableName table = tableName();
+    List<String> columns = new ArrayList<>();
+    expectSymbol("(");
+    do {
+      columns.add(identifier());
+    } while (acceptSymbol(","));
+    expectSymbol(")");
+    expect("VALUES");
+    List<Term> values = new ArrayList<>();
+    expectSymbol("(");
+    do {
+      values.add(term());
+    } while (acceptSymbol(","));
+    expectSymbol(")");
+    if (columns.size() != values.size()) {
+      throw syntaxError("Unmatched column names/values");
+    }
+    boolean ifNotExists = false;
+    if (accept("IF")) {
+      expect("NOT");
+      expect("EXISTS");
+      ifNotExists = true;
+    }
+    return new CqlStatement.Insert(table, columns, values, ifNotExists);
+  }
+
+  private CqlStatement update() {
+    TableName table = tableName();
+    expect("SET");
+    Map<String, Term> assignments = new LinkedHashMap<>();
+    do {
+      String column = identifier();
+      expectSymbol("=");
+      assignments.put(column, term());
+    } while (acceptSymbol(","));
+    expect("WHERE");
+    Expression where = expression();
+    List<Relation> conditions = new ArrayList<>();
+    boolean ifExists = conditions(conditions);
+    return new CqlStatement.Update(table, assignments, where, conditions, ifExists);
+  }
+
+  private CqlStatement delete() {
+    expect("FROM");
+    TableName table = tableName();
+    expect("WHERE");
+    Expression where = expression();
+    List<Relation> conditions = new ArrayList<>();
+    boolean ifExists = conditions(conditions);
+    return new CqlStatement.Delete(table, where, conditions, ifExists);
+  }
+
+  /**
+   * Parses the optional <code>IF</code> clause of updates and deletes.
+   *
+   * @param conditions List to add the column conditions to
+   * @return Whether the clause is <code>IF EXISTS</code>
+   */
+  private boolean conditions(List<Relation> conditions) {
+    if (!accept("IF")) {
+      return false;
+    }
+    if (accept("EXISTS")) {
+      return true;
+    }
+    do {
+      conditions.add(relation());
+    } while (accept("AND"));
+    return false;
+  }
+
+  private CqlStatement createTable() {
+    boolean ifNotExists = ifNotExists();
+    TableName table = tableName();
+    Map<String, DataType> columns = new LinkedHashMap<>();
+    List<String> primaryKey = new ArrayList<>();
+    expectSymbol("(");
+    do {
+      if (accept("PRIMARY")) {
+        expect("KEY");
+        expectSymbol("(");
+        do {
+          primaryKey.add(identifier());
+        } while (acceptSymbol(","));
+        expectSymbol(")");
+      } else {
+        String column = identifier();
+        columns.put(column, type());
+        if (accept("PRIMARY")) {
+          expect("KEY");
+          primaryKey.add(column);
+        }
+      }
+    } while (acceptSymbol(","));
+    expectSymbol(")");
+    return new CqlStatement.CreateTable(table, ifNotExists, columns, primaryKey, options());
+  }
+
+  private CqlStatement createIndex() {
+    boolean ifNotExists = ifNotExists();
+    String name = isKeyword("ON") ? null : identifier();
+    expect("ON");
+    TableName table = tableName();
+    expectSymbol("(");
+    String target = identifier();
+    if (acceptSymbol("(")) {
+      target = target + "(" + identifier() + ")";
+      expectSymbol(")");
+    }
+    expectSymbol(")");
+    String className = accept("USING") ? string() : null;
+    Map<String, String> indexOptions = new LinkedHashMap<>();
+    Object options = options().get("options");
+    if (options instanceof Map<?, ?> map) {
+      map.forEach((key, value) -> indexOptions.put(key.toString(), value.toString()));
+    }
+    return new CqlStatement.CreateIndex(
+        name, table, target, ifNotExists, className, indexOptions);
+  }
+
+  /** Parses the optional <code>WITH</code> clause of the DDL statements. */
+  private Map<String, Object> options() {
+    Map<String, Object> options = new LinkedHashMap<>();
+    if (accept("WITH")) {
+      do {
+        String name = identifier();
+        expectSymbol("=");
+        options.put(name, optionValue());
+      } while (accept("AND"));
+    }
+    return options;
+  }
+
+  private Object optionValue() {
+    if (acceptSymbol("{")) {
+      Map<String, Object> map = new LinkedHashMap<>();
+      if (!acceptSymbol("}")) {
+        do {
+          String key = string();
+          expectSymbol(":");
+          map.put(key, optionValue());
+        } while (acceptSymbol(","));
+        expectSymbol("}");
+      }
+      return map;
+    }
+    if (token.kind() == Kind.IDENTIFIER) {
+      return identifier();
+    }
+    Term term = term();
+    if (term instanceof Literal literal) {
+      return literal.value();
+    }
+    throw syntaxError();
+  }
+
+  private DataType type() {
+    String name = identifier();
+    List<DataType> types = new ArrayList<>();
+    int dimension = -1;
+    if (acceptSymbol("<")) {
+      do {
+        if (token.kind() == Kind.NUMBER) {
+          dimension = Integer.parseInt(advance().text());
+        } else {
+          types.add(type());
+        }
+      } while (acceptSymbol(","));
+      expectSymbol(">");
+    }
+    return switch (name) {
+      case "ascii" -> DataTypes.ASCII;
+      case "bigint" -> DataTypes.BIGINT;
+      case "blob" -> DataTypes.BLOB;
+      case "boolean" -> DataTypes.BOOLEAN;
+      case "date" -> DataTypes.DATE;
+      case "decimal" -> DataTypes.DECIMAL;
+      case "double" -> DataTypes.DOUBLE;
+      case "float" -> DataTypes.FLOAT;
+      case "inet" -> DataTypes.INET;
+      case "int" -> DataTypes.INT;
+      case "smallint" -> DataTypes.SMALLINT;
+      case "text", "varchar" -> DataTypes.TEXT;
+      case "time" -> DataTypes.TIME;
+      case "timestamp" -> DataTypes.TIMESTAMP;
+      case "timeuuid" -> DataTypes.TIMEUUID;
+      case "tinyint" -> DataTypes.TINYINT;
+      case "uuid" -> DataTypes.UUID;
+      case "varint" -> DataTypes.VARINT;
+      case "frozen" -> typeArgument(types, 0);
+      case "list" -> DataTypes.listOf(typeArgument(types, 0));
+      case "set" -> DataTypes.setOf(typeArgument(types, 0));
+      case "map" -> DataTypes.mapOf(typeArgument(types, 0), typeArgument(types, 1));
+      case "tuple" -> DataTypes.tupleOf(types.toArray(new DataType[0]));
+      case "vector" -> {
+        if (dimension <= 0) {
+          throw syntaxError("Vectors must have a dimension greater than 0");
+        }
+        yield DataTypes.vectorOf(typeArgument(types, 0), dimension);
+      }
+      default -> throw syntaxError("Unsupported type " + name);
+    };
+  }
+
+  private DataType typeArgument(List<DataType> types, int index) {
+    if (index >= types.size()) {
+      throw syntaxError("Missing type argument");
+    }
+    return types.get(index);
+  }
+
+  /** Parses the restrictions, <code>AND</code> taking precedence over <code>OR</code>. */
+  private Expression expression() {
+    List<Expression> children = new ArrayList<>();
+    do {
+      Expression child = conjunction();
+      if (child instanceof Or or) {
+        children.addAll(or.children());
+      } else {
+        children.add(child);
+      }
+    } while (accept("OR"));
+    return children.size() == 1 ? children.get(0) : new Or(children);
+  }
+
+  private Expression conjunction() {
+    List<Expression> children = new ArrayList<>();
+    do {
+      Expression child;
+      if (acceptSymbol("(")) {
+        child = expression();
+        expectSymbol(")");
+      } else {
+        child = relation();
+      }
+      if (child instanceof And and) {
+        children.addAll(and.children());
+      } else {
+        children.add(child);
+      }
+    } while (accept("AND"));
+    return children.size() == 1 ? children.get(0) : new And(children);
+  }
+
+  private Relation relation() {
+    String column = identifier();
+    Term element = null;
+    if (acceptSymbol("[")) {
+      element = term();
+      expectSymbol("]");
+    }
+    Operator operator;
+    if (acceptSymbol("=")) {
+      operator = Operator.EQ;
+    } else if (acceptSymbol("!=")) {
+      operator = Operator.NEQ;
+    } else if (acceptSymbol("<")) {
+      operator = Operator.LT;
+    } else if (acceptSymbol("<=")) {
+      operator = Operator.LTE;
+    } else if (acceptSymbol(">")) {
+      operator = Operator.GT;
+    } else if (acceptSymbol(">=")) {
+      operator = Operator.GTE;
+    } else if (accept("IN")) {
+      operator = Operator.IN;
+    } else if (accept("CONTAINS")) {
+      operator = accept("KEY") ? Operator.CONTAINS_KEY : Operator.CONTAINS;
+    } else if (accept("NOT")) {
+      expect("CONTAINS");
+      operator = Operator.NOT_CONTAINS;
+    } else {
+      throw syntaxError();
+    }
+    return new Relation(column, element, operator, term());
+  }
+
+  private Term term() {
+    Token current = token;
+    switch (current.kind()) {
+      case BIND_MARKER -> {
+        advance();
+        return new BindMarker(bindMarkers++);
+      }
+      case STRING -> {
+        advance();
+        return new Literal(current.text());
+      }
+      case NUMBER -> {
+        advance();
+        BigDecimal number = new BigDecimal(current.text());
+        if (number.scale() <= 0) {
+          try {
+            return new Literal(number.intValueExact());
+          } catch (ArithmeticException e) {
+            return new Literal(number.longValueExact());
+          }
+        }
+        return new Literal(number);
+      }
+      case IDENTIFIER -> {
+        String name = current.text().toLowerCase(Locale.ROOT);
+        if (name.equals("now")) {
+          advance();
+          expectSymbol("(");
+          expectSymbol(")");
+          return new Now();
+        }
+        if (name.equals("true") || name.equals("false")) {
+          advance();
+          return new Literal(Boolean.valueOf(name));
+        }
+        if (name.equals("null")) {
+          advance();
+          return new Literal(null);
+        }
+      }
+    }
+    throw syntaxError();
+  }
+
+  private TableName tableName() {
+    String name = identifier();
+    if (acceptSymbol(".")) {
+      return new TableName(name, identifier());
+    }
+    throw syntaxError("The keyspace of the table must be specified");
+  }
+
+  private boolean ifNotExists() {
+    if (accept("IF")) {
+      expect("NOT");
+      expect("EXISTS");
+      return true;
+    }
+    return false;
+  }
+
+  private boolean ifExists() {
+    if (accept("IF")) {
+      expect("EXISTS");
+      return true;
+    }
+    return false;
+  }
+
+  private String identifier() {
+    return switch (token.kind()) {
+      case IDENTIFIER -> advance().text().toLowerCase(Locale.ROOT);
+      case QUOTED_IDENTIFIER -> advance().text();
+      default -> throw syntaxError();
+    };
+  }
+
+  private String string() {
+    if (token.kind() != Kind.STRING) {
+      throw syntaxError();
+    }
+    return advance().text();
+  }
+
+  private boolean isKeyword(String keyword) {
+    return token.kind() == Kind.IDENTIFIER && token.text().equalsIgnoreCase(keyword);
+  }
+
+  private boolean accept(String keyword) {
+    if (isKeyword(keyword)) {
+      advance();
+      return true;
+    }
+    return false;
+  }
+
+  private void expect(String keyword) {
+    if (!accept(keyword)) {
+      throw syntaxError();
+    }
+  }
+
+  private boolean acceptSymbol(String symbol) {
+    if (token.kind() == Kind.SYMBOL && token.text().equals(symbol)) {
+      advance();
+      return true;
+    }
+    return false;
+  }
+
+  private void expectSymbol(String symbol) {
+    if (!acceptSymbol(symbol)) {
+      throw syntaxError();
+    }
+  }
+
+  private Token advance() {
+    Token current = token;
+    token = nextToken();
+    return current;
+  }
+
+  private Token nextToken() {
+    while (position < cql.length() && Character.isWhitespace(cql.charAt(position))) {
+      position++;
+    }
+    if (position >= cql.length()) {
+      return new Token(Kind.END, "");
+    }
+    char c = cql.charAt(position);
+    if (c == '"' || c == '\'') {
+      return new Token(c == '"' ? Kind.QUOTED_IDENTIFIER : Kind.STRING, quoted(c));
+    }
+    if (c == '?') {
+      position++;
+      return new Token(Kind.BIND_MARKER, "?");
+    }
+    int start = position;
+    if (Character.isDigit(c)
+        || (c == '-'
+            && position + 1 < cql.length()
+            && Character.isDigit(cql.charAt(position + 1)))) {
+      position++;
+      while (position < cql.length() && isNumberPart(cql.charAt(position))) {
+        position++;
+      }
+      return new Token(Kind.NUMBER, cql.substring(start, position));
+    }
+    if (Character.isLetter(c) || c == '_') {
+      while (position < cql.length()
+          && (Character.isLetterOrDigit(cql.charAt(position)) || cql.charAt(position) == '_')) {
+        position++;
+      }
+      return new Token(Kind.IDENTIFIER, cql.substring(start, position));
+    }
+    if ((c == '!' || c == '<' || c == '>')
+        && position + 1 < cql.length()
+        && cql.charAt(position + 1) == '=') {
+      position += 2;
+      return new Token(Kind.SYMBOL, cql.substring(start, position));
+    }
+    if ("(),.;=<>[]{}:*".indexOf(c) >= 0) {
+      position++;
+      return new Token(Kind.SYMBOL, String.valueOf(c));
+    }
+    throw syntaxError("Unexpected character '" + c + "'");
+  }
+
+  private boolean isNumberPart(char c) {
+    if (Character.isDigit(c) || c == '.' || c == 'e' || c == 'E') {
+      return true;
+    }
+    // sign of the exponent
+    char previous = cql.charAt(position - 1);
+    return (c == '-' || c == '+') && (previous == 'e' || previous == 'E');
+  }
+
+  /** Reads a quoted string or identifier, the quote being escaped by doubling it. */
+  private String quoted(char quote) {
+    StringBuilder text = new StringBuilder();
+    position++;
+    while (position < cql.length()) {
+      char c = cql.charAt(position++);
+      if (c != quote) {
+        text.append(c);
+      } else if (position < cql.length() && cql.charAt(position) == quote) {
+        text.append(quote);
+        position++;
+      } else {
+        return text.toString();
+      }
+    }
+    throw syntaxError("Unterminated quoted text");
+  }
+
+  private SyntaxError syntaxError() {
+    return syntaxError(
+        token == null || token.kind() == Kind.END
+            ? "Unexpected end of statement"
+            : "Unexpected token '" + token.text() + "'");
+  }
+
+  private SyntaxError syntaxError(String message) {
+    return new SyntaxError(null, message + " in statement: " + cql);
+  }
+}
@@ -0,0 +1,154 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import com.datastax.oss.driver.api.core.type.DataType;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statements understood by the {@link InMemoryCqlSession}, as parsed by the {@link CqlParser}:
+ * the subset of CQL emitted by the operations of the API for the collection tables.
+ */
+sealed interface CqlStatement {
+
+  /**
+   * Select, with an optional ANN ordering on a vector column.
+   *
+   * @param table Table to read
+   * @param selectors Selected columns, functions or map elements; empty for <code>*</code>
+   * @param where Restrictions of the rows, or <code>null</code>
+   * @param annColumn Vector column of the <code>ORDER BY ... ANN OF</code>, or <code>null</code>
+   * @param annVector Vector to order by, or <code>null</code>
+   * @param limit Maximum number of rows, or <code>null</code>
+   */
+  record Select(
+      TableName table,
+      List<Selector> selectors,
+      Expression where,
+      String annColumn,
+      Term annVector,
+      Term limit)
+      implements CqlStatement {}
+
+  record Insert(TableName table, List<String> columns, List<Term> values, boolean ifNotExists)
+      implements CqlStatement {}
+
+  /**
+   * Update of a single row.
+   *
+   * @param conditions Conditions of the <code>IF</code> clause, making it a lightweight transaction
+   */
+  record Update(
+      TableName table,
+      Map<String, Term> assignments,
+      Expression where,
+      List<Relation> conditions,
+      boolean ifExists)
+      implements CqlStatement {}
+
+  record Delete(TableName table, Expression where, List<Relation> conditions, boolean ifExists)
+      implements CqlStatement {}
+
+  record CreateKeyspace(String name, boolean ifNotExists, Map<String, Object> options)
+      implements CqlStatement {}
+
+  record DropKeyspace(String name, boolean ifExists) implements CqlStatement {}
+
+  /**
+   * Table creation.
+   *
+   * @param columns Column types by name, in the declaration order
+   * @param primaryKey Primary key columns
+   * @param options Table options, like the <code>comment</code>
+   */
+  record CreateTable(
+      TableName table,
+      boolean ifNotExists,
+      Map<String, DataType> columns,
+      List<String> primaryKey,
+      Map<String, Object> options)
+      implements CqlStatement {}
+
+  /**
+   * Index creation.
+   *
+   * @param name Name of the index, or <code>null</code> to use the default one
+   * @param target Indexed column, possibly wrapped like <code>entries(column)</code>
+   * @param options Index options, from the <code>WITH OPTIONS</code> map
+   */
+  record CreateIndex(
+      String name,
+      TableName table,
+      String target,
+      boolean ifNotExists,
+      String className,
+      Map<String, String> options)
+      implements CqlStatement {}
+
+  record DropTable(TableName table, boolean ifExists) implements CqlStatement {}
+
+  record Truncate(TableName table) implements CqlStatement {}
+
+  /** Table name, with the keyspace it belongs to, both as internal (unquoted) identifiers. */
+  record TableName(String keyspace, String table) {}
+
+  /** Values of the statements. */
+  sealed interface Term {}
+
+  /** Positional bind marker, <code>index</code> being its position among the statement values. */
+  record BindMarker(int index) implements Term {}
+
+  record Literal(Object value) implements Term {}
+
+  /** The <code>now()</code> function, generating a new time based UUID. */
+  record Now() implements Term {}
+
+  sealed interface Selector {}
+
+  /**
+   * Column selection.
+   *
+   * @param element Selected element for maps and sets (<code>column['key']</code>), or <code>null
+   *     </code> for the whole column
+   */
+  record ColumnSelector(String column, Term element, String alias) implements Selector {}
+
+  record CountSelector(String alias) implements Selector {}
+
+  /**
+   * One of the vector similarity functions, like <code>similarity_cosine(column, ?)</code>.
+   *
+   * @param function Name of the similarity function, without the <code>similarity_</code> prefix
+   */
+  record SimilaritySelector(String function, String column, Term vector, String alias)
+      implements Selector {}
+
+  /** Restrictions of the <code>WHERE</code> clause. */
+  sealed interface Expression {}
+
+  record And(List<Expression> children) implements Expression {}
+
+  record Or(List<Expression> children) implements Expression {}
+
+  /**
+   * Single restriction.
+   *
+   * @param element Key of the restricted map entry (<code>column[key] > value</code>), or <code>
+   *     null</code> when restricting the column itself
+   */
+  record Relation(String column, Term element, Operator operator, Term value)
+      implements Expression {}
+
+  enum Operator {
+    EQ,
+    NEQ,
+    LT,
+    LTE,
+    GT,
+    GTE,
+    /** Value is a <code>list</code> of the values of the column. */
+    IN,
+    CONTAINS,
+    NOT_CONTAINS,
+    CONTAINS_KEY
+  }
+}
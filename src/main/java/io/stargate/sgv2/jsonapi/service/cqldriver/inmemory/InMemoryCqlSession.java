@@ -0,0 +1,226 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PrepareRequest;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metrics.Metrics;
+import com.datastax.oss.driver.api.core.session.Request;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CqlSession} executing the statements on an {@link InMemoryStorage} instead of a cluster,
+ * to measure the throughput of the API without a database (see the <code>in-memory</code> database
+ * type of the {@link io.stargate.sgv2.jsonapi.config.OperationsConfig.DatabaseConfig}).
+ *
+ * <p>Only the asynchronous preparation and execution of statements is supported, with the subset
+ * of CQL emitted by the operations: simple statements with positional values, and the bound
+ * statements of the {@link InMemoryPreparedStatement}s. As with the driver, the results are
+ * completed by the I/O threads of the session, after the configured latency if any.
+ */
+public class InMemoryCqlSession implements CqlSession {
+
+  private final String name;
+
+  private final InMemoryStorage storage;
+
+  private final long latencyMillis;
+
+  private final ScheduledExecutorService ioExecutor;
+
+  /** Parsed statements by query, shared by the simple and the prepared statements. */
+  private final LoadingCache<String, CqlStatement> statements;
+
+  private final DriverContext context;
+
+  private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+  /**
+   * @param name Name of the session, prefixing the names of its threads
+   * @param storage Storage of the keyspaces of the session
+   * @param latency Latency added to the execution of each statement
+   * @param statementCacheMaxSize Maximum number of parsed statements kept in memory
+   */
+  public InMemoryCqlSession(
+      String name, InMemoryStorage storage, Duration latency, int statementCacheMaxSize) {
+    this.name = name;
+    this.storage = storage;
+    this.latencyMillis = latency.toMillis();
+    this.ioExecutor =
+        Executors.newScheduledThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder().setNameFormat(name + "-io-%d").setDaemon(true).build());
+    this.statements =
+        Caffeine.newBuilder().maximumSize(statementCacheMaxSize).build(CqlParser::parse);
+    this.context =
+        PartialImplementation.of(
+            DriverContext.class,
+            Map.of(
+                "getSessionName", () -> name,
+                "getProtocolVersion", () -> InMemoryTable.PROTOCOL_VERSION,
+                "getCodecRegistry", () -> CodecRegistry.DEFAULT));
+  }
+
+  /**
+   * Runs the task on the I/O threads of the session.
+   *
+   * @param task Task to run, with the latency of the session
+   * @return Result of the task, completed on an I/O thread
+   */
+  private <T> CompletionStage<T> onIoThread(Callable<T> task) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    if (closeFuture.isDone()) {
+      result.completeExceptionally(new IllegalStateException("Session is closed"));
+      return result;
+    }
+    Runnable execution =
+        () -> {
+          try {
+            result.complete(task.call());
+          } catch (Throwable error) {
+            result.completeExceptionally(error);
+          }
+        };
+    if (latencyMillis > 0) {
+      ioExecutor.schedule(execution, latencyMillis, TimeUnit.MILLISECONDS);
+    } else {
+      ioExecutor.execute(execution);
+    }
+    return result;
+  }
+
+  /** Prepares the query against the parsed statement cache and the schema of the storage. */
+  private PreparedStatement prepare(String query) {
+    return storage.prepare(query, statements.get(query));
+  }
+
+  private AsyncResultSet executeOnStorage(Statement<?> statement) {
+    final QueryResult result;
+    if (statement instanceof SimpleStatement simpleStatement) {
+      if (!simpleStatement.getNamedValues().isEmpty()) {
+        throw new UnsupportedOperationException(
+            "Named values are not supported by the in-memory session");
+      }
+      result =
+          storage.execute(
+              statements.get(simpleStatement.getQuery()),
+              simpleStatement.getPositionalValues(),
+              simpleStatement.getPageSize(),
+              simpleStatement.getPagingState());
+    } else if (statement instanceof BoundStatement bound
+        && bound.getPreparedStatement() instanceof InMemoryPreparedStatement prepared) {
+      result =
+          storage.execute(
+              prepared.statement(),
+              InMemoryPreparedStatement.values(bound),
+              bound.getPageSize(),
+              bound.getPagingState());
+    } else {
+      throw new UnsupportedOperationException(
+          "Only simple statements and the statements it prepared are supported by the in-memory"
+              + " session");
+    }
+    return new InMemoryResultSet(this, statement, result);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <RequestT extends Request, ResultT> ResultT execute(
+      RequestT request, GenericType<ResultT> resultType) {
+    if (request instanceof Statement<?> statement && Statement.ASYNC.equals(resultType)) {
+      return (ResultT) onIoThread(() -> executeOnStorage(statement));
+    }
+    if (request instanceof PrepareRequest prepareRequest
+        && PrepareRequest.ASYNC.equals(resultType)) {
+      return (ResultT) onIoThread(() -> prepare(prepareRequest.getQuery()));
+    }
+    throw new UnsupportedOperationException(
+        "Only the asynchronous preparation and execution of statements are supported by the"
+            + " in-memory session");
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Metadata getMetadata() {
+    return storage.metadata();
+  }
+
+  @Override
+  public boolean isSchemaMetadataEnabled() {
+    return true;
+  }
+
+  @Override
+  public CompletionStage<Metadata> setSchemaMetadataEnabled(Boolean newValue) {
+    return CompletableFuture.completedFuture(getMetadata());
+  }
+
+  /** {@inheritDoc} The metadata is always up to date, being updated by each schema change. */
+  @Override
+  public CompletionStage<Metadata> refreshSchemaAsync() {
+    return CompletableFuture.completedFuture(getMetadata());
+  }
+
+  @Override
+  public CompletionStage<Boolean> checkSchemaAgreementAsync() {
+    return CompletableFuture.completedFuture(true);
+  }
+
+  @Override
+  public DriverContext getContext() {
+    return context;
+  }
+
+  @Override
+  public Optional<CqlIdentifier> getKeyspace() {
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<Metrics> getMetrics() {
+    return Optional.empty();
+  }
+
+  @Override
+  public CompletionStage<Void> closeFuture() {
+    return closeFuture;
+  }
+
+  /** {@inheritDoc} The statements being executed are completed, the storage is left as is. */
+  @Override
+  public CompletionStage<Void> closeAsync() {
+    ioExecutor.shutdown();
+    closeFuture.complete(null);
+    return closeFuture;
+  }
+
+  @Override
+  public CompletionStage<Void> forceCloseAsync() {
+    ioExecutor.shutdownNow();
+    closeFuture.complete(null);
+    return closeFuture;
+  }
+}
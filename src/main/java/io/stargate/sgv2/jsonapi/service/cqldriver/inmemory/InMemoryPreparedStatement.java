@@ -0,0 +1,348 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.MapType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.google.common.hash.Hashing;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.And;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.BindMarker;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.ColumnSelector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Delete;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Expression;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Insert;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Operator;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Or;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Relation;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Select;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Selector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.SimilaritySelector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.TableName;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Term;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Update;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Statement prepared by the {@link InMemoryCqlSession}: the parsed statement, with the types of its
+ * bind markers taken from the columns they are compared with or assigned to, as the database
+ * reports them. The values are encoded with the codecs of these types when bound, and decoded back
+ * by the session when executing the bound statement.
+ *
+ * <p>The bind marker of the primary key, when restricted by equality or inserted, is the partition
+ * key index, so that the bound statements carry their routing key as with the driver.
+ */
+final class InMemoryPreparedStatement implements PreparedStatement {
+
+  private static final ColumnDefinitions NO_COLUMNS = DefaultColumnDefinitions.valueOf(List.of());
+
+  private final String query;
+
+  private final CqlStatement statement;
+
+  private final ByteBuffer id;
+
+  private final ColumnDefinitions variables;
+
+  private final List<Integer> partitionKeyIndices;
+
+  private InMemoryPreparedStatement(
+      String query,
+      CqlStatement statement,
+      ColumnDefinitions variables,
+      List<Integer> partitionKeyIndices) {
+    this.query = query;
+    this.statement = statement;
+    this.id =
+        ByteBuffer.wrap(Hashing.murmur3_128().hashString(query, StandardCharsets.UTF_8).asBytes());
+    this.variables = variables;
+    this.partitionKeyIndices = partitionKeyIndices;
+  }
+
+  /**
+   * Prepares a statement without bind markers, like the schema changes.
+   *
+   * @param query Query of the statement
+   * @param statement Parsed statement
+   * @return Prepared statement
+   */
+  static InMemoryPreparedStatement withoutVariables(String query, CqlStatement statement) {
+    return new InMemoryPreparedStatement(query, statement, NO_COLUMNS, List.of());
+  }
+
+  /**
+   * Prepares a statement of a table.
+   *
+   * @param query Query of the statement
+   * @param statement Parsed statement
+   * @param table Table the statement is executed on
+   * @param columnTypes Types of the columns of the table, failing for unknown columns
+   * @param keyColumn Primary key column of the table, or <code>null</code> if it is not routed
+   * @return Prepared statement
+   */
+  static InMemoryPreparedStatement of(
+      String query,
+      CqlStatement statement,
+      TableName table,
+      Function<String, DataType> columnTypes,
+      String keyColumn) {
+    Variables variables = new Variables(table, columnTypes);
+    List<Integer> partitionKeyIndices = new ArrayList<>(1);
+    if (statement instanceof Select select) {
+      for (Selector selector : select.selectors()) {
+        if (selector instanceof ColumnSelector column && column.element() != null) {
+          DataType type = columnTypes.apply(column.column());
+          variables.bind(column.element(), "key(" + column.column() + ")", keyType(type));
+        } else if (selector instanceof SimilaritySelector similarity) {
+          variables.bind(
+              similarity.vector(), similarity.column(), columnTypes.apply(similarity.column()));
+        }
+      }
+      variables.restrictions(select.where());
+      if (select.annColumn() != null) {
+        variables.bind(
+            select.annVector(), select.annColumn(), columnTypes.apply(select.annColumn()));
+      }
+      variables.bind(select.limit(), "[limit]", DataTypes.INT);
+      partitionKeyIndex(select.where(), keyColumn, partitionKeyIndices);
+    } else if (statement instanceof Insert insert) {
+      for (int i = 0; i < insert.columns().size(); i++) {
+        String column = insert.columns().get(i);
+        Term value = insert.values().get(i);
+        variables.bind(value, column, columnTypes.apply(column));
+        if (column.equals(keyColumn) && value instanceof BindMarker marker) {
+          partitionKeyIndices.add(marker.index());
+        }
+      }
+    } else if (statement instanceof Update update) {
+      update
+          .assignments()
+          .forEach((column, value) -> variables.bind(value, column, columnTypes.apply(column)));
+      variables.restrictions(update.where());
+      update.conditions().forEach(variables::restrictions);
+      partitionKeyIndex(update.where(), keyColumn, partitionKeyIndices);
+    } else if (statement instanceof Delete delete) {
+      variables.restrictions(delete.where());
+      delete.conditions().forEach(variables::restrictions);
+      partitionKeyIndex(delete.where(), keyColumn, partitionKeyIndices);
+    }
+    return new InMemoryPreparedStatement(
+        query, statement, variables.definitions(), List.copyOf(partitionKeyIndices));
+  }
+
+  /** Adds the bind marker of the equality restriction of the primary key, if any. */
+  private static void partitionKeyIndex(
+      Expression where, String keyColumn, List<Integer> partitionKeyIndices) {
+    List<Expression> restrictions =
+        where == null ? List.of() : where instanceof And and ? and.children() : List.of(where);
+    for (Expression restriction : restrictions) {
+      if (restriction instanceof Relation relation
+          && relation.column().equals(keyColumn)
+          && relation.operator() == Operator.EQ
+          && relation.element() == null
+          && relation.value() instanceof BindMarker marker) {
+        partitionKeyIndices.add(marker.index());
+        return;
+      }
+    }
+  }
+
+  private static DataType keyType(DataType type) {
+    if (type instanceof MapType map) {
+      return map.getKeyType();
+    }
+    if (type instanceof SetType set) {
+      return set.getElementType();
+    }
+    throw new InvalidQueryException(null, "Element selection is only supported on maps and sets");
+  }
+
+  private static DataType elementType(DataType type) {
+    if (type instanceof SetType set) {
+      return set.getElementType();
+    }
+    if (type instanceof ListType list) {
+      return list.getElementType();
+    }
+    if (type instanceof MapType map) {
+      return map.getValueType();
+    }
+    throw new InvalidQueryException(null, "Cannot use CONTAINS on non-collection column");
+  }
+
+  CqlStatement statement() {
+    return statement;
+  }
+
+  /**
+   * Values of the bound statement, decoded with the codecs of the types of the bind markers; unset
+   * values are <code>null</code>.
+   */
+  static List<Object> values(BoundStatement bound) {
+    List<Object> values = new ArrayList<>(bound.size());
+    for (int i = 0; i < bound.size(); i++) {
+      values.add(bound.isSet(i) ? bound.getObject(i) : null);
+    }
+    return values;
+  }
+
+  @Override
+  public ByteBuffer getId() {
+    return id.duplicate();
+  }
+
+  @Override
+  public String getQuery() {
+    return query;
+  }
+
+  @Override
+  public ColumnDefinitions getVariableDefinitions() {
+    return variables;
+  }
+
+  @Override
+  public List<Integer> getPartitionKeyIndices() {
+    return partitionKeyIndices;
+  }
+
+  @Override
+  public ByteBuffer getResultMetadataId() {
+    return null;
+  }
+
+  /** {@inheritDoc} Result columns are only known when executing the statement. */
+  @Override
+  public ColumnDefinitions getResultSetDefinitions() {
+    return NO_COLUMNS;
+  }
+
+  @Override
+  public void setResultMetadata(
+      ByteBuffer newResultMetadataId, ColumnDefinitions newResultSetDefinitions) {}
+
+  @Override
+  public BoundStatement bind(Object... values) {
+    return boundStatementBuilder(values).build();
+  }
+
+  @Override
+  public BoundStatementBuilder boundStatementBuilder(Object... values) {
+    return new BoundStatementBuilder(
+        this,
+        variables,
+        encode(values),
+        null,
+        null,
+        null,
+        null,
+        null,
+        Map.of(),
+        null,
+        false,
+        Statement.NO_DEFAULT_TIMESTAMP,
+        null,
+        Integer.MIN_VALUE,
+        null,
+        null,
+        null,
+        CodecRegistry.DEFAULT,
+        InMemoryTable.PROTOCOL_VERSION);
+  }
+
+  /** Encodes the values as the driver does, the missing trailing ones being unset. */
+  private ByteBuffer[] encode(Object[] values) {
+    if (values.length > variables.size()) {
+      throw new IllegalArgumentException(
+          "Too many variables (expected %d, got %d)".formatted(variables.size(), values.length));
+    }
+    ByteBuffer[] encoded = new ByteBuffer[variables.size()];
+    for (int i = 0; i < encoded.length; i++) {
+      if (i >= values.length) {
+        encoded[i] = ProtocolConstants.UNSET_VALUE;
+      } else if (values[i] != null) {
+        TypeCodec<Object> codec =
+            CodecRegistry.DEFAULT.codecFor(variables.get(i).getType(), values[i]);
+        encoded[i] = codec.encode(values[i], InMemoryTable.PROTOCOL_VERSION);
+      }
+    }
+    return encoded;
+  }
+
+  /** Definitions of the bind markers of a statement, by position. */
+  private static final class Variables {
+    private final TableName table;
+
+    private final Function<String, DataType> columnTypes;
+
+    private final Map<Integer, ColumnDefinition> definitions = new TreeMap<>();
+
+    private Variables(TableName table, Function<String, DataType> columnTypes) {
+      this.table = table;
+      this.columnTypes = columnTypes;
+    }
+
+    private void restrictions(Expression expression) {
+      if (expression instanceof And and) {
+        and.children().forEach(this::restrictions);
+      } else if (expression instanceof Or or) {
+        or.children().forEach(this::restrictions);
+      } else if (expression instanceof Relation relation) {
+        DataType type = columnTypes.apply(relation.column());
+        if (relation.element() != null) {
+          if (!(type instanceof MapType map)) {
+            throw new InvalidQueryException(
+                null, "Element restrictions are only supported on maps");
+          }
+          bind(relation.element(), "key(" + relation.column() + ")", map.getKeyType());
+          bind(relation.value(), "value(" + relation.column() + ")", map.getValueType());
+          return;
+        }
+        DataType valueType =
+            switch (relation.operator()) {
+              case CONTAINS, NOT_CONTAINS -> elementType(type);
+              case CONTAINS_KEY -> keyType(type);
+              case IN -> DataTypes.listOf(type);
+              default -> type;
+            };
+        bind(relation.value(), relation.column(), valueType);
+      }
+    }
+
+    private void bind(Term term, String name, DataType type) {
+      if (term instanceof BindMarker marker) {
+        definitions.put(
+            marker.index(),
+            QueryResult.column(table.keyspace(), table.table(), name, marker.index(), type));
+      }
+    }
+
+    private ColumnDefinitions definitions() {
+      int index = 0;
+      for (int position : definitions.keySet()) {
+        if (position != index++) {
+          throw new InvalidQueryException(
+              null, "Bind marker %d is not used by the statement".formatted(index - 1));
+        }
+      }
+      return DefaultColumnDefinitions.valueOf(new ArrayList<>(definitions.values()));
+    }
+  }
+}
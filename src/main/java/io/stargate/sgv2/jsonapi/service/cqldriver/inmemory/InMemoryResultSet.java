@@ -0,0 +1,129 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Page of the result of a statement executed by the {@link InMemoryCqlSession}. As with the
+ * driver, the rows of the page are consumed by {@link #one()} and by iterating the {@link
+ * #currentPage()}, and the next page is fetched by re-executing the statement with the paging
+ * state of this one.
+ */
+final class InMemoryResultSet implements AsyncResultSet {
+
+  private final InMemoryCqlSession session;
+
+  private final Statement<?> statement;
+
+  private final QueryResult result;
+
+  private final ExecutionInfo executionInfo;
+
+  private int next;
+
+  InMemoryResultSet(InMemoryCqlSession session, Statement<?> statement, QueryResult result) {
+    this.session = session;
+    this.statement = statement;
+    this.result = result;
+    // the paging state of the driver is read as a whole array, see ReadOperation
+    ByteBuffer pagingState =
+        result.pagingState() == null ? null : ByteBuffer.wrap(pagingStateBytes(result));
+    this.executionInfo =
+        PartialImplementation.of(
+            ExecutionInfo.class,
+            Map.of(
+                "getRequest", () -> statement,
+                "getStatement", () -> statement,
+                "getPagingState", () -> pagingState == null ? null : pagingState.duplicate(),
+                "getWarnings", List::of,
+                "getIncomingPayload", Map::of,
+                "isSchemaInAgreement", () -> true,
+                "getSpeculativeExecutionCount", () -> 0,
+                "getErrors", List::of));
+  }
+
+  private static byte[] pagingStateBytes(QueryResult result) {
+    ByteBuffer pagingState = result.pagingState().duplicate();
+    byte[] bytes = new byte[pagingState.remaining()];
+    pagingState.get(bytes);
+    return bytes;
+  }
+
+  @Override
+  public ColumnDefinitions getColumnDefinitions() {
+    return result.columns();
+  }
+
+  @Override
+  public ExecutionInfo getExecutionInfo() {
+    return executionInfo;
+  }
+
+  @Override
+  public int remaining() {
+    return result.rows().size() - next;
+  }
+
+  @Override
+  public Iterable<Row> currentPage() {
+    return () ->
+        new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return remaining() > 0;
+          }
+
+          @Override
+          public Row next() {
+            Row row = one();
+            if (row == null) {
+              throw new NoSuchElementException();
+            }
+            return row;
+          }
+        };
+  }
+
+  @Override
+  public Row one() {
+    if (remaining() == 0) {
+      return null;
+    }
+    return new InMemoryRow(result.columns(), result.rows().get(next++));
+  }
+
+  @Override
+  public boolean hasMorePages() {
+    return result.pagingState() != null;
+  }
+
+  @Override
+  public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+    if (!hasMorePages()) {
+      throw new IllegalStateException(
+          "No next page. Use #hasMorePages before calling this method to avoid this error.");
+    }
+    return session.executeAsync(statement.copy(result.pagingState()));
+  }
+
+  /**
+   * {@inheritDoc} Statements without the <code>[applied]</code> column, as the ones that are not
+   * lightweight transactions, are always applied.
+   */
+  @Override
+  public boolean wasApplied() {
+    if (result.rows().isEmpty() || !result.columns().contains("[applied]")) {
+      return true;
+    }
+    return new InMemoryRow(result.columns(), result.rows().get(0)).getBoolean("[applied]");
+  }
+}
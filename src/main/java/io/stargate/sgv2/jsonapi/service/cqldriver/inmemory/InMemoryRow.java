@@ -0,0 +1,94 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/** Row of an {@link InMemoryResultSet}, decoding the values like the rows of the driver. */
+final class InMemoryRow implements Row {
+
+  private final ColumnDefinitions columns;
+
+  private final ByteBuffer[] values;
+
+  InMemoryRow(ColumnDefinitions columns, ByteBuffer[] values) {
+    this.columns = columns;
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return columns.size();
+  }
+
+  @Override
+  public CodecRegistry codecRegistry() {
+    return CodecRegistry.DEFAULT;
+  }
+
+  @Override
+  public ProtocolVersion protocolVersion() {
+    return InMemoryTable.PROTOCOL_VERSION;
+  }
+
+  @Override
+  public ColumnDefinitions getColumnDefinitions() {
+    return columns;
+  }
+
+  @Override
+  public List<Integer> allIndicesOf(String name) {
+    return columns.allIndicesOf(name);
+  }
+
+  @Override
+  public int firstIndexOf(String name) {
+    return columns.firstIndexOf(name);
+  }
+
+  @Override
+  public List<Integer> allIndicesOf(CqlIdentifier id) {
+    return columns.allIndicesOf(id);
+  }
+
+  @Override
+  public int firstIndexOf(CqlIdentifier id) {
+    return columns.firstIndexOf(id);
+  }
+
+  @Override
+  public DataType getType(int i) {
+    return columns.get(i).getType();
+  }
+
+  @Override
+  public DataType getType(String name) {
+    return columns.get(name).getType();
+  }
+
+  @Override
+  public DataType getType(CqlIdentifier id) {
+    return columns.get(id).getType();
+  }
+
+  /** {@inheritDoc} The stored values are shared by the reads, so a view of them is returned. */
+  @Override
+  public ByteBuffer getBytesUnsafe(int i) {
+    ByteBuffer value = values[i];
+    return value == null ? null : value.duplicate();
+  }
+
+  @Override
+  public boolean isDetached() {
+    return false;
+  }
+
+  @Override
+  public void attach(AttachmentPoint attachmentPoint) {}
+}
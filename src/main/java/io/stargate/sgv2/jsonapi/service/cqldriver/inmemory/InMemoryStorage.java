@@ -0,0 +1,280 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.servererrors.AlreadyExistsException;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.driver.internal.core.metadata.schema.DefaultKeyspaceMetadata;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.And;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Expression;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Relation;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.TableName;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keyspaces and tables of the {@link InMemoryCqlSession}, kept by the session cache per tenant, so
+ * that the data survives the eviction of the sessions. Schema changes are serialized, each one
+ * publishing a new snapshot of the {@link Metadata}; data statements are executed by the tables.
+ */
+public class InMemoryStorage {
+
+  private static final String SYSTEM_KEYSPACE = "system";
+
+  private static final String SIZE_ESTIMATES = "size_estimates";
+
+  /** Columns of the <code>system.size_estimates</code> table. */
+  private static final ColumnDefinitions SIZE_ESTIMATES_COLUMNS =
+      DefaultColumnDefinitions.valueOf(
+          List.of(
+              sizeEstimatesColumn("keyspace_name", 0, DataTypes.TEXT),
+              sizeEstimatesColumn("table_name", 1, DataTypes.TEXT),
+              sizeEstimatesColumn("range_start", 2, DataTypes.TEXT),
+              sizeEstimatesColumn("range_end", 3, DataTypes.TEXT),
+              sizeEstimatesColumn("mean_partition_size", 4, DataTypes.BIGINT),
+              sizeEstimatesColumn("partitions_count", 5, DataTypes.BIGINT)));
+
+  private record Keyspace(
+      CqlIdentifier name,
+      Map<String, String> replication,
+      ConcurrentMap<String, InMemoryTable> tables) {}
+
+  private final ConcurrentMap<String, Keyspace> keyspaces = new ConcurrentHashMap<>();
+
+  private volatile Metadata metadata = new InMemoryMetadata(Map.of());
+
+  /** Snapshot of the schema, as of the last schema change. */
+  Metadata metadata() {
+    return metadata;
+  }
+
+  /**
+   * Prepares the statement: its bind markers take the types of the columns of the table it is
+   * executed on, which must exist.
+   *
+   * @param query Query of the statement
+   * @param statement Parsed statement
+   * @return Prepared statement
+   */
+  InMemoryPreparedStatement prepare(String query, CqlStatement statement) {
+    final TableName tableName;
+    if (statement instanceof CqlStatement.Select select) {
+      tableName = select.table();
+      if (tableName.keyspace().equals(SYSTEM_KEYSPACE)
+          && tableName.table().equals(SIZE_ESTIMATES)) {
+        return InMemoryPreparedStatement.of(
+            query, statement, tableName, InMemoryStorage::sizeEstimatesColumnType, null);
+      }
+    } else if (statement instanceof CqlStatement.Insert insert) {
+      tableName = insert.table();
+    } else if (statement instanceof CqlStatement.Update update) {
+      tableName = update.table();
+    } else if (statement instanceof CqlStatement.Delete delete) {
+      tableName = delete.table();
+    } else {
+      return InMemoryPreparedStatement.withoutVariables(query, statement);
+    }
+    InMemoryTable table = table(tableName);
+    return InMemoryPreparedStatement.of(
+        query, statement, tableName, table::columnType, table.keyColumn());
+  }
+
+  /**
+   * Executes the statement.
+   *
+   * @param statement Parsed statement
+   * @param values Positional values of the statement
+   * @param pageSize Page size of the reads, the default one if not positive
+   * @param pagingState Paging state of the page to read, or <code>null</code> for the first one
+   * @return Result of the statement
+   */
+  QueryResult execute(
+      CqlStatement statement, List<Object> values, int pageSize, ByteBuffer pagingState) {
+    if (statement instanceof CqlStatement.Select select) {
+      if (select.table().keyspace().equals(SYSTEM_KEYSPACE)
+          && select.table().table().equals(SIZE_ESTIMATES)) {
+        return sizeEstimates(select.where(), values);
+      }
+      return table(select.table()).select(select, values, pageSize, pagingState);
+    }
+    if (statement instanceof CqlStatement.Insert insert) {
+      return table(insert.table()).insert(insert, values);
+    }
+    if (statement instanceof CqlStatement.Update update) {
+      return table(update.table()).update(update, values);
+    }
+    if (statement instanceof CqlStatement.Delete delete) {
+      return table(delete.table()).delete(delete, values);
+    }
+    if (statement instanceof CqlStatement.Truncate truncate) {
+      table(truncate.table()).truncate();
+      return QueryResult.EMPTY;
+    }
+    changeSchema(statement);
+    return QueryResult.EMPTY;
+  }
+
+  private synchronized void changeSchema(CqlStatement statement) {
+    if (statement instanceof CqlStatement.CreateKeyspace create) {
+      if (keyspaces.containsKey(create.name())) {
+        if (!create.ifNotExists()) {
+          throw new AlreadyExistsException(null, create.name(), "");
+        }
+        return;
+      }
+      Map<String, String> replication = new LinkedHashMap<>();
+      if (create.options().get("replication") instanceof Map<?, ?> map) {
+        map.forEach((key, value) -> replication.put(key.toString(), value.toString()));
+      }
+      keyspaces.put(
+          create.name(),
+          new Keyspace(
+              CqlIdentifier.fromInternal(create.name()), replication, new ConcurrentHashMap<>()));
+    } else if (statement instanceof CqlStatement.DropKeyspace drop) {
+      if (keyspaces.remove(drop.name()) == null && !drop.ifExists()) {
+        throw new InvalidQueryException(
+            null, "Keyspace '%s' doesn't exist".formatted(drop.name()));
+      }
+    } else if (statement instanceof CqlStatement.CreateTable create) {
+      Keyspace keyspace = keyspace(create.table().keyspace());
+      if (keyspace.tables().containsKey(create.table().table())) {
+        if (!create.ifNotExists()) {
+          throw new AlreadyExistsException(
+              null, create.table().keyspace(), create.table().table());
+        }
+        return;
+      }
+      keyspace.tables().put(create.table().table(), new InMemoryTable(create));
+    } else if (statement instanceof CqlStatement.DropTable drop) {
+      Keyspace keyspace = keyspace(drop.table().keyspace());
+      if (keyspace.tables().remove(drop.table().table()) == null && !drop.ifExists()) {
+        throw new InvalidQueryException(
+            null, "Table '%s' doesn't exist".formatted(drop.table().table()));
+      }
+    } else if (statement instanceof CqlStatement.CreateIndex create) {
+      table(create.table()).createIndex(create);
+    }
+    metadata = new InMemoryMetadata(keyspacesMetadata());
+  }
+
+  private Map<CqlIdentifier, KeyspaceMetadata> keyspacesMetadata() {
+    Map<CqlIdentifier, KeyspaceMetadata> keyspacesMetadata = new LinkedHashMap<>();
+    for (Keyspace keyspace : keyspaces.values()) {
+      Map<CqlIdentifier, TableMetadata> tables = new LinkedHashMap<>();
+      keyspace.tables().values().forEach(table -> tables.put(table.name(), table.metadata()));
+      keyspacesMetadata.put(
+          keyspace.name(),
+          new DefaultKeyspaceMetadata(
+              keyspace.name(),
+              false,
+              false,
+              keyspace.replication(),
+              Map.of(),
+              tables,
+              Map.of(),
+              Map.of(),
+              Map.of()));
+    }
+    return keyspacesMetadata;
+  }
+
+  /**
+   * Size estimates of the table: the rows are counted, and reported as the partitions of two
+   * ranges covering the whole ring, so that the estimated count is the actual one.
+   */
+  private QueryResult sizeEstimates(Expression where, List<Object> values) {
+    Map<String, Object> restrictions = new LinkedHashMap<>();
+    List<Expression> relations =
+        where instanceof And and ? and.children() : where == null ? List.of() : List.of(where);
+    for (Expression relation : relations) {
+      if (relation instanceof Relation restriction) {
+        restrictions.put(
+            restriction.column(), InMemoryTable.value(restriction.value(), values));
+      }
+    }
+    String keyspace = String.valueOf(restrictions.get("keyspace_name"));
+    String tableName = String.valueOf(restrictions.get("table_name"));
+    long count = table(new TableName(keyspace, tableName)).size();
+    List<ByteBuffer[]> rows =
+        List.of(
+            sizeEstimate(keyspace, tableName, Long.MIN_VALUE, -1, count / 2 + count % 2),
+            sizeEstimate(keyspace, tableName, -1, Long.MAX_VALUE - 1, count / 2));
+    return new QueryResult(SIZE_ESTIMATES_COLUMNS, rows, null);
+  }
+
+  private static DataType sizeEstimatesColumnType(String name) {
+    if (!SIZE_ESTIMATES_COLUMNS.contains(name)) {
+      throw new InvalidQueryException(null, "Undefined column name " + name);
+    }
+    return SIZE_ESTIMATES_COLUMNS.get(name).getType();
+  }
+
+  private static ColumnDefinition sizeEstimatesColumn(String name, int index, DataType type) {
+    return QueryResult.column(SYSTEM_KEYSPACE, SIZE_ESTIMATES, name, index, type);
+  }
+
+  private static ByteBuffer[] sizeEstimate(
+      String keyspace, String table, long rangeStart, long rangeEnd, long partitions) {
+    return new ByteBuffer[] {
+      TypeCodecs.TEXT.encode(keyspace, InMemoryTable.PROTOCOL_VERSION),
+      TypeCodecs.TEXT.encode(table, InMemoryTable.PROTOCOL_VERSION),
+      TypeCodecs.TEXT.encode(Long.toString(rangeStart), InMemoryTable.PROTOCOL_VERSION),
+      TypeCodecs.TEXT.encode(Long.toString(rangeEnd), InMemoryTable.PROTOCOL_VERSION),
+      TypeCodecs.BIGINT.encodePrimitive(0, InMemoryTable.PROTOCOL_VERSION),
+      TypeCodecs.BIGINT.encodePrimitive(partitions, InMemoryTable.PROTOCOL_VERSION)
+    };
+  }
+
+  private Keyspace keyspace(String name) {
+    Keyspace keyspace = keyspaces.get(name);
+    if (keyspace == null) {
+      throw new InvalidQueryException(null, "Keyspace %s does not exist".formatted(name));
+    }
+    return keyspace;
+  }
+
+  private InMemoryTable table(TableName name) {
+    InMemoryTable table = keyspace(name.keyspace()).tables().get(name.table());
+    if (table == null) {
+      throw new InvalidQueryException(
+          null, "table %s does not exist".formatted(name.table()));
+    }
+    return table;
+  }
+
+  /** Schema metadata, without nodes or token map: statements are not routed. */
+  private record InMemoryMetadata(Map<CqlIdentifier, KeyspaceMetadata> keyspaces)
+      implements Metadata {
+
+    @Override
+    public Map<UUID, Node> getNodes() {
+      return Map.of();
+    }
+
+    @Override
+    public Map<CqlIdentifier, KeyspaceMetadata> getKeyspaces() {
+      return keyspaces;
+    }
+
+    @Override
+    public Optional<TokenMap> getTokenMap() {
+      return Optional.empty();
+    }
+  }
+}
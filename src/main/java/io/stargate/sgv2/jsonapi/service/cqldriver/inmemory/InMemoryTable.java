@@ -0,0 +1,1001 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.data.CqlVector;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.IndexKind;
+import com.datastax.oss.driver.api.core.metadata.schema.IndexMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.MapType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.VectorType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.driver.internal.core.metadata.schema.DefaultColumnMetadata;
+import com.datastax.oss.driver.internal.core.metadata.schema.DefaultIndexMetadata;
+import com.datastax.oss.driver.internal.core.metadata.schema.DefaultTableMetadata;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.Striped;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.And;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.BindMarker;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.ColumnSelector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.CountSelector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Expression;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Literal;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Operator;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Or;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Relation;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Select;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Selector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.SimilaritySelector;
+import io.stargate.sgv2.jsonapi.service.cqldriver.inmemory.CqlStatement.Term;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Table of the {@link InMemoryStorage}. Rows are sorted by their encoded primary key, reads
+ * paging through them in that order, and each <code>set</code> column is indexed so that the
+ * <code>CONTAINS</code> restrictions of the filters do not scan the whole table. Writes of the
+ * same row are serialized, which gives the lightweight transactions their semantics.
+ */
+final class InMemoryTable {
+
+  /** Page size of the statements that have none, as the default of the driver. */
+  static final int DEFAULT_PAGE_SIZE = 5000;
+
+  static final ProtocolVersion PROTOCOL_VERSION = ProtocolVersion.DEFAULT;
+
+  private static final String APPLIED = "[applied]";
+
+  private static final String SIMILARITY_FUNCTION = "similarity_function";
+
+  private static final ByteBuffer TRUE = TypeCodecs.BOOLEAN.encode(true, PROTOCOL_VERSION);
+
+  private static final ByteBuffer FALSE = TypeCodecs.BOOLEAN.encode(false, PROTOCOL_VERSION);
+
+  /**
+   * Column of the table.
+   *
+   * @param elementCodec Codec of the elements of the <code>map</code> and <code>set</code> columns,
+   *     for the selection of a single element; <code>null</code> for the other columns
+   */
+  private record Column(
+      String name,
+      DataType type,
+      int index,
+      TypeCodec<Object> codec,
+      TypeCodec<Object> elementCodec) {}
+
+  /**
+   * Version of a row: the decoded values are the ones the restrictions are evaluated on, the
+   * encoded ones are returned by the reads. Vectors are decoded as <code>float[]</code>.
+   */
+  private record StoredRow(Object[] values, ByteBuffer[] encoded) {}
+
+  private record Index(String name, String column, String target, Map<String, String> options) {}
+
+  /** Keys of the rows by each of the values of a <code>set</code> column. */
+  private record SetIndex(Column column, ConcurrentMap<Object, NavigableSet<ByteBuffer>> keys) {}
+
+  /** Row of a vector search, with its similarity to the searched vector. */
+  private record ScoredRow(StoredRow row, float score) {}
+
+  private final CqlIdentifier keyspace;
+
+  private final CqlIdentifier name;
+
+  private final UUID id = UUID.randomUUID();
+
+  private final List<Column> columns = new ArrayList<>();
+
+  private final Map<String, Column> columnsByName = new LinkedHashMap<>();
+
+  private final Column primaryKey;
+
+  private final Map<String, Object> options;
+
+  /** Indexes by name, replaced on each index creation. */
+  private volatile Map<String, Index> indexes = Map.of();
+
+  private final ConcurrentSkipListMap<ByteBuffer, StoredRow> rows = new ConcurrentSkipListMap<>();
+
+  private final List<SetIndex> setIndexes = new ArrayList<>();
+
+  private final Striped<Lock> rowLocks = Striped.lock(64);
+
+  /** Columns of the selects, by statement: the parsed statements are cached by the session. */
+  private final Cache<Select, ColumnDefinitions> selectColumns =
+      Caffeine.newBuilder().weakKeys().build();
+
+  private final QueryResult applied;
+
+  InMemoryTable(CqlStatement.CreateTable create) {
+    keyspace = CqlIdentifier.fromInternal(create.table().keyspace());
+    name = CqlIdentifier.fromInternal(create.table().table());
+    create
+        .columns()
+        .forEach(
+            (column, type) -> {
+              Column definition =
+                  new Column(
+                      column, type, columns.size(), codec(type), elementCodec(type));
+              columns.add(definition);
+              columnsByName.put(column, definition);
+              if (type instanceof SetType) {
+                setIndexes.add(new SetIndex(definition, new ConcurrentHashMap<>()));
+              }
+            });
+    if (create.primaryKey().size() != 1) {
+      throw new InvalidQueryException(
+          null, "Only single column primary keys are supported by the in-memory session");
+    }
+    primaryKey = columnsByName.get(create.primaryKey().get(0));
+    if (primaryKey == null) {
+      throw new InvalidQueryException(
+          null,
+          "Unknown definition %s referenced in PRIMARY KEY".formatted(create.primaryKey().get(0)));
+    }
+    options = Map.copyOf(create.options());
+    applied =
+        new QueryResult(
+            DefaultColumnDefinitions.valueOf(List.of(resultColumn(APPLIED, 0, DataTypes.BOOLEAN))),
+            List.<ByteBuffer[]>of(new ByteBuffer[] {TRUE}),
+            null);
+  }
+
+  CqlIdentifier name() {
+    return name;
+  }
+
+  /** Primary key column, routing the statements restricting it. */
+  String keyColumn() {
+    return primaryKey.name();
+  }
+
+  /** Type of the column, failing if the table has no such column. */
+  DataType columnType(String name) {
+    return column(name).type();
+  }
+
+  /** Number of rows, for the size estimates. */
+  int size() {
+    return rows.size();
+  }
+
+  /**
+   * Adds an index. Restrictions are evaluated on any column, indexed or not; the indexes are
+   * needed by the ANN ordering, for their similarity function, and are part of the metadata.
+   */
+  synchronized void createIndex(CqlStatement.CreateIndex create) {
+    String target = create.target();
+    String column = target.contains("(") ? target.replaceAll(".*\\((.*)\\)", "$1") : target;
+    column(column);
+    String indexName = create.name() != null ? create.name() : name.asInternal() + "_idx";
+    if (indexes.containsKey(indexName)) {
+      if (create.ifNotExists()) {
+        return;
+      }
+      throw new InvalidQueryException(null, "Index %s already exists".formatted(indexName));
+    }
+    Map<String, String> indexOptions = new LinkedHashMap<>(create.options());
+    if (create.className() != null) {
+      indexOptions.put("class_name", create.className());
+    }
+    indexOptions.put("target", target);
+    Map<String, Index> updated = new LinkedHashMap<>(indexes);
+    updated.put(indexName, new Index(indexName, column, target, Map.copyOf(indexOptions)));
+    indexes = Collections.unmodifiableMap(updated);
+  }
+
+  TableMetadata metadata() {
+    Map<CqlIdentifier, ColumnMetadata> columnMetadata = new LinkedHashMap<>();
+    for (Column column : columns) {
+      CqlIdentifier columnName = CqlIdentifier.fromInternal(column.name());
+      columnMetadata.put(
+          columnName,
+          new DefaultColumnMetadata(keyspace, name, columnName, column.type(), false));
+    }
+    Map<CqlIdentifier, Object> tableOptions = new LinkedHashMap<>();
+    options.forEach((option, value) -> tableOptions.put(CqlIdentifier.fromInternal(option), value));
+    Map<CqlIdentifier, IndexMetadata> indexMetadata = new LinkedHashMap<>();
+    for (Index index : indexes.values()) {
+      CqlIdentifier indexName = CqlIdentifier.fromInternal(index.name());
+      indexMetadata.put(
+          indexName,
+          new DefaultIndexMetadata(
+              keyspace, name, indexName, IndexKind.CUSTOM, index.target(), index.options()));
+    }
+    return new DefaultTableMetadata(
+        keyspace,
+        name,
+        id,
+        false,
+        false,
+        List.of(columnMetadata.get(CqlIdentifier.fromInternal(primaryKey.name()))),
+        Map.of(),
+        columnMetadata,
+        tableOptions,
+        indexMetadata);
+  }
+
+  QueryResult select(Select select, List<Object> values, int pageSize, ByteBuffer pagingState) {
+    int limit = Integer.MAX_VALUE;
+    if (select.limit() != null) {
+      limit = ((Number) value(select.limit(), values)).intValue();
+      if (limit <= 0) {
+        throw new InvalidQueryException(null, "LIMIT must be strictly positive");
+      }
+    }
+    if (select.selectors().size() == 1 && select.selectors().get(0) instanceof CountSelector) {
+      return count(select, values);
+    }
+    if (select.annColumn() != null) {
+      return annSelect(select, values, limit);
+    }
+    // the paging state holds the rows still to read and the key of the last row read
+    ByteBuffer startAfter = null;
+    if (pagingState != null) {
+      ByteBuffer state = pagingState.duplicate();
+      limit = state.getInt();
+      startAfter = state.slice();
+    }
+    int page = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+    float[][] vectors = selectorVectors(select, values);
+    List<ByteBuffer[]> selected = new ArrayList<>();
+    Iterator<Map.Entry<ByteBuffer, StoredRow>> candidates =
+        candidates(select.where(), values, startAfter);
+    ByteBuffer lastKey = null;
+    while (selected.size() < page && selected.size() < limit && candidates.hasNext()) {
+      Map.Entry<ByteBuffer, StoredRow> candidate = candidates.next();
+      if (matches(select.where(), candidate.getValue(), values)) {
+        selected.add(selection(select, candidate.getValue(), values, vectors));
+        lastKey = candidate.getKey();
+      }
+    }
+    ByteBuffer nextPagingState = null;
+    int remaining = limit - selected.size();
+    if (selected.size() == page && remaining > 0 && candidates.hasNext()) {
+      nextPagingState =
+          ByteBuffer.allocate(Integer.BYTES + lastKey.remaining())
+              .putInt(remaining)
+              .put(lastKey.duplicate())
+              .flip();
+    }
+    return new QueryResult(selectColumns(select), selected, nextPagingState);
+  }
+
+  private QueryResult count(Select select, List<Object> values) {
+    long count = 0;
+    Iterator<Map.Entry<ByteBuffer, StoredRow>> candidates =
+        candidates(select.where(), values, null);
+    while (candidates.hasNext()) {
+      if (matches(select.where(), candidates.next().getValue(), values)) {
+        count++;
+      }
+    }
+    return new QueryResult(
+        selectColumns(select),
+        List.<ByteBuffer[]>of(
+            new ByteBuffer[] {TypeCodecs.BIGINT.encodePrimitive(count, PROTOCOL_VERSION)}),
+        null);
+  }
+
+  /**
+   * Vector search: the rows matching the restrictions are ordered by their similarity to the
+   * searched vector, using the similarity function of the index of the vector column. All the
+   * rows are returned in a single page, as they are by the database.
+   */
+  private QueryResult annSelect(Select select, List<Object> values, int limit) {
+    Column column = column(select.annColumn());
+    Index index =
+        indexes.values().stream()
+            .filter(candidate -> candidate.column().equals(column.name()))
+            .findFirst()
+            .orElseThrow(
+                () ->
+                    new InvalidQueryException(
+                        null, "ANN ordering by vector requires the column to be indexed"));
+    String function =
+        index.options().getOrDefault(SIMILARITY_FUNCTION, "cosine").toLowerCase(Locale.ROOT);
+    float[] searched = vectorValue(column, value(select.annVector(), values));
+    checkVector(function, searched);
+    PriorityQueue<ScoredRow> top =
+        new PriorityQueue<>(Comparator.comparingDouble(ScoredRow::score));
+    Iterator<Map.Entry<ByteBuffer, StoredRow>> candidates =
+        candidates(select.where(), values, null);
+    while (candidates.hasNext()) {
+      StoredRow row = candidates.next().getValue();
+      float[] vector = (float[]) row.values()[column.index()];
+      // rows without a vector are not part of the index
+      if (vector != null && matches(select.where(), row, values)) {
+        top.add(new ScoredRow(row, similarity(function, searched, vector)));
+        if (top.size() > limit) {
+          top.poll();
+        }
+      }
+    }
+    float[][] vectors = selectorVectors(select, values);
+    List<ByteBuffer[]> selected = new ArrayList<>(top.size());
+    while (!top.isEmpty()) {
+      selected.add(selection(select, top.poll().row(), values, vectors));
+    }
+    Collections.reverse(selected);
+    return new QueryResult(selectColumns(select), selected, null);
+  }
+
+  QueryResult insert(CqlStatement.Insert insert, List<Object> values) {
+    Object[] rowValues = new Object[columns.size()];
+    ByteBuffer[] encoded = new ByteBuffer[columns.size()];
+    boolean[] assigned = new boolean[columns.size()];
+    for (int i = 0; i < insert.columns().size(); i++) {
+      Column column = column(insert.columns().get(i));
+      set(column, value(insert.values().get(i), values), rowValues, encoded);
+      assigned[column.index()] = true;
+    }
+    ByteBuffer key = encoded[primaryKey.index()];
+    if (key == null) {
+      throw new InvalidQueryException(
+          null, "Invalid null value for partition key part " + primaryKey.name());
+    }
+    Lock lock = rowLocks.get(key);
+    lock.lock();
+    try {
+      StoredRow existing = rows.get(key);
+      if (existing != null) {
+        if (insert.ifNotExists()) {
+          return notApplied(existing, columns);
+        }
+        // columns not set by the insert keep their values
+        for (int i = 0; i < assigned.length; i++) {
+          if (!assigned[i]) {
+            rowValues[i] = existing.values()[i];
+            encoded[i] = existing.encoded()[i];
+          }
+        }
+      }
+      write(key, existing, new StoredRow(rowValues, encoded));
+    } finally {
+      lock.unlock();
+    }
+    return insert.ifNotExists() ? applied : QueryResult.EMPTY;
+  }
+
+  QueryResult update(CqlStatement.Update update, List<Object> values) {
+    ByteBuffer key = rowKey(update.where(), values);
+    Object[] assignedValues = new Object[columns.size()];
+    ByteBuffer[] assignedEncoded = new ByteBuffer[columns.size()];
+    boolean[] assigned = new boolean[columns.size()];
+    update
+        .assignments()
+        .forEach(
+            (name, term) -> {
+              Column column = column(name);
+              if (column == primaryKey) {
+                throw new InvalidQueryException(
+                    null, "PRIMARY KEY part %s found in SET part".formatted(name));
+              }
+              set(column, value(term, values), assignedValues, assignedEncoded);
+              assigned[column.index()] = true;
+            });
+    boolean conditional = update.ifExists() || !update.conditions().isEmpty();
+    Lock lock = rowLocks.get(key);
+    lock.lock();
+    try {
+      StoredRow existing = rows.get(key);
+      QueryResult notApplied = checkConditions(update.conditions(), existing, values);
+      if (notApplied == null && update.ifExists() && existing == null) {
+        notApplied = notApplied(null, List.of());
+      }
+      if (notApplied != null) {
+        return notApplied;
+      }
+      Object[] rowValues;
+      ByteBuffer[] encoded;
+      if (existing != null) {
+        rowValues = existing.values().clone();
+        encoded = existing.encoded().clone();
+      } else {
+        rowValues = new Object[columns.size()];
+        encoded = new ByteBuffer[columns.size()];
+        rowValues[primaryKey.index()] =
+            primaryKey.codec().decode(key.duplicate(), PROTOCOL_VERSION);
+        encoded[primaryKey.index()] = key;
+      }
+      for (int i = 0; i < assigned.length; i++) {
+        if (assigned[i]) {
+          rowValues[i] = assignedValues[i];
+          encoded[i] = assignedEncoded[i];
+        }
+      }
+      write(key, existing, new StoredRow(rowValues, encoded));
+    } finally {
+      lock.unlock();
+    }
+    return conditional ? applied : QueryResult.EMPTY;
+  }
+
+  QueryResult delete(CqlStatement.Delete delete, List<Object> values) {
+    ByteBuffer key = rowKey(delete.where(), values);
+    boolean conditional = delete.ifExists() || !delete.conditions().isEmpty();
+    Lock lock = rowLocks.get(key);
+    lock.lock();
+    try {
+      StoredRow existing = rows.get(key);
+      QueryResult notApplied = checkConditions(delete.conditions(), existing, values);
+      if (notApplied == null && delete.ifExists() && existing == null) {
+        notApplied = notApplied(null, List.of());
+      }
+      if (notApplied != null) {
+        return notApplied;
+      }
+      if (existing != null) {
+        rows.remove(key);
+        updateIndexes(key, existing, null);
+      }
+    } finally {
+      lock.unlock();
+    }
+    return conditional ? applied : QueryResult.EMPTY;
+  }
+
+  void truncate() {
+    rows.clear();
+    setIndexes.forEach(index -> index.keys().clear());
+  }
+
+  /**
+   * Checks the conditions of a lightweight transaction on the current version of the row.
+   *
+   * @return Result of the transaction when it is not applied, <code>null</code> when it is
+   */
+  private QueryResult checkConditions(
+      List<Relation> conditions, StoredRow existing, List<Object> values) {
+    if (conditions.isEmpty()) {
+      return null;
+    }
+    if (existing == null) {
+      return notApplied(null, List.of());
+    }
+    for (Relation condition : conditions) {
+      if (!matches(condition, existing, values)) {
+        // as the database, returns the current values of the columns of the conditions
+        List<Column> conditionColumns =
+            conditions.stream().map(Relation::column).distinct().map(this::column).toList();
+        return notApplied(existing, conditionColumns);
+      }
+    }
+    return null;
+  }
+
+  private QueryResult notApplied(StoredRow existing, List<Column> returnedColumns) {
+    List<ColumnDefinition> definitions = new ArrayList<>();
+    definitions.add(resultColumn(APPLIED, 0, DataTypes.BOOLEAN));
+    ByteBuffer[] row = new ByteBuffer[existing == null ? 1 : 1 + returnedColumns.size()];
+    row[0] = FALSE;
+    if (existing != null) {
+      for (Column column : returnedColumns) {
+        row[definitions.size()] = existing.encoded()[column.index()];
+        definitions.add(resultColumn(column.name(), definitions.size(), column.type()));
+      }
+    }
+    return new QueryResult(
+        DefaultColumnDefinitions.valueOf(definitions), List.<ByteBuffer[]>of(row), null);
+  }
+
+  /** Writes the row, the lock of the key being held. */
+  private void write(ByteBuffer key, StoredRow existing, StoredRow row) {
+    rows.put(key, row);
+    updateIndexes(key, existing, row);
+  }
+
+  private void updateIndexes(ByteBuffer key, StoredRow before, StoredRow after) {
+    for (SetIndex index : setIndexes) {
+      int column = index.column().index();
+      Collection<?> previous =
+          before == null || before.values()[column] == null
+              ? Set.of()
+              : (Collection<?>) before.values()[column];
+      Collection<?> current =
+          after == null || after.values()[column] == null
+              ? Set.of()
+              : (Collection<?>) after.values()[column];
+      for (Object value : previous) {
+        if (!current.contains(value)) {
+          index
+              .keys()
+              .computeIfPresent(
+                  value,
+                  (v, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                  });
+        }
+      }
+      for (Object value : current) {
+        if (!previous.contains(value)) {
+          index
+              .keys()
+              .compute(
+                  value,
+                  (v, keys) -> {
+                    NavigableSet<ByteBuffer> updated =
+                        keys == null ? new ConcurrentSkipListSet<>() : keys;
+                    updated.add(key);
+                    return updated;
+                  });
+        }
+      }
+    }
+  }
+
+  /**
+   * Rows that may match the restrictions, in key order, after the given key if any: the rows of
+   * the keys when restricted, else the rows of a value of an indexed <code>set</code>, else all
+   * rows.
+   */
+  private Iterator<Map.Entry<ByteBuffer, StoredRow>> candidates(
+      Expression where, List<Object> values, ByteBuffer startAfter) {
+    List<Expression> restrictions =
+        where == null ? List.of() : where instanceof And and ? and.children() : List.of(where);
+    for (Expression restriction : restrictions) {
+      if (restriction instanceof Relation relation
+          && relation.operator() == Operator.EQ
+          && relation.element() == null
+          && relation.column().equals(primaryKey.name())) {
+        ByteBuffer key = encodeKey(value(relation.value(), values));
+        StoredRow row = rows.get(key);
+        if (row == null || (startAfter != null && key.compareTo(startAfter) <= 0)) {
+          return Collections.emptyIterator();
+        }
+        return List.of(Map.entry(key, row)).iterator();
+      }
+      if (restriction instanceof Relation relation
+          && relation.operator() == Operator.IN
+          && relation.element() == null
+          && relation.column().equals(primaryKey.name())) {
+        NavigableMap<ByteBuffer, StoredRow> keyed = new TreeMap<>();
+        for (Object value : (Collection<?>) value(relation.value(), values)) {
+          ByteBuffer key = encodeKey(value);
+          StoredRow row = rows.get(key);
+          if (row != null && (startAfter == null || key.compareTo(startAfter) > 0)) {
+            keyed.put(key, row);
+          }
+        }
+        return keyed.entrySet().iterator();
+      }
+    }
+    for (Expression restriction : restrictions) {
+      if (restriction instanceof Relation relation
+          && relation.operator() == Operator.CONTAINS
+          && relation.element() == null) {
+        for (SetIndex index : setIndexes) {
+          if (index.column().name().equals(relation.column())) {
+            NavigableSet<ByteBuffer> keys = index.keys().get(value(relation.value(), values));
+            if (keys == null) {
+              return Collections.emptyIterator();
+            }
+            Iterator<ByteBuffer> indexed =
+                (startAfter == null ? keys : keys.tailSet(startAfter, false)).iterator();
+            // rows may have been deleted since the keys were read
+            return Iterators.filter(
+                Iterators.transform(
+                    indexed,
+                    key -> {
+                      StoredRow row = rows.get(key);
+                      return row == null ? null : Map.entry(key, row);
+                    }),
+                Objects::nonNull);
+          }
+        }
+      }
+    }
+    NavigableMap<ByteBuffer, StoredRow> scanned =
+        startAfter == null ? rows : rows.tailMap(startAfter, false);
+    return scanned.entrySet().iterator();
+  }
+
+  private boolean matches(Expression expression, StoredRow row, List<Object> values) {
+    if (expression == null) {
+      return true;
+    }
+    if (expression instanceof And and) {
+      for (Expression child : and.children()) {
+        if (!matches(child, row, values)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (expression instanceof Or or) {
+      for (Expression child : or.children()) {
+        if (matches(child, row, values)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    Relation relation = (Relation) expression;
+    Object cell = row.values()[column(relation.column()).index()];
+    if (relation.element() != null) {
+      Object key = value(relation.element(), values);
+      cell = cell instanceof Map<?, ?> map ? map.get(key) : null;
+    }
+    Object value = value(relation.value(), values);
+    return switch (relation.operator()) {
+      case CONTAINS -> contains(cell, value);
+      case NOT_CONTAINS -> !contains(cell, value);
+      case CONTAINS_KEY -> cell instanceof Map<?, ?> map && map.containsKey(value);
+      // missing values are different from any value
+      case NEQ -> cell == null || !valueEquals(cell, value);
+      case EQ -> cell != null && valueEquals(cell, value);
+      case IN -> cell != null && in(cell, (Collection<?>) value);
+      case LT -> cell != null && compare(cell, value) < 0;
+      case LTE -> cell != null && compare(cell, value) <= 0;
+      case GT -> cell != null && compare(cell, value) > 0;
+      case GTE -> cell != null && compare(cell, value) >= 0;
+    };
+  }
+
+  private static boolean contains(Object cell, Object value) {
+    if (cell instanceof Collection<?> collection) {
+      return collection.contains(value);
+    }
+    return cell instanceof Map<?, ?> map && map.containsValue(value);
+  }
+
+  private static boolean in(Object cell, Collection<?> values) {
+    for (Object value : values) {
+      if (valueEquals(cell, value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean valueEquals(Object cell, Object value) {
+    Object left = comparable(cell);
+    Object right = comparable(value);
+    if (left instanceof BigDecimal leftNumber && right instanceof BigDecimal rightNumber) {
+      return leftNumber.compareTo(rightNumber) == 0;
+    }
+    return left.equals(right);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int compare(Object cell, Object value) {
+    Object left = comparable(cell);
+    Object right = comparable(value);
+    if (left instanceof Comparable<?> && right != null && left.getClass() == right.getClass()) {
+      return ((Comparable<Object>) left).compareTo(right);
+    }
+    throw new InvalidQueryException(
+        null,
+        "Cannot compare a value of type %s with a value of type %s"
+            .formatted(
+                left.getClass().getSimpleName(),
+                right == null ? "null" : right.getClass().getSimpleName()));
+  }
+
+  /**
+   * Value as compared by the restrictions: numbers as <code>BigDecimal</code>, booleans as the
+   * <code>tinyint</code> they are stored as, and dates as <code>Instant</code>.
+   */
+  private static Object comparable(Object value) {
+    if (value instanceof Boolean bool) {
+      return bool ? BigDecimal.ONE : BigDecimal.ZERO;
+    }
+    if (value instanceof Byte
+        || value instanceof Short
+        || value instanceof Integer
+        || value instanceof Long) {
+      return BigDecimal.valueOf(((Number) value).longValue());
+    }
+    if (value instanceof Float || value instanceof Double) {
+      return BigDecimal.valueOf(((Number) value).doubleValue());
+    }
+    if (value instanceof BigInteger integer) {
+      return new BigDecimal(integer);
+    }
+    if (value instanceof Date date) {
+      return date.toInstant();
+    }
+    return value;
+  }
+
+  private ByteBuffer[] selection(
+      Select select, StoredRow row, List<Object> values, float[][] vectors) {
+    if (select.selectors().isEmpty()) {
+      return row.encoded();
+    }
+    ByteBuffer[] selected = new ByteBuffer[select.selectors().size()];
+    for (int i = 0; i < selected.length; i++) {
+      Selector selector = select.selectors().get(i);
+      if (selector instanceof ColumnSelector columnSelector) {
+        Column column = column(columnSelector.column());
+        if (columnSelector.element() == null) {
+          selected[i] = row.encoded()[column.index()];
+          continue;
+        }
+        Object key = value(columnSelector.element(), values);
+        Object cell = row.values()[column.index()];
+        Object element = null;
+        if (cell instanceof Map<?, ?> map) {
+          element = map.get(key);
+        } else if (cell instanceof Set<?> set && set.contains(key)) {
+          element = key;
+        }
+        selected[i] =
+            element == null ? null : column.elementCodec().encode(element, PROTOCOL_VERSION);
+      } else if (selector instanceof SimilaritySelector similarity) {
+        float[] vector = (float[]) row.values()[column(similarity.column()).index()];
+        selected[i] =
+            vector == null
+                ? null
+                : TypeCodecs.FLOAT.encodePrimitive(
+                    similarity(similarity.function(), vectors[i], vector), PROTOCOL_VERSION);
+      } else {
+        throw new InvalidQueryException(
+            null, "Aggregates cannot be selected with other columns by the in-memory session");
+      }
+    }
+    return selected;
+  }
+
+  /** Searched vectors of the similarity functions of the selection, by selector. */
+  private float[][] selectorVectors(Select select, List<Object> values) {
+    float[][] vectors = new float[select.selectors().size()][];
+    for (int i = 0; i < vectors.length; i++) {
+      if (select.selectors().get(i) instanceof SimilaritySelector similarity) {
+        vectors[i] = vectorValue(column(similarity.column()), value(similarity.vector(), values));
+        checkVector(similarity.function(), vectors[i]);
+      }
+    }
+    return vectors;
+  }
+
+  private ColumnDefinitions selectColumns(Select select) {
+    return selectColumns.get(select, this::newSelectColumns);
+  }
+
+  private ColumnDefinitions newSelectColumns(Select select) {
+    List<ColumnDefinition> definitions = new ArrayList<>();
+    if (select.selectors().isEmpty()) {
+      for (Column column : columns) {
+        definitions.add(resultColumn(column.name(), definitions.size(), column.type()));
+      }
+    }
+    for (Selector selector : select.selectors()) {
+      if (selector instanceof ColumnSelector columnSelector) {
+        Column column = column(columnSelector.column());
+        String name = columnSelector.alias();
+        DataType type = column.type();
+        if (columnSelector.element() != null) {
+          if (name == null) {
+            name = column.name() + "[" + termText(columnSelector.element()) + "]";
+          }
+          type =
+              type instanceof MapType map ? map.getValueType() : ((SetType) type).getElementType();
+        }
+        definitions.add(
+            resultColumn(name != null ? name : column.name(), definitions.size(), type));
+      } else if (selector instanceof SimilaritySelector similarity) {
+        String name = similarity.alias();
+        if (name == null) {
+          name =
+              "similarity_%s(%s, %s)"
+                  .formatted(
+                      similarity.function(), similarity.column(), termText(similarity.vector()));
+        }
+        definitions.add(resultColumn(name, definitions.size(), DataTypes.FLOAT));
+      } else {
+        definitions.add(
+            resultColumn(
+                ((CountSelector) selector).alias(), definitions.size(), DataTypes.BIGINT));
+      }
+    }
+    return DefaultColumnDefinitions.valueOf(definitions);
+  }
+
+  private ColumnDefinition resultColumn(String column, int index, DataType type) {
+    return QueryResult.column(keyspace.asInternal(), name.asInternal(), column, index, type);
+  }
+
+  private static String termText(Term term) {
+    if (term instanceof Literal literal) {
+      return literal.value() instanceof String text ? "'" + text + "'" : literal.value() + "";
+    }
+    return term instanceof BindMarker ? "?" : "now()";
+  }
+
+  /** Encodes and decodes the value of the column, so that the stored values are not shared. */
+  private void set(Column column, Object value, Object[] rowValues, ByteBuffer[] encoded) {
+    int index = column.index();
+    rowValues[index] = null;
+    encoded[index] = null;
+    if (value == null) {
+      return;
+    }
+    ByteBuffer bytes;
+    try {
+      bytes = column.codec().encode(value, PROTOCOL_VERSION);
+    } catch (ClassCastException | IllegalArgumentException e) {
+      throw new InvalidQueryException(
+          null, "Invalid value for column %s: %s".formatted(column.name(), e.getMessage()));
+    }
+    Object decoded = column.codec().decode(bytes.duplicate(), PROTOCOL_VERSION);
+    // as in the database, empty collections are the same as no value
+    if ((decoded instanceof Collection<?> collection && collection.isEmpty())
+        || (decoded instanceof Map<?, ?> map && map.isEmpty())) {
+      return;
+    }
+    if (column.type() instanceof VectorType) {
+      float[] vector = vectorValue(column, decoded);
+      for (Index vectorIndex : indexes.values()) {
+        if (vectorIndex.column().equals(column.name())) {
+          checkVector(
+              vectorIndex.options().getOrDefault(SIMILARITY_FUNCTION, "cosine"), vector);
+        }
+      }
+      decoded = vector;
+    }
+    rowValues[index] = decoded;
+    encoded[index] = bytes;
+  }
+
+  private ByteBuffer rowKey(Expression where, List<Object> values) {
+    if (where instanceof Relation relation
+        && relation.operator() == Operator.EQ
+        && relation.element() == null
+        && relation.column().equals(primaryKey.name())) {
+      return encodeKey(value(relation.value(), values));
+    }
+    throw new InvalidQueryException(
+        null, "Only single rows, restricted by their primary key, can be updated or deleted");
+  }
+
+  private ByteBuffer encodeKey(Object value) {
+    if (value == null) {
+      throw new InvalidQueryException(
+          null, "Invalid null value for partition key part " + primaryKey.name());
+    }
+    try {
+      return primaryKey.codec().encode(value, PROTOCOL_VERSION);
+    } catch (ClassCastException | IllegalArgumentException e) {
+      throw new InvalidQueryException(
+          null, "Invalid value for column %s: %s".formatted(primaryKey.name(), e.getMessage()));
+    }
+  }
+
+  private Column column(String name) {
+    Column column = columnsByName.get(name);
+    if (column == null) {
+      throw new InvalidQueryException(null, "Undefined column name " + name);
+    }
+    return column;
+  }
+
+  /** Value of the term, the bind markers taking the positional values of the statement. */
+  static Object value(Term term, List<Object> values) {
+    if (term instanceof BindMarker marker) {
+      if (marker.index() >= values.size()) {
+        throw new InvalidQueryException(null, "Invalid amount of bind variables");
+      }
+      return values.get(marker.index());
+    }
+    if (term instanceof Literal literal) {
+      return literal.value();
+    }
+    return Uuids.timeBased();
+  }
+
+  private static float[] vectorValue(Column column, Object value) {
+    if (!(value instanceof CqlVector<?> vector)) {
+      throw new InvalidQueryException(
+          null, "Invalid vector value for column %s".formatted(column.name()));
+    }
+    int dimension = ((VectorType) column.type()).getDimensions();
+    if (vector.size() != dimension) {
+      throw new InvalidQueryException(
+          null,
+          "Invalid vector literal for %s of type vector<float, %d>; expected %d elements, but given %d"
+              .formatted(column.name(), dimension, dimension, vector.size()));
+    }
+    float[] floats = new float[dimension];
+    for (int i = 0; i < dimension; i++) {
+      floats[i] = ((Number) vector.get(i)).floatValue();
+    }
+    return floats;
+  }
+
+  private static void checkVector(String function, float[] vector) {
+    if (!function.equalsIgnoreCase("cosine")) {
+      return;
+    }
+    for (float value : vector) {
+      if (value != 0) {
+        return;
+      }
+    }
+    throw new InvalidQueryException(
+        null, "Zero vectors cannot be indexed or queried with cosine similarity");
+  }
+
+  /** Similarity of the vectors, normalized to [0, 1] as done by the database. */
+  private static float similarity(String function, float[] searched, float[] vector) {
+    switch (function.toLowerCase(Locale.ROOT)) {
+      case "euclidean" -> {
+        double squaredDistance = 0;
+        for (int i = 0; i < searched.length; i++) {
+          double difference = searched[i] - vector[i];
+          squaredDistance += difference * difference;
+        }
+        return (float) (1 / (1 + squaredDistance));
+      }
+      case "dot_product" -> {
+        double product = 0;
+        for (int i = 0; i < searched.length; i++) {
+          product += searched[i] * vector[i];
+        }
+        return (float) ((1 + product) / 2);
+      }
+      default -> {
+        double product = 0;
+        double searchedNorm = 0;
+        double vectorNorm = 0;
+        for (int i = 0; i < searched.length; i++) {
+          product += searched[i] * vector[i];
+          searchedNorm += searched[i] * searched[i];
+          vectorNorm += vector[i] * vector[i];
+        }
+        double cosine = product / Math.sqrt(searchedNorm * vectorNorm);
+        return (float) ((1 + cosine) / 2);
+      }
+    }
+  }
+
+  private static TypeCodec<Object> codec(DataType type) {
+    return CodecRegistry.DEFAULT.codecFor(type);
+  }
+
+  private static TypeCodec<Object> elementCodec(DataType type) {
+    if (type instanceof MapType map) {
+      return codec(map.getValueType());
+    }
+    return type instanceof SetType set ? codec(set.getElementType()) : null;
+  }
+}
@@ -0,0 +1,44 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Implementations of the large driver interfaces of which the {@link InMemoryCqlSession} only needs
+ * a few methods, like the {@link com.datastax.oss.driver.api.core.context.DriverContext}.
+ */
+final class PartialImplementation {
+
+  private PartialImplementation() {}
+
+  /**
+   * Implements the interface with the given methods, the others throwing an {@link
+   * UnsupportedOperationException}.
+   *
+   * @param type Interface to implement
+   * @param methods Results of the implemented methods, by method name
+   * @return Implementation of the interface
+   */
+  static <T> T of(Class<T> type, Map<String, Supplier<Object>> methods) {
+    Object implementation =
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              Supplier<Object> result = methods.get(method.getName());
+              if (result != null) {
+                return result.get();
+              }
+              return switch (method.getName()) {
+                case "toString" -> "in-memory " + type.getSimpleName();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(
+                    "%s.%s is not supported by the in-memory session"
+                        .formatted(type.getSimpleName(), method.getName()));
+              };
+            });
+    return type.cast(implementation);
+  }
+}
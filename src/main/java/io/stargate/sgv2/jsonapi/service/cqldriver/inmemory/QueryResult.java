@@ -0,0 +1,74 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.CustomType;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.MapType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.TupleType;
+import com.datastax.oss.driver.api.core.type.VectorType;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinition;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Result of a statement executed by the {@link InMemoryStorage}, before it is wrapped in the
+ * {@link InMemoryResultSet} returned by the session.
+ *
+ * @param columns Columns of the rows
+ * @param rows Encoded values of the rows of the page, in the order of the columns
+ * @param pagingState State to fetch the next page, or <code>null</code> for the last page
+ */
+record QueryResult(ColumnDefinitions columns, List<ByteBuffer[]> rows, ByteBuffer pagingState) {
+
+  /** Result without columns, like the one of the writes that are not lightweight transactions. */
+  static final QueryResult EMPTY =
+      new QueryResult(DefaultColumnDefinitions.valueOf(List.of()), List.of(), null);
+
+  /**
+   * Definition of a result column, as the driver decodes it from the metadata of the response.
+   */
+  static ColumnDefinition column(
+      String keyspace, String table, String name, int index, DataType type) {
+    return new DefaultColumnDefinition(
+        new ColumnSpec(keyspace, table, name, index, rawType(type)), AttachmentPoint.NONE);
+  }
+
+  private static RawType rawType(DataType type) {
+    switch (type.getProtocolCode()) {
+      case ProtocolConstants.DataType.LIST -> {
+        return new RawType.RawList(rawType(((ListType) type).getElementType()));
+      }
+      case ProtocolConstants.DataType.SET -> {
+        return new RawType.RawSet(rawType(((SetType) type).getElementType()));
+      }
+      case ProtocolConstants.DataType.MAP -> {
+        MapType map = (MapType) type;
+        return new RawType.RawMap(rawType(map.getKeyType()), rawType(map.getValueType()));
+      }
+      case ProtocolConstants.DataType.TUPLE -> {
+        return new RawType.RawTuple(
+            ((TupleType) type).getComponentTypes().stream().map(QueryResult::rawType).toList());
+      }
+      case ProtocolConstants.DataType.CUSTOM -> {
+        if (type instanceof VectorType vector) {
+          // vectors are sent as a custom type, parameterized with the element type and dimension
+          return new RawType.RawCustom(
+              "org.apache.cassandra.db.marshal.VectorType(org.apache.cassandra.db.marshal.FloatType,%d)"
+                  .formatted(vector.getDimensions()));
+        }
+        return new RawType.RawCustom(((CustomType) type).getClassName());
+      }
+      default -> {
+        return RawType.PRIMITIVES.get(type.getProtocolCode());
+      }
+    }
+  }
+}
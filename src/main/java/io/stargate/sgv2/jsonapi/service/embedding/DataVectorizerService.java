@@ -13,6 +13,9 @@ import io.stargate.sgv2.jsonapi.api.model.command.impl.InsertManyCommand;
 import io.stargate.sgv2.jsonapi.api.model.command.impl.InsertOneCommand;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonApiMetricsConfig;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
+import io.stargate.sgv2.jsonapi.service.embedding.operation.CachingEmbeddingProvider;
+import io.stargate.sgv2.jsonapi.service.embedding.operation.EmbeddingCache;
 import io.stargate.sgv2.jsonapi.service.embedding.operation.EmbeddingProvider;
 import io.stargate.sgv2.jsonapi.service.embedding.operation.MeteredEmbeddingProvider;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -29,6 +32,7 @@ public class DataVectorizerService {
   private final MeterRegistry meterRegistry;
   private final JsonApiMetricsConfig jsonApiMetricsConfig;
   private final MetricsConfig metricsConfig;
+  private final EmbeddingCache embeddingCache;
 
   @Inject
   public DataVectorizerService(
@@ -36,12 +40,14 @@ public class DataVectorizerService {
       DataApiRequestInfo dataApiRequestInfo,
       MeterRegistry meterRegistry,
       JsonApiMetricsConfig jsonApiMetricsConfig,
-      MetricsConfig metricsConfig) {
+      MetricsConfig metricsConfig,
+      EmbeddingCache embeddingCache) {
     this.objectMapper = objectMapper;
     this.dataApiRequestInfo = dataApiRequestInfo;
     this.meterRegistry = meterRegistry;
     this.jsonApiMetricsConfig = jsonApiMetricsConfig;
     this.metricsConfig = metricsConfig;
+    this.embeddingCache = embeddingCache;
   }
 
   /**
@@ -63,6 +69,7 @@ public class DataVectorizerService {
                         metricsConfig,
                         provider,
                         command.getClass().getSimpleName()))
+            .map(provider -> cached(provider, commandContext.collectionSettings()))
             .orElse(null);
     final DataVectorizer dataVectorizer =
         new DataVectorizer(
@@ -79,6 +86,26 @@ public class DataVectorizerService {
         .transform(flag -> command);
   }
 
+  /**
+   * Wraps the provider to look up the embeddings in the {@link EmbeddingCache} first, unless
+   * disabled; the embeddings are cached per tenant and vectorize configuration of the collection.
+   */
+  private EmbeddingProvider cached(
+      EmbeddingProvider embeddingProvider, CollectionSettings collectionSettings) {
+    CollectionSettings.VectorConfig.VectorizeConfig vectorizeConfig =
+        collectionSettings.vectorConfig().vectorizeConfig();
+    if (!embeddingCache.enabled() || vectorizeConfig == null) {
+      return embeddingProvider;
+    }
+    return new CachingEmbeddingProvider(
+        embeddingCache,
+        embeddingProvider,
+        dataApiRequestInfo.getTenantId().orElse(null),
+        vectorizeConfig.provider(),
+        vectorizeConfig.modelName(),
+        vectorizeConfig.vectorizeServiceParameter());
+  }
+
   private Uni<Boolean> vectorizeSortClause(
       DataVectorizer dataVectorizer, CommandContext commandContext, Command command) {
     if (command instanceof Sortable sortable) {
@@ -0,0 +1,198 @@
+package io.stargate.sgv2.jsonapi.service.embedding.operation;
+
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides a batching version of an {@link EmbeddingProvider}: the texts of the concurrent calls
+ * with the same request type and API key are gathered for a short window, or until the maximum
+ * batch size is reached, and vectorized by a single call to the wrapped provider, the embeddings
+ * being split back to each call.
+ *
+ * <p>Errors are isolated per call: when the provider rejects a batch as an invalid request, or
+ * doesn't return one embedding per text, the texts of each call are vectorized again on their own,
+ * so that only the faulty call fails. Other errors, like timeouts or rate limiting, fail all the
+ * calls of the batch.
+ */
+public class BatchingEmbeddingProvider implements EmbeddingProvider {
+  private final EmbeddingProvider embeddingProvider;
+  private final long windowMillis;
+  private final int maxBatchSize;
+  private final ScheduledExecutorService scheduler;
+
+  /** Batches being gathered, by request type and API key; guarded by itself. */
+  private final Map<BatchKey, Batch> batches = new HashMap<>();
+
+  /**
+   * @param embeddingProvider Provider vectorizing the batches
+   * @param window Time during which the texts of a batch are gathered
+   * @param maxBatchSize Maximum number of texts in a batch; calls with more texts are not batched
+   * @param scheduler Scheduler of the end of the windows
+   */
+  public BatchingEmbeddingProvider(
+      EmbeddingProvider embeddingProvider,
+      Duration window,
+      int maxBatchSize,
+      ScheduledExecutorService scheduler) {
+    this.embeddingProvider = embeddingProvider;
+    this.windowMillis = window.toMillis();
+    this.maxBatchSize = maxBatchSize;
+    this.scheduler = scheduler;
+  }
+
+  /** @return Provider vectorizing the batches. */
+  public EmbeddingProvider embeddingProvider() {
+    return embeddingProvider;
+  }
+
+  @Override
+  public Uni<List<float[]>> vectorize(
+      List<String> texts,
+      Optional<String> apiKeyOverride,
+      EmbeddingRequestType embeddingRequestType) {
+    if (texts.size() >= maxBatchSize) {
+      return embeddingProvider.vectorize(texts, apiKeyOverride, embeddingRequestType);
+    }
+    return Uni.createFrom()
+        .completionStage(
+            () -> enqueue(new BatchKey(apiKeyOverride, embeddingRequestType), texts));
+  }
+
+  private CompletionStage<List<float[]>> enqueue(BatchKey key, List<String> texts) {
+    Call call = new Call(texts, new CompletableFuture<>());
+    Batch sendNow = null;
+    Batch sendFull = null;
+    synchronized (batches) {
+      Batch batch = batches.get(key);
+      if (batch != null && batch.size + texts.size() > maxBatchSize) {
+        // the call doesn't fit, the gathered batch is sent and a new one started
+        batches.remove(key);
+        batch.sent = true;
+        sendNow = batch;
+        batch = null;
+      }
+      if (batch == null) {
+        batch = new Batch(key);
+        batches.put(key, batch);
+        Batch newBatch = batch;
+        scheduler.schedule(() -> flush(newBatch), windowMillis, TimeUnit.MILLISECONDS);
+      }
+      batch.calls.add(call);
+      batch.size += texts.size();
+      if (batch.size >= maxBatchSize) {
+        batches.remove(key);
+        batch.sent = true;
+        sendFull = batch;
+      }
+    }
+    if (sendNow != null) {
+      send(sendNow);
+    }
+    if (sendFull != null) {
+      send(sendFull);
+    }
+    return call.result();
+  }
+
+  /** Sends the batch at the end of its window, unless already sent when full. */
+  private void flush(Batch batch) {
+    synchronized (batches) {
+      if (batch.sent) {
+        return;
+      }
+      batches.remove(batch.key);
+      batch.sent = true;
+    }
+    send(batch);
+  }
+
+  private void send(Batch batch) {
+    if (batch.calls.size() == 1) {
+      sendAlone(batch.key, batch.calls.get(0));
+      return;
+    }
+    List<String> texts = new ArrayList<>(batch.size);
+    batch.calls.forEach(call -> texts.addAll(call.texts()));
+    vectorize(texts, batch.key)
+        .subscribe()
+        .with(
+            vectors -> {
+              if (vectors.size() != texts.size()) {
+                batch.calls.forEach(call -> sendAlone(batch.key, call));
+                return;
+              }
+              int position = 0;
+              for (Call call : batch.calls) {
+                int end = position + call.texts().size();
+                call.result().complete(new ArrayList<>(vectors.subList(position, end)));
+                position = end;
+              }
+            },
+            error -> {
+              if (isInvalidRequest(error)) {
+                batch.calls.forEach(call -> sendAlone(batch.key, call));
+              } else {
+                batch.calls.forEach(call -> call.result().completeExceptionally(error));
+              }
+            });
+  }
+
+  private void sendAlone(BatchKey key, Call call) {
+    vectorize(call.texts(), key)
+        .subscribe()
+        .with(call.result()::complete, call.result()::completeExceptionally);
+  }
+
+  /** Vectorizes the texts, failing if the provider throws, so that the calls always complete. */
+  private Uni<List<float[]>> vectorize(List<String> texts, BatchKey key) {
+    return Uni.createFrom()
+        .deferred(
+            () -> embeddingProvider.vectorize(texts, key.apiKeyOverride(), key.requestType()));
+  }
+
+  /** If the provider rejected the request, possibly because of the texts of one of the calls. */
+  private static boolean isInvalidRequest(Throwable error) {
+    Throwable cause = error.getCause() instanceof JsonApiException ? error.getCause() : error;
+    return cause instanceof JsonApiException jae
+        && jae.getErrorCode() == ErrorCode.EMBEDDING_PROVIDER_INVALID_REQUEST;
+  }
+
+  /**
+   * Calls batched together, sharing the request type and API key.
+   *
+   * @param apiKeyOverride API key of the calls
+   * @param requestType Type of the embedding requests
+   */
+  private record BatchKey(Optional<String> apiKeyOverride, EmbeddingRequestType requestType) {}
+
+  /**
+   * Call waiting for the embeddings of its texts.
+   *
+   * @param texts Texts to vectorize
+   * @param result Embeddings of the texts
+   */
+  private record Call(List<String> texts, CompletableFuture<List<float[]>> result) {}
+
+  /** Batch of calls; the fields are guarded by the batches of the provider. */
+  private static final class Batch {
+    private final BatchKey key;
+    private final List<Call> calls = new ArrayList<>();
+    private int size;
+    private boolean sent;
+
+    private Batch(BatchKey key) {
+      this.key = key;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package io.stargate.sgv2.jsonapi.service.embedding.operation;
+
+import io.smallrye.mutiny.Uni;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Provides a cached version of an {@link EmbeddingProvider}: the embeddings of the texts are looked
+ * up in the {@link EmbeddingCache} first, and only the texts missing from it are vectorized by the
+ * wrapped provider, each distinct text once per call.
+ */
+public class CachingEmbeddingProvider implements EmbeddingProvider {
+  private final EmbeddingCache embeddingCache;
+  private final EmbeddingProvider embeddingProvider;
+  private final String tenant;
+  private final String provider;
+  private final String model;
+  private final Map<String, Object> parameters;
+
+  /**
+   * @param embeddingCache Cache of the embeddings
+   * @param embeddingProvider Provider vectorizing the texts missing from the cache
+   * @param tenant Tenant of the request
+   * @param provider Name of the embedding provider of the collection
+   * @param model Name of the model of the collection
+   * @param parameters Parameters of the embedding service of the collection, <code>null</code> if
+   *     none
+   */
+  public CachingEmbeddingProvider(
+      EmbeddingCache embeddingCache,
+      EmbeddingProvider embeddingProvider,
+      String tenant,
+      String provider,
+      String model,
+      Map<String, Object> parameters) {
+    this.embeddingCache = embeddingCache;
+    this.embeddingProvider = embeddingProvider;
+    this.tenant = tenant;
+    this.provider = provider;
+    this.model = model;
+    this.parameters = parameters;
+  }
+
+  /**
+   * Vectorizes the texts missing from the cache, and caches their embeddings.
+   *
+   * @param texts the list of texts to vectorize.
+   * @param apiKeyOverride optional API key to override any default authentication mechanism.
+   * @param embeddingRequestType the type of embedding request, influencing how texts are processed.
+   * @return a {@link Uni} that will provide the list of vectorized texts, as arrays of floats. If
+   *     the provider doesn't return one embedding per text vectorized, its response is returned as
+   *     is, for the caller to report it.
+   */
+  @Override
+  public Uni<List<float[]>> vectorize(
+      List<String> texts,
+      Optional<String> apiKeyOverride,
+      EmbeddingRequestType embeddingRequestType) {
+    float[][] embeddings = new float[texts.size()][];
+    List<EmbeddingCache.Key> keys = new ArrayList<>(texts.size());
+    // position of the texts to vectorize by their key, to vectorize the same text once
+    Map<EmbeddingCache.Key, Integer> missing = new HashMap<>();
+    List<String> missingTexts = new ArrayList<>();
+    for (int i = 0; i < texts.size(); i++) {
+      String text = texts.get(i);
+      EmbeddingCache.Key key =
+          EmbeddingCache.key(tenant, provider, model, parameters, embeddingRequestType, text);
+      keys.add(key);
+      embeddings[i] = embeddingCache.get(key);
+      if (embeddings[i] == null && missing.putIfAbsent(key, missingTexts.size()) == null) {
+        missingTexts.add(text);
+      }
+    }
+    if (missingTexts.isEmpty()) {
+      return Uni.createFrom().item(Arrays.asList(embeddings));
+    }
+    return embeddingProvider
+        .vectorize(missingTexts, apiKeyOverride, embeddingRequestType)
+        .onItem()
+        .transform(
+            vectorized -> {
+              if (vectorized.size() != missingTexts.size()) {
+                return vectorized;
+              }
+              missing.forEach(
+                  (key, position) -> {
+                    float[] embedding = vectorized.get(position);
+                    if (embedding != null) {
+                      embeddingCache.put(key, embedding);
+                    }
+                  });
+              for (int i = 0; i < embeddings.length; i++) {
+                if (embeddings[i] == null) {
+                  embeddings[i] = vectorized.get(missing.get(keys.get(i)));
+                }
+              }
+              return Arrays.asList(embeddings);
+            });
+  }
+}
@@ -0,0 +1,134 @@
+package io.stargate.sgv2.jsonapi.service.embedding.operation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cache of the embeddings returned by the embedding providers, by the hash of the vectorized text,
+ * so that the texts vectorized again, like the same search text of a sort clause, don't call the
+ * provider. The cache is bounded by the bytes held by the embeddings.
+ */
+@ApplicationScoped
+public class EmbeddingCache {
+
+  /** Gauge of the bytes held by the cached embeddings. */
+  public static final String BYTES_METRIC = "embedding.cache.bytes";
+
+  /** Estimated bytes held by an entry besides its embedding: key, array header and cache node. */
+  private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+  private static final HashFunction TEXT_HASH_FUNCTION = Hashing.sha256();
+
+  private final boolean enabled;
+
+  private final Cache<Key, float[]> embeddings;
+
+  @Inject
+  public EmbeddingCache(OperationsConfig operationsConfig, MeterRegistry meterRegistry) {
+    OperationsConfig.EmbeddingCacheConfig config = operationsConfig.embeddingCache();
+    this.enabled = config.enabled();
+    Cache<Key, float[]> embeddings =
+        Caffeine.newBuilder()
+            .maximumWeight(config.maxSizeBytes())
+            .weigher((Key key, float[] embedding) -> weight(embedding))
+            .expireAfterWrite(Duration.ofSeconds(config.ttlSeconds()))
+            .recordStats()
+            .build();
+    this.embeddings = CaffeineCacheMetrics.monitor(meterRegistry, embeddings, "embedding_cache");
+    Gauge.builder(BYTES_METRIC, embeddings, EmbeddingCache::weightedSize)
+        .description("Bytes held by the cached embeddings")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  /** @return If the embeddings are cached. */
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Key of the embedding of the text.
+   *
+   * @param tenant Tenant of the request, the embeddings are not shared between tenants
+   * @param provider Name of the embedding provider
+   * @param model Name of the model
+   * @param parameters Parameters of the embedding service, <code>null</code> if none
+   * @param requestType Type of the embedding request
+   * @param text Vectorized text
+   * @return Key of the embedding
+   */
+  public static Key key(
+      String tenant,
+      String provider,
+      String model,
+      Map<String, Object> parameters,
+      EmbeddingProvider.EmbeddingRequestType requestType,
+      String text) {
+    HashCode hash = TEXT_HASH_FUNCTION.hashString(text, StandardCharsets.UTF_8);
+    ByteBuffer bytes = ByteBuffer.wrap(hash.asBytes());
+    return new Key(
+        tenant, provider, model, parameters, requestType, bytes.getLong(), bytes.getLong());
+  }
+
+  /**
+   * @param key Key of the embedding
+   * @return Cached embedding, <code>null</code> if none; the embedding is shared and must not be
+   *     modified
+   */
+  public float[] get(Key key) {
+    return embeddings.getIfPresent(key);
+  }
+
+  /**
+   * @param key Key of the embedding
+   * @param embedding Embedding of the text, not to be modified once cached
+   */
+  public void put(Key key, float[] embedding) {
+    embeddings.put(key, embedding);
+  }
+
+  private static int weight(float[] embedding) {
+    return ENTRY_OVERHEAD_BYTES + Float.BYTES * embedding.length;
+  }
+
+  private static double weightedSize(Cache<Key, float[]> embeddings) {
+    return embeddings
+        .policy()
+        .eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0L))
+        .orElse(0L);
+  }
+
+  /**
+   * Key of a cached embedding, identifying the text by the first 128 bits of its SHA-256 hash.
+   *
+   * @param tenant Tenant of the request
+   * @param provider Name of the embedding provider
+   * @param model Name of the model
+   * @param parameters Parameters of the embedding service
+   * @param requestType Type of the embedding request
+   * @param textHashHigh First 64 bits of the hash of the text
+   * @param textHashLow Next 64 bits of the hash of the text
+   */
+  public record Key(
+      String tenant,
+      String provider,
+      String model,
+      Map<String, Object> parameters,
+      EmbeddingProvider.EmbeddingRequestType requestType,
+      long textHashHigh,
+      long textHashLow) {}
+}
@@ -1,5 +1,11 @@
 package io.stargate.sgv2.jsonapi.service.embedding.operation;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.embedding.configuration.EmbeddingProviderConfigStore;
@@ -7,6 +13,7 @@ import io.stargate.sgv2.jsonapi.service.embedding.configuration.ProviderConstant
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -17,6 +24,15 @@ public class EmbeddingProviderFactory {
   private static Logger logger = org.slf4j.LoggerFactory.getLogger(EmbeddingProviderFactory.class);
   @Inject Instance<EmbeddingProviderConfigStore> embeddingProviderConfigStore;
 
+  /**
+   * Embedding providers, and so their REST clients, reused by the requests of the tenant to the
+   * same service and model, as long as the configuration of the service is unchanged.
+   */
+  private final Cache<ProviderKey, EmbeddingProvider> providers;
+
+  /** Batching of the concurrent calls to each provider. */
+  private final OperationsConfig.EmbeddingBatchingConfig batchingConfig;
+
   private interface ProviderConstructor {
     EmbeddingProvider create(
         EmbeddingProviderConfigStore.RequestProperties requestProperties,
@@ -33,16 +49,53 @@ public class EmbeddingProviderFactory {
           Map.entry(ProviderConstants.COHERE, CohereEmbeddingClient::new),
           Map.entry(ProviderConstants.NVIDIA, NVidiaEmbeddingClient::new));
 
-  public EmbeddingProvider getConfiguration(
-      Optional<String> tenant, String serviceName, String modelName) {
-    return addService(tenant, serviceName, modelName);
+  @Inject
+  public EmbeddingProviderFactory(OperationsConfig operationsConfig, MeterRegistry meterRegistry) {
+    this.batchingConfig = operationsConfig.embeddingBatching();
+    OperationsConfig.EmbeddingProviderCacheConfig cacheConfig =
+        operationsConfig.embeddingProviderCache();
+    Cache<ProviderKey, EmbeddingProvider> providers =
+        Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofSeconds(cacheConfig.ttlSeconds()))
+            .maximumSize(cacheConfig.maxSize())
+            .recordStats()
+            .build();
+    this.providers =
+        CaffeineCacheMetrics.monitor(meterRegistry, providers, "embedding_providers_cache");
   }
 
-  private synchronized EmbeddingProvider addService(
+  public EmbeddingProvider getConfiguration(
       Optional<String> tenant, String serviceName, String modelName) {
     final EmbeddingProviderConfigStore.ServiceConfig configuration =
         embeddingProviderConfigStore.get().getConfiguration(tenant, serviceName);
+    return providers.get(
+        new ProviderKey(tenant, configuration, modelName),
+        key -> batched(addService(key.serviceConfig(), key.modelName())));
+  }
 
+  /**
+   * Wraps the provider to batch its concurrent calls, unless disabled; being cached, the provider
+   * is shared by the requests of the tenant to the same service and model.
+   */
+  private EmbeddingProvider batched(EmbeddingProvider embeddingProvider) {
+    if (!batchingConfig.enabled()) {
+      return embeddingProvider;
+    }
+    return new BatchingEmbeddingProvider(
+        embeddingProvider,
+        Duration.ofMillis(batchingConfig.windowMillis()),
+        batchingConfig.maxBatchSize(),
+        Infrastructure.getDefaultWorkerPool());
+  }
+
+  private EmbeddingProvider addService(
+      EmbeddingProviderConfigStore.ServiceConfig configuration, String modelName) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "Creating embedding provider for service {} and model {}",
+          configuration.serviceName(),
+          modelName);
+    }
     if (configuration.serviceProvider().equals(ProviderConstants.CUSTOM)) {
       try {
         Optional<Class<?>> clazz = configuration.implementationClass();
@@ -72,4 +125,17 @@ public class EmbeddingProviderFactory {
             configuration.apiKey(),
             modelName);
   }
+
+  /**
+   * Key of the cached embedding providers: the provider, base URL, API key and request properties
+   * being part of the service configuration, a change of any of them creates a new provider.
+   *
+   * @param tenant Tenant of the requests
+   * @param serviceConfig Configuration of the embedding service
+   * @param modelName Name of the model
+   */
+  private record ProviderKey(
+      Optional<String> tenant,
+      EmbeddingProviderConfigStore.ServiceConfig serviceConfig,
+      String modelName) {}
 }
@@ -78,9 +78,13 @@ public class MeteredEmbeddingProvider implements EmbeddingProvider {
     Tag commandTag = Tag.of(jsonApiMetricsConfig.command(), commandName);
     Tag tenantTag =
         Tag.of(tenantConfig.tenantTag(), dataApiRequestInfo.getTenantId().orElse(UNKNOWN_VALUE));
+    // batched calls are tagged with the provider vectorizing the batches
+    EmbeddingProvider taggedProvider =
+        embeddingProvider instanceof BatchingEmbeddingProvider batchingProvider
+            ? batchingProvider.embeddingProvider()
+            : embeddingProvider;
     Tag embeddingProviderTag =
-        Tag.of(
-            jsonApiMetricsConfig.embeddingProvider(), embeddingProvider.getClass().getSimpleName());
+        Tag.of(jsonApiMetricsConfig.embeddingProvider(), taggedProvider.getClass().getSimpleName());
     return Tags.of(commandTag, tenantTag, embeddingProviderTag);
   }
 }
@@ -4,10 +4,11 @@ import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.data.TupleValue;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.common.collect.MinMaxPriorityQueue;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -18,13 +19,13 @@ import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.ReadDocument;
 import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
-import java.util.Comparator;
-import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +33,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -44,6 +46,8 @@ public interface ReadOperation extends Operation {
   String[] documentKeyColumns = {"key", "tx_id"};
   String[] sortedDataColumns = {"key", "tx_id", "doc_json"};
   int SORTED_DATA_COLUMNS = sortedDataColumns.length;
+  String[] sortedKeyColumns = {"key", "tx_id"};
+  int SORTED_KEY_COLUMNS = sortedKeyColumns.length;
   List<String> sortIndexColumns =
       List.of(
           "query_text_values['%s']",
@@ -61,13 +65,17 @@ public interface ReadOperation extends Operation {
    * Default implementation to query and parse the result set
    *
    * @param queryExecutor
-   * @param queries - Multiple queries only in case of `in` condition on `_id` field
+   * @param queries - Multiple queries only in case of `in` condition on `_id` field, each reading
+   *     one id or up to `pageSize` ids owned by the same replica
    * @param pageState
    * @param readDocument This flag is set to false if the read is done to just identify the document
    *     id and tx_id to perform another DML operation
+   * @param rawDocument If the stored document JSON should be returned without parsing, only valid
+   *     with the identity projection
    * @param objectMapper
    * @param projection
    * @param limit - How many documents to return
+   * @param maxConcurrency - Maximum number of the queries to execute concurrently
    * @param vectorSearch - whether the query uses vector search
    * @param commandName - The command that calls ReadOperation
    * @param jsonProcessingMetricsReporter - reporter to use for reporting JSON read/write metrics
@@ -79,61 +87,62 @@ public interface ReadOperation extends Operation {
       String pageState,
       int pageSize,
       boolean readDocument,
+      boolean rawDocument,
       ObjectMapper objectMapper,
       DocumentProjector projection,
       int limit,
+      int maxConcurrency,
       boolean vectorSearch,
       String commandName,
       JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
 
-    return Multi.createFrom()
-        .items(queries.stream())
-        .onItem()
-        .transformToUniAndMerge(
-            simpleStatement -> {
-              if (vectorSearch) {
-                return queryExecutor.executeVectorSearch(
-                    simpleStatement, Optional.ofNullable(pageState), pageSize);
-              } else {
-                return queryExecutor.executeRead(
-                    simpleStatement, Optional.ofNullable(pageState), pageSize);
-              }
-            })
-        .onItem()
-        .transform(
-            rSet -> {
-              int remaining = rSet.remaining();
-              List<ReadDocument> documents = new ArrayList<>(remaining);
-              Iterator<Row> rowIterator = rSet.currentPage().iterator();
-              while (--remaining >= 0 && rowIterator.hasNext()) {
-                Row row = rowIterator.next();
-                ReadDocument document = null;
-                try {
-                  JsonNode root = readDocument ? objectMapper.readTree(row.getString(2)) : null;
-                  if (root != null) {
-                    // create metrics
-                    jsonProcessingMetricsReporter.reportJsonReadBytesMetrics(
-                        commandName, row.getString(2).length());
-
-                    if (projection.doIncludeSimilarityScore()) {
-                      float score = row.getFloat(3); // similarity_score
-                      projection.applyProjection(root, score);
-                    } else {
-                      projection.applyProjection(root);
-                    }
+    Multi<FindResponse> responses =
+        Multi.createFrom()
+            .iterable(queries)
+            .onItem()
+            .transformToUni(
+                simpleStatement ->
+                    executeQuery(queryExecutor, simpleStatement, pageState, pageSize, vectorSearch))
+            .merge(maxConcurrency)
+            .onItem()
+            .transform(
+                rSet -> {
+                  int remaining = rSet.remaining();
+                  List<ReadDocument> documents = new ArrayList<>(remaining);
+                  Iterator<Row> rowIterator = rSet.currentPage().iterator();
+                  while (--remaining >= 0 && rowIterator.hasNext()) {
+                    documents.add(
+                        readDocumentFromRow(
+                            rowIterator.next(),
+                            readDocument,
+                            rawDocument,
+                            objectMapper,
+                            projection,
+                            commandName,
+                            jsonProcessingMetricsReporter));
                   }
-                  document =
-                      ReadDocument.from(
-                          getDocumentId(row.getTupleValue(0)), // key
-                          row.getUuid(1), // tx_id
-                          root);
-                } catch (JsonProcessingException e) {
-                  throw parsingExceptionToApiException(e);
-                }
-                documents.add(document);
-              }
-              return new FindResponse(documents, extractPageStateFromResultSet(rSet));
-            })
+                  return new FindResponse(documents, extractPageStateFromResultSet(rSet));
+                });
+
+    if (limit == 1) {
+      // In case of findOne limit will be 1 return one document. With the `in` operator, the first
+      // query returning a document completes the read and the ones still in-flight are cancelled
+      return responses
+          .select()
+          .where(response -> !response.docs().isEmpty())
+          .select()
+          .first()
+          .collect()
+          .first()
+          .onItem()
+          .transform(
+              response ->
+                  response == null
+                      ? new FindResponse(List.of(), null)
+                      : new FindResponse(List.of(response.docs().get(0)), null));
+    }
+
+    return responses
         .collect()
         .asList()
         .onItem()
@@ -142,28 +151,156 @@ public interface ReadOperation extends Operation {
               // Merge all find responses
               List<ReadDocument> documents = new ArrayList<>();
               String tempPageState = null;
-              if (limit == 1) {
-                // In case of findOne limit will be 1 return one document. Need to do it to support
-                // `in` operator
-                for (FindResponse response : list) {
-                  if (!response.docs().isEmpty()) {
-                    documents.add(response.docs().get(0));
-                    break;
-                  }
-                }
-              } else {
-                // pagination is handled only when single query is run(non `in` filter), so here
-                // page state of the last query is returned
-                for (FindResponse response : list) {
-                  documents.addAll(response.docs());
-                  // picking the last page state
-                  tempPageState = response.pageState();
-                }
+              // pagination is handled only when single query is run(non `in` filter), so here
+              // page state of the last query is returned
+              for (FindResponse response : list) {
+                documents.addAll(response.docs());
+                // picking the last page state
+                tempPageState = response.pageState();
               }
               return new FindResponse(documents, tempPageState);
             });
   }
 
+  /**
+   * Streaming counterpart of the {@link #findDocument} for the multi document reads: instead of
+   * collecting all the documents of the page, the documents are read from the result set, parsed
+   * and projected one by one as they are requested by the subscriber of the {@link
+   * DocumentStream#documents()}.
+   *
+   * @param queryExecutor
+   * @param queries - Multiple queries only in case of `in` condition on `_id` field
+   * @param pageState
+   * @param pageSize
+   * @param rawDocument If the stored document JSON should be returned without parsing, only valid
+   *     with the identity projection
+   * @param objectMapper
+   * @param projection
+   * @param vectorSearch - whether the query uses vector search
+   * @param commandName - The command that calls ReadOperation
+   * @param jsonProcessingMetricsReporter - reporter to use for reporting JSON read/write metrics
+   * @return Uni emitting the stream as soon as the first page of the (first) query is available
+   */
+  default Uni<DocumentStream> streamDocument(
+      QueryExecutor queryExecutor,
+      List<SimpleStatement> queries,
+      String pageState,
+      int pageSize,
+      boolean rawDocument,
+      ObjectMapper objectMapper,
+      DocumentProjector projection,
+      boolean vectorSearch,
+      String commandName,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    if (queries.size() == 1) {
+      return executeQuery(queryExecutor, queries.get(0), pageState, pageSize, vectorSearch)
+          .onItem()
+          .transform(
+              rSet ->
+                  new DocumentStream(
+                      streamRows(
+                          rSet,
+                          rawDocument,
+                          objectMapper,
+                          projection,
+                          commandName,
+                          jsonProcessingMetricsReporter),
+                      extractPageStateFromResultSet(rSet)));
+    }
+    // pagination is handled only when single query is run (non `in` filter)
+    Multi<ReadDocument> documents =
+        Multi.createFrom()
+            .iterable(queries)
+            .onItem()
+            .transformToMultiAndConcatenate(
+                simpleStatement ->
+                    executeQuery(queryExecutor, simpleStatement, pageState, pageSize, vectorSearch)
+                        .onItem()
+                        .transformToMulti(
+                            rSet ->
+                                streamRows(
+                                    rSet,
+                                    rawDocument,
+                                    objectMapper,
+                                    projection,
+                                    commandName,
+                                    jsonProcessingMetricsReporter)));
+    return Uni.createFrom().item(new DocumentStream(documents, null));
+  }
+
+  private Multi<ReadDocument> streamRows(
+      AsyncResultSet rSet,
+      boolean rawDocument,
+      ObjectMapper objectMapper,
+      DocumentProjector projection,
+      String commandName,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    return Multi.createFrom()
+        .iterable(rSet.currentPage())
+        .map(
+            row ->
+                readDocumentFromRow(
+                    row,
+                    true,
+                    rawDocument,
+                    objectMapper,
+                    projection,
+                    commandName,
+                    jsonProcessingMetricsReporter));
+  }
+
+  private Uni<AsyncResultSet> executeQuery(
+      QueryExecutor queryExecutor,
+      SimpleStatement simpleStatement,
+      String pageState,
+      int pageSize,
+      boolean vectorSearch) {
+    if (vectorSearch) {
+      return queryExecutor.executeVectorSearch(
+          simpleStatement, Optional.ofNullable(pageState), pageSize);
+    } else {
+      return queryExecutor.executeRead(simpleStatement, Optional.ofNullable(pageState), pageSize);
+    }
+  }
+
+  /**
+   * Converts the row of the <code>key, tx_id, doc_json</code> (and optional similarity score)
+   * select into the {@link ReadDocument}, parsing and projecting the document if needed. With the
+   * <code>rawDocument</code> the stored JSON is wrapped as-is, see {@link
+   * ReadDocument#fromRawJson}.
+   */
+  private ReadDocument readDocumentFromRow(
+      Row row,
+      boolean readDocument,
+      boolean rawDocument,
+      ObjectMapper objectMapper,
+      DocumentProjector projection,
+      String commandName,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    if (readDocument && rawDocument) {
+      String docJson = row.getString(2);
+      jsonProcessingMetricsReporter.reportJsonReadBytesMetrics(
+          commandName, row.getBytesUnsafe(2).remaining());
+      return ReadDocument.fromRawJson(
+          getDocumentId(row.getTupleValue(0)), // key
+          row.getUuid(1), // tx_id
+          docJson);
+    }
+    JsonNode root = null;
+    if (readDocument) {
+      ByteBuffer docJson = row.getBytesUnsafe(2);
+      Float score = projection.doIncludeSimilarityScore() ? row.getFloat(3) : null;
+      // projection is applied while parsing, excluded content is never built into the tree
+      root = readDocJson(objectMapper, docJson, projection, score);
+      // create metrics
+      jsonProcessingMetricsReporter.reportJsonReadBytesMetrics(commandName, docJson.remaining());
+    }
+    return ReadDocument.from(
+        getDocumentId(row.getTupleValue(0)), // key
+        row.getUuid(1), // tx_id
+        root);
+  }
+
   byte true_byte = (byte) 1;
   /**
    * This method reads upto system fixed limit
@@ -172,13 +309,13 @@ public interface ReadOperation extends Operation {
    * @param queries Multiple queries only in case of `in` condition on `_id` field
    * @param pageSize
    * @param objectMapper
-   * @param comparator -
-   * @param numberOfOrderByColumn - Number of order by columns
+   * @param sortKeyEncoder - Encoder of the sort values, defines the order of the documents
    * @param skip - Skip `skip` # of document from the sorted collection before returning the
    *     documents
    * @param limit - How many documents to return
    * @param errorLimit - Count of record on which system to error out, this will be (maximum read
    *     count for sort + 1)
+   * @param maxConcurrency - Maximum number of the queries to execute concurrently
    * @param vectorSearch - whether the query uses vector search
    * @param commandName - The command that calls ReadOperation
    * @param jsonProcessingMetricsReporter - reporter to use for reporting JSON read/write metrics
@@ -189,21 +326,187 @@ public interface ReadOperation extends Operation {
       List<SimpleStatement> queries,
       int pageSize,
       ObjectMapper objectMapper,
-      Comparator<ReadDocument> comparator,
-      int numberOfOrderByColumn,
+      SortKeyEncoder sortKeyEncoder,
+      int skip,
+      int limit,
+      int errorLimit,
+      DocumentProjector projection,
+      int maxConcurrency,
+      boolean vectorSearch,
+      String commandName,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    return findSortedDocuments(
+            queryExecutor,
+            queries,
+            true,
+            pageSize,
+            objectMapper,
+            sortKeyEncoder,
+            skip,
+            limit,
+            errorLimit,
+            maxConcurrency,
+            vectorSearch,
+            commandName,
+            jsonProcessingMetricsReporter)
+        .onItem()
+        .transform(
+            subList -> {
+              // deserialize the doc_json field
+              List<ReadDocument> responseDocuments =
+                  subList.stream()
+                      .map(
+                          readDoc -> {
+                            JsonNode data = readDoc.docJsonValue().get();
+                            projection.applyProjection(data);
+                            return ReadDocument.from(readDoc.id(), readDoc.txnId(), data);
+                          })
+                      .collect(Collectors.toList());
+              return new FindResponse(responseDocuments, null);
+            });
+  }
+
+  /**
+   * Two-phase variant of the {@link #findOrderDocument}: the sort queries read only the document
+   * <code>key</code> and the sort columns, so that the <code>doc_json</code> of the documents that
+   * do not make it to the requested page is never transferred. Once the page is known, documents
+   * are fetched by their key, in parallel, and returned in the sorted order.
+   *
+   * <p>The fetched documents are only returned if they are still the ones that were sorted, with
+   * the same <code>tx_id</code>. If any of them was updated or deleted between the two phases, its
+   * sort values or its match of the filter may have changed, so the page is read again with the
+   * <code>singlePhaseRead</code>.
+   *
+   * @param queryExecutor
+   * @param queries Sort queries selecting {@link #sortedKeyColumns} followed by the sort columns,
+   *     multiple queries only in case of `in` condition on `_id` field
+   * @param documentQuery Function providing the query selecting {@link #documentColumns} of a
+   *     single document by its key
+   * @param singlePhaseRead Read of the page with the single-phase {@link #findOrderDocument}, used
+   *     if a document changed between the two phases
+   * @param pageSize
+   * @param objectMapper
+   * @param sortKeyEncoder - Encoder of the sort values, defines the order of the documents
+   * @param skip - Skip `skip` # of document from the sorted collection before returning the
+   *     documents
+   * @param limit - How many documents to return
+   * @param errorLimit - Count of record on which system to error out, this will be (maximum read
+   *     count for sort + 1)
+   * @param projection - Projection to apply to the fetched documents
+   * @param maxConcurrency - Maximum number of the queries to execute concurrently
+   * @param vectorSearch - whether the query uses vector search
+   * @param commandName - The command that calls ReadOperation
+   * @param jsonProcessingMetricsReporter - reporter to use for reporting JSON read/write metrics
+   * @return
+   */
+  default Uni<FindResponse> findOrderDocumentTwoPhase(
+      QueryExecutor queryExecutor,
+      List<SimpleStatement> queries,
+      Function<DocumentId, SimpleStatement> documentQuery,
+      Supplier<Uni<FindResponse>> singlePhaseRead,
+      int pageSize,
+      ObjectMapper objectMapper,
+      SortKeyEncoder sortKeyEncoder,
       int skip,
       int limit,
       int errorLimit,
       DocumentProjector projection,
+      int maxConcurrency,
+      boolean vectorSearch,
+      String commandName,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    return findSortedDocuments(
+            queryExecutor,
+            queries,
+            false,
+            pageSize,
+            objectMapper,
+            sortKeyEncoder,
+            skip,
+            limit,
+            errorLimit,
+            maxConcurrency,
+            vectorSearch,
+            commandName,
+            jsonProcessingMetricsReporter)
+        .onItem()
+        .transformToUni(
+            subList -> {
+              if (subList.isEmpty()) {
+                return Uni.createFrom().item(new FindResponse(List.of(), null));
+              }
+              List<Uni<Optional<ReadDocument>>> documentReads =
+                  subList.stream()
+                      .map(
+                          readDoc ->
+                              queryExecutor
+                                  .executeRead(
+                                      documentQuery.apply(readDoc.id()), Optional.empty(), 1)
+                                  .onItem()
+                                  .transform(
+                                      rSet ->
+                                          Optional.ofNullable(rSet.one())
+                                              .map(
+                                                  row ->
+                                                      readDocumentFromRow(
+                                                          row,
+                                                          true,
+                                                          false,
+                                                          objectMapper,
+                                                          projection,
+                                                          commandName,
+                                                          jsonProcessingMetricsReporter))))
+                      .toList();
+              // joined results keep the order of the reads, so the sort order is preserved
+              return Uni.join()
+                  .all(documentReads)
+                  .andFailFast()
+                  .onItem()
+                  .transformToUni(
+                      documents -> {
+                        List<ReadDocument> page = new ArrayList<>(documents.size());
+                        for (int i = 0; i < documents.size(); i++) {
+                          Optional<ReadDocument> document = documents.get(i);
+                          if (document.isEmpty()
+                              || !document.get().txnId().equals(subList.get(i).txnId())) {
+                            return singlePhaseRead.get();
+                          }
+                          page.add(document.get());
+                        }
+                        return Uni.createFrom().item(new FindResponse(page, null));
+                      });
+            });
+  }
+
+  /**
+   * Executes the sort queries and returns the documents in the <code>[skip, skip + limit)</code>
+   * range of the sorted result.
+   *
+   * @param withDocJson If the queries select {@link #sortedDataColumns} before the sort columns,
+   *     otherwise only {@link #sortedKeyColumns} are expected, and the returned documents have
+   *     only the id and the sort values.
+   */
+  private Uni<List<ReadDocument>> findSortedDocuments(
+      QueryExecutor queryExecutor,
+      List<SimpleStatement> queries,
+      boolean withDocJson,
+      int pageSize,
+      ObjectMapper objectMapper,
+      SortKeyEncoder sortKeyEncoder,
+      int skip,
+      int limit,
+      int errorLimit,
+      int maxConcurrency,
       boolean vectorSearch,
       String commandName,
       JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+    final int sortColumnsOffset = withDocJson ? SORTED_DATA_COLUMNS : SORTED_KEY_COLUMNS;
     final AtomicInteger documentCounter = new AtomicInteger(0);
-    final JsonNodeFactory nodeFactory = objectMapper.getNodeFactory();
+    final int numberOfOrderByColumn = sortKeyEncoder.fieldCount();
     return Multi.createFrom()
-        .items(queries.stream())
+        .iterable(queries)
         .onItem()
-        .transformToMultiAndMerge(
+        .transformToMulti(
             q ->
                 Multi.createBy()
                     .repeating()
@@ -226,6 +529,7 @@ public interface ReadOperation extends Operation {
                     // Read document while pageState exists, limit for read is set at updateLimit
                     // +1
                     .whilst(resultSet -> extractPageStateFromResultSet(resultSet) != null))
+        .merge(maxConcurrency)
         .onItem()
         .transformToUniAndMerge(
             resultSet -> {
@@ -237,69 +541,80 @@ public interface ReadOperation extends Operation {
               while (--remaining >= 0 && rowIterator.hasNext()) {
                 ReadDocument document = null;
                 Row row = rowIterator.next();
-                List<JsonNode> sortValues = new ArrayList<>(numberOfOrderByColumn);
+                DocumentId documentId = getDocumentId(row.getTupleValue(0)); // key
+                SortKeyEncoder.Builder sortKey = sortKeyEncoder.newKey();
                 for (int sortColumnCount = 0;
                     sortColumnCount < numberOfOrderByColumn;
                     sortColumnCount++) {
                   int columnCounter =
-                      SORTED_DATA_COLUMNS + ((sortColumnCount) * SORT_INDEX_COLUMNS_SIZE);
+                      sortColumnsOffset + ((sortColumnCount) * SORT_INDEX_COLUMNS_SIZE);
 
                   // text value
                   String value = row.getString(columnCounter);
                   if (value != null) {
-                    sortValues.add(nodeFactory.textNode(value));
+                    sortKey.addText(value);
                     continue;
                   }
                   // number value
                   columnCounter++;
                   BigDecimal bdValue = row.getBigDecimal(columnCounter);
                   if (bdValue != null) {
-                    sortValues.add(nodeFactory.numberNode(bdValue));
+                    sortKey.addNumber(bdValue);
                     continue;
                   }
                   // boolean value
                   columnCounter++;
                   ByteBuffer boolValue = row.getBytesUnsafe(columnCounter);
                   if (boolValue != null) {
-                    sortValues.add(
-                        nodeFactory.booleanNode(Byte.compare(true_byte, boolValue.get(0)) == 0));
+                    sortKey.addBoolean(Byte.compare(true_byte, boolValue.get(0)) == 0);
                     continue;
                   }
                   // null value
                   columnCounter++;
                   value = row.getString(columnCounter);
                   if (value != null) {
-                    sortValues.add(nodeFactory.nullNode());
+                    sortKey.addNull();
                     continue;
                   }
                   // date value
                   columnCounter++;
                   Instant instantValue = row.getInstant(columnCounter);
                   if (instantValue != null) {
-                    sortValues.add(nodeFactory.pojoNode(new Date(instantValue.toEpochMilli())));
+                    sortKey.addDate(instantValue.toEpochMilli());
                     continue;
                   }
                   // missing value
-                  sortValues.add(nodeFactory.missingNode());
+                  sortKey.addMissing();
+                }
+                if (!withDocJson) {
+                  // only the key is read, document is fetched later if it makes it to the page
+                  documents.add(
+                      ReadDocument.from(
+                          documentId, row.getUuid(1), null, sortKey.build(documentId)));
+                  continue;
                 }
-                // Create ReadDocument with document id, grpc value for doc json and list of sort
+                // Create ReadDocument with document id, grpc value for doc json and encoded sort
                 // values
+                ByteBuffer docJson = row.getBytesUnsafe(2);
                 document =
                     ReadDocument.from(
-                        getDocumentId(row.getTupleValue(0)), // key
+                        documentId,
                         row.getUuid(1),
                         new DocJsonValue(
-                            objectMapper, row.getString(2)), // Deserialized value of doc_json
-                        sortValues);
+                            objectMapper, docJson), // Deserialized lazily from the raw doc_json
+                        sortKey.build(documentId));
                 documents.add(document);
                 jsonProcessingMetricsReporter.reportJsonReadBytesMetrics(
-                    commandName, row.getString(2).length());
+                    commandName, docJson.remaining());
               }
               return Uni.createFrom().item(documents);
             })
         .collect()
         .in(
-            () -> MinMaxPriorityQueue.orderedBy(comparator).maximumSize(skip + limit).create(),
+            () ->
+                MinMaxPriorityQueue.orderedBy(SortKeyEncoder.documentOrder())
+                    .maximumSize(skip + limit)
+                    .create(),
             (sortedData, documents) -> {
               documents.forEach(doc -> sortedData.add(doc));
             })
@@ -310,7 +625,7 @@ public interface ReadOperation extends Operation {
               int begin = skip;
 
               // If the begin index is >= sorted list size, return empty response
-              if (begin >= sortedData.size()) return new FindResponse(List.of(), null);
+              if (begin >= sortedData.size()) return List.<ReadDocument>of();
               // Last index to which we need to read
               int end = Math.min(skip + limit, sortedData.size());
               // Create a sublist of the required rage
@@ -324,17 +639,7 @@ public interface ReadOperation extends Operation {
                 }
                 i++;
               }
-              // deserialize the doc_json field
-              List<ReadDocument> responseDocuments =
-                  subList.stream()
-                      .map(
-                          readDoc -> {
-                            JsonNode data = readDoc.docJsonValue().get();
-                            projection.applyProjection(data);
-                            return ReadDocument.from(readDoc.id(), readDoc.txnId(), data);
-                          })
-                      .collect(Collectors.toList());
-              return new FindResponse(responseDocuments, null);
+              return subList;
             });
   }
 
@@ -467,18 +772,68 @@ public interface ReadOperation extends Operation {
 
   record FindResponse(List<ReadDocument> docs, String pageState) {}
 
+  /**
+   * Documents of a streamed read, see {@link #streamDocument}.
+   *
+   * @param documents Lazily converted documents of the page
+   * @param pageState Page state for the next page, known before the documents are consumed
+   */
+  record DocumentStream(Multi<ReadDocument> documents, String pageState) {}
+
   record CountResponse(long count) {}
 
-  record DocJsonValue(ObjectMapper objectMapper, String docJsonValue)
+  record DocJsonValue(ObjectMapper objectMapper, ByteBuffer docJsonValue)
       implements Supplier<JsonNode> {
     public JsonNode get() {
-      try {
-        return objectMapper.readTree(docJsonValue);
-      } catch (JsonProcessingException e) {
-        // These are data stored in the DB so the error should never happen
-        throw parsingExceptionToApiException(e);
-      }
+      return readDocJson(objectMapper, docJsonValue);
+    }
+  }
+
+  /**
+   * Parses the <code>doc_json</code> column value directly from the UTF-8 bytes returned by the
+   * driver, avoiding decoding the value to a {@link String} first. Does not change the position of
+   * the given buffer.
+   *
+   * @param objectMapper Object mapper to use
+   * @param docJson doc_json column value, as returned by the {@link Row#getBytesUnsafe(int)}
+   * @return JsonNode of the document
+   */
+  static JsonNode readDocJson(ObjectMapper objectMapper, ByteBuffer docJson) {
+    return readDocJson(objectMapper, docJson, DocumentProjector.identityProjector(), null);
+  }
+
+  /**
+   * Same as {@link #readDocJson(ObjectMapper, ByteBuffer)}, but applies the projection while
+   * parsing, see {@link DocumentProjector#readWithProjection}.
+   *
+   * @param objectMapper Object mapper to use
+   * @param docJson doc_json column value, as returned by the {@link Row#getBytesUnsafe(int)}
+   * @param projection Projection to apply
+   * @param similarityScore Similarity score to include, if projection asks for it
+   * @return JsonNode of the projected document
+   */
+  static JsonNode readDocJson(
+      ObjectMapper objectMapper,
+      ByteBuffer docJson,
+      DocumentProjector projection,
+      Float similarityScore) {
+    try (JsonParser parser = createDocJsonParser(objectMapper, docJson)) {
+      return projection.readWithProjection(objectMapper, parser, similarityScore);
+    } catch (JsonProcessingException e) {
+      // These are data stored in the DB so the error should never happen
+      throw parsingExceptionToApiException(e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static JsonParser createDocJsonParser(ObjectMapper objectMapper, ByteBuffer docJson)
+      throws IOException {
+    if (docJson.hasArray()) {
+      return objectMapper.createParser(
+          docJson.array(), docJson.arrayOffset() + docJson.position(), docJson.remaining());
     }
+    return objectMapper.createParser(new ByteBufferBackedInputStream(docJson.duplicate()));
   }
 
   /**
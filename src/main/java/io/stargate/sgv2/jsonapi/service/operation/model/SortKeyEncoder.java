@@ -0,0 +1,283 @@
+package io.stargate.sgv2.jsonapi.service.operation.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.POJONode;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.FindOperation;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.ReadDocument;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import io.stargate.sgv2.jsonapi.util.JsonNodeComparator;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the sort values of a document into a compact <code>byte[]</code> sort key, so that the
+ * in-memory sorting compares the documents with {@link Arrays#compareUnsigned(byte[], byte[])}
+ * instead of comparing the {@link JsonNode} values one by one.
+ *
+ * <p>Unsigned lexicographical order of the keys is the same as the order of the {@link
+ * JsonNodeComparator} applied to each sort field in turn, with the document id (ascending) as the
+ * tie breaker. Each value is encoded as a type tag, following the type precedence of the {@link
+ * JsonNodeComparator}, followed by the order-preserving encoding of the value itself:
+ *
+ * <ul>
+ *   <li>Strings: one byte per ASCII char, three bytes for others, ending with <code>0x00</code>
+ *   <li>Numbers: sign, exponent and digits of the normalized {@link BigDecimal}
+ *   <li>Booleans: single byte
+ *   <li>Dates: epoch millis, with the sign bit flipped
+ * </ul>
+ *
+ * Bytes of the descending sort fields are inverted.
+ */
+public class SortKeyEncoder {
+
+  /** Type tags, see {@link JsonNodeComparator} */
+  private static final byte TAG_MISSING = 0;
+
+  private static final byte TAG_NULL = 1;
+  private static final byte TAG_NUMBER = 2;
+  private static final byte TAG_STRING = 3;
+  private static final byte TAG_OBJECT = 4;
+  private static final byte TAG_ARRAY = 5;
+  private static final byte TAG_BOOLEAN = 6;
+  private static final byte TAG_DATE = 7;
+
+  /** Terminates variable length values; lower than any other byte at the same position. */
+  private static final byte END = 0;
+
+  /** Precedes each element of an Array, or entry of an Object. */
+  private static final byte MORE = 1;
+
+  /** Order of the documents by their sort key. */
+  private static final Comparator<ReadDocument> DOCUMENT_ORDER =
+      Comparator.comparing(ReadDocument::sortKey, Arrays::compareUnsigned);
+
+  private final boolean[] ascending;
+
+  public SortKeyEncoder(List<FindOperation.OrderBy> orderBy) {
+    ascending = new boolean[orderBy.size()];
+    for (int i = 0; i < ascending.length; ++i) {
+      ascending[i] = orderBy.get(i).ascending();
+    }
+  }
+
+  /**
+   * @return Comparator ordering the documents by their {@link ReadDocument#sortKey()}.
+   */
+  public static Comparator<ReadDocument> documentOrder() {
+    return DOCUMENT_ORDER;
+  }
+
+  /**
+   * @return Number of the sort fields
+   */
+  public int fieldCount() {
+    return ascending.length;
+  }
+
+  /**
+   * @return New builder for the sort key of a single document; values must be added in the order of
+   *     the sort fields.
+   */
+  public Builder newKey() {
+    return new Builder();
+  }
+
+  public class Builder {
+    private byte[] buffer = new byte[32];
+
+    private int length;
+
+    private int field;
+
+    public Builder addText(String value) {
+      int start = startField(TAG_STRING);
+      writeString(value);
+      return endField(start);
+    }
+
+    public Builder addNumber(BigDecimal value) {
+      int start = startField(TAG_NUMBER);
+      writeNumber(value);
+      return endField(start);
+    }
+
+    public Builder addBoolean(boolean value) {
+      int start = startField(TAG_BOOLEAN);
+      write(value ? 1 : 0);
+      return endField(start);
+    }
+
+    public Builder addDate(long epochMillis) {
+      int start = startField(TAG_DATE);
+      writeLong(epochMillis ^ Long.MIN_VALUE);
+      return endField(start);
+    }
+
+    public Builder addNull() {
+      return endField(startField(TAG_NULL));
+    }
+
+    public Builder addMissing() {
+      return endField(startField(TAG_MISSING));
+    }
+
+    /**
+     * Completes the key by adding the document id as the tie breaker.
+     *
+     * @param id Document id
+     * @return Sort key
+     */
+    public byte[] build(DocumentId id) {
+      if (field != ascending.length) {
+        throw new IllegalStateException(
+            "Expected %d sort values, got %d".formatted(ascending.length, field));
+      }
+      writeNode(id.asJson(JsonNodeFactory.instance));
+      return Arrays.copyOf(buffer, length);
+    }
+
+    private int startField(byte tag) {
+      int start = length;
+      write(tag);
+      return start;
+    }
+
+    private Builder endField(int start) {
+      if (!ascending[field++]) {
+        for (int i = start; i < length; ++i) {
+          buffer[i] = (byte) ~buffer[i];
+        }
+      }
+      return this;
+    }
+
+    private void writeNode(JsonNode value) {
+      switch (value.getNodeType()) {
+        case MISSING -> write(TAG_MISSING);
+        case NULL -> write(TAG_NULL);
+        case NUMBER -> {
+          write(TAG_NUMBER);
+          writeNumber(value.decimalValue());
+        }
+        case STRING -> {
+          write(TAG_STRING);
+          writeString(value.textValue());
+        }
+        case BOOLEAN -> {
+          write(TAG_BOOLEAN);
+          write(value.booleanValue() ? 1 : 0);
+        }
+        case OBJECT -> {
+          write(TAG_OBJECT);
+          Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+          while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            write(MORE);
+            writeString(entry.getKey());
+            writeNode(entry.getValue());
+          }
+          write(END);
+        }
+        case ARRAY -> {
+          write(TAG_ARRAY);
+          for (JsonNode element : value) {
+            write(MORE);
+            writeNode(element);
+          }
+          write(END);
+        }
+        case POJO -> {
+          Object pojo = ((POJONode) value).getPojo();
+          if (!(pojo instanceof Date date)) {
+            // this error should never happen.
+            throw new IllegalStateException(
+                "Unsupported POJO type for sort key: " + pojo.getClass());
+          }
+          write(TAG_DATE);
+          writeLong(date.getTime() ^ Long.MIN_VALUE);
+        }
+        default -> {
+          // Should never happen:
+          throw new IllegalStateException(
+              "Unsupported JsonNodeType for sort key: " + value.getNodeType());
+        }
+      }
+    }
+
+    /**
+     * Writes the UTF-16 code units, in the {@link String#compareTo} order: ones below <code>0x7F
+     * </code> as a single byte, others as a marker byte followed by the two bytes of the code unit.
+     */
+    private void writeString(String value) {
+      ensureCapacity(value.length() + 1);
+      for (int i = 0, len = value.length(); i < len; ++i) {
+        char c = value.charAt(i);
+        if (c < 0x7F) {
+          write(c + 1);
+        } else {
+          ensureCapacity(len - i + 3);
+          write(0x80);
+          write(c >>> 8);
+          write(c);
+        }
+      }
+      write(END);
+    }
+
+    /**
+     * Writes the number as the sign, followed by the exponent and the digits of the normalized
+     * value; bytes after the sign are inverted for the negative values.
+     */
+    private void writeNumber(BigDecimal value) {
+      int signum = value.signum();
+      write(signum + 1);
+      if (signum == 0) {
+        return;
+      }
+      BigDecimal normalized = value.abs().stripTrailingZeros();
+      String digits = normalized.unscaledValue().toString();
+      int start = length;
+      // position of the most significant digit, higher means bigger absolute value
+      writeInt((digits.length() - normalized.scale() - 1) ^ Integer.MIN_VALUE);
+      ensureCapacity(digits.length() + 1);
+      for (int i = 0; i < digits.length(); ++i) {
+        write(digits.charAt(i) - '0' + 1);
+      }
+      write(END);
+      if (signum < 0) {
+        for (int i = start; i < length; ++i) {
+          buffer[i] = (byte) ~buffer[i];
+        }
+      }
+    }
+
+    private void writeInt(int value) {
+      write(value >>> 24);
+      write(value >>> 16);
+      write(value >>> 8);
+      write(value);
+    }
+
+    private void writeLong(long value) {
+      writeInt((int) (value >>> 32));
+      writeInt((int) value);
+    }
+
+    private void write(int b) {
+      ensureCapacity(1);
+      buffer[length++] = (byte) b;
+    }
+
+    private void ensureCapacity(int additional) {
+      if (length + additional > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+      }
+    }
+  }
+}
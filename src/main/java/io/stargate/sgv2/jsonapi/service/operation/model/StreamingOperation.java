@@ -0,0 +1,29 @@
+package io.stargate.sgv2.jsonapi.service.operation.model;
+
+import io.smallrye.mutiny.Multi;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import java.util.function.Supplier;
+
+/**
+ * Operation that is able to emit its result incrementally, so that the API layer can write the
+ * documents to the response as they are read from the database, instead of materializing the
+ * complete {@link CommandResult} first.
+ */
+public interface StreamingOperation extends Operation {
+
+  /**
+   * @return <code>true</code> if this operation instance can stream its result, for example only
+   *     unsorted multi document reads can.
+   */
+  boolean isStreamable();
+
+  /**
+   * Executes the operation emitting one result per document, followed by a single trailing result
+   * carrying the rest of the response (like the next page state).
+   *
+   * @param queryExecutor Query executor
+   * @return Multi of command result suppliers
+   */
+  Multi<Supplier<CommandResult>> stream(QueryExecutor queryExecutor);
+}
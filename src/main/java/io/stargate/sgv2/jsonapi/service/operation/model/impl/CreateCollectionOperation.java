@@ -138,7 +138,10 @@ public record CreateCollectionOperation(
     // if table exists we have to choices:
     // (1) trying to create with same options -> ok, proceed
     // (2) trying to create with different options -> error out
-    if (existedCollectionSettings.equals(newCollectionSettings)) {
+    // hash format is not a create option: existing collection keeps the one it was created with
+    if (existedCollectionSettings.equals(
+        newCollectionSettings.withDocValueHashFormat(
+            existedCollectionSettings.docValueHashFormat()))) {
       return executeCollectionCreation(queryExecutor, true);
     }
     return Uni.createFrom()
@@ -12,6 +12,7 @@ import io.stargate.sgv2.api.common.cql.builder.Predicate;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHashFormat;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHasher;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
 import io.stargate.sgv2.jsonapi.util.JsonUtil;
@@ -364,6 +365,7 @@ public abstract class DBFilterBase implements Supplier<BuiltCondition> {
   public static class InFilter extends DBFilterBase {
     private final List<Object> arrayValue;
     protected final InFilter.Operator operator;
+    private final DocValueHashFormat hashFormat;
 
     @Override
     JsonNode asJson(JsonNodeFactory nodeFactory) {
@@ -381,9 +383,18 @@ public abstract class DBFilterBase implements Supplier<BuiltCondition> {
     }
 
     public InFilter(InFilter.Operator operator, String path, List<Object> arrayValue) {
+      this(operator, path, arrayValue, DocValueHashFormat.V1);
+    }
+
+    public InFilter(
+        InFilter.Operator operator,
+        String path,
+        List<Object> arrayValue,
+        DocValueHashFormat hashFormat) {
       super(path);
       this.arrayValue = arrayValue;
       this.operator = operator;
+      this.hashFormat = hashFormat;
     }
 
     @Override
@@ -391,12 +402,14 @@ public abstract class DBFilterBase implements Supplier<BuiltCondition> {
       if (this == o) return true;
       if (o == null || getClass() != o.getClass()) return false;
       InFilter inFilter = (InFilter) o;
-      return operator == inFilter.operator && Objects.equals(arrayValue, inFilter.arrayValue);
+      return operator == inFilter.operator
+          && Objects.equals(arrayValue, inFilter.arrayValue)
+          && hashFormat == inFilter.hashFormat;
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(arrayValue, operator);
+      return Objects.hash(arrayValue, operator, hashFormat);
     }
 
     @Override
@@ -406,6 +419,7 @@ public abstract class DBFilterBase implements Supplier<BuiltCondition> {
 
     public List<BuiltCondition> getAll() {
       List<Object> values = arrayValue;
+      final DocValueHasher hasher = new DocValueHasher(hashFormat);
       switch (operator) {
         case IN:
           if (values.isEmpty()) return List.of();
@@ -417,20 +431,20 @@ public abstract class DBFilterBase implements Supplier<BuiltCondition> {
                   BuiltCondition.of(
                       BuiltCondition.LHS.mapAccess("query_text_values", Values.NULL),
                       Predicate.EQ,
-                      new JsonTerm(this.getPath(), getHash(new DocValueHasher(), value))));
+                      new JsonTerm(this.getPath(), getHash(hasher, value))));
             } else if (value instanceof List) {
               // array element is array
               inResult.add(
                   BuiltCondition.of(
                       BuiltCondition.LHS.mapAccess("query_text_values", Values.NULL),
                       Predicate.EQ,
-                      new JsonTerm(this.getPath(), getHash(new DocValueHasher(), value))));
+                      new JsonTerm(this.getPath(), getHash(hasher, value))));
             } else {
               inResult.add(
                   BuiltCondition.of(
                       DATA_CONTAINS,
                       Predicate.CONTAINS,
-                      new JsonTerm(getHashValue(new DocValueHasher(), getPath(), value))));
+                      new JsonTerm(getHashValue(hasher, getPath(), value))));
             }
           }
           return inResult;
@@ -445,20 +459,20 @@ public abstract class DBFilterBase implements Supplier<BuiltCondition> {
                     BuiltCondition.of(
                         BuiltCondition.LHS.mapAccess("query_text_values", Values.NULL),
                         Predicate.NEQ,
-                        new JsonTerm(this.getPath(), getHash(new DocValueHasher(), value))));
+                        new JsonTerm(this.getPath(), getHash(hasher, value))));
               } else if (value instanceof List) {
                 // array element is array
                 ninResults.add(
                     BuiltCondition.of(
                         BuiltCondition.LHS.mapAccess("query_text_values", Values.NULL),
                         Predicate.NEQ,
-                        new JsonTerm(this.getPath(), getHash(new DocValueHasher(), value))));
+                        new JsonTerm(this.getPath(), getHash(hasher, value))));
               } else {
                 ninResults.add(
                     BuiltCondition.of(
                         DATA_CONTAINS,
                         Predicate.NOT_CONTAINS,
-                        new JsonTerm(getHashValue(new DocValueHasher(), getPath(), value))));
+                        new JsonTerm(getHashValue(hasher, getPath(), value))));
               }
             }
             return ninResults;
@@ -594,11 +608,18 @@ public abstract class DBFilterBase implements Supplier<BuiltCondition> {
   public static class AllFilter extends DBFilterBase {
     private final List<Object> arrayValue;
     private final boolean negation;
+    private final DocValueHashFormat hashFormat;
 
     public AllFilter(String path, List<Object> arrayValue, boolean negation) {
+      this(path, arrayValue, negation, DocValueHashFormat.V1);
+    }
+
+    public AllFilter(
+        String path, List<Object> arrayValue, boolean negation, DocValueHashFormat hashFormat) {
       super(path);
       this.arrayValue = arrayValue;
       this.negation = negation;
+      this.hashFormat = hashFormat;
     }
 
     public boolean isNegation() {
@@ -617,12 +638,13 @@ public abstract class DBFilterBase implements Supplier<BuiltCondition> {
 
     public List<BuiltCondition> getAll() {
       final ArrayList<BuiltCondition> result = new ArrayList<>();
+      final DocValueHasher hasher = new DocValueHasher(hashFormat);
       for (Object value : arrayValue) {
         result.add(
             BuiltCondition.of(
                 DATA_CONTAINS,
                 negation ? Predicate.NOT_CONTAINS : Predicate.CONTAINS,
-                new JsonTerm(getHashValue(new DocValueHasher(), getPath(), value))));
+                new JsonTerm(getHashValue(hasher, getPath(), value))));
       }
       return result;
     }
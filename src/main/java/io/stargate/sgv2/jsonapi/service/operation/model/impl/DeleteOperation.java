@@ -1,6 +1,7 @@
 package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.tuples.Tuple2;
@@ -10,6 +11,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.StatementRouting;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
 import io.stargate.sgv2.jsonapi.service.operation.model.ModifyOperation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadOperation;
@@ -17,6 +19,7 @@ import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -35,7 +38,12 @@ public record DeleteOperation(
     int retryLimit,
     /** return deleted document in response if `true`. */
     boolean returnDocumentInResponse,
-    DocumentProjector resultProjection)
+    DocumentProjector resultProjection,
+    /**
+     * read the next page of documents while the documents of the current page are deleted if
+     * `true`.
+     */
+    boolean prefetchNextPage)
     implements ModifyOperation {
 
   public static DeleteOperation deleteOneAndReturn(
@@ -44,12 +52,28 @@ public record DeleteOperation(
       int retryLimit,
       DocumentProjector resultProjection) {
     return new DeleteOperation(
-        commandContext, findOperation, 1, retryLimit, true, resultProjection);
+        commandContext, findOperation, 1, retryLimit, true, resultProjection, false);
   }
 
   public static DeleteOperation delete(
       CommandContext commandContext, FindOperation findOperation, int deleteLimit, int retryLimit) {
-    return new DeleteOperation(commandContext, findOperation, deleteLimit, retryLimit, false, null);
+    return new DeleteOperation(
+        commandContext, findOperation, deleteLimit, retryLimit, false, null, false);
+  }
+
+  /**
+   * @param prefetchNextPage Whether to read the next page while the current one is deleted
+   * @return DeleteOperation with the page prefetch setting
+   */
+  public DeleteOperation withPagePrefetch(boolean prefetchNextPage) {
+    return new DeleteOperation(
+        commandContext,
+        findOperation,
+        deleteLimit,
+        retryLimit,
+        returnDocumentInResponse,
+        resultProjection,
+        prefetchNextPage);
   }
 
   @Override
@@ -57,19 +81,11 @@ public record DeleteOperation(
     final AtomicBoolean moreData = new AtomicBoolean(false);
     final String delete = buildDeleteQuery();
     AtomicInteger totalCount = new AtomicInteger(0);
-    final int retryAttempt = retryLimit - 2;
+    final PageReader pageReader = new PageReader(queryExecutor);
     // Read the required records to be deleted
     return Multi.createBy()
         .repeating()
-        .uni(
-            () -> new AtomicReference<String>(null),
-            stateRef -> {
-              Uni<ReadOperation.FindResponse> docsToDelete =
-                  findOperation().getDocuments(queryExecutor, stateRef.get(), null);
-              return docsToDelete
-                  .onItem()
-                  .invoke(findResponse -> stateRef.set(findResponse.pageState()));
-            })
+        .uni(pageReader::nextPage)
 
         // Documents read until pageState available, max records read is deleteLimit + 1
         .whilst(findResponse -> findResponse.pageState() != null)
@@ -142,11 +158,78 @@ public record DeleteOperation(
                   .jsonProcessingMetricsReporter()
                   .reportJsonReadDocsMetrics(
                       commandContext().commandName(), deletedInformation.size());
+              if (pageReader.nextPagesRead.get() > 0) {
+                commandContext
+                    .jsonProcessingMetricsReporter()
+                    .reportPageStallMetrics(
+                        commandContext().commandName(), pageReader.stallNanos.get());
+              }
               return new DeleteOperationPage(
                   deletedInformation, moreData.get(), returnDocumentInResponse);
             });
   }
 
+  /**
+   * Reads the pages of the documents to delete, one at a time. With {@link #prefetchNextPage()} the
+   * read of the next page is started as soon as the current page is received, overlapping with the
+   * deletes of the current page. Tracks the time spent waiting for the pages after the first one.
+   *
+   * <p>Pages are requested one after another, but received on the driver threads, so the state is
+   * kept in volatile and atomic fields.
+   */
+  private class PageReader {
+    private final QueryExecutor queryExecutor;
+
+    /** Page state of the next page to read, if not prefetched. */
+    private volatile String pageState;
+
+    /** If the first page was received. */
+    private volatile boolean firstPageRead;
+
+    /** Prefetched next page, if any. */
+    private final AtomicReference<Uni<ReadOperation.FindResponse>> prefetched =
+        new AtomicReference<>();
+
+    private final AtomicInteger nextPagesRead = new AtomicInteger();
+
+    private final AtomicLong stallNanos = new AtomicLong();
+
+    PageReader(QueryExecutor queryExecutor) {
+      this.queryExecutor = queryExecutor;
+    }
+
+    Uni<ReadOperation.FindResponse> nextPage() {
+      final boolean firstPage = !firstPageRead;
+      final Uni<ReadOperation.FindResponse> prefetchedPage = prefetched.getAndSet(null);
+      final Uni<ReadOperation.FindResponse> page =
+          prefetchedPage != null ? prefetchedPage : readPage(pageState);
+      final long waitStart = System.nanoTime();
+      return page
+          .onItem()
+          .invoke(
+              findResponse -> {
+                if (firstPage) {
+                  firstPageRead = true;
+                } else {
+                  nextPagesRead.incrementAndGet();
+                  stallNanos.addAndGet(System.nanoTime() - waitStart);
+                }
+                pageState = findResponse.pageState();
+                if (prefetchNextPage() && findResponse.pageState() != null) {
+                  Uni<ReadOperation.FindResponse> nextPage =
+                      readPage(findResponse.pageState()).memoize().indefinitely();
+                  prefetched.set(nextPage);
+                  // failure is re-emitted once the prefetched page is consumed
+                  nextPage.subscribe().with(ignored -> {}, ignored -> {});
+                }
+              });
+    }
+
+    private Uni<ReadOperation.FindResponse> readPage(String state) {
+      return findOperation().getDocuments(queryExecutor, state, null);
+    }
+  }
+
   private ReadDocument applyProjection(ReadDocument document) {
     resultProjection().applyProjection(document.document());
     return document;
@@ -229,9 +312,9 @@ public record DeleteOperation(
             });
   }
 
-  private static SimpleStatement bindDeleteQuery(String query, ReadDocument doc) {
-    SimpleStatement deleteStatement =
-        SimpleStatement.newInstance(query, CQLBindValues.getDocumentIdValue(doc.id()), doc.txnId());
-    return deleteStatement;
+  private SimpleStatement bindDeleteQuery(String query, ReadDocument doc) {
+    TupleValue key = CQLBindValues.getDocumentIdValue(doc.id());
+    SimpleStatement deleteStatement = SimpleStatement.newInstance(query, key, doc.txnId());
+    return StatementRouting.routeToKey(deleteStatement, commandContext().namespace(), key);
   }
 }
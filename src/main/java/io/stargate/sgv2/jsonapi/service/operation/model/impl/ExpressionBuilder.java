@@ -2,6 +2,7 @@ package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 
 import com.bpodgursky.jbool_expressions.Expression;
 import com.bpodgursky.jbool_expressions.Variable;
+import com.datastax.oss.driver.api.core.data.TupleValue;
 import io.stargate.sgv2.api.common.cql.ExpressionUtils;
 import io.stargate.sgv2.api.common.cql.builder.BuiltCondition;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ComparisonExpression;
@@ -10,6 +11,7 @@ import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class ExpressionBuilder {
@@ -192,6 +194,33 @@ public class ExpressionBuilder {
         conditionExpressions, logicalExpression.getLogicalRelation().getOperator());
   }
 
+  /**
+   * Returns the document key the expression is restricted to: the expressions built for an `_id`
+   * $eq or $in filter have the <code>key = ?</code> condition at their top level, either as the
+   * expression itself or as a child of the top level $and.
+   *
+   * @param expression Expression as built by {@link #buildExpressions}, may be <code>null</code>
+   * @return Value bound to the <code>key</code>, or empty if the expression is not restricted to a
+   *     single document
+   */
+  public static Optional<TupleValue> getDocumentKey(Expression<BuiltCondition> expression) {
+    if (expression == null) {
+      return Optional.empty();
+    }
+    List<Expression<BuiltCondition>> conditions =
+        expression.getExprType().equals("and") ? expression.getChildren() : List.of(expression);
+    for (Expression<BuiltCondition> condition : conditions) {
+      // document key is the only column bound to a tuple value
+      if (condition instanceof Variable<BuiltCondition> variable
+          && variable.getValue().value() instanceof JsonTerm term
+          && term.getKey() == null
+          && term.getValue() instanceof TupleValue key) {
+        return Optional.of(key);
+      }
+    }
+    return Optional.empty();
+  }
+
   /**
    * Get all positional cql values from express recursively. Result order is in consistent of the
    * expression structure
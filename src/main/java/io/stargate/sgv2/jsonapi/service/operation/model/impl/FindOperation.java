@@ -1,32 +1,41 @@
 package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 
 import com.bpodgursky.jbool_expressions.Expression;
+import com.bpodgursky.jbool_expressions.Variable;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.stargate.bridge.grpc.Values;
 import io.stargate.bridge.proto.QueryOuterClass;
 import io.stargate.sgv2.api.common.cql.builder.BuiltCondition;
+import io.stargate.sgv2.api.common.cql.builder.Predicate;
 import io.stargate.sgv2.api.common.cql.builder.QueryBuilder;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ComparisonExpression;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.LogicalExpression;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.update.SetOperation;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
 import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.StatementRouting;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
-import io.stargate.sgv2.jsonapi.service.operation.model.ChainedComparator;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadOperation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
+import io.stargate.sgv2.jsonapi.service.operation.model.SortKeyEncoder;
+import io.stargate.sgv2.jsonapi.service.operation.model.StreamingOperation;
 import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -49,8 +58,10 @@ public record FindOperation(
     int skip,
     int maxSortReadLimit,
     boolean singleResponse,
-    float[] vector)
-    implements ReadOperation {
+    float[] vector,
+    /** Options of the execution, see {@link #withOptions(ExecutionOptions)}. */
+    ExecutionOptions options)
+    implements ReadOperation, StreamingOperation {
 
   /**
    * Constructs find operation for unsorted single document find.
@@ -82,7 +93,8 @@ public record FindOperation(
         0,
         0,
         true,
-        null);
+        null,
+        ExecutionOptions.DEFAULT);
   }
 
   /**
@@ -120,7 +132,8 @@ public record FindOperation(
         0,
         0,
         false,
-        null);
+        null,
+        ExecutionOptions.DEFAULT);
   }
 
   /**
@@ -153,7 +166,8 @@ public record FindOperation(
         0,
         0,
         true,
-        vector);
+        vector,
+        ExecutionOptions.DEFAULT);
   }
 
   /**
@@ -192,7 +206,8 @@ public record FindOperation(
         0,
         0,
         false,
-        vector);
+        vector,
+        ExecutionOptions.DEFAULT);
   }
 
   /**
@@ -232,7 +247,8 @@ public record FindOperation(
         skip,
         maxSortReadLimit,
         true,
-        null);
+        null,
+        ExecutionOptions.DEFAULT);
   }
 
   /**
@@ -276,7 +292,33 @@ public record FindOperation(
         skip,
         maxSortReadLimit,
         false,
-        null);
+        null,
+        ExecutionOptions.DEFAULT);
+  }
+
+  /**
+   * Returns a copy of this operation with the given execution options, the operations are created
+   * with the {@link ExecutionOptions#DEFAULT} ones.
+   *
+   * @param options Options of the execution
+   * @return FindOperation with the options
+   */
+  public FindOperation withOptions(ExecutionOptions options) {
+    return new FindOperation(
+        commandContext,
+        logicalExpression,
+        projection,
+        pageState,
+        limit,
+        pageSize,
+        readType,
+        objectMapper,
+        orderBy,
+        skip,
+        maxSortReadLimit,
+        singleResponse,
+        vector,
+        options);
   }
 
   @Override
@@ -303,6 +345,77 @@ public record FindOperation(
             });
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Only the unsorted multi document reads are streamed, sorted reads need to see all the
+   * documents before the first one can be returned.
+   */
+  @Override
+  public boolean isStreamable() {
+    return !singleResponse && readType == ReadType.DOCUMENT;
+  }
+
+  @Override
+  public Multi<Supplier<CommandResult>> stream(QueryExecutor queryExecutor) {
+    if (vector() != null && !commandContext().isVectorEnabled()) {
+      return Multi.createFrom()
+          .failure(
+              new JsonApiException(
+                  ErrorCode.VECTOR_SEARCH_NOT_SUPPORTED,
+                  ErrorCode.VECTOR_SEARCH_NOT_SUPPORTED.getMessage()
+                      + commandContext().collection()));
+    }
+    return streamDocument(
+            queryExecutor,
+            buildSelectQueries(queryExecutor, null),
+            pageState(),
+            pageSize(),
+            isRawDocumentRead(),
+            objectMapper(),
+            projection(),
+            vector() != null,
+            commandContext.commandName(),
+            commandContext.jsonProcessingMetricsReporter())
+        .onItem()
+        .transformToMulti(
+            documentStream -> {
+              AtomicInteger count = new AtomicInteger();
+              Multi<Supplier<CommandResult>> documents =
+                  documentStream
+                      .documents()
+                      .map(
+                          document -> {
+                            count.incrementAndGet();
+                            return () ->
+                                new CommandResult(
+                                    new CommandResult.SingleResponseData(document.document()));
+                          });
+              // trailer is resolved only once all documents are emitted
+              Multi<Supplier<CommandResult>> trailer =
+                  Multi.createFrom()
+                      .deferred(
+                          () -> {
+                            commandContext
+                                .jsonProcessingMetricsReporter()
+                                .reportJsonReadDocsMetrics(
+                                    commandContext().commandName(), count.get());
+                            List<Supplier<CommandResult>> page =
+                                List.of(
+                                    new ReadOperationPage(
+                                        List.of(), documentStream.pageState(), false));
+                            return Multi.createFrom().iterable(page);
+                          });
+              return Multi.createBy().concatenating().streams(documents, trailer);
+            });
+  }
+
+  private boolean isRawDocumentRead() {
+    return options.documentPassthrough()
+        && ReadType.DOCUMENT == readType
+        && projection().isIdentityProjection();
+  }
+
   /**
    * A operation method which can return FindResponse instead of CommandResult. This method will be
    * used by other commands which needs a document to be read.
@@ -320,33 +433,57 @@ public record FindOperation(
     // COUNT is not supported
     switch (readType) {
       case SORTED_DOCUMENT -> {
-        List<SimpleStatement> queries = buildSortedSelectQueries(additionalIdFilter);
-        return findOrderDocument(
+        Supplier<Uni<FindResponse>> singlePhaseRead =
+            () ->
+                findOrderDocument(
+                    queryExecutor,
+                    buildSortedSelectQueries(queryExecutor, additionalIdFilter, sortedDataColumns),
+                    pageSize,
+                    objectMapper(),
+                    new SortKeyEncoder(orderBy()),
+                    skip(),
+                    limit(),
+                    maxSortReadLimit(),
+                    projection(),
+                    options.maxInQueryConcurrency(),
+                    vector() != null,
+                    commandContext.commandName(),
+                    commandContext.jsonProcessingMetricsReporter());
+        if (!options.twoPhaseSort()) {
+          return singlePhaseRead.get();
+        }
+        List<SimpleStatement> queries =
+            buildSortedSelectQueries(queryExecutor, additionalIdFilter, sortedKeyColumns);
+        return findOrderDocumentTwoPhase(
             queryExecutor,
             queries,
+            this::buildSelectByKeyQuery,
+            singlePhaseRead,
             pageSize,
             objectMapper(),
-            new ChainedComparator(orderBy(), objectMapper()),
-            orderBy().size(),
+            new SortKeyEncoder(orderBy()),
             skip(),
             limit(),
             maxSortReadLimit(),
             projection(),
+            options.maxInQueryConcurrency(),
             vector() != null,
             commandContext.commandName(),
             commandContext.jsonProcessingMetricsReporter());
       }
       case DOCUMENT, KEY -> {
-        List<SimpleStatement> queries = buildSelectQueries(additionalIdFilter);
+        List<SimpleStatement> queries = buildSelectQueries(queryExecutor, additionalIdFilter);
         return findDocument(
             queryExecutor,
             queries,
             pageState,
             pageSize,
             ReadType.DOCUMENT == readType,
+            isRawDocumentRead(),
             objectMapper,
             projection,
             limit(),
+            options.maxInQueryConcurrency(),
             vector() != null,
             commandContext.commandName(),
             commandContext.jsonProcessingMetricsReporter());
@@ -401,11 +538,13 @@ public record FindOperation(
   /**
    * Builds select query based on filters and additionalIdFilter overrides.
    *
+   * @param queryExecutor Executor the queries are built for, see {@link #groupByReplica}
    * @param additionalIdFilter
    * @return Returns a list of queries, where a query is built using element returned by the
    *     buildConditions method.
    */
-  private List<SimpleStatement> buildSelectQueries(DBFilterBase.IDFilter additionalIdFilter) {
+  private List<SimpleStatement> buildSelectQueries(
+      QueryExecutor queryExecutor, DBFilterBase.IDFilter additionalIdFilter) {
     final List<Expression<BuiltCondition>> expressions =
         ExpressionBuilder.buildExpressions(logicalExpression, additionalIdFilter);
     if (expressions == null) { // find nothing
@@ -425,7 +564,7 @@ public record FindOperation(
                     .limit(limit)
                     .build();
             final SimpleStatement simpleStatement = SimpleStatement.newInstance(query.getCql());
-            queries.add(simpleStatement.setPositionalValues(collect));
+            queries.add(routed(simpleStatement.setPositionalValues(collect), expression));
           } else {
             QueryOuterClass.Query query = getVectorSearchQueryByExpression(expression);
             collect.add(CQLBindValues.getVectorValue(vector()));
@@ -436,11 +575,27 @@ public record FindOperation(
               appendedCollect.addAll(collect);
               collect = appendedCollect;
             }
-            queries.add(simpleStatement.setPositionalValues(collect));
+            queries.add(routed(simpleStatement.setPositionalValues(collect), expression));
           }
         });
 
-    return queries;
+    if (vector() != null) {
+      return queries;
+    }
+    // only the first page of each query is read, unless a single document is requested
+    return groupByReplica(
+        queryExecutor,
+        expressions,
+        queries,
+        limit == 1 ? Integer.MAX_VALUE : pageSize,
+        (expression, keyCount) ->
+            new QueryBuilder()
+                .select()
+                .column(ReadType.DOCUMENT == readType ? documentColumns : documentKeyColumns)
+                .from(commandContext.namespace(), commandContext.collection())
+                .where(expression)
+                .limit(Math.min(limit, keyCount))
+                .build());
   }
 
   /**
@@ -510,17 +665,22 @@ public record FindOperation(
   /**
    * Builds select query based on filters, sort fields and additionalIdFilter overrides.
    *
+   * @param queryExecutor Executor the queries are built for, see {@link #groupByReplica}
    * @param additionalIdFilter
+   * @param dataColumns Columns to select before the sort columns
    * @return Returns a list of queries, where a query is built using element returned by the
    *     buildConditions method.
    */
-  private List<SimpleStatement> buildSortedSelectQueries(DBFilterBase.IDFilter additionalIdFilter) {
+  private List<SimpleStatement> buildSortedSelectQueries(
+      QueryExecutor queryExecutor,
+      DBFilterBase.IDFilter additionalIdFilter,
+      String[] dataColumns) {
     final List<Expression<BuiltCondition>> expressions =
         ExpressionBuilder.buildExpressions(logicalExpression, additionalIdFilter);
     if (expressions == null) { // find nothing
       return List.of();
     }
-    String[] columns = sortedDataColumns;
+    String[] columns = dataColumns;
     if (orderBy() != null) {
       List<String> sortColumns = Lists.newArrayList(columns);
       orderBy().forEach(order -> sortColumns.addAll(order.getOrderingColumns()));
@@ -541,10 +701,175 @@ public record FindOperation(
                   .limit(maxSortReadLimit())
                   .build();
           final SimpleStatement simpleStatement = SimpleStatement.newInstance(query.getCql());
-          queries.add(simpleStatement.setPositionalValues(collect));
+          queries.add(routed(simpleStatement.setPositionalValues(collect), expression));
         });
 
-    return queries;
+    // sort queries are paged through, so a single query can read all the ids of a replica
+    return groupByReplica(
+        queryExecutor,
+        expressions,
+        queries,
+        Integer.MAX_VALUE,
+        (expression, keyCount) ->
+            new QueryBuilder()
+                .select()
+                .column(columnsToAdd)
+                .from(commandContext.namespace(), commandContext.collection())
+                .where(expression)
+                .limit(maxSortReadLimit())
+                .build());
+  }
+
+  /**
+   * Replaces the per-id queries of the `_id` $in filter with grouped reads: the ids are grouped by
+   * the replica owning them (see {@link QueryExecutor#groupByReplica}), and the ids of a group are
+   * read by <code>key IN ?</code> queries routed to that replica. The queries of the different
+   * replicas are interleaved, so that the ones executed concurrently target different replicas.
+   *
+   * <p>Only applies if the filter has no other condition than the `_id`, otherwise, or if the
+   * token metadata is not available, the queries are returned as-is.
+   *
+   * @param queryExecutor Executor providing the token metadata of the session
+   * @param expressions Expressions the queries were built from, in the same order
+   * @param queries Queries built from the expressions
+   * @param maxKeysPerQuery Maximum number of ids read by a single query
+   * @param groupQuery Builds the query for the given expression, restricting the <code>key</code>
+   *     to the given number of ids
+   * @return Queries to execute
+   */
+  private List<SimpleStatement> groupByReplica(
+      QueryExecutor queryExecutor,
+      List<Expression<BuiltCondition>> expressions,
+      List<SimpleStatement> queries,
+      int maxKeysPerQuery,
+      BiFunction<Expression<BuiltCondition>, Integer, QueryOuterClass.Query> groupQuery) {
+    if (queries.size() < 2
+        || !expressions.stream()
+            .allMatch(
+                expression ->
+                    expression != null
+                        && expression.getExprType().equals("variable")
+                        && ExpressionBuilder.getDocumentKey(expression).isPresent())) {
+      return queries;
+    }
+    Optional<List<List<SimpleStatement>>> groups = queryExecutor.groupByReplica(queries);
+    if (groups.isEmpty()) {
+      return queries;
+    }
+
+    List<List<List<SimpleStatement>>> chunksByReplica =
+        groups.get().stream().map(group -> Lists.partition(group, maxKeysPerQuery)).toList();
+    int rounds = chunksByReplica.stream().mapToInt(List::size).max().orElse(0);
+    List<SimpleStatement> grouped = new ArrayList<>(queries.size());
+    for (int round = 0; round < rounds; round++) {
+      for (List<List<SimpleStatement>> chunks : chunksByReplica) {
+        if (round >= chunks.size()) {
+          continue;
+        }
+        List<SimpleStatement> chunk = chunks.get(round);
+        if (chunk.size() == 1) {
+          grouped.add(chunk.get(0));
+          continue;
+        }
+        // the only value of the per-id queries is their key
+        List<TupleValue> keys =
+            chunk.stream().map(query -> (TupleValue) query.getPositionalValues().get(0)).toList();
+        Expression<BuiltCondition> expression =
+            Variable.of(
+                BuiltCondition.of(
+                    BuiltCondition.LHS.column("key"), Predicate.IN, new JsonTerm(keys)));
+        SimpleStatement statement =
+            SimpleStatement.newInstance(groupQuery.apply(expression, keys.size()).getCql())
+                .setPositionalValues(ExpressionBuilder.getExpressionValuesInOrder(expression));
+        grouped.add(
+            StatementRouting.routeToKey(statement, commandContext.namespace(), keys.get(0)));
+      }
+    }
+    return grouped;
+  }
+
+  /**
+   * Routes the statement to the replicas of the document key its expression is restricted to, if
+   * any, see {@link ExpressionBuilder#getDocumentKey}.
+   */
+  private SimpleStatement routed(SimpleStatement statement, Expression<BuiltCondition> expression) {
+    return ExpressionBuilder.getDocumentKey(expression)
+        .map(key -> StatementRouting.routeToKey(statement, commandContext.namespace(), key))
+        .orElse(statement);
+  }
+
+  /**
+   * Builds the query reading a single document by its key, used by the second phase of the
+   * two-phase sorted read.
+   *
+   * @param documentId Id of the document to read
+   * @return Select query by the document key
+   */
+  private SimpleStatement buildSelectByKeyQuery(DocumentId documentId) {
+    Expression<BuiltCondition> expression =
+        Variable.of(
+            BuiltCondition.of(
+                BuiltCondition.LHS.column("key"),
+                Predicate.EQ,
+                new JsonTerm(CQLBindValues.getDocumentIdValue(documentId))));
+    final QueryOuterClass.Query query =
+        new QueryBuilder()
+            .select()
+            .column(documentColumns)
+            .from(commandContext.namespace(), commandContext.collection())
+            .where(expression)
+            .limit(1)
+            .build();
+    List<Object> values = ExpressionBuilder.getExpressionValuesInOrder(expression);
+    final SimpleStatement simpleStatement = SimpleStatement.newInstance(query.getCql());
+    return routed(simpleStatement.setPositionalValues(values), expression);
+  }
+
+  /**
+   * Options of the execution of the operation, set by the command resolvers from the {@link
+   * OperationsConfig}.
+   *
+   * @param documentPassthrough If documents can be returned as the raw stored JSON, without
+   *     parsing, in case the projection is the identity one. Only safe for the pure reads where the
+   *     documents go directly to the response.
+   * @param twoPhaseSort If sorted reads first read only the keys and the sort values of the
+   *     candidate documents, and only then fetch the <code>doc_json</code> of the documents to
+   *     return by their key. Avoids transferring up to the {@link
+   *     FindOperation#maxSortReadLimit()} documents in full when only a page of them is returned.
+   *     Only used by the pure reads, as the page is read again if a document changes in between.
+   * @param maxInQueryConcurrency Maximum number of queries executed concurrently, in case the
+   *     <code>_id</code> $in filter is split into multiple queries, by id or by replica owning the
+   *     ids.
+   */
+  public record ExecutionOptions(
+      boolean documentPassthrough, boolean twoPhaseSort, int maxInQueryConcurrency) {
+
+    /** Options of the operations created without the configuration, all optimizations off. */
+    public static final ExecutionOptions DEFAULT =
+        new ExecutionOptions(false, false, OperationsConfig.DEFAULT_MAX_IN_QUERY_CONCURRENCY);
+
+    /**
+     * Options of the reads of the documents returned directly in the response, by the
+     * <code>find</code> and <code>findOne</code> commands.
+     *
+     * @param config Operations configuration
+     * @return Options with the document passthrough enabled
+     */
+    public static ExecutionOptions forResponseReads(OperationsConfig config) {
+      return new ExecutionOptions(
+          true, config.twoPhaseSortEnabled(), config.maxInQueryConcurrency());
+    }
+
+    /**
+     * Options of the reads of the documents to update or delete, which are not returned as stored
+     * and are read in a single phase, together with their <code>tx_id</code>.
+     *
+     * @param config Operations configuration
+     * @return Options with the document passthrough and the two-phase sort disabled
+     */
+    public static ExecutionOptions forWrites(OperationsConfig config) {
+      return new ExecutionOptions(false, false, config.maxInQueryConcurrency());
+    }
   }
 
   /**
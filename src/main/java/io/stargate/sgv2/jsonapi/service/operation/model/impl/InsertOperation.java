@@ -1,6 +1,7 @@
 package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.tuples.Tuple2;
@@ -9,6 +10,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.StatementRouting;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
 import io.stargate.sgv2.jsonapi.service.operation.model.ModifyOperation;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
@@ -23,13 +25,18 @@ import java.util.function.Supplier;
  * @param commandContext Context that defines namespace and database.
  * @param documents Documents to insert.
  * @param ordered If insert should be ordered.
+ * @param skipExistenceCheck If documents should be written without checking if they exist, using
+ *     plain instead of lightweight transaction inserts; existing documents are replaced.
  */
 public record InsertOperation(
-    CommandContext commandContext, List<WritableShreddedDocument> documents, boolean ordered)
+    CommandContext commandContext,
+    List<WritableShreddedDocument> documents,
+    boolean ordered,
+    boolean skipExistenceCheck)
     implements ModifyOperation {
 
   public InsertOperation(CommandContext commandContext, WritableShreddedDocument document) {
-    this(commandContext, List.of(document), false);
+    this(commandContext, List.of(document), false, false);
   }
 
   /** {@inheritDoc} */
@@ -77,7 +84,7 @@ public record InsertOperation(
         // if no failures reduce to the op page
         .collect()
         .in(
-            InsertOperationPage::new,
+            () -> new InsertOperationPage(skipExistenceCheck),
             (agg, in) -> {
               Throwable failure = in.getItem2();
               agg.aggregate(in.getItem1().id(), failure);
@@ -121,14 +128,16 @@ public record InsertOperation(
 
         // then reduce here
         .collect()
-        .in(InsertOperationPage::new, (agg, in) -> agg.aggregate(in.getItem1().id(), in.getItem2()))
+        .in(
+            () -> new InsertOperationPage(skipExistenceCheck),
+            (agg, in) -> agg.aggregate(in.getItem1().id(), in.getItem2()))
 
         // use object identity to resolve to Supplier<CommandResult>
         .map(i -> i);
   }
 
   // inserts a single document
-  private static Uni<DocumentId> insertDocument(
+  private Uni<DocumentId> insertDocument(
       QueryExecutor queryExecutor,
       String query,
       WritableShreddedDocument doc,
@@ -157,12 +166,15 @@ public record InsertOperation(
 
   // utility for building the insert query
   private String buildInsertQuery(boolean vectorEnabled) {
+    // plain inserts are always applied, overwriting the existing document if any
+    final String condition = skipExistenceCheck ? "" : "  IF NOT EXISTS";
     if (vectorEnabled) {
       String insertWithVector =
           "INSERT INTO \"%s\".\"%s\""
               + " (key, tx_id, doc_json, exist_keys, array_size, array_contains, query_bool_values, query_dbl_values , query_text_values, query_null_values, query_timestamp_values, query_vector_value)"
               + " VALUES"
-              + " (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)  IF NOT EXISTS";
+              + " (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+              + condition;
       return String.format(
           insertWithVector, commandContext.namespace(), commandContext.collection());
     } else {
@@ -170,45 +182,51 @@ public record InsertOperation(
           "INSERT INTO \"%s\".\"%s\""
               + " (key, tx_id, doc_json, exist_keys, array_size, array_contains, query_bool_values, query_dbl_values , query_text_values, query_null_values, query_timestamp_values)"
               + " VALUES"
-              + " (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)  IF NOT EXISTS";
+              + " (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+              + condition;
       return String.format(insert, commandContext.namespace(), commandContext.collection());
     }
   }
 
-  // utility for query binding
-  private static SimpleStatement bindInsertValues(
+  // utility for query binding, the statement is routed to the replicas of the document
+  private SimpleStatement bindInsertValues(
       String query, WritableShreddedDocument doc, boolean vectorEnabled) {
+    final TupleValue key = CQLBindValues.getDocumentIdValue(doc.id());
+    final SimpleStatement statement;
     // respect the order in the DocsApiConstants.ALL_COLUMNS_NAMES
     if (vectorEnabled) {
-      return SimpleStatement.newInstance(
-          query,
-          CQLBindValues.getDocumentIdValue(doc.id()),
-          doc.nextTxID(),
-          doc.docJson(),
-          CQLBindValues.getSetValue(doc.existKeys()),
-          CQLBindValues.getIntegerMapValues(doc.arraySize()),
-          CQLBindValues.getStringSetValue(doc.arrayContains()),
-          CQLBindValues.getBooleanMapValues(doc.queryBoolValues()),
-          CQLBindValues.getDoubleMapValues(doc.queryNumberValues()),
-          CQLBindValues.getStringMapValues(doc.queryTextValues()),
-          CQLBindValues.getSetValue(doc.queryNullValues()),
-          CQLBindValues.getTimestampMapValues(doc.queryTimestampValues()),
-          CQLBindValues.getVectorValue(doc.queryVectorValues()));
+      statement =
+          SimpleStatement.newInstance(
+              query,
+              key,
+              doc.nextTxID(),
+              doc.docJson(),
+              doc.existKeys(),
+              doc.arraySize(),
+              doc.arrayContains(),
+              doc.queryBoolValues(),
+              doc.queryNumberValues(),
+              doc.queryTextValues(),
+              doc.queryNullValues(),
+              doc.queryTimestampValues(),
+              CQLBindValues.getVectorValue(doc.queryVectorValues()));
     } else {
-      return SimpleStatement.newInstance(
-          query,
-          CQLBindValues.getDocumentIdValue(doc.id()),
-          doc.nextTxID(),
-          doc.docJson(),
-          CQLBindValues.getSetValue(doc.existKeys()),
-          CQLBindValues.getIntegerMapValues(doc.arraySize()),
-          CQLBindValues.getStringSetValue(doc.arrayContains()),
-          CQLBindValues.getBooleanMapValues(doc.queryBoolValues()),
-          CQLBindValues.getDoubleMapValues(doc.queryNumberValues()),
-          CQLBindValues.getStringMapValues(doc.queryTextValues()),
-          CQLBindValues.getSetValue(doc.queryNullValues()),
-          CQLBindValues.getTimestampMapValues(doc.queryTimestampValues()));
+      statement =
+          SimpleStatement.newInstance(
+              query,
+              key,
+              doc.nextTxID(),
+              doc.docJson(),
+              doc.existKeys(),
+              doc.arraySize(),
+              doc.arrayContains(),
+              doc.queryBoolValues(),
+              doc.queryNumberValues(),
+              doc.queryTextValues(),
+              doc.queryNullValues(),
+              doc.queryTimestampValues());
     }
+    return StatementRouting.routeToKey(statement, commandContext.namespace(), key);
   }
 
   // simple exception to propagate fail fast
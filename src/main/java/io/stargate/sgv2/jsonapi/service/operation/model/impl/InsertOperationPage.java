@@ -19,14 +19,22 @@ import java.util.function.Supplier;
  *
  * @param insertedIds Documents IDs that we successfully inserted.
  * @param failedIds Document IDs that failed to be inserted.
+ * @param existenceCheckSkipped If the documents were inserted without checking if they exist.
  */
 public record InsertOperationPage(
-    List<DocumentId> insertedIds, Map<DocumentId, Throwable> failedIds)
+    List<DocumentId> insertedIds,
+    Map<DocumentId, Throwable> failedIds,
+    boolean existenceCheckSkipped)
     implements Supplier<CommandResult> {
 
   /** No-arg constructor, usually used for aggregation. */
   public InsertOperationPage() {
-    this(new ArrayList<>(), new HashMap<>());
+    this(false);
+  }
+
+  /** Constructor used for aggregation, with the existence check mode of the insert. */
+  public InsertOperationPage(boolean existenceCheckSkipped) {
+    this(new ArrayList<>(), new HashMap<>(), existenceCheckSkipped);
   }
 
   /** {@inheritDoc} */
@@ -38,11 +46,19 @@ public record InsertOperationPage(
       List<CommandResult.Error> errors = new ArrayList<>(failedIds.size());
       failedIds.forEach((documentId, throwable) -> errors.add(getError(documentId, throwable)));
 
-      return new CommandResult(null, Map.of(CommandStatus.INSERTED_IDS, insertedIds), errors);
+      return new CommandResult(null, status(), errors);
     }
 
     // id no errors, just inserted ids
-    return new CommandResult(Map.of(CommandStatus.INSERTED_IDS, insertedIds));
+    return new CommandResult(status());
+  }
+
+  private Map<CommandStatus, Object> status() {
+    if (existenceCheckSkipped) {
+      return Map.of(
+          CommandStatus.INSERTED_IDS, insertedIds, CommandStatus.EXISTENCE_CHECK_SKIPPED, true);
+    }
+    return Map.of(CommandStatus.INSERTED_IDS, insertedIds);
   }
 
   private static CommandResult.Error getError(DocumentId documentId, Throwable throwable) {
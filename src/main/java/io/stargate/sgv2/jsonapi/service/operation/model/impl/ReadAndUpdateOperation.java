@@ -1,6 +1,7 @@
 package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -8,6 +9,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.StatementRouting;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
 import io.stargate.sgv2.jsonapi.service.operation.model.ModifyOperation;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadOperation;
@@ -17,6 +19,7 @@ import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
 import io.stargate.sgv2.jsonapi.service.shredding.model.WritableShreddedDocument;
 import io.stargate.sgv2.jsonapi.service.updater.DocumentUpdater;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -34,6 +37,8 @@ import java.util.function.Supplier;
  * @param shredder
  * @param updateLimit - Number of documents to be updated
  * @param retryLimit - Number of times retry to happen in case of lwt failure
+ * @param updateConcurrency - Number of documents updated concurrently, <code>1</code> updates the
+ *     documents one after another
  */
 public record ReadAndUpdateOperation(
     CommandContext commandContext,
@@ -49,14 +54,42 @@ public record ReadAndUpdateOperation(
      */
     DocumentProjector resultProjection,
     int updateLimit,
-    int retryLimit)
+    int retryLimit,
+    int updateConcurrency)
     implements ModifyOperation {
 
+  /** Creates the operation updating the documents one after another. */
+  public ReadAndUpdateOperation(
+      CommandContext commandContext,
+      FindOperation findOperation,
+      DocumentUpdater documentUpdater,
+      boolean returnDocumentInResponse,
+      boolean returnUpdatedDocument,
+      boolean upsert,
+      Shredder shredder,
+      DocumentProjector resultProjection,
+      int updateLimit,
+      int retryLimit) {
+    this(
+        commandContext,
+        findOperation,
+        documentUpdater,
+        returnDocumentInResponse,
+        returnUpdatedDocument,
+        upsert,
+        shredder,
+        resultProjection,
+        updateLimit,
+        retryLimit,
+        1);
+  }
+
   @Override
   public Uni<Supplier<CommandResult>> execute(QueryExecutor queryExecutor) {
     final AtomicReference pageStateReference = new AtomicReference();
     final AtomicInteger matchedCount = new AtomicInteger(0);
     final AtomicInteger modifiedCount = new AtomicInteger(0);
+    final AtomicInteger sequence = new AtomicInteger(0);
     Uni<ReadOperation.FindResponse> docsToUpdate =
         findOperation().getDocuments(queryExecutor, findOperation().pageState(), null);
     return docsToUpdate
@@ -73,43 +106,26 @@ public record ReadAndUpdateOperation(
               }
             })
         .onItem()
-        .transformToUniAndConcatenate(
-            readDocument ->
-                processUpdate(readDocument, queryExecutor, modifiedCount)
-                    .onFailure(LWTException.class)
-                    .recoverWithUni(
-                        () -> {
-                          // Retry `retryLimit` times in case of LWT failure
-                          return Uni.createFrom()
-                              .item(readDocument)
-                              .flatMap(
-                                  prevDoc -> {
-                                    // read the document again
-                                    return readDocumentAgain(queryExecutor, prevDoc)
-                                        .onItem()
-                                        // Try updating the document
-                                        .transformToUni(
-                                            reReadDocument ->
-                                                processUpdate(
-                                                    reReadDocument, queryExecutor, modifiedCount));
-                                  })
-                              .onFailure(LWTException.class)
-                              .retry()
-                              // because it's already run twice before this
-                              // check.
-                              .atMost(retryLimit - 1)
-                              .onFailure()
-                              .recoverWithItem(
-                                  error -> {
-                                    return new UpdatedDocument(
-                                        readDocument.id(), false, null, error);
-                                  });
-                        }))
+        .transformToUni(
+            readDocument -> {
+              // remember the position, so that updates keep the order of the read documents
+              final int position = sequence.getAndIncrement();
+              return processUpdateWithRetry(readDocument, queryExecutor, modifiedCount)
+                  .onItem()
+                  .ifNotNull()
+                  .transform(update -> Map.entry(position, update));
+            })
+        .merge(updateConcurrency())
         .collect()
         .asList()
         .onItem()
         .transform(
-            updates -> {
+            results -> {
+              final List<UpdatedDocument> updates =
+                  results.stream()
+                      .sorted(Map.Entry.comparingByKey())
+                      .map(Map.Entry::getValue)
+                      .toList();
               // create json doc read/write metrics
               commandContext
                   .jsonProcessingMetricsReporter()
@@ -127,6 +143,42 @@ public record ReadAndUpdateOperation(
             });
   }
 
+  /**
+   * Updates the document, re-reading and retrying the update up to <code>retryLimit</code> times in
+   * case of the LWT failure.
+   */
+  private Uni<UpdatedDocument> processUpdateWithRetry(
+      ReadDocument readDocument, QueryExecutor queryExecutor, AtomicInteger modifiedCount) {
+    return processUpdate(readDocument, queryExecutor, modifiedCount)
+        .onFailure(LWTException.class)
+        .recoverWithUni(
+            () -> {
+              // Retry `retryLimit` times in case of LWT failure
+              return Uni.createFrom()
+                  .item(readDocument)
+                  .flatMap(
+                      prevDoc -> {
+                        // read the document again
+                        return readDocumentAgain(queryExecutor, prevDoc)
+                            .onItem()
+                            // Try updating the document
+                            .transformToUni(
+                                reReadDocument ->
+                                    processUpdate(reReadDocument, queryExecutor, modifiedCount));
+                      })
+                  .onFailure(LWTException.class)
+                  .retry()
+                  // because it's already run twice before this
+                  // check.
+                  .atMost(retryLimit - 1)
+                  .onFailure()
+                  .recoverWithItem(
+                      error -> {
+                        return new UpdatedDocument(readDocument.id(), false, null, error);
+                      });
+            });
+  }
+
   private Uni<UpdatedDocument> processUpdate(
       ReadDocument document, QueryExecutor queryExecutor, AtomicInteger modifiedCount) {
     return Uni.createFrom()
@@ -259,39 +311,45 @@ public record ReadAndUpdateOperation(
     }
   }
 
-  protected static SimpleStatement bindUpdateValues(
+  protected SimpleStatement bindUpdateValues(
       String builtQuery, WritableShreddedDocument doc, boolean vectorEnabled) {
+    final TupleValue key = CQLBindValues.getDocumentIdValue(doc.id());
+    final SimpleStatement statement;
     // respect the order in the DocsApiConstants.ALL_COLUMNS_NAMES
     if (vectorEnabled) {
-      return SimpleStatement.newInstance(
-          builtQuery,
-          CQLBindValues.getSetValue(doc.existKeys()),
-          CQLBindValues.getIntegerMapValues(doc.arraySize()),
-          CQLBindValues.getStringSetValue(doc.arrayContains()),
-          CQLBindValues.getBooleanMapValues(doc.queryBoolValues()),
-          CQLBindValues.getDoubleMapValues(doc.queryNumberValues()),
-          CQLBindValues.getStringMapValues(doc.queryTextValues()),
-          CQLBindValues.getSetValue(doc.queryNullValues()),
-          CQLBindValues.getTimestampMapValues(doc.queryTimestampValues()),
-          CQLBindValues.getVectorValue(doc.queryVectorValues()),
-          doc.docJson(),
-          CQLBindValues.getDocumentIdValue(doc.id()),
-          doc.txID());
+      statement =
+          SimpleStatement.newInstance(
+              builtQuery,
+              doc.existKeys(),
+              doc.arraySize(),
+              doc.arrayContains(),
+              doc.queryBoolValues(),
+              doc.queryNumberValues(),
+              doc.queryTextValues(),
+              doc.queryNullValues(),
+              doc.queryTimestampValues(),
+              CQLBindValues.getVectorValue(doc.queryVectorValues()),
+              doc.docJson(),
+              key,
+              doc.txID());
     } else {
-      return SimpleStatement.newInstance(
-          builtQuery,
-          CQLBindValues.getSetValue(doc.existKeys()),
-          CQLBindValues.getIntegerMapValues(doc.arraySize()),
-          CQLBindValues.getStringSetValue(doc.arrayContains()),
-          CQLBindValues.getBooleanMapValues(doc.queryBoolValues()),
-          CQLBindValues.getDoubleMapValues(doc.queryNumberValues()),
-          CQLBindValues.getStringMapValues(doc.queryTextValues()),
-          CQLBindValues.getSetValue(doc.queryNullValues()),
-          CQLBindValues.getTimestampMapValues(doc.queryTimestampValues()),
-          doc.docJson(),
-          CQLBindValues.getDocumentIdValue(doc.id()),
-          doc.txID());
+      statement =
+          SimpleStatement.newInstance(
+              builtQuery,
+              doc.existKeys(),
+              doc.arraySize(),
+              doc.arrayContains(),
+              doc.queryBoolValues(),
+              doc.queryNumberValues(),
+              doc.queryTextValues(),
+              doc.queryNullValues(),
+              doc.queryTimestampValues(),
+              doc.docJson(),
+              key,
+              doc.txID());
     }
+    // LWT is coordinated by a replica of the document, saving a hop on each Paxos round
+    return StatementRouting.routeToKey(statement, commandContext().namespace(), key);
   }
 
   /**
@@ -1,8 +1,9 @@
 package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
-import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -11,23 +12,41 @@ import java.util.function.Supplier;
  *
  * @param id Document Id identifying the document
  * @param txnId Unique UUID resenting point in time of a document, used for LWT transactions
- * @param document JsonNode representation of the document
- * @param sortColumns List<JsonNode> Serialized sort column value
+ * @param document JsonNode representation of the document, or the raw stored JSON, see {@link
+ *     #fromRawJson}
+ * @param sortKey Sort values encoded by the {@link
+ *     io.stargate.sgv2.jsonapi.service.operation.model.SortKeyEncoder}
  * @param docJsonValue Grpc column value for doc_json.
  */
 public record ReadDocument(
     DocumentId id,
     UUID txnId,
     JsonNode document,
-    List<JsonNode> sortColumns,
+    byte[] sortKey,
     Supplier<JsonNode> docJsonValue) {
 
   public static ReadDocument from(DocumentId id, UUID txnId, JsonNode document) {
     return new ReadDocument(id, txnId, document, null, null);
   }
 
+  /**
+   * Creates the document holding the stored JSON as a {@link RawValue}, that is written as-is by
+   * the {@link com.fasterxml.jackson.core.JsonGenerator#writeRawValue(String)} when the response is
+   * serialized. Such document can not be inspected or modified, and must only be used when no
+   * projection is applied and the document is returned directly to the client.
+   *
+   * @param id Document Id
+   * @param txnId Document tx_id
+   * @param docJson Stored <code>doc_json</code>
+   * @return ReadDocument
+   */
+  public static ReadDocument fromRawJson(DocumentId id, UUID txnId, String docJson) {
+    return new ReadDocument(
+        id, txnId, JsonNodeFactory.instance.rawValueNode(new RawValue(docJson)), null, null);
+  }
+
   public static ReadDocument from(
-      DocumentId id, UUID txnId, Supplier<JsonNode> docJsonValue, List<JsonNode> sortColumns) {
-    return new ReadDocument(id, txnId, null, sortColumns, docJsonValue);
+      DocumentId id, UUID txnId, Supplier<JsonNode> docJsonValue, byte[] sortKey) {
+    return new ReadDocument(id, txnId, null, sortKey, docJsonValue);
   }
 }
@@ -0,0 +1,144 @@
+package io.stargate.sgv2.jsonapi.service.processor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.api.model.command.impl.InsertManyCommand;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import io.stargate.sgv2.jsonapi.exception.mappers.ThrowableCommandResultSupplier;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Inserts the documents read from a newline delimited JSON stream. Documents are read in batches of
+ * up to {@link OperationsConfig#maxDocumentInsertCount()} documents, each inserted as an unordered
+ * {@link InsertManyCommand}, so that they are vectorized, shredded and written the same way as the
+ * documents of the <code>insertMany</code> command.
+ *
+ * <p>Batches are read and inserted in groups of up to {@link
+ * OperationsConfig#maxBulkInsertConcurrency()} batches, the batches of a group being inserted
+ * concurrently, and the next group being read once the previous one is inserted. So the memory used
+ * does not depend on the number of documents in the stream, and the results are emitted in the
+ * order of the batches: the n-th result is the one of the n-th batch of documents in the stream.
+ */
+@ApplicationScoped
+public class BulkInsertProcessor {
+
+  private final MeteredCommandProcessor meteredCommandProcessor;
+
+  private final ObjectMapper objectMapper;
+
+  private final OperationsConfig operationsConfig;
+
+  @Inject
+  public BulkInsertProcessor(
+      MeteredCommandProcessor meteredCommandProcessor,
+      ObjectMapper objectMapper,
+      OperationsConfig operationsConfig) {
+    this.meteredCommandProcessor = meteredCommandProcessor;
+    this.objectMapper = objectMapper;
+    this.operationsConfig = operationsConfig;
+  }
+
+  /**
+   * Inserts the documents of the stream.
+   *
+   * @param commandContext {@link CommandContext}
+   * @param documents Newline delimited JSON documents
+   * @param skipExistenceCheck If documents are inserted without checking if they exist, see {@link
+   *     InsertManyCommand.Options#skipExistenceCheck()}; <code>null</code> for collection default
+   * @return Multi emitting the result of each batch, in the order of the batches, with the ids of
+   *     the inserted documents and the errors of the failed ones. Failure to read the stream is
+   *     emitted as the last result, the documents of the batch being read when it failed are not
+   *     inserted.
+   */
+  public Multi<CommandResult> insertDocuments(
+      CommandContext commandContext, InputStream documents, Boolean skipExistenceCheck) {
+    final InsertManyCommand.Options options =
+        new InsertManyCommand.Options(false, skipExistenceCheck);
+    return Multi.createFrom()
+        .resource(
+            () -> openReader(documents),
+            reader ->
+                Multi.createBy()
+                    .repeating()
+                    .uni(() -> readBatch(reader))
+                    .until(List::isEmpty))
+        .withFinalizer(BulkInsertProcessor::closeReader)
+        .map(
+            batch ->
+                meteredCommandProcessor.processCommand(
+                    commandContext, new InsertManyCommand(batch, options)))
+
+        // report the read failure once the batches already read are inserted
+        .onFailure()
+        .recoverWithItem(t -> Uni.createFrom().item(failureSupplier(t).get()))
+
+        // insert the batches of a group concurrently, emit the results in the order of the batches
+        .group()
+        .intoLists()
+        .of(operationsConfig.maxBulkInsertConcurrency())
+        .onItem()
+        .transformToMultiAndConcatenate(
+            group ->
+                Uni.join()
+                    .all(group)
+                    .andFailFast()
+                    .onItem()
+                    .transformToMulti(results -> Multi.createFrom().iterable(results)));
+  }
+
+  private MappingIterator<JsonNode> openReader(InputStream documents) {
+    try {
+      return objectMapper.readerFor(JsonNode.class).readValues(documents);
+    } catch (IOException e) {
+      throw ErrorCode.DOCUMENT_UNPARSEABLE.toApiException("%s", e.getMessage());
+    }
+  }
+
+  private Uni<List<JsonNode>> readBatch(MappingIterator<JsonNode> reader) {
+    final int batchSize = operationsConfig.maxDocumentInsertCount();
+    return Uni.createFrom()
+        .item(
+            () -> {
+              List<JsonNode> batch = new ArrayList<>(batchSize);
+              try {
+                while (batch.size() < batchSize && reader.hasNextValue()) {
+                  batch.add(reader.nextValue());
+                }
+              } catch (IOException e) {
+                throw ErrorCode.DOCUMENT_UNPARSEABLE.toApiException("%s", e.getMessage());
+              }
+              return batch;
+            })
+        // reading the request body blocks, keep it off the event loop and driver threads
+        .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+  }
+
+  private static void closeReader(MappingIterator<JsonNode> reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      // nothing left to read, ignore
+    }
+  }
+
+  private static Supplier<CommandResult> failureSupplier(Throwable t) {
+    if (t instanceof JsonApiException jsonApiException) {
+      return jsonApiException;
+    }
+    return new ThrowableCommandResultSupplier(t);
+  }
+}
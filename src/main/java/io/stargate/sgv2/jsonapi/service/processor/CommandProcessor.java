@@ -1,5 +1,6 @@
 package io.stargate.sgv2.jsonapi.service.processor;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.Command;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
@@ -9,6 +10,7 @@ import io.stargate.sgv2.jsonapi.exception.mappers.ThrowableCommandResultSupplier
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
 import io.stargate.sgv2.jsonapi.service.embedding.DataVectorizerService;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
+import io.stargate.sgv2.jsonapi.service.operation.model.StreamingOperation;
 import io.stargate.sgv2.jsonapi.service.resolver.CommandResolverService;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -56,6 +58,54 @@ public class CommandProcessor {
    */
   public <T extends Command> Uni<CommandResult> processCommand(
       CommandContext commandContext, T command) {
+    return resolveOperation(commandContext, command)
+
+        //  execute the operation
+        .flatMap(operation -> operation.execute(queryExecutor))
+
+        // handle failures here
+        .onFailure()
+        .recoverWithItem(t -> failureSupplier(command, t))
+
+        // if we have a non-null item
+        // call supplier get to map to the command result
+        .onItem()
+        .ifNotNull()
+        .transform(Supplier::get);
+  }
+
+  /**
+   * Processes a single command in a given command context, emitting the result incrementally in
+   * case the resolved operation is a streamable {@link StreamingOperation}. Otherwise the complete
+   * result of the command is emitted as a single item, same as in {@link #processCommand}.
+   *
+   * <p>Failures, including the ones happening after some of the documents have been emitted, are
+   * emitted as the last result containing the errors.
+   *
+   * @param commandContext {@link CommandContext}
+   * @param command {@link Command}
+   * @return Multi emitting the results of the command execution.
+   * @param <T> Type of the command.
+   */
+  public <T extends Command> Multi<CommandResult> streamCommand(
+      CommandContext commandContext, T command) {
+    return resolveOperation(commandContext, command)
+        .onItem()
+        .transformToMulti(
+            operation -> {
+              if (operation instanceof StreamingOperation streamingOperation
+                  && streamingOperation.isStreamable()) {
+                return streamingOperation.stream(queryExecutor);
+              }
+              return operation.execute(queryExecutor).toMulti();
+            })
+        .onFailure()
+        .recoverWithItem(t -> failureSupplier(command, t))
+        .map(Supplier::get);
+  }
+
+  private <T extends Command> Uni<Operation> resolveOperation(
+      CommandContext commandContext, T command) {
     // vectorize the data
     return dataVectorizerService
         .vectorize(commandContext, command)
@@ -67,40 +117,23 @@ public class CommandProcessor {
                   .resolverForCommand(vectorizedCommand)
 
                   // resolver can be null, not handled in CommandResolverService for now
+                  // if we have resolver, resolve operation
                   .flatMap(
-                      resolver -> {
-                        // if we have resolver, resolve operation
-                        Operation operation =
-                            resolver.resolveCommand(commandContext, vectorizedCommand);
-                        return Uni.createFrom().item(operation);
-                      });
-            })
-
-        //  execute the operation
-        .flatMap(operation -> operation.execute(queryExecutor))
-
-        // handle failures here
-        .onFailure()
-        .recoverWithItem(
-            t -> {
-              // DocsException is supplier of the CommandResult
-              // so simply return
-              if (t instanceof JsonApiException jsonApiException) {
-                // Note: JsonApiException means that JSON API itself handled the situation
-                // (created, or wrapped the exception) -- should not be logged (have already
-                // been logged if necessary)
-                return jsonApiException;
-              }
-              // But other exception types are unexpected, so log for now
-              logger.warn(
-                  "Command '{}' failed with exception", command.getClass().getSimpleName(), t);
-              return new ThrowableCommandResultSupplier(t);
-            })
+                      resolver -> resolver.resolveCommandAsync(commandContext, vectorizedCommand));
+            });
+  }
 
-        // if we have a non-null item
-        // call supplier get to map to the command result
-        .onItem()
-        .ifNotNull()
-        .transform(Supplier::get);
+  private Supplier<CommandResult> failureSupplier(Command command, Throwable t) {
+    // DocsException is supplier of the CommandResult
+    // so simply return
+    if (t instanceof JsonApiException jsonApiException) {
+      // Note: JsonApiException means that JSON API itself handled the situation
+      // (created, or wrapped the exception) -- should not be logged (have already
+      // been logged if necessary)
+      return jsonApiException;
+    }
+    // But other exception types are unexpected, so log for now
+    logger.warn("Command '{}' failed with exception", command.getClass().getSimpleName(), t);
+    return new ThrowableCommandResultSupplier(t);
   }
 }
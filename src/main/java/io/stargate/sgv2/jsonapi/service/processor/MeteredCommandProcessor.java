@@ -10,6 +10,7 @@ import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.api.common.config.MetricsConfig;
 import io.stargate.sgv2.jsonapi.api.model.command.Command;
@@ -23,6 +24,8 @@ import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonApiMetricsConfig;
 import io.stargate.sgv2.jsonapi.config.CommandLevelLoggingConfig;
 import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
+import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import io.stargate.sgv2.jsonapi.exception.mappers.ThrowableCommandResultSupplier;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
@@ -30,6 +33,7 @@ import jakarta.inject.Singleton;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -123,6 +127,67 @@ public class MeteredCommandProcessor {
             });
   }
 
+  /**
+   * Streams the results of a single command in a given command context, see {@link
+   * CommandProcessor#streamCommand(CommandContext, Command)}. The command is metered once the
+   * stream terminates, whether it completes, fails or is cancelled (e.g. the client disconnects),
+   * with the tags resolved from the failure if any, otherwise from the last emitted result, which
+   * is the one holding the errors.
+   *
+   * @param commandContext {@link CommandContext}
+   * @param command {@link Command}
+   * @param <T> Type of the command.
+   * @return Multi emitting the results of the command execution.
+   */
+  public <T extends Command> Multi<CommandResult> streamCommand(
+      CommandContext commandContext, T command) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    MDC.put("tenantId", dataApiRequestInfo.getTenantId().orElse(UNKNOWN_VALUE));
+    AtomicReference<CommandResult> lastResult = new AtomicReference<>();
+    return commandProcessor
+        .streamCommand(commandContext, command)
+        .onItem()
+        .invoke(lastResult::set)
+        .onTermination()
+        .invoke(
+            (failure, cancelled) -> {
+              CommandResult result =
+                  (failure != null) ? failureResult(failure) : lastResult.get();
+              // nothing emitted, metered as a result without errors
+              Tags tags =
+                  getCustomTags(
+                      commandContext,
+                      command,
+                      (result != null) ? result : new CommandResult(Collections.emptyList()));
+              sample.stop(meterRegistry.timer(jsonApiMetricsConfig.metricsName(), tags));
+
+              if (failure == null
+                  && result != null
+                  && isCommandLevelLoggingEnabled(result, false)) {
+                logger.info(buildCommandLog(commandContext, command, result));
+              }
+            })
+        .onFailure()
+        .invoke(
+            throwable -> {
+              if (isCommandLevelLoggingEnabled(null, true)) {
+                logger.error(buildCommandLog(commandContext, command, null), throwable);
+              }
+            });
+  }
+
+  /**
+   * @param failure Failure of a command
+   * @return Result holding the error of the failure, same as returned by the {@link
+   *     CommandProcessor} for the failures it recovers from
+   */
+  private static CommandResult failureResult(Throwable failure) {
+    if (failure instanceof JsonApiException jsonApiException) {
+      return jsonApiException.get();
+    }
+    return new ThrowableCommandResultSupplier(failure).get();
+  }
+
   /**
    * Builds the command level log in string format.
    *
@@ -292,6 +357,7 @@ public class MeteredCommandProcessor {
             || id.getName().startsWith(jsonApiMetricsConfig.jsonBytesRead())
             || id.getName().startsWith(jsonApiMetricsConfig.jsonDocsWritten())
             || id.getName().startsWith(jsonApiMetricsConfig.jsonDocsRead())
+            || id.getName().startsWith(jsonApiMetricsConfig.pageStallMetrics())
             || id.getName().startsWith(jsonApiMetricsConfig.vectorizeCallDurationMetrics())) {
 
           return DistributionStatisticConfig.builder()
@@ -1,10 +1,15 @@
 package io.stargate.sgv2.jsonapi.service.projection;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,11 +41,30 @@ public class DocumentProjector {
   /** Whether to include the similarity score in the projection. */
   private final boolean includeSimilarityScore;
 
+  /**
+   * Token filter compiled from the {@link #rootLayer}, used for projecting documents while they are
+   * parsed; {@code null} for identity projection.
+   */
+  private final TokenFilter tokenFilter;
+
+  /**
+   * Whether the {@link #tokenFilter} applies the complete projection; if not (some {@code $slice}
+   * needs the Array length), the tree-based projection is applied on the filtered document.
+   */
+  private final boolean tokenFilterComplete;
+
   private DocumentProjector(
       ProjectionLayer rootLayer, boolean inclusion, boolean includeSimilarityScore) {
     this.rootLayer = rootLayer;
     this.inclusion = inclusion;
     this.includeSimilarityScore = includeSimilarityScore;
+    if (rootLayer == null) {
+      tokenFilter = null;
+      tokenFilterComplete = true;
+    } else {
+      tokenFilterComplete = rootLayer.canFilterSlices();
+      tokenFilter = ProjectionTokenFilter.compile(rootLayer, inclusion, tokenFilterComplete);
+    }
   }
 
   public static DocumentProjector createFromDefinition(JsonNode projectionDefinition) {
@@ -78,6 +102,13 @@ public class DocumentProjector {
     return inclusion;
   }
 
+  /**
+   * @return {@code true} if this projector does not modify documents in any way
+   */
+  public boolean isIdentityProjection() {
+    return rootLayer == null && !includeSimilarityScore;
+  }
+
   public boolean doIncludeSimilarityScore() {
     return includeSimilarityScore;
   }
@@ -105,6 +136,39 @@ public class DocumentProjector {
     }
   }
 
+  /**
+   * Reads the document from the given parser, applying the projection at the token level: content
+   * excluded by the projection is skipped by the parser, and never built into the tree. Produces
+   * the same result as reading the full document and calling {@link #applyProjection(JsonNode,
+   * Float)}.
+   *
+   * @param objectMapper Object mapper used to build the (projected) document
+   * @param parser Parser positioned before the document
+   * @param similarityScore Similarity score to add, if included in the projection
+   * @return Projected document
+   * @throws IOException If reading from the parser fails
+   */
+  public JsonNode readWithProjection(
+      ObjectMapper objectMapper, JsonParser parser, Float similarityScore) throws IOException {
+    if (tokenFilter == null) {
+      JsonNode document = objectMapper.readTree(parser);
+      applyProjection(document, similarityScore);
+      return document;
+    }
+    JsonParser filteringParser =
+        new FilteringParserDelegate(
+            parser, tokenFilter, TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true);
+    JsonNode document = objectMapper.readTree(filteringParser);
+    if (!tokenFilterComplete) {
+      // filter did not slice, apply full projection on the (already reduced) tree
+      applyProjection(document, similarityScore);
+    } else if (includeSimilarityScore && similarityScore != null) {
+      ((ObjectNode) document)
+          .put(DocumentConstants.Fields.VECTOR_FUNCTION_PROJECTION_FIELD, similarityScore);
+    }
+    return document;
+  }
+
   // Mostly for deserialization tests
   @Override
   public boolean equals(Object o) {
@@ -99,6 +99,22 @@ public class IndexingProjector {
     }
   }
 
+  /**
+   * Method to call to get the projection of the document without modifying it. Unlike {@link
+   * #applyProjection}, which needs a deep copy of the document to retain the original, only the
+   * Objects and Arrays that lose some of their contents are copied: all the other values are shared
+   * with the given document.
+   *
+   * @param document Document to project
+   * @return Projected document; the given document itself for the identity projection
+   */
+  public JsonNode project(JsonNode document) {
+    if (rootLayer == null) { // null -> identity projection (no-op)
+      return document;
+    }
+    return inclusion ? rootLayer.copyInclusions(document) : rootLayer.copyExclusions(document);
+  }
+
   /**
    * Method to call to check if given path (dotted path, that is, dot-separated segments) would be
    * included by this Projection. That is, either
@@ -1,5 +1,6 @@
 package io.stargate.sgv2.jsonapi.service.projection;
 
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -165,6 +166,37 @@ class ProjectionLayer {
     nextLayers.put(segment, new ProjectionLayer(fullPath, slicer));
   }
 
+  boolean isTerminal() {
+    return isTerminal;
+  }
+
+  Slicer slicer() {
+    return slicer;
+  }
+
+  Map<String, ProjectionLayer> nextLayers() {
+    return nextLayers;
+  }
+
+  /**
+   * Method called to check whether all {@code $slice} operations under this layer can be applied
+   * while streaming the document (see {@link ProjectionTokenFilter}), that is, none of them needs
+   * to know the length of the Array.
+   *
+   * @return {@code true} if slices can be applied by the token filter
+   */
+  boolean canFilterSlices() {
+    if (isTerminal) {
+      return slicer == null || slicer.tokenFilter() != null;
+    }
+    for (ProjectionLayer next : nextLayers.values()) {
+      if (!next.canFilterSlices()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Method called to check if given path is included in the projection for which this is the root
    * layer: this is done by traversing layers until determination can be made.
@@ -268,6 +300,88 @@ class ProjectionLayer {
     }
   }
 
+  /**
+   * Method called to apply Inclusion-based projection like {@link #applyInclusions}, but without
+   * modifying the given sub-tree: pruned Objects (and Arrays containing them) are copied, included
+   * values are shared with the given sub-tree.
+   *
+   * @param subtree Document level to process
+   * @return Projected sub-tree
+   */
+  public JsonNode copyInclusions(JsonNode subtree) {
+    if (subtree.isArray()) {
+      ArrayNode copy = ((ArrayNode) subtree).arrayNode(subtree.size());
+      subtree.forEach(e -> copy.add(copyInclusions(e)));
+      return copy;
+    }
+    if (!subtree.isObject()) {
+      return subtree;
+    }
+
+    ObjectNode copy = ((ObjectNode) subtree).objectNode();
+    var it = subtree.fields();
+    while (it.hasNext()) {
+      var entry = it.next();
+      ProjectionLayer nextLayer = nextLayers.get(entry.getKey());
+
+      if (nextLayer == null) { // no match, leave out
+        continue;
+      }
+      if (nextLayer.isTerminal) {
+        copy.set(entry.getKey(), nextLayer.copySlice(entry.getValue()));
+      } else {
+        copy.set(entry.getKey(), nextLayer.copyInclusions(entry.getValue()));
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Method called to apply Exclusion-based projection like {@link #applyExclusions}, but without
+   * modifying the given sub-tree: pruned Objects (and Arrays containing them) are copied, retained
+   * values are shared with the given sub-tree.
+   *
+   * @param subtree Document level to process
+   * @return Projected sub-tree
+   */
+  public JsonNode copyExclusions(JsonNode subtree) {
+    if (subtree.isArray()) {
+      ArrayNode copy = ((ArrayNode) subtree).arrayNode(subtree.size());
+      subtree.forEach(e -> copy.add(copyExclusions(e)));
+      return copy;
+    }
+    if (!subtree.isObject()) {
+      return subtree;
+    }
+
+    ObjectNode copy = ((ObjectNode) subtree).objectNode();
+    var it = subtree.fields();
+    while (it.hasNext()) {
+      var entry = it.next();
+      ProjectionLayer nextLayer = nextLayers.get(entry.getKey());
+
+      if (nextLayer == null) { // no match, retain
+        copy.set(entry.getKey(), entry.getValue());
+      } else if (nextLayer.isTerminal) { // remove unless partially removed with "$slice"
+        if (nextLayer.slicer != null) {
+          copy.set(entry.getKey(), nextLayer.copySlice(entry.getValue()));
+        }
+      } else {
+        copy.set(entry.getKey(), nextLayer.copyExclusions(entry.getValue()));
+      }
+    }
+    return copy;
+  }
+
+  private JsonNode copySlice(JsonNode subtree) {
+    if (slicer == null || !subtree.isArray()) {
+      return subtree;
+    }
+    JsonNode copy = subtree.deepCopy();
+    slicer.slice(copy);
+    return copy;
+  }
+
   /**
    * Method called on sub-tree on which {@code $slice} operation is to be performed: presumably
    * Array, but not necessarily (if not, will be left as-is).
@@ -322,6 +436,12 @@ class ProjectionLayer {
 
   interface Slicer {
     void slice(JsonNode arrayNode);
+
+    /**
+     * @return Token filter that applies this slice to an Array being streamed, or {@code null} if
+     *     slice can not be applied without knowing the Array length.
+     */
+    TokenFilter tokenFilter();
   }
 
   /**
@@ -347,6 +467,12 @@ class ProjectionLayer {
         array.remove(removeAt);
       }
     }
+
+    @Override
+    public TokenFilter tokenFilter() {
+      // Retaining last N requires knowing the length
+      return (count >= 0) ? new ProjectionTokenFilter.IndexRangeFilter(0, count) : null;
+    }
   }
 
   /**
@@ -381,5 +507,15 @@ class ProjectionLayer {
         array.remove(toReturn);
       }
     }
+
+    @Override
+    public TokenFilter tokenFilter() {
+      // Skipping last N requires knowing the length
+      if (skip < 0) {
+        return null;
+      }
+      int end = (int) Math.min((long) skip + toReturn, Integer.MAX_VALUE);
+      return new ProjectionTokenFilter.IndexRangeFilter(skip, end);
+    }
   }
 }
@@ -0,0 +1,132 @@
+package io.stargate.sgv2.jsonapi.service.projection;
+
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link TokenFilter} compiled from the {@link ProjectionLayer} trie, used to apply the projection
+ * while the document is parsed (via {@link FilteringParserDelegate}) so that excluded sub-trees are
+ * skipped at the token level, and never materialized as {@link JsonNode}s.
+ *
+ * <p>Produces the same result as {@link ProjectionLayer#applyInclusions} and {@link
+ * ProjectionLayer#applyExclusions}: Arrays are transparent (each element is filtered with the same
+ * layer), scalar values are kept where the layer expects an Object, and Objects/Arrays left empty
+ * after filtering are retained.
+ *
+ * <p>Instances are immutable and can be shared across parsers.
+ */
+class ProjectionTokenFilter extends TokenFilter {
+  /** Filters for the properties with a matching layer; {@code null} value excludes property. */
+  private final Map<String, TokenFilter> properties;
+
+  /** Filter for properties with no matching layer: exclude for inclusions, keep for exclusions. */
+  private final TokenFilter otherProperties;
+
+  private ProjectionTokenFilter(Map<String, TokenFilter> properties, TokenFilter otherProperties) {
+    this.properties = properties;
+    this.otherProperties = otherProperties;
+  }
+
+  /**
+   * Compiles the filter for the given non-terminal layer.
+   *
+   * @param layer Layer to compile the filter for
+   * @param inclusion Whether projection is inclusion- ({@code true}) or exclusion ({@code false})
+   *     based
+   * @param filterSlices Whether {@code $slice} operations should be applied by the filter; if not,
+   *     sliced properties are included as-is and slicing is left to the caller.
+   * @return Filter for the layer
+   */
+  static TokenFilter compile(ProjectionLayer layer, boolean inclusion, boolean filterSlices) {
+    Map<String, TokenFilter> properties = new HashMap<>();
+    layer
+        .nextLayers()
+        .forEach(
+            (name, next) -> {
+              final TokenFilter filter;
+              if (!next.isTerminal()) {
+                filter = compile(next, inclusion, filterSlices);
+              } else if (next.slicer() != null) {
+                filter = filterSlices ? next.slicer().tokenFilter() : TokenFilter.INCLUDE_ALL;
+              } else {
+                filter = inclusion ? TokenFilter.INCLUDE_ALL : null;
+              }
+              properties.put(name, filter);
+            });
+    return new ProjectionTokenFilter(properties, inclusion ? null : TokenFilter.INCLUDE_ALL);
+  }
+
+  @Override
+  public TokenFilter includeProperty(String name) {
+    if (properties.containsKey(name)) {
+      return properties.get(name);
+    }
+    return otherProperties;
+  }
+
+  @Override
+  public TokenFilter includeElement(int index) {
+    // Arrays are "skipped": elements are filtered using the same layer
+    return this;
+  }
+
+  @Override
+  public TokenFilter filterStartObject() {
+    return this;
+  }
+
+  @Override
+  public TokenFilter filterStartArray() {
+    return this;
+  }
+
+  @Override
+  public boolean includeEmptyObject(boolean contentsFiltered) {
+    return true;
+  }
+
+  @Override
+  public boolean includeEmptyArray(boolean contentsFiltered) {
+    return true;
+  }
+
+  /**
+   * Filter for the {@code $slice} operations that can be resolved by the element index only, that
+   * is, do not need to know the length of the Array. Non-Array values are included as-is.
+   */
+  static class IndexRangeFilter extends TokenFilter {
+    /** First index to include */
+    private final int from;
+
+    /** First index past the included range */
+    private final int to;
+
+    IndexRangeFilter(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public TokenFilter includeElement(int index) {
+      return (index >= from && index < to) ? TokenFilter.INCLUDE_ALL : null;
+    }
+
+    @Override
+    public TokenFilter filterStartObject() {
+      return TokenFilter.INCLUDE_ALL;
+    }
+
+    @Override
+    public TokenFilter filterStartArray() {
+      return this;
+    }
+
+    @Override
+    public boolean includeEmptyArray(boolean contentsFiltered) {
+      return true;
+    }
+  }
+}
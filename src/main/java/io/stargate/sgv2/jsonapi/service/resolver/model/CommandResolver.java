@@ -1,5 +1,6 @@
 package io.stargate.sgv2.jsonapi.service.resolver.model;
 
+import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.Command;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
@@ -40,4 +41,18 @@ public interface CommandResolver<C extends Command> {
    * @return Operation, must no be <code>null</code>
    */
   Operation resolveCommand(CommandContext ctx, C command);
+
+  /**
+   * Resolves the command like {@link #resolveCommand(CommandContext, Command)}, but
+   * asynchronously. Resolvers doing expensive work, like shredding many documents, override it to
+   * keep that work off the calling thread. By default the command is resolved on subscription, by
+   * the subscribing thread.
+   *
+   * @param ctx {@link CommandContext}
+   * @param command {@link Command}
+   * @return Uni emitting the operation, must no be <code>null</code>
+   */
+  default Uni<Operation> resolveCommandAsync(CommandContext ctx, C command) {
+    return Uni.createFrom().item(() -> resolveCommand(ctx, command));
+  }
 }
@@ -17,6 +17,7 @@ import io.stargate.sgv2.jsonapi.service.embedding.configuration.ProviderConstant
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.CreateCollectionOperation;
 import io.stargate.sgv2.jsonapi.service.resolver.model.CommandResolver;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHashFormat;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.util.*;
@@ -69,7 +70,7 @@ public class CreateCollectionCommandResolver implements CommandResolver<CreateCo
           objectMapper,
           cqlSessionCache,
           command.name(),
-          generateComment(false, false, command.name(), null, null, null),
+          generateComment(false, false, command.name(), null, null, null, null),
           operationsConfig.databaseConfig().ddlDelayMillis(),
           operationsConfig.tooManyIndexesRollbackEnabled(),
           false); // Since the options is null
@@ -100,7 +101,8 @@ public class CreateCollectionCommandResolver implements CommandResolver<CreateCo
             command.name(),
             command.options().indexing(),
             vector,
-            command.options().idConfig());
+            command.options().idConfig(),
+            command.options().insert());
 
     if (hasVectorSearch) {
       return CreateCollectionOperation.withVectorSearch(
@@ -137,6 +139,8 @@ public class CreateCollectionCommandResolver implements CommandResolver<CreateCo
    * @param commandName command name
    * @param indexing the indexing option config
    * @param vector vector config after validation
+   * @param idConfig default id config
+   * @param insert insert defaults config
    * @return the comment string
    */
   private String generateComment(
@@ -145,7 +149,8 @@ public class CreateCollectionCommandResolver implements CommandResolver<CreateCo
       String commandName,
       CreateCollectionCommand.Options.IndexingConfig indexing,
       CreateCollectionCommand.Options.VectorSearchConfig vector,
-      CreateCollectionCommand.Options.IdConfig idConfig) {
+      CreateCollectionCommand.Options.IdConfig idConfig,
+      CreateCollectionCommand.Options.InsertConfig insert) {
     final ObjectNode collectionNode = objectMapper.createObjectNode();
     ObjectNode optionsNode = objectMapper.createObjectNode(); // For storing collection options.
 
@@ -164,9 +169,20 @@ public class CreateCollectionCommandResolver implements CommandResolver<CreateCo
           objectMapper.createObjectNode().putPOJO("type", ""));
     }
 
+    if (insert != null) {
+      optionsNode.putPOJO(TableCommentConstants.COLLECTION_INSERT_KEY, insert);
+    }
+
     collectionNode.put(TableCommentConstants.COLLECTION_NAME_KEY, commandName);
     collectionNode.put(
         TableCommentConstants.SCHEMA_VERSION_KEY, TableCommentConstants.SCHEMA_VERSION_VALUE);
+    // the original format is not recorded, so that nodes unaware of the formats read the comment
+    final DocValueHashFormat docValueHashFormat =
+        DocValueHashFormat.fromVersion(operationsConfig.docValueHashVersion());
+    if (docValueHashFormat != DocValueHashFormat.V1) {
+      collectionNode.put(
+          TableCommentConstants.DOC_VALUE_HASH_VERSION_KEY, docValueHashFormat.version());
+    }
     collectionNode.putPOJO(TableCommentConstants.OPTIONS_KEY, optionsNode);
     final ObjectNode tableCommentNode = objectMapper.createObjectNode();
     tableCommentNode.putPOJO(TableCommentConstants.TOP_LEVEL_KEY, collectionNode);
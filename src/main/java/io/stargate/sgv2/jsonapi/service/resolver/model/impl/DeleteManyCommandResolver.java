@@ -40,12 +40,15 @@ public class DeleteManyCommandResolver extends FilterableResolver<DeleteManyComm
     if (command.filterClause() == null || command.filterClause().logicalExpression().isEmpty()) {
       return new TruncateCollectionOperation(commandContext);
     }
-    final FindOperation findOperation = getFindOperation(commandContext, command);
+    final FindOperation findOperation =
+        getFindOperation(commandContext, command)
+            .withOptions(FindOperation.ExecutionOptions.forWrites(operationsConfig));
     return DeleteOperation.delete(
-        commandContext,
-        findOperation,
-        operationsConfig.maxDocumentDeleteCount(),
-        operationsConfig.lwt().retries());
+            commandContext,
+            findOperation,
+            operationsConfig.maxDocumentDeleteCount(),
+            operationsConfig.lwt().retries())
+        .withPagePrefetch(operationsConfig.deletePagePrefetchEnabled());
   }
 
   @Override
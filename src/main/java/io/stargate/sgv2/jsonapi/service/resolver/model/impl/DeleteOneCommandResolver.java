@@ -37,7 +37,9 @@ public class DeleteOneCommandResolver extends FilterableResolver<DeleteOneComman
 
   @Override
   public Operation resolveCommand(CommandContext commandContext, DeleteOneCommand command) {
-    FindOperation findOperation = getFindOperation(commandContext, command);
+    FindOperation findOperation =
+        getFindOperation(commandContext, command)
+            .withOptions(FindOperation.ExecutionOptions.forWrites(operationsConfig));
     return DeleteOperation.delete(
         commandContext, findOperation, 1, operationsConfig.lwt().retries());
   }
@@ -75,45 +75,49 @@ public class FindCommandResolver extends FilterableResolver<FindCommand>
           Math.min(
               limit, operationsConfig.maxVectorSearchLimit()); // Max vector search support is 1000
       return FindOperation.vsearch(
-          commandContext,
-          resolvedLogicalExpression,
-          command.buildProjector(includeSimilarity),
-          pageState,
-          limit,
-          operationsConfig.defaultPageSize(),
-          ReadType.DOCUMENT,
-          objectMapper,
-          vector);
+              commandContext,
+              resolvedLogicalExpression,
+              command.buildProjector(includeSimilarity),
+              pageState,
+              limit,
+              operationsConfig.defaultPageSize(),
+              ReadType.DOCUMENT,
+              objectMapper,
+              vector)
+          .withOptions(FindOperation.ExecutionOptions.forResponseReads(operationsConfig));
     }
 
     List<FindOperation.OrderBy> orderBy = SortClauseUtil.resolveOrderBy(sortClause);
     // if orderBy present
     if (orderBy != null) {
       return FindOperation.sorted(
-          commandContext,
-          resolvedLogicalExpression,
-          command.buildProjector(),
-          pageState,
-          // For in memory sorting if no limit provided in the request will use
-          // documentConfig.defaultPageSize() as limit
-          Math.min(limit, operationsConfig.defaultPageSize()),
-          // For in memory sorting we read more data than needed, so defaultSortPageSize like 100
-          operationsConfig.defaultSortPageSize(),
-          ReadType.SORTED_DOCUMENT,
-          objectMapper,
-          orderBy,
-          skip,
-          operationsConfig.maxDocumentSortCount());
+              commandContext,
+              resolvedLogicalExpression,
+              command.buildProjector(),
+              pageState,
+              // For in memory sorting if no limit provided in the request will use
+              // documentConfig.defaultPageSize() as limit
+              Math.min(limit, operationsConfig.defaultPageSize()),
+              // For in memory sorting we read more data than needed, so defaultSortPageSize like
+              // 100
+              operationsConfig.defaultSortPageSize(),
+              ReadType.SORTED_DOCUMENT,
+              objectMapper,
+              orderBy,
+              skip,
+              operationsConfig.maxDocumentSortCount())
+          .withOptions(FindOperation.ExecutionOptions.forResponseReads(operationsConfig));
     } else {
       return FindOperation.unsorted(
-          commandContext,
-          resolvedLogicalExpression,
-          command.buildProjector(),
-          pageState,
-          limit,
-          operationsConfig.defaultPageSize(),
-          ReadType.DOCUMENT,
-          objectMapper);
+              commandContext,
+              resolvedLogicalExpression,
+              command.buildProjector(),
+              pageState,
+              limit,
+              operationsConfig.defaultPageSize(),
+              ReadType.DOCUMENT,
+              objectMapper)
+          .withOptions(FindOperation.ExecutionOptions.forResponseReads(operationsConfig));
     }
   }
 }
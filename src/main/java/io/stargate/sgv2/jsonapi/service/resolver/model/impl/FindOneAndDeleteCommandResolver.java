@@ -43,7 +43,9 @@ public class FindOneAndDeleteCommandResolver extends FilterableResolver<FindOneA
 
   @Override
   public Operation resolveCommand(CommandContext commandContext, FindOneAndDeleteCommand command) {
-    FindOperation findOperation = getFindOperation(commandContext, command);
+    FindOperation findOperation =
+        getFindOperation(commandContext, command)
+            .withOptions(FindOperation.ExecutionOptions.forWrites(operationsConfig));
     final DocumentProjector documentProjector = command.buildProjector();
     // return
     return DeleteOperation.deleteOneAndReturn(
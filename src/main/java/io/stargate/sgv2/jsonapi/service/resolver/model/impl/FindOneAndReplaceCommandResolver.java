@@ -44,7 +44,9 @@ public class FindOneAndReplaceCommandResolver extends FilterableResolver<FindOne
 
   @Override
   public Operation resolveCommand(CommandContext commandContext, FindOneAndReplaceCommand command) {
-    FindOperation findOperation = getFindOperation(commandContext, command);
+    FindOperation findOperation =
+        getFindOperation(commandContext, command)
+            .withOptions(FindOperation.ExecutionOptions.forWrites(operationsConfig));
 
     final DocumentProjector documentProjector = command.buildProjector();
     DocumentUpdater documentUpdater = DocumentUpdater.construct(command.replacementDocument());
@@ -44,7 +44,9 @@ public class FindOneAndUpdateCommandResolver extends FilterableResolver<FindOneA
 
   @Override
   public Operation resolveCommand(CommandContext commandContext, FindOneAndUpdateCommand command) {
-    FindOperation findOperation = getFindOperation(commandContext, command);
+    FindOperation findOperation =
+        getFindOperation(commandContext, command)
+            .withOptions(FindOperation.ExecutionOptions.forWrites(operationsConfig));
 
     final DocumentProjector documentProjector = command.buildProjector();
 
@@ -53,37 +53,41 @@ public class FindOneCommandResolver extends FilterableResolver<FindOneCommand>
         includeSimilarity = options.includeSimilarity();
       }
       return FindOperation.vsearchSingle(
-          commandContext,
-          logicalExpression,
-          command.buildProjector(includeSimilarity),
-          ReadType.DOCUMENT,
-          objectMapper,
-          vector);
+              commandContext,
+              logicalExpression,
+              command.buildProjector(includeSimilarity),
+              ReadType.DOCUMENT,
+              objectMapper,
+              vector)
+          .withOptions(FindOperation.ExecutionOptions.forResponseReads(operationsConfig));
     }
 
     List<FindOperation.OrderBy> orderBy = SortClauseUtil.resolveOrderBy(sortClause);
     // If orderBy present
     if (orderBy != null) {
       return FindOperation.sortedSingle(
-          commandContext,
-          logicalExpression,
-          command.buildProjector(),
-          // For in memory sorting we read more data than needed, so defaultSortPageSize like 100
-          operationsConfig.defaultSortPageSize(),
-          ReadType.SORTED_DOCUMENT,
-          objectMapper,
-          orderBy,
-          0,
-          // For in memory sorting if no limit provided in the request will use
-          // documentConfig.defaultPageSize() as limit
-          operationsConfig.maxDocumentSortCount());
+              commandContext,
+              logicalExpression,
+              command.buildProjector(),
+              // For in memory sorting we read more data than needed, so defaultSortPageSize like
+              // 100
+              operationsConfig.defaultSortPageSize(),
+              ReadType.SORTED_DOCUMENT,
+              objectMapper,
+              orderBy,
+              0,
+              // For in memory sorting if no limit provided in the request will use
+              // documentConfig.defaultPageSize() as limit
+              operationsConfig.maxDocumentSortCount())
+          .withOptions(FindOperation.ExecutionOptions.forResponseReads(operationsConfig));
     } else {
       return FindOperation.unsortedSingle(
-          commandContext,
-          logicalExpression,
-          command.buildProjector(),
-          ReadType.DOCUMENT,
-          objectMapper);
+              commandContext,
+              logicalExpression,
+              command.buildProjector(),
+              ReadType.DOCUMENT,
+              objectMapper)
+          .withOptions(FindOperation.ExecutionOptions.forResponseReads(operationsConfig));
     }
   }
 }
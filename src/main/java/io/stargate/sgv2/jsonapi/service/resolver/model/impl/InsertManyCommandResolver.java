@@ -1,13 +1,14 @@
 package io.stargate.sgv2.jsonapi.service.resolver.model.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.impl.InsertManyCommand;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.InsertOperation;
-import io.stargate.sgv2.jsonapi.service.projection.IndexingProjector;
 import io.stargate.sgv2.jsonapi.service.resolver.model.CommandResolver;
 import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
+import io.stargate.sgv2.jsonapi.service.shredding.ShreddingExecutor;
 import io.stargate.sgv2.jsonapi.service.shredding.model.WritableShreddedDocument;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -19,11 +20,14 @@ public class InsertManyCommandResolver implements CommandResolver<InsertManyComm
 
   private final Shredder shredder;
   private final ObjectMapper objectMapper;
+  private final ShreddingExecutor shreddingExecutor;
 
   @Inject
-  public InsertManyCommandResolver(Shredder shredder, ObjectMapper objectMapper) {
+  public InsertManyCommandResolver(
+      Shredder shredder, ObjectMapper objectMapper, ShreddingExecutor shreddingExecutor) {
     this.shredder = shredder;
     this.objectMapper = objectMapper;
+    this.shreddingExecutor = shreddingExecutor;
   }
 
   @Override
@@ -33,15 +37,40 @@ public class InsertManyCommandResolver implements CommandResolver<InsertManyComm
 
   @Override
   public Operation resolveCommand(CommandContext ctx, InsertManyCommand command) {
-    final IndexingProjector projection = ctx.indexingProjector();
     final List<WritableShreddedDocument> shreddedDocuments =
         command.documents().stream().map(doc -> shredder.shred(ctx, doc, null)).toList();
+    return insertOperation(ctx, command, shreddedDocuments);
+  }
 
+  /**
+   * {@inheritDoc} Documents are shredded concurrently on the {@link ShreddingExecutor}, if enabled
+   * and if there is more than one document.
+   */
+  @Override
+  public Uni<Operation> resolveCommandAsync(CommandContext ctx, InsertManyCommand command) {
+    if (!shreddingExecutor.isEnabled() || command.documents().size() < 2) {
+      return CommandResolver.super.resolveCommandAsync(ctx, command);
+    }
+    return shredder
+        .shred(ctx, command.documents(), shreddingExecutor)
+        .map(shreddedDocuments -> insertOperation(ctx, command, shreddedDocuments));
+  }
+
+  private Operation insertOperation(
+      CommandContext ctx,
+      InsertManyCommand command,
+      List<WritableShreddedDocument> shreddedDocuments) {
     // resolve ordered
     InsertManyCommand.Options options = command.options();
 
     boolean ordered = null != options && Boolean.TRUE.equals(options.ordered());
 
-    return new InsertOperation(ctx, shreddedDocuments, ordered);
+    // resolve existence check, command option overrides the collection default
+    boolean skipExistenceCheck =
+        null != options && null != options.skipExistenceCheck()
+            ? options.skipExistenceCheck()
+            : ctx.collectionSettings().skipExistenceCheck();
+
+    return new InsertOperation(ctx, shreddedDocuments, ordered, skipExistenceCheck);
   }
 }
@@ -41,7 +41,9 @@ public class UpdateManyCommandResolver extends FilterableResolver<UpdateManyComm
 
   @Override
   public Operation resolveCommand(CommandContext commandContext, UpdateManyCommand command) {
-    FindOperation findOperation = getFindOperation(commandContext, command);
+    FindOperation findOperation =
+        getFindOperation(commandContext, command)
+            .withOptions(FindOperation.ExecutionOptions.forWrites(operationsConfig));
 
     DocumentUpdater documentUpdater = DocumentUpdater.construct(command.updateClause());
 
@@ -60,7 +62,8 @@ public class UpdateManyCommandResolver extends FilterableResolver<UpdateManyComm
         shredder,
         DocumentProjector.identityProjector(),
         operationsConfig.maxDocumentUpdateCount(),
-        operationsConfig.lwt().retries());
+        operationsConfig.lwt().retries(),
+        operationsConfig.maxDocumentUpdateConcurrency());
   }
 
   private FindOperation getFindOperation(CommandContext commandContext, UpdateManyCommand command) {
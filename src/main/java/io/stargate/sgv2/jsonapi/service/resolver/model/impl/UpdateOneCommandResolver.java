@@ -44,7 +44,9 @@ public class UpdateOneCommandResolver extends FilterableResolver<UpdateOneComman
 
   @Override
   public Operation resolveCommand(CommandContext commandContext, UpdateOneCommand command) {
-    FindOperation findOperation = getFindOperation(commandContext, command);
+    FindOperation findOperation =
+        getFindOperation(commandContext, command)
+            .withOptions(FindOperation.ExecutionOptions.forWrites(operationsConfig));
 
     DocumentUpdater documentUpdater = DocumentUpdater.construct(command.updateClause());
 
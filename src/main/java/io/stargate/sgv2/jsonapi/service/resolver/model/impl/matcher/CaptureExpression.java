@@ -1,7 +1,15 @@
 package io.stargate.sgv2.jsonapi.service.resolver.model.impl.matcher;
 
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.FilterOperation;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHashFormat;
 import java.util.List;
 
+/**
+ * @param hashFormat Format of the hashes of the Arrays and sub-documents of the collection, for the
+ *     filters on them
+ */
 public record CaptureExpression(
-    Object marker, List<FilterOperation<?>> filterOperations, String path) {}
+    Object marker,
+    List<FilterOperation<?>> filterOperations,
+    String path,
+    DocValueHashFormat hashFormat) {}
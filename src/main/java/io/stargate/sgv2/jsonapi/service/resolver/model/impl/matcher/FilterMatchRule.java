@@ -21,6 +21,6 @@ public record FilterMatchRule<T extends Command & Filterable>(FilterMatcher<T> m
     implements BiFunction<CommandContext, T, Optional<LogicalExpression>> {
   @Override
   public Optional<LogicalExpression> apply(CommandContext commandContext, T command) {
-    return matcher.apply(command);
+    return matcher.apply(commandContext, command);
   }
 }
@@ -1,9 +1,12 @@
 package io.stargate.sgv2.jsonapi.service.resolver.model.impl.matcher;
 
 import io.stargate.sgv2.jsonapi.api.model.command.Command;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.Filterable;
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.*;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.DBFilterBase;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHashFormat;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -38,6 +41,15 @@ public class FilterMatcher<T extends Command & Filterable> {
   }
 
   public Optional<LogicalExpression> apply(T command) {
+    return apply(null, command);
+  }
+
+  /**
+   * @param commandContext Context of the command, for the settings of the collection; {@code null}
+   *     for the default settings
+   * @param command Command to match
+   */
+  public Optional<LogicalExpression> apply(CommandContext commandContext, T command) {
     FilterClause filter = command.filterClause();
     if (strategy == MatchStrategy.EMPTY) {
       if (filter == null || filter.logicalExpression().isEmpty()) {
@@ -54,16 +66,22 @@ public class FilterMatcher<T extends Command & Filterable> {
         new MatchStrategyCounter(
             unmatchedCaptures.size(),
             filter.logicalExpression().getTotalComparisonExpressionCount());
-    captureRecursive(filter.logicalExpression(), unmatchedCaptures, matchStrategyCounter);
+    final DocValueHashFormat hashFormat =
+        (commandContext == null)
+            ? CollectionSettings.empty().docValueHashFormat()
+            : commandContext.collectionSettings().docValueHashFormat();
+    captureRecursive(
+        filter.logicalExpression(), unmatchedCaptures, matchStrategyCounter, hashFormat);
     return matchStrategyCounter.applyStrategy(strategy, filter);
   }
 
   public void captureRecursive(
       LogicalExpression expression,
       List<Capture> unmatchedCaptures,
-      MatchStrategyCounter matchStrategyCounter) {
+      MatchStrategyCounter matchStrategyCounter,
+      DocValueHashFormat hashFormat) {
     for (LogicalExpression logicalExpression : expression.logicalExpressions) {
-      captureRecursive(logicalExpression, unmatchedCaptures, matchStrategyCounter);
+      captureRecursive(logicalExpression, unmatchedCaptures, matchStrategyCounter, hashFormat);
     }
     ListIterator<ComparisonExpression> expressionIterator =
         expression.comparisonExpressions.listIterator();
@@ -76,7 +94,8 @@ public class FilterMatcher<T extends Command & Filterable> {
         if (!matched.isEmpty()) {
           comparisonExpression.setDBFilters(
               resolveFunction.apply(
-                  new CaptureExpression(capture.marker, matched, comparisonExpression.getPath())));
+                  new CaptureExpression(
+                      capture.marker, matched, comparisonExpression.getPath(), hashFormat)));
           switch (strategy) {
             case STRICT:
               captureIter.remove();
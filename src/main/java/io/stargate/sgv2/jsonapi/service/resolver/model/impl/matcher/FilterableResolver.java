@@ -218,7 +218,8 @@ public abstract class FilterableResolver<T extends Command & Filterable> {
                 new DBFilterBase.InFilter(
                     getInFilterBaseOperator(filterOperation.operator()),
                     captureExpression.path(),
-                    (List<Object>) filterOperation.operand().value()));
+                    (List<Object>) filterOperation.operand().value(),
+                    captureExpression.hashFormat()));
             break;
           default:
             throw new JsonApiException(
@@ -251,7 +252,8 @@ public abstract class FilterableResolver<T extends Command & Filterable> {
             new DBFilterBase.InFilter(
                 getInFilterBaseOperator(filterOperation.operator()),
                 captureExpression.path(),
-                (List<Object>) filterOperation.operand().value()));
+                (List<Object>) filterOperation.operand().value(),
+                captureExpression.hashFormat()));
       }
 
       if (captureExpression.marker() == DYNAMIC_TEXT_GROUP) {
@@ -299,12 +301,16 @@ public abstract class FilterableResolver<T extends Command & Filterable> {
 
       if (captureExpression.marker() == ALL_GROUP) {
         List<Object> arrayValue = (List<Object>) filterOperation.operand().value();
-        filters.add(new DBFilterBase.AllFilter(captureExpression.path(), arrayValue, false));
+        filters.add(
+            new DBFilterBase.AllFilter(
+                captureExpression.path(), arrayValue, false, captureExpression.hashFormat()));
       }
 
       if (captureExpression.marker() == NOT_ANY_GROUP) {
         List<Object> arrayValue = (List<Object>) filterOperation.operand().value();
-        filters.add(new DBFilterBase.AllFilter(captureExpression.path(), arrayValue, true));
+        filters.add(
+            new DBFilterBase.AllFilter(
+                captureExpression.path(), arrayValue, true, captureExpression.hashFormat()));
       }
 
       if (captureExpression.marker() == SIZE_GROUP) {
@@ -332,7 +338,7 @@ public abstract class FilterableResolver<T extends Command & Filterable> {
       if (captureExpression.marker() == ARRAY_EQUALS) {
         filters.add(
             new DBFilterBase.ArrayEqualsFilter(
-                new DocValueHasher(),
+                new DocValueHasher(captureExpression.hashFormat()),
                 captureExpression.path(),
                 (List<Object>) filterOperation.operand().value(),
                 filterOperation.operator().equals(ValueComparisonOperator.EQ)
@@ -343,7 +349,7 @@ public abstract class FilterableResolver<T extends Command & Filterable> {
       if (captureExpression.marker() == SUB_DOC_EQUALS) {
         filters.add(
             new DBFilterBase.SubDocEqualsFilter(
-                new DocValueHasher(),
+                new DocValueHasher(captureExpression.hashFormat()),
                 captureExpression.path(),
                 (Map<String, Object>) filterOperation.operand().value(),
                 filterOperation.operator().equals(ValueComparisonOperator.EQ)
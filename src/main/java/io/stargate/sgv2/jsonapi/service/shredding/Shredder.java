@@ -1,15 +1,19 @@
 package io.stargate.sgv2.jsonapi.service.shredding;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.uuid.Generators;
 import com.fasterxml.uuid.NoArgGenerator;
+import io.smallrye.mutiny.Uni;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonProcessingMetricsReporter;
 import io.stargate.sgv2.jsonapi.config.DocumentLimitsConfig;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
 import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
@@ -22,11 +26,15 @@ import io.stargate.sgv2.jsonapi.util.JsonUtil;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.bson.types.ObjectId;
 
 /**
@@ -51,14 +59,35 @@ public class Shredder {
 
   private final JsonProcessingMetricsReporter jsonProcessingMetricsReporter;
 
+  /** Whether documents are shredded in a single traversal, see {@link SinglePassShredTraversal} */
+  private final boolean singlePass;
+
+  /** Serializers used for writing the atomic values in the single pass traversal */
+  private final SerializerProvider serializers;
+
   @Inject
   public Shredder(
       ObjectMapper objectMapper,
       DocumentLimitsConfig documentLimits,
-      JsonProcessingMetricsReporter jsonProcessingMetricsReporter) {
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter,
+      OperationsConfig operationsConfig) {
+    this(
+        objectMapper,
+        documentLimits,
+        jsonProcessingMetricsReporter,
+        operationsConfig.singlePassShreddingEnabled());
+  }
+
+  Shredder(
+      ObjectMapper objectMapper,
+      DocumentLimitsConfig documentLimits,
+      JsonProcessingMetricsReporter jsonProcessingMetricsReporter,
+      boolean singlePass) {
     this.objectMapper = objectMapper;
     this.documentLimits = documentLimits;
     this.jsonProcessingMetricsReporter = jsonProcessingMetricsReporter;
+    this.singlePass = singlePass;
+    this.serializers = objectMapper.getSerializerProviderInstance();
   }
 
   /**
@@ -90,6 +119,68 @@ public class Shredder {
       IndexingProjector indexProjector,
       String commandName,
       CollectionSettings collectionSettings) {
+    WritableShreddedDocument shredded =
+        shredDocument(doc, txId, indexProjector, collectionSettings);
+    // Create json bytes written metrics
+    jsonProcessingMetricsReporter.reportJsonWriteBytesMetrics(
+        commandName, shredded.docJson().length());
+    return shredded;
+  }
+
+  /**
+   * Shreds the documents of a command, like {@link #shred(CommandContext, JsonNode, UUID)} for each
+   * document, but concurrently on the given bounded pool, so that the calling thread (usually the
+   * event loop) is not blocked. Failure is the one of the first document failing to shred, in the
+   * order of the documents, same as when shredding one document after another.
+   *
+   * <p>Metrics are reported once all the documents are shredded, back on the Vert.x context of the
+   * caller (see {@link ShreddingExecutor#runAll}), as the reporter needs the request context.
+   *
+   * @param ctx Context of the command
+   * @param docs Documents to shred
+   * @param executor Pool the documents are shredded on
+   * @return Uni emitting the shredded documents, in the order of the documents
+   */
+  public Uni<List<WritableShreddedDocument>> shred(
+      CommandContext ctx, List<JsonNode> docs, ShreddingExecutor executor) {
+    final IndexingProjector indexProjector = ctx.indexingProjector();
+    final CollectionSettings collectionSettings = ctx.collectionSettings();
+    final WritableShreddedDocument[] shredded = new WritableShreddedDocument[docs.size()];
+    final RuntimeException[] failures = new RuntimeException[docs.size()];
+    List<Supplier<Integer>> tasks = new ArrayList<>(docs.size());
+    for (int i = 0; i < docs.size(); ++i) {
+      final int ix = i;
+      tasks.add(
+          () -> {
+            try {
+              shredded[ix] = shredDocument(docs.get(ix), null, indexProjector, collectionSettings);
+            } catch (RuntimeException e) {
+              failures[ix] = e;
+            }
+            return ix;
+          });
+    }
+
+    return executor
+        .runAll(tasks)
+        .map(
+            ignored -> {
+              for (int i = 0; i < shredded.length; ++i) {
+                if (failures[i] != null) {
+                  throw failures[i];
+                }
+                jsonProcessingMetricsReporter.reportJsonWriteBytesMetrics(
+                    ctx.commandName(), shredded[i].docJson().length());
+              }
+              return List.of(shredded);
+            });
+  }
+
+  private WritableShreddedDocument shredDocument(
+      JsonNode doc,
+      UUID txId,
+      IndexingProjector indexProjector,
+      CollectionSettings collectionSettings) {
     // Although we could otherwise allow non-Object documents, requirement
     // to have the _id (or at least place for it) means we cannot allow that.
     if (!doc.isObject()) {
@@ -97,6 +188,10 @@ public class Shredder {
           "document to shred must be a JSON Object, instead got %s", doc.getNodeType());
     }
 
+    if (singlePass) {
+      return shredInSinglePass((ObjectNode) doc, txId, indexProjector, collectionSettings);
+    }
+
     final ObjectNode docWithId = normalizeDocumentId(collectionSettings, (ObjectNode) doc);
     final DocumentId docId = DocumentId.fromJson(docWithId.get(DocumentConstants.Fields.DOC_ID));
     final String docJson;
@@ -119,11 +214,9 @@ public class Shredder {
     // And then we can validate the document size
     validateDocumentSize(documentLimits, docJson);
 
-    // Create json bytes written metrics
-    jsonProcessingMetricsReporter.reportJsonWriteBytesMetrics(commandName, docJson.length());
-
     final WritableShreddedDocument.Builder b =
-        WritableShreddedDocument.builder(docId, txId, docJson, docWithId);
+        WritableShreddedDocument.builder(
+            docId, txId, docJson, docWithId, collectionSettings.docValueHashFormat());
 
     // Before value validation, indexing, may need to drop "non-indexed" properties. But if so,
     // need to ensure we do not modify original document, so let's create a copy (may need
@@ -146,6 +239,54 @@ public class Shredder {
     return b.build();
   }
 
+  /**
+   * Shreds the document like {@link #shred(JsonNode, UUID, IndexingProjector, String,
+   * CollectionSettings)}, but with a single traversal of the document, instead of one for each of
+   * the validation, serialization, indexing projection and shredding (see {@link
+   * SinglePassShredTraversal}). The document is not deep copied for the indexing either: only the
+   * Objects losing some of their properties to the indexing projection are copied, and the document
+   * itself only if the document id needs to be added or moved.
+   */
+  private WritableShreddedDocument shredInSinglePass(
+      ObjectNode doc,
+      UUID txId,
+      IndexingProjector indexProjector,
+      CollectionSettings collectionSettings) {
+    final ObjectNode docWithId =
+        isDocumentIdFirst(doc) ? doc : normalizeDocumentId(collectionSettings, doc);
+    final DocumentId docId = DocumentId.fromJson(docWithId.get(DocumentConstants.Fields.DOC_ID));
+    final ObjectNode indexableDocument =
+        (indexProjector == null) ? docWithId : (ObjectNode) indexProjector.project(docWithId);
+
+    final WritableShreddedDocument.Builder b =
+        WritableShreddedDocument.builder(
+            docId, txId, docWithId, collectionSettings.docValueHashFormat());
+    final SinglePassShredTraversal traversal;
+    final String docJson;
+    final StringWriter writer = new StringWriter();
+    // Important! Must use configured ObjectMapper for the generator, same as for the
+    // serialization of the whole document
+    try (JsonGenerator generator = objectMapper.createGenerator(writer)) {
+      traversal = new SinglePassShredTraversal(documentLimits, generator, serializers, b);
+      traversal.traverse(docWithId, indexableDocument);
+    } catch (IOException e) { // never happens but signature exposes it
+      throw new RuntimeException(e);
+    }
+    docJson = writer.toString();
+
+    // Structure of the full document is validated by now, followed by the document size
+    validateDocumentSize(documentLimits, docJson);
+
+    // and only then the values of the indexable document, and the shredding itself
+    traversal.throwDeferredFailures();
+    return b.docJson(docJson).build();
+  }
+
+  private static boolean isDocumentIdFirst(ObjectNode doc) {
+    Iterator<String> fieldNames = doc.fieldNames();
+    return fieldNames.hasNext() && fieldNames.next().equals(DocumentConstants.Fields.DOC_ID);
+  }
+
   /**
    * Method called to ensure that Document has Document Id (generating id if necessary), and that it
    * is the very first property in the document (reordering as needed). Note that a new document is
@@ -266,7 +407,7 @@ public class Shredder {
     }
   }
 
-  private void traverseVector(JsonPath path, JsonNode value, ShredListener callback) {
+  static void traverseVector(JsonPath path, JsonNode value, ShredListener callback) {
     if (value.isNull()) {
       return;
     }
@@ -280,7 +421,7 @@ public class Shredder {
     callback.shredVector(path, arr);
   }
 
-  private void traverseVectorize(JsonPath path, JsonNode value, ShredListener callback) {
+  static void traverseVectorize(JsonPath path, JsonNode value, ShredListener callback) {
     if (value.isNull()) {
       return;
     }
@@ -340,20 +481,8 @@ public class Shredder {
       validateDocDepth(limits, depth);
 
       // First, special case: Extension JSON types
-      if (objectValue.size() == 1) {
-        String key = objectValue.fieldNames().next();
-        JsonExtensionType extType = JsonExtensionType.fromEncodedName(key);
-        if (extType != null) {
-          // These are only superficially validated here, more detailed validation
-          // during actual shredding
-          JsonNode value = objectValue.iterator().next();
-          if (value.isTextual() || value.isIntegralNumber()) {
-            return;
-          }
-          throw ErrorCode.SHRED_BAD_EJSON_VALUE.toApiException(
-              "type '%s' has invalid JSON value of type %s",
-              extType.encodedName(), value.getNodeType());
-        }
+      if (isExtensionValue(objectValue)) {
+        return;
       }
 
       var it = objectValue.fields();
@@ -374,7 +503,32 @@ public class Shredder {
       }
     }
 
-    private void validateObjectKey(String key, JsonNode value, int depth, int parentPathLength) {
+    /**
+     * Checks whether the Object value is an Extension JSON value, like <code>{"$date": 123}</code>:
+     * if so, contents are not validated as regular properties.
+     *
+     * @return {@code true} if the value is an Extension JSON value
+     */
+    boolean isExtensionValue(JsonNode objectValue) {
+      if (objectValue.size() == 1) {
+        String key = objectValue.fieldNames().next();
+        JsonExtensionType extType = JsonExtensionType.fromEncodedName(key);
+        if (extType != null) {
+          // These are only superficially validated here, more detailed validation
+          // during actual shredding
+          JsonNode value = objectValue.iterator().next();
+          if (value.isTextual() || value.isIntegralNumber()) {
+            return true;
+          }
+          throw ErrorCode.SHRED_BAD_EJSON_VALUE.toApiException(
+              "type '%s' has invalid JSON value of type %s",
+              extType.encodedName(), value.getNodeType());
+        }
+      }
+      return false;
+    }
+
+    void validateObjectKey(String key, JsonNode value, int depth, int parentPathLength) {
       if (key.length() == 0) {
         // NOTE: validity failure, not size limit
         throw ErrorCode.SHRED_DOC_KEY_NAME_VIOLATION.toApiException("empty names not allowed");
@@ -398,7 +552,7 @@ public class Shredder {
       }
     }
 
-    private void validateDocDepth(DocumentLimitsConfig limits, int depth) {
+    void validateDocDepth(DocumentLimitsConfig limits, int depth) {
       if (depth > limits.maxDepth()) {
         throw ErrorCode.SHRED_DOC_LIMIT_VIOLATION.toApiException(
             "document depth exceeds maximum allowed (%s)", limits.maxDepth());
@@ -422,6 +576,10 @@ public class Shredder {
 
     public void validate(ObjectNode doc) {
       validateObjectValue(null, doc);
+      validateTotalProperties();
+    }
+
+    void validateTotalProperties() {
       if (totalProperties.get() > limits.maxDocumentProperties()) {
         throw ErrorCode.SHRED_DOC_LIMIT_VIOLATION.toApiException(
             "total number of indexed properties (%d) in document exceeds maximum allowed (%d)",
@@ -440,41 +598,49 @@ public class Shredder {
     }
 
     private void validateArrayValue(String referringPropertyName, JsonNode arrayValue) {
-      if (arrayValue.size() > limits.maxArrayLength()) {
+      validateArrayLength(referringPropertyName, arrayValue.size());
+
+      for (JsonNode element : arrayValue) {
+        validateValue(referringPropertyName, element);
+      }
+    }
+
+    void validateArrayLength(String referringPropertyName, int length) {
+      if (length > limits.maxArrayLength()) {
         // One special case: vector embeddings allow larger size
         if (DocumentConstants.Fields.VECTOR_EMBEDDING_FIELD.equals(referringPropertyName)) {
-          if (arrayValue.size() > limits.maxVectorEmbeddingLength()) {
+          if (length > limits.maxVectorEmbeddingLength()) {
             throw ErrorCode.SHRED_DOC_LIMIT_VIOLATION.toApiException(
                 "number of elements Vector embedding (property '%s') has (%d) exceeds maximum allowed (%d)",
-                referringPropertyName, arrayValue.size(), limits.maxVectorEmbeddingLength());
+                referringPropertyName, length, limits.maxVectorEmbeddingLength());
           }
         } else {
           throw ErrorCode.SHRED_DOC_LIMIT_VIOLATION.toApiException(
               "number of elements an indexable Array (property '%s') has (%d) exceeds maximum allowed (%d)",
-              referringPropertyName, arrayValue.size(), limits.maxArrayLength());
+              referringPropertyName, length, limits.maxArrayLength());
         }
       }
+    }
 
-      for (JsonNode element : arrayValue) {
-        validateValue(referringPropertyName, element);
+    private void validateObjectValue(String referringPropertyName, JsonNode objectValue) {
+      validateObjectProperties(referringPropertyName, objectValue.size());
+
+      for (Map.Entry<String, JsonNode> entry : objectValue.properties()) {
+        validateValue(entry.getKey(), entry.getValue());
       }
     }
 
-    private void validateObjectValue(String referringPropertyName, JsonNode objectValue) {
-      final int propCount = objectValue.size();
+    /** Checks the property count of an indexable Object, and adds it to the total. */
+    void validateObjectProperties(String referringPropertyName, int propCount) {
       if (propCount > limits.maxObjectProperties()) {
         throw ErrorCode.SHRED_DOC_LIMIT_VIOLATION.toApiException(
             "number of properties an indexable Object (property '%s') has (%d) exceeds maximum allowed (%s)",
-            referringPropertyName, objectValue.size(), limits.maxObjectProperties());
+            referringPropertyName, propCount, limits.maxObjectProperties());
       }
       totalProperties.addAndGet(propCount);
-
-      for (Map.Entry<String, JsonNode> entry : objectValue.properties()) {
-        validateValue(entry.getKey(), entry.getValue());
-      }
     }
 
-    private void validateStringValue(String referringPropertyName, String value) {
+    void validateStringValue(String referringPropertyName, String value) {
       if (DocumentConstants.Fields.VECTOR_EMBEDDING_TEXT_FIELD.equals(referringPropertyName)) {
         // `$vectorize` field are not checked for length
         return;
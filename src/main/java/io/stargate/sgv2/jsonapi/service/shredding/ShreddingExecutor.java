@@ -0,0 +1,79 @@
+package io.stargate.sgv2.jsonapi.service.shredding;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.util.InstrumentedExecutor;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Bounded thread pool on which the documents of the <code>insertMany</code> command are shredded
+ * concurrently by the {@link Shredder}. Shredding is CPU bound, so it is kept off the event loop,
+ * and the pool size bounds the number of documents shredded at the same time, for all the requests.
+ *
+ * <p>Pool metrics are tagged with the {@link #POOL_NAME}, see {@link InstrumentedExecutor}.
+ */
+@ApplicationScoped
+public class ShreddingExecutor {
+
+  /** Name of the pool, used for the thread names and as the metrics tag. */
+  public static final String POOL_NAME = "document-shredding";
+
+  private final InstrumentedExecutor executor;
+
+  @Inject
+  public ShreddingExecutor(OperationsConfig operationsConfig, MeterRegistry meterRegistry) {
+    executor =
+        new InstrumentedExecutor(
+            operationsConfig.parallelShreddingEnabled(),
+            POOL_NAME,
+            operationsConfig.parallelShreddingThreads(),
+            meterRegistry);
+  }
+
+  /** @return If the pool is available, that is if parallel shredding is enabled. */
+  public boolean isEnabled() {
+    return executor.isEnabled();
+  }
+
+  /**
+   * Runs the tasks concurrently on the pool. Results are emitted back on the Vert.x context of the
+   * subscriber, if any, so that the processing chained to the returned {@link Uni} runs with the
+   * request context, and not on the pool.
+   *
+   * @param tasks Tasks to run, must not return <code>null</code>
+   * @return Uni emitting the results, in the order of the tasks; or the failure of the first task
+   *     failing
+   */
+  public <T> Uni<List<T>> runAll(List<Supplier<T>> tasks) {
+    if (tasks.isEmpty()) {
+      return Uni.createFrom().item(List.of());
+    }
+    return Uni.createFrom()
+        .deferred(
+            () -> {
+              final Context caller = Vertx.currentContext();
+              Uni<List<T>> results =
+                  Uni.join()
+                      .all(
+                          tasks.stream()
+                              .map(task -> executor.runSubscriptionOn(Uni.createFrom().item(task)))
+                              .toList())
+                      .andFailFast();
+              return (caller == null)
+                  ? results
+                  : results.emitOn(command -> caller.runOnContext(ignored -> command.run()));
+            });
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,271 @@
+package io.stargate.sgv2.jsonapi.service.shredding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.stargate.sgv2.jsonapi.config.DocumentLimitsConfig;
+import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Single traversal of a document being shredded, that does all the per-value work of the {@link
+ * Shredder} at once: checks the structural limits of the full document ({@link
+ * Shredder.FullDocValidator}), writes the document through the {@link JsonGenerator}, checks the
+ * value limits of the indexable document ({@link Shredder.IndexableValueValidator}) and calls the
+ * {@link ShredListener}.
+ *
+ * <p>Indexable document is given as the projection of the document (see {@link
+ * io.stargate.sgv2.jsonapi.service.projection.IndexingProjector#project}), traversed along with the
+ * full document: values not included in the projection are neither validated as indexable nor
+ * shredded.
+ *
+ * <p>Failures are reported in the same order as when each step traverses the document on its own:
+ * structural violations are thrown right away, but the ones of the indexable values and of the
+ * listener are only thrown by {@link #throwDeferredFailures()}, as the document size is checked
+ * before them.
+ *
+ * <p>Instances are stateful, one instance per shredded document.
+ */
+class SinglePassShredTraversal {
+  private final Shredder.FullDocValidator fullDocValidator;
+
+  private final Shredder.IndexableValueValidator indexableValueValidator;
+
+  private final DocumentLimitsConfig limits;
+
+  private final JsonGenerator generator;
+
+  private final SerializerProvider serializers;
+
+  private final ShredListener callback;
+
+  /** First violation of the indexable value limits, if any. */
+  private RuntimeException indexableValueFailure;
+
+  /** First failure of the shredding itself, if any. */
+  private RuntimeException shredFailure;
+
+  SinglePassShredTraversal(
+      DocumentLimitsConfig limits,
+      JsonGenerator generator,
+      SerializerProvider serializers,
+      ShredListener callback) {
+    this.fullDocValidator = new Shredder.FullDocValidator(limits);
+    this.indexableValueValidator = new Shredder.IndexableValueValidator(limits);
+    this.limits = limits;
+    this.generator = generator;
+    this.serializers = serializers;
+    this.callback = callback;
+  }
+
+  /**
+   * Traverses the document.
+   *
+   * @param doc Document to shred, with the document id as the first property
+   * @param indexableDoc Projection of the document to index
+   */
+  public void traverse(ObjectNode doc, ObjectNode indexableDoc) throws IOException {
+    // NOTE: main level is handled a bit differently; no callbacks for the root Object
+    traverseObject(doc, indexableDoc, null, 0, 0, true, JsonPath.rootBuilder());
+  }
+
+  /**
+   * Throws the first failure of the indexable value validation and of the shredding, once the
+   * complete document is traversed.
+   */
+  public void throwDeferredFailures() {
+    if (indexableValueFailure != null) {
+      throw indexableValueFailure;
+    }
+    indexableValueValidator.validateTotalProperties();
+    if (shredFailure != null) {
+      throw shredFailure;
+    }
+  }
+
+  /**
+   * @param obj Object to traverse
+   * @param indexable Projection of the Object if indexed, {@code null} otherwise
+   * @param referringPropertyName Name of the property, or of the Array, holding the Object
+   * @param depth Nesting depth of the Object, for the structural validation
+   * @param pathLength Path length to the Object, for the structural validation
+   * @param validate Whether structure of the Object is to be validated
+   * @param propertyPaths Path builder for the properties, {@code null} if not shredded
+   */
+  private void traverseObject(
+      ObjectNode obj,
+      ObjectNode indexable,
+      String referringPropertyName,
+      int depth,
+      int pathLength,
+      boolean validate,
+      JsonPath.Builder propertyPaths)
+      throws IOException {
+    if (validate) {
+      fullDocValidator.validateDocDepth(limits, ++depth);
+      // Extension JSON values, like "{"$date": 123}", are not validated further
+      validate = !fullDocValidator.isExtensionValue(obj);
+    }
+    if (indexable != null && indexableValueFailure == null) {
+      try {
+        indexableValueValidator.validateObjectProperties(referringPropertyName, indexable.size());
+      } catch (RuntimeException e) {
+        indexableValueFailure = e;
+      }
+    }
+
+    generator.writeStartObject(obj);
+    for (Map.Entry<String, JsonNode> entry : obj.properties()) {
+      final String key = entry.getKey();
+      final JsonNode value = entry.getValue();
+      generator.writeFieldName(key);
+
+      // Doc id validation done elsewhere, skip here to avoid failure for
+      // new Extension JSON types (Object-wrapped UUIDs, ObjectIds)
+      boolean validateValue =
+          validate && !(depth == 1 && key.equals(DocumentConstants.Fields.DOC_ID));
+      int propPathLength = pathLength;
+      if (validateValue) {
+        fullDocValidator.validateObjectKey(key, value, depth, pathLength);
+        // Path through property consists of segments separated by comma:
+        propPathLength = pathLength + 1 + key.length();
+      }
+
+      JsonNode indexableValue = (indexable == null) ? null : indexable.get(key);
+      JsonPath.Builder valuePath =
+          (indexableValue == null || propertyPaths == null) ? null : propertyPaths.property(key);
+      traverseValue(value, indexableValue, key, depth, propPathLength, validateValue, valuePath);
+    }
+    generator.writeEndObject();
+  }
+
+  private void traverseArray(
+      ArrayNode arr,
+      ArrayNode indexable,
+      String referringPropertyName,
+      int depth,
+      int pathLength,
+      boolean validate,
+      JsonPath.Builder elementPaths)
+      throws IOException {
+    if (validate) {
+      fullDocValidator.validateDocDepth(limits, ++depth);
+    }
+    if (indexable != null && indexableValueFailure == null) {
+      try {
+        indexableValueValidator.validateArrayLength(referringPropertyName, indexable.size());
+      } catch (RuntimeException e) {
+        indexableValueFailure = e;
+      }
+    }
+
+    generator.writeStartArray(arr, arr.size());
+    for (int ix = 0, len = arr.size(); ix < len; ++ix) {
+      JsonNode indexableValue = (indexable == null) ? null : indexable.get(ix);
+      JsonPath.Builder valuePath =
+          (indexableValue == null || elementPaths == null) ? null : elementPaths.index(ix);
+      // Array elements are validated against the name of the Array property
+      traverseValue(
+          arr.get(ix),
+          indexableValue,
+          referringPropertyName,
+          depth,
+          pathLength,
+          validate,
+          valuePath);
+    }
+    generator.writeEndArray();
+  }
+
+  private void traverseValue(
+      JsonNode value,
+      JsonNode indexable,
+      String referringPropertyName,
+      int depth,
+      int pathLength,
+      boolean validate,
+      JsonPath.Builder pathBuilder)
+      throws IOException {
+    // Callbacks for Objects and Arrays come before the ones for their contents
+    final boolean shredContents = (pathBuilder != null) && shredValue(indexable, pathBuilder);
+
+    if (value.isObject()) {
+      traverseObject(
+          (ObjectNode) value,
+          (ObjectNode) indexable,
+          referringPropertyName,
+          depth,
+          pathLength,
+          validate,
+          shredContents ? pathBuilder.nestedObjectBuilder() : null);
+    } else if (value.isArray()) {
+      traverseArray(
+          (ArrayNode) value,
+          (ArrayNode) indexable,
+          referringPropertyName,
+          depth,
+          pathLength,
+          validate,
+          shredContents ? pathBuilder.nestedArrayBuilder() : null);
+    } else {
+      if (indexable != null && indexableValueFailure == null && value.isTextual()) {
+        try {
+          indexableValueValidator.validateStringValue(referringPropertyName, value.textValue());
+        } catch (RuntimeException e) {
+          indexableValueFailure = e;
+        }
+      }
+      // Important! Must use configured serialization, same as for the whole document
+      value.serialize(generator, serializers);
+    }
+  }
+
+  /**
+   * Calls the listener for the indexable value, unless the document already failed.
+   *
+   * @return Whether contents of the value, if any, are to be shredded
+   */
+  private boolean shredValue(JsonNode value, JsonPath.Builder pathBuilder) {
+    if (indexableValueFailure != null || shredFailure != null) {
+      return false;
+    }
+    try {
+      final JsonPath path = pathBuilder.build();
+      final String pathAsString = path.toString();
+
+      if (pathAsString.equals(DocumentConstants.Fields.VECTOR_EMBEDDING_FIELD)) {
+        Shredder.traverseVector(path, value, callback);
+        return false;
+      }
+      if (pathAsString.equals(DocumentConstants.Fields.VECTOR_EMBEDDING_TEXT_FIELD)) {
+        Shredder.traverseVectorize(path, value, callback);
+        return false;
+      }
+      if (value.isObject()) {
+        return callback.shredObject(path, (ObjectNode) value);
+      }
+      if (value.isArray()) {
+        callback.shredArray(path, (ArrayNode) value);
+        return true;
+      }
+      if (value.isTextual()) {
+        callback.shredText(path, value.textValue());
+      } else if (value.isNumber()) {
+        callback.shredNumber(path, value.decimalValue());
+      } else if (value.isBoolean()) {
+        callback.shredBoolean(path, value.booleanValue());
+      } else if (value.isNull()) {
+        callback.shredNull(path);
+      } else {
+        throw ErrorCode.SHRED_UNRECOGNIZED_NODE_TYPE.toApiException(value.getNodeType().toString());
+      }
+    } catch (RuntimeException e) {
+      shredFailure = e;
+    }
+    return false;
+  }
+}
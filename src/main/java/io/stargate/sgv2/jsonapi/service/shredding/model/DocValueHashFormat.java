@@ -0,0 +1,48 @@
+package io.stargate.sgv2.jsonapi.service.shredding.model;
+
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+
+/**
+ * Versions of the {@link DocValueHash} format used for Arrays and sub-documents, stored in the
+ * <code>array_contains</code> and <code>query_text_values</code> columns. Format of a collection is
+ * recorded in its settings, and the same format must be used both when shredding documents and
+ * when building the filters, so collections created before a new format keep working.
+ *
+ * <p>Hashes of atomic values are the same in all formats.
+ */
+public enum DocValueHashFormat {
+  /**
+   * Hash calculated from the concatenation of the type prefix, the element count and the hashes of
+   * the elements (and names of the properties, for sub-documents): used as-is if shorter than 22
+   * characters, MD5 hash of it otherwise.
+   */
+  V1(1),
+
+  /**
+   * Incremental 128-bit Murmur3 digest of the same contents as {@link #V1}, without building the
+   * concatenation, encoded as a fixed-width 22 character Base64 String.
+   */
+  V2(2);
+
+  private final int version;
+
+  DocValueHashFormat(int version) {
+    this.version = version;
+  }
+
+  /**
+   * @return Version stored in the table comment of the collection
+   */
+  public int version() {
+    return version;
+  }
+
+  public static DocValueHashFormat fromVersion(int version) {
+    for (DocValueHashFormat format : values()) {
+      if (format.version == version) {
+        return format;
+      }
+    }
+    throw ErrorCode.INVALID_SCHEMA_VERSION.toApiException();
+  }
+}
@@ -3,11 +3,15 @@ package io.stargate.sgv2.jsonapi.service.shredding.model;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import io.stargate.sgv2.jsonapi.util.JsonUtil;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -18,12 +22,21 @@ import java.util.Map;
  * Helper class used to efficiently calculate {@link DocValueHash} on input documents as part of
  * shredding or query preparation.
  *
+ * <p>Hashes of Arrays and sub-documents are calculated in the given {@link DocValueHashFormat},
+ * which must be the format of the collection.
+ *
  * <p>Instances are stateful and not designed thread-safe: instances meant to be used from a single
  * thread, one instance per processing of a Command.
  */
 public class DocValueHasher {
   private static final char LINE_SEPARATOR = '\n';
 
+  private static final HashFunction DIGEST_FUNCTION = Hashing.murmur3_128();
+
+  private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder().withoutPadding();
+
+  private final DocValueHashFormat format;
+
   /**
    * Simple reuse cache to avoid re-calculating hashes for nested Arrays and sub-documents. Not used
    * for atomic {@link JsonNode}s (they use cheaper map)
@@ -36,6 +49,19 @@ public class DocValueHasher {
    */
   final AtomicValues atomics = new AtomicValues();
 
+  /** Constructs hasher for the original {@link DocValueHashFormat#V1} format. */
+  public DocValueHasher() {
+    this(DocValueHashFormat.V1);
+  }
+
+  public DocValueHasher(DocValueHashFormat format) {
+    this.format = format;
+  }
+
+  public DocValueHashFormat format() {
+    return format;
+  }
+
   public DocValueHash hash(JsonNode value) {
     return switch (value.getNodeType()) {
       case ARRAY -> arrayHash((ArrayNode) value);
@@ -111,6 +137,13 @@ public class DocValueHasher {
    */
 
   DocValueHash calcArrayHash(ArrayNode n) {
+    if (format == DocValueHashFormat.V2) {
+      Hasher digest = startDigest(DocValueType.ARRAY, n.size());
+      for (JsonNode element : n) {
+        putHash(digest, hash(element));
+      }
+      return digestHash(DocValueType.ARRAY, digest);
+    }
     // Array hash consists of header line (type prefix + element count)
     // followed by one line per element, containing element hash.
     // Lines are separated by linefeeds; no trailing linefeed
@@ -128,6 +161,13 @@ public class DocValueHasher {
   }
 
   private DocValueHash arrayHash(List<Object> arrayData) {
+    if (format == DocValueHashFormat.V2) {
+      Hasher digest = startDigest(DocValueType.ARRAY, arrayData.size());
+      for (Object arrayValue : arrayData) {
+        putHash(digest, getHash(arrayValue));
+      }
+      return digestHash(DocValueType.ARRAY, digest);
+    }
     // Array hash consists of header line (type prefix + element count)
     // followed by one line per element, containing element hash.
     // Lines are separated by linefeeds; no trailing linefeed
@@ -144,6 +184,14 @@ public class DocValueHasher {
   }
 
   private DocValueHash calcObjectHash(ObjectNode n) {
+    if (format == DocValueHashFormat.V2) {
+      Hasher digest = startDigest(DocValueType.OBJECT, n.size());
+      for (Map.Entry<String, JsonNode> entry : n.properties()) {
+        putString(digest, entry.getKey());
+        putHash(digest, hash(entry.getValue()));
+      }
+      return digestHash(DocValueType.OBJECT, digest);
+    }
     // Array hash consists of header line (type prefix + element count)
     // followed by two line per element, containing name (NOT path!) on first line
     // and element hash on second.
@@ -167,6 +215,14 @@ public class DocValueHasher {
   }
 
   private DocValueHash objectHash(Map<String, Object> n) {
+    if (format == DocValueHashFormat.V2) {
+      Hasher digest = startDigest(DocValueType.OBJECT, n.size());
+      for (Map.Entry<String, Object> entry : n.entrySet()) {
+        putString(digest, entry.getKey());
+        putHash(digest, getHash(entry.getValue()));
+      }
+      return digestHash(DocValueType.OBJECT, digest);
+    }
     // Array hash consists of header line (type prefix + element count)
     // followed by two line per element, containing name (NOT path!) on first line
     // and element hash on second.
@@ -187,6 +243,31 @@ public class DocValueHasher {
     return DocValueHash.constructBoundedHash(DocValueType.OBJECT, sb.toString());
   }
 
+  /*
+  /**********************************************************************
+  /* Digest calculation for the V2 format
+  /**********************************************************************
+   */
+
+  // Header is same as for V1: type prefix and element count
+  private static Hasher startDigest(DocValueType type, int size) {
+    return DIGEST_FUNCTION.newHasher().putChar(type.prefix()).putInt(size);
+  }
+
+  // Property names and child hashes are length-prefixed so that no separator is needed
+  private static void putString(Hasher digest, String value) {
+    digest.putInt(value.length()).putUnencodedChars(value);
+  }
+
+  private static void putHash(Hasher digest, DocValueHash childHash) {
+    putString(digest, childHash.hash());
+  }
+
+  private static DocValueHash digestHash(DocValueType type, Hasher digest) {
+    // 16 bytes of the digest Base64-encoded without padding: always 22 characters
+    return new DocValueHash(type, false, BASE64_ENCODER.encodeToString(digest.hash().asBytes()));
+  }
+
   private static final byte true_byte = (byte) 1;
 
   public DocValueHash getHash(Object value) {
@@ -10,6 +10,7 @@ import io.stargate.sgv2.jsonapi.service.shredding.JsonPath;
 import io.stargate.sgv2.jsonapi.service.shredding.ShredListener;
 import io.stargate.sgv2.jsonapi.util.JsonUtil;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -24,6 +25,10 @@ import java.util.UUID;
 /**
  * The fully shredded document, everything we need to write the document. Override of hashcode and
  * equals methods is needed to handle queryVectorValues array field.
+ *
+ * <p>Index values are collected in the types of the CQL columns they are written to, keyed by the
+ * encoded path of the value ({@link JsonPath#toString()}), so that they are bound to the statements
+ * as-is: booleans as <code>tinyint</code> (1 for true, 0 for false), timestamps as {@link Instant}.
  */
 public record WritableShreddedDocument(
     /**
@@ -35,14 +40,14 @@ public record WritableShreddedDocument(
     UUID txID,
     String docJson,
     JsonNode docJsonNode,
-    Set<JsonPath> existKeys,
-    Map<JsonPath, Integer> arraySize,
+    Set<String> existKeys,
+    Map<String, Integer> arraySize,
     Set<String> arrayContains,
-    Map<JsonPath, Boolean> queryBoolValues,
-    Map<JsonPath, BigDecimal> queryNumberValues,
-    Map<JsonPath, String> queryTextValues,
-    Map<JsonPath, Date> queryTimestampValues,
-    Set<JsonPath> queryNullValues,
+    Map<String, Byte> queryBoolValues,
+    Map<String, BigDecimal> queryNumberValues,
+    Map<String, String> queryTextValues,
+    Map<String, Instant> queryTimestampValues,
+    Set<String> queryNullValues,
     float[] queryVectorValues,
     UUID nextTxID) {
 
@@ -86,8 +91,22 @@ public record WritableShreddedDocument(
     return result;
   }
 
-  public static Builder builder(DocumentId id, UUID txID, String docJson, JsonNode docJsonNode) {
-    return new Builder(id, txID, docJson, docJsonNode);
+  public static Builder builder(
+      DocumentId id,
+      UUID txID,
+      String docJson,
+      JsonNode docJsonNode,
+      DocValueHashFormat hashFormat) {
+    return new Builder(id, txID, Objects.requireNonNull(docJson), docJsonNode, hashFormat);
+  }
+
+  /**
+   * Factory method for the builder used when the serialized document is produced while the document
+   * is traversed: {@link Builder#docJson(String)} must be called before {@link Builder#build()}.
+   */
+  public static Builder builder(
+      DocumentId id, UUID txID, JsonNode docJsonNode, DocValueHashFormat hashFormat) {
+    return new Builder(id, txID, null, docJsonNode, hashFormat);
   }
 
   /**
@@ -104,31 +123,41 @@ public record WritableShreddedDocument(
     private final DocumentId id;
     private final UUID txID;
 
-    private final String docJson;
+    private String docJson;
     private final JsonNode docJsonNode;
 
-    private final Set<JsonPath> existKeys;
+    private final Set<String> existKeys;
 
-    private Map<JsonPath, Integer> arraySize;
+    private Map<String, Integer> arraySize;
     private Set<String> arrayContains;
 
-    private Map<JsonPath, Boolean> queryBoolValues;
-    private Map<JsonPath, BigDecimal> queryNumberValues;
-    private Map<JsonPath, String> queryTextValues;
-    private Map<JsonPath, Date> queryTimestampValues;
-    private Set<JsonPath> queryNullValues;
+    private Map<String, Byte> queryBoolValues;
+    private Map<String, BigDecimal> queryNumberValues;
+    private Map<String, String> queryTextValues;
+    private Map<String, Instant> queryTimestampValues;
+    private Set<String> queryNullValues;
 
     private float[] queryVectorValues;
 
-    public Builder(DocumentId id, UUID txID, String docJson, JsonNode docJsonNode) {
-      hasher = new DocValueHasher();
+    public Builder(
+        DocumentId id,
+        UUID txID,
+        String docJson,
+        JsonNode docJsonNode,
+        DocValueHashFormat hashFormat) {
+      hasher = new DocValueHasher(hashFormat);
       this.id = id;
       this.txID = txID;
-      this.docJson = Objects.requireNonNull(docJson);
+      this.docJson = docJson;
       this.docJsonNode = docJsonNode;
       existKeys = new LinkedHashSet<>(); // retain document order
     }
 
+    public Builder docJson(String docJson) {
+      this.docJson = docJson;
+      return this;
+    }
+
     /**
      * Method called once all shred information has been collected, to produce immutable instance.
      *
@@ -138,7 +167,7 @@ public record WritableShreddedDocument(
       return new WritableShreddedDocument(
           id,
           txID,
-          docJson,
+          Objects.requireNonNull(docJson),
           docJsonNode,
           existKeys,
           _nonNull(arraySize),
@@ -152,7 +181,7 @@ public record WritableShreddedDocument(
           Uuids.timeBased());
     }
 
-    private <T> Map<JsonPath, T> _nonNull(Map<JsonPath, T> map) {
+    private <T> Map<String, T> _nonNull(Map<String, T> map) {
       return (map == null) ? Collections.emptyMap() : map;
     }
 
@@ -197,29 +226,29 @@ public record WritableShreddedDocument(
             "unrecognized extended JSON type '%s' (path '%s')", obj.fieldNames().next(), path);
       }
 
-      addKey(path);
+      final String key = addKey(path);
 
       // User text column
       if (queryTextValues == null) {
         queryTextValues = new HashMap<>();
       }
-      queryTextValues.put(path, hasher.hash(obj).hash());
+      queryTextValues.put(key, hasher.hash(obj).hash());
 
       return true; // proceed to shred individual entries too
     }
 
     private void shredTimestamp(JsonPath path, Date dtValue) {
-      addKey(path);
+      final String key = addKey(path);
       if (queryTimestampValues == null) {
         queryTimestampValues = new HashMap<>();
       }
-      queryTimestampValues.put(path, dtValue);
-      addArrayContains(path, hasher.timestampValue(dtValue).hash());
+      queryTimestampValues.put(key, dtValue.toInstant());
+      addArrayContains(path, key, hasher.timestampValue(dtValue).hash());
     }
 
     @Override
     public void shredArray(JsonPath path, ArrayNode arr) {
-      addKey(path);
+      final String key = addKey(path);
       if (arraySize == null) { // all initialized the first time one needed
         arraySize = new HashMap<>();
       }
@@ -227,67 +256,67 @@ public record WritableShreddedDocument(
         queryTextValues = new HashMap<>();
       }
       // arrayEquals (full array contents hash) and arraySize are simple to generate
-      arraySize.put(path, arr.size());
+      arraySize.put(key, arr.size());
 
       DocValueHash arrHasher = hasher.hash(arr);
-      queryTextValues.put(path, arrHasher.hash());
+      queryTextValues.put(key, arrHasher.hash());
 
       // But arrayContains is bit different: must use path to array (not elements);
       // and for atomics need to avoid generating twice
       for (JsonNode element : arr) {
-        addArrayContains(path, hasher.hash(element));
+        addArrayContains(path, key, hasher.hash(element));
       }
     }
 
     @Override
     public void shredText(JsonPath path, String text) {
-      addKey(path);
+      final String key = addKey(path);
       if (queryTextValues == null) {
         queryTextValues = new HashMap<>();
       }
-      queryTextValues.put(path, text);
+      queryTextValues.put(key, text);
       // Only add if NOT directly in array (because if so, containing array has already added)
       // if (!path.isArrayElement()) {
-      addArrayContains(path, hasher.stringValue(text).hash());
+      addArrayContains(path, key, hasher.stringValue(text).hash());
       // }
     }
 
     @Override
     public void shredNumber(JsonPath path, BigDecimal number) {
-      addKey(path);
+      final String key = addKey(path);
       if (queryNumberValues == null) {
         queryNumberValues = new HashMap<>();
       }
-      queryNumberValues.put(path, number);
+      queryNumberValues.put(key, number);
       // Only add if NOT directly in array (because if so, containing array has already added)
       // if (!path.isArrayElement()) {
-      addArrayContains(path, hasher.numberValue(number).hash());
+      addArrayContains(path, key, hasher.numberValue(number).hash());
       // }
     }
 
     @Override
     public void shredBoolean(JsonPath path, boolean value) {
-      addKey(path);
+      final String key = addKey(path);
       if (queryBoolValues == null) {
         queryBoolValues = new HashMap<>();
       }
-      queryBoolValues.put(path, value);
+      queryBoolValues.put(key, (byte) (value ? 1 : 0));
       // Only add if NOT directly in array (because if so, containing array has already added)
       // if (!path.isArrayElement()) {
-      addArrayContains(path, hasher.booleanValue(value).hash());
+      addArrayContains(path, key, hasher.booleanValue(value).hash());
       // }
     }
 
     @Override
     public void shredNull(JsonPath path) {
-      addKey(path);
+      final String key = addKey(path);
       if (queryNullValues == null) {
         queryNullValues = new HashSet<>();
       }
-      queryNullValues.add(path);
+      queryNullValues.add(key);
       // Only add if NOT directly in array (because if so, containing array has already added)
       // if (!path.isArrayElement()) {
-      addArrayContains(path, hasher.nullValue().hash());
+      addArrayContains(path, key, hasher.nullValue().hash());
       // }
     }
 
@@ -341,10 +370,13 @@ public record WritableShreddedDocument(
      *
      * <p>Method will add path to {@link #existKeys}.
      *
-     * @param key
+     * @param path Path to add
+     * @return Encoded path, used as the key of the path in all the index values
      */
-    private void addKey(JsonPath key) {
+    private String addKey(JsonPath path) {
+      final String key = path.toString();
       existKeys.add(key);
+      return key;
     }
 
     /**
@@ -354,15 +386,16 @@ public record WritableShreddedDocument(
      *
      * @param path Path to either Array that contains Element (but not index!) OR to an Atomic value
      *     not directly enclosed in an array.
+     * @param key Encoded path
      * @param elementHash Hash of value matching the path
      */
-    private void addArrayContains(JsonPath path, DocValueHash elementHash) {
+    private void addArrayContains(JsonPath path, String key, DocValueHash elementHash) {
       // Do not add doc id field (we do not support Structured doc ids)
       if (!path.isDocumentId()) {
         if (arrayContains == null) {
           arrayContains = new HashSet<>();
         }
-        arrayContains.add(path + " " + elementHash.hash());
+        arrayContains.add(key + " " + elementHash.hash());
       }
     }
   }
@@ -0,0 +1,75 @@
+package io.stargate.sgv2.jsonapi.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.smallrye.mutiny.Uni;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Bounded thread pool for the CPU bound work kept off the event loop and the driver I/O threads.
+ * When disabled, the work stays on the thread it would run on without the pool.
+ *
+ * <p>Pool is instrumented with the Micrometer {@link ExecutorServiceMetrics}, tagged with the name
+ * of the pool: <code>executor</code> for the time spent processing, <code>executor.idle</code> for
+ * the time spent waiting for a thread, and the pool and queue sizes.
+ */
+public class InstrumentedExecutor {
+
+  /** Pool the work runs on, {@code null} if disabled. */
+  private final ExecutorService executor;
+
+  /**
+   * @param enabled If the pool is enabled
+   * @param poolName Name of the pool, used for the thread names and as the metrics tag
+   * @param threads Number of threads of the pool, defaults to the number of available processors
+   * @param meterRegistry Registry of the pool metrics
+   */
+  public InstrumentedExecutor(
+      boolean enabled, String poolName, Optional<Integer> threads, MeterRegistry meterRegistry) {
+    if (enabled) {
+      executor =
+          ExecutorServiceMetrics.monitor(
+              meterRegistry,
+              Executors.newFixedThreadPool(
+                  threads.orElseGet(() -> Runtime.getRuntime().availableProcessors()),
+                  new ThreadFactoryBuilder()
+                      .setNameFormat(poolName + "-%d")
+                      .setDaemon(true)
+                      .build()),
+              poolName);
+    } else {
+      executor = null;
+    }
+  }
+
+  /** @return If the pool is enabled. */
+  public boolean isEnabled() {
+    return executor != null;
+  }
+
+  /**
+   * @param uni Uni to emit on the pool
+   * @return Same Uni, emitting on the pool; or given Uni as-is if the pool is disabled
+   */
+  public <T> Uni<T> emitOn(Uni<T> uni) {
+    return (executor == null) ? uni : uni.emitOn(executor);
+  }
+
+  /**
+   * @param uni Uni to subscribe to on the pool
+   * @return Same Uni, subscribed to on the pool; or given Uni as-is if the pool is disabled
+   */
+  public <T> Uni<T> runSubscriptionOn(Uni<T> uni) {
+    return (executor == null) ? uni : uni.runSubscriptionOn(executor);
+  }
+
+  /** Shuts the pool down, if enabled. */
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+}
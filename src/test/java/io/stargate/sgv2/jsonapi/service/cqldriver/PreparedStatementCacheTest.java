@@ -0,0 +1,91 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PreparedStatementCacheTest {
+
+  private static final String QUERY = "SELECT key, tx_id FROM \"ks\".\"col\" WHERE key = ?";
+
+  private MeterRegistry meterRegistry;
+
+  private CqlSession session;
+
+  private PreparedStatement prepared;
+
+  @BeforeEach
+  public void init() {
+    meterRegistry = new SimpleMeterRegistry();
+    session = mock(CqlSession.class);
+    prepared = mock(PreparedStatement.class);
+    when(session.prepareAsync(anyString()))
+        .then(invocation -> CompletableFuture.completedFuture(prepared));
+  }
+
+  @Test
+  public void prepareOncePerQuery() {
+    PreparedStatementCache cache = new PreparedStatementCache(session, 10, meterRegistry);
+
+    PreparedStatement first =
+        cache.prepare(SimpleStatement.newInstance(QUERY, "a")).toCompletableFuture().join();
+    PreparedStatement second =
+        cache.prepare(SimpleStatement.newInstance(QUERY, "b")).toCompletableFuture().join();
+
+    assertThat(first).isSameAs(prepared);
+    assertThat(second).isSameAs(prepared);
+    verify(session, times(1)).prepareAsync(QUERY);
+    assertThat(lookups("hit")).isEqualTo(1.0);
+    assertThat(lookups("miss")).isEqualTo(1.0);
+    assertThat(meterRegistry.find(PreparedStatementCache.PREPARE_DURATION_METRIC).timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void invalidateForcesPrepare() {
+    PreparedStatementCache cache = new PreparedStatementCache(session, 10, meterRegistry);
+
+    cache.prepare(SimpleStatement.newInstance(QUERY)).toCompletableFuture().join();
+    cache.invalidate(QUERY);
+    cache.prepare(SimpleStatement.newInstance(QUERY)).toCompletableFuture().join();
+
+    verify(session, times(2)).prepareAsync(QUERY);
+    assertThat(lookups("miss")).isEqualTo(2.0);
+  }
+
+  @Test
+  public void failedPrepareNotCached() {
+    when(session.prepareAsync(anyString()))
+        .then(invocation -> CompletableFuture.failedFuture(new IllegalStateException("boom")))
+        .then(invocation -> CompletableFuture.completedFuture(prepared));
+    PreparedStatementCache cache = new PreparedStatementCache(session, 10, meterRegistry);
+
+    assertThat(cache.prepare(SimpleStatement.newInstance(QUERY)).toCompletableFuture())
+        .isCompletedExceptionally();
+    PreparedStatement result =
+        cache.prepare(SimpleStatement.newInstance(QUERY)).toCompletableFuture().join();
+
+    assertThat(result).isSameAs(prepared);
+    verify(session, times(2)).prepareAsync(QUERY);
+  }
+
+  private double lookups(String result) {
+    return meterRegistry
+        .find(PreparedStatementCache.LOOKUPS_METRIC)
+        .tag(PreparedStatementCache.RESULT_TAG, result)
+        .counter()
+        .count();
+  }
+}
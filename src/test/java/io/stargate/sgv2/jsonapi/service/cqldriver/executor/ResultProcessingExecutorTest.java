@@ -0,0 +1,73 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ResultProcessingExecutorTest {
+
+  private MeterRegistry meterRegistry;
+
+  private ResultProcessingExecutor executor;
+
+  @BeforeEach
+  public void init() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void emitsOnPool() {
+    executor = new ResultProcessingExecutor(config(true), meterRegistry);
+    // completed by another thread, like the driver I/O thread
+    CompletableFuture<String> result = new CompletableFuture<>();
+    Uni<String> processed =
+        executor
+            .emitOn(Uni.createFrom().completionStage(result))
+            .map(value -> value + " on " + Thread.currentThread().getName());
+    CompletableFuture<String> processedFuture = processed.subscribeAsCompletionStage();
+    new Thread(() -> result.complete("result"), "driver-io").start();
+
+    assertThat(processedFuture.join())
+        .startsWith("result on " + ResultProcessingExecutor.POOL_NAME + "-");
+    // execution time is recorded once the task completes, just check the pool is instrumented
+    assertThat(
+            meterRegistry.find("executor").tag("name", ResultProcessingExecutor.POOL_NAME).timer())
+        .isNotNull();
+  }
+
+  @Test
+  public void disabled() {
+    executor = new ResultProcessingExecutor(config(false), meterRegistry);
+    Uni<String> result = Uni.createFrom().item("result");
+
+    assertThat(executor.emitOn(result)).isSameAs(result);
+    assertThat(result.await().atMost(Duration.ofSeconds(1))).isEqualTo("result");
+    assertThat(meterRegistry.find("executor").timer()).isNull();
+  }
+
+  private static OperationsConfig config(boolean enabled) {
+    OperationsConfig config = mock(OperationsConfig.class, RETURNS_DEEP_STUBS);
+    when(config.resultProcessing().executorEnabled()).thenReturn(enabled);
+    when(config.resultProcessing().executorThreads()).thenReturn(Optional.of(2));
+    return config;
+  }
+}
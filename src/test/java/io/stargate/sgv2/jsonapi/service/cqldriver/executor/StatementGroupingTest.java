@@ -0,0 +1,86 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class StatementGroupingTest {
+
+  private final Node node1 = mock(Node.class);
+
+  private final Node node2 = mock(Node.class);
+
+  private final Map<ByteBuffer, Node> owners = new HashMap<>();
+
+  private final TokenMap tokenMap = mock(TokenMap.class);
+
+  {
+    when(tokenMap.getReplicas(any(CqlIdentifier.class), any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              Node owner = owners.get(invocation.<ByteBuffer>getArgument(1));
+              return owner == null ? Set.of() : Set.of(owner);
+            });
+  }
+
+  @Test
+  public void groupReplicas() {
+    SimpleStatement doc1 = selectByKey("doc1", node1);
+    SimpleStatement doc2 = selectByKey("doc2", node2);
+    SimpleStatement doc3 = selectByKey("doc3", node1);
+    SimpleStatement doc4 = selectByKey("doc4", node2);
+    SimpleStatement doc5 = selectByKey("doc5", node1);
+
+    List<List<SimpleStatement>> result =
+        StatementGrouping.groupByReplica(List.of(doc1, doc2, doc3, doc4, doc5), tokenMap);
+
+    assertThat(result).containsExactly(List.of(doc1, doc3, doc5), List.of(doc2, doc4));
+  }
+
+  @Test
+  public void unknownReplicaGroupedAlone() {
+    SimpleStatement doc1 = selectByKey("doc1", node1);
+    SimpleStatement doc2 = selectByKey("doc2", null);
+    SimpleStatement doc3 = selectByKey("doc3", null);
+    SimpleStatement doc4 = selectByKey("doc4", node1);
+    SimpleStatement notRouted =
+        SimpleStatement.newInstance(
+            "SELECT key, tx_id, doc_json FROM \"ks\".\"col\" WHERE array_contains CONTAINS ?",
+            "username Suser1");
+
+    List<List<SimpleStatement>> result =
+        StatementGrouping.groupByReplica(List.of(doc1, doc2, doc3, doc4, notRouted), tokenMap);
+
+    assertThat(result)
+        .containsExactly(List.of(doc1, doc4), List.of(doc2), List.of(doc3), List.of(notRouted));
+  }
+
+  private SimpleStatement selectByKey(String id, Node owner) {
+    TupleValue key = CQLBindValues.getDocumentIdValue(DocumentId.fromString(id));
+    SimpleStatement statement =
+        StatementRouting.routeToKey(
+            SimpleStatement.newInstance(
+                "SELECT key, tx_id, doc_json FROM \"ks\".\"col\" WHERE key = ? LIMIT 1", key),
+            "ks",
+            key);
+    if (owner != null) {
+      owners.put(statement.getRoutingKey(), owner);
+    }
+    return statement;
+  }
+}
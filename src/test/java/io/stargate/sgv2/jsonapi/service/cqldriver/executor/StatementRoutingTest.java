@@ -0,0 +1,42 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import org.junit.jupiter.api.Test;
+
+public class StatementRoutingTest {
+
+  private final TupleValue key = CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc1"));
+
+  @Test
+  public void routeToKey() {
+    SimpleStatement statement =
+        SimpleStatement.newInstance(
+            "SELECT key, tx_id FROM \"ks\".\"col\" WHERE key = ? LIMIT 1", key);
+
+    SimpleStatement routed = StatementRouting.routeToKey(statement, "ks", key);
+
+    assertThat(routed.getRoutingKeyspace()).isEqualTo(CqlIdentifier.fromInternal("ks"));
+    assertThat(routed.getRoutingKey())
+        .isEqualTo(TypeCodecs.tupleOf(key.getType()).encode(key, ProtocolVersion.DEFAULT));
+    assertThat(routed.getQuery()).isEqualTo(statement.getQuery());
+    assertThat(routed.getPositionalValues()).containsExactly(key);
+  }
+
+  @Test
+  public void caseSensitiveKeyspace() {
+    SimpleStatement statement =
+        SimpleStatement.newInstance("DELETE FROM \"Ks\".\"col\" WHERE key = ?", key);
+
+    SimpleStatement routed = StatementRouting.routeToKey(statement, "Ks", key);
+
+    assertThat(routed.getRoutingKeyspace()).isEqualTo(CqlIdentifier.fromCql("\"Ks\""));
+  }
+}
@@ -0,0 +1,296 @@
+package io.stargate.sgv2.jsonapi.service.cqldriver.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.TupleValue;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
+import io.stargate.sgv2.jsonapi.service.schema.model.JsonapiTableMatcher;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryCqlSessionTest {
+
+  private static final String INSERT =
+      "INSERT INTO \"ks\".\"col\" (key, tx_id, doc_json, query_text_values, query_null_values,"
+          + " query_vector_value) VALUES (?, ?, ?, ?, ?, ?) IF NOT EXISTS";
+
+  private InMemoryCqlSession session;
+
+  @BeforeEach
+  public void init() {
+    session = new InMemoryCqlSession("test", new InMemoryStorage(), Duration.ZERO, 100);
+    execute(
+        "CREATE KEYSPACE IF NOT EXISTS \"ks\" WITH REPLICATION = {'class': 'SimpleStrategy',"
+            + " 'replication_factor': 1}");
+    execute(
+        "CREATE TABLE IF NOT EXISTS \"ks\".\"col\" ("
+            + "    key                 tuple<tinyint,text>,"
+            + "    tx_id               timeuuid, "
+            + "    doc_json            text,"
+            + "    exist_keys          set<text>,"
+            + "    array_size          map<text, int>,"
+            + "    array_contains      set<text>,"
+            + "    query_bool_values   map<text, tinyint>,"
+            + "    query_dbl_values    map<text, decimal>,"
+            + "    query_text_values   map<text, text>, "
+            + "    query_timestamp_values map<text, timestamp>, "
+            + "    query_null_values   set<text>,     "
+            + "    query_vector_value  VECTOR<FLOAT, 2>, "
+            + "    PRIMARY KEY (key)) WITH comment = '{\"collection\":{\"name\":\"col\"}}'");
+    execute(
+        "CREATE CUSTOM INDEX IF NOT EXISTS col_query_null_values ON \"ks\".\"col\""
+            + " (query_null_values) USING 'StorageAttachedIndex'");
+    execute(
+        "CREATE CUSTOM INDEX IF NOT EXISTS col_query_vector_value ON \"ks\".\"col\""
+            + " (query_vector_value) USING 'StorageAttachedIndex'"
+            + " WITH OPTIONS = { 'similarity_function': 'dot_product'}");
+  }
+
+  @AfterEach
+  public void close() {
+    session.close();
+  }
+
+  @Test
+  public void collectionSchema() {
+    TableMetadata table =
+        session.getMetadata().getKeyspace("ks").orElseThrow().getTable("col").orElseThrow();
+
+    assertThat(new JsonapiTableMatcher().test(table)).isTrue();
+    assertThat(table.getOptions().get(CqlIdentifier.fromInternal("comment")))
+        .isEqualTo("{\"collection\":{\"name\":\"col\"}}");
+    assertThat(table.getIndexes().keySet())
+        .contains(CqlIdentifier.fromInternal("col_query_vector_value"));
+  }
+
+  @Test
+  public void insertIfNotExists() {
+    assertThat(insert("doc1", "a", 1f, 0f).wasApplied()).isTrue();
+
+    AsyncResultSet conflict = insert("doc1", "b", 1f, 0f);
+
+    assertThat(conflict.wasApplied()).isFalse();
+    assertThat(select("WHERE key = ?", key("doc1")).get(0).getString("doc_json"))
+        .isEqualTo("{\"_id\":\"doc1\",\"name\":\"a\"}");
+  }
+
+  @Test
+  public void filterAndConditionalUpdate() {
+    insert("doc1", "a", 1f, 0f);
+    insert("doc2", "b", 0f, 1f);
+
+    List<Row> rows = select("WHERE query_text_values[?] = ? LIMIT 10", "name", "b");
+    assertThat(rows).hasSize(1);
+    assertThat(rows.get(0).getTupleValue("key").getString(1)).isEqualTo("doc2");
+    assertThat(select("WHERE query_null_values CONTAINS ? LIMIT 10", "optional")).hasSize(2);
+
+    UUID txId = rows.get(0).getUuid("tx_id");
+    String update =
+        "UPDATE \"ks\".\"col\" SET tx_id = now(), doc_json = ? WHERE key = ? IF tx_id = ?";
+    assertThat(execute(update, "{}", key("doc2"), Uuids.timeBased()).wasApplied()).isFalse();
+    assertThat(execute(update, "{}", key("doc2"), txId).wasApplied()).isTrue();
+    Row updated = select("WHERE key = ?", key("doc2")).get(0);
+    assertThat(updated.getString("doc_json")).isEqualTo("{}");
+    assertThat(updated.getUuid("tx_id")).isNotEqualTo(txId);
+  }
+
+  @Test
+  public void selectByKeys() {
+    insert("doc1", "a", 1f, 0f);
+    insert("doc2", "b", 0f, 1f);
+    insert("doc3", "c", 1f, 1f);
+
+    List<Row> rows =
+        select("WHERE key IN ? LIMIT 10", List.of(key("doc3"), key("doc1"), key("missing")));
+    assertThat(rows)
+        .extracting(row -> row.getTupleValue("key").getString(1))
+        .containsExactlyInAnyOrder("doc1", "doc3");
+
+    PreparedStatement byKeys = prepare("SELECT doc_json FROM \"ks\".\"col\" WHERE key IN ?");
+    assertThat(byKeys.getVariableDefinitions().get(0).getType())
+        .isEqualTo(DataTypes.listOf(key("doc1").getType()));
+    assertThat(execute(byKeys.bind(List.of(key("doc2")))).one().getString("doc_json"))
+        .isEqualTo("{\"_id\":\"doc2\",\"name\":\"b\"}");
+  }
+
+  @Test
+  public void paging() {
+    for (int i = 0; i < 5; i++) {
+      insert("doc" + i, "a", 1f, i);
+    }
+    SimpleStatement statement =
+        SimpleStatement.newInstance("SELECT key FROM \"ks\".\"col\" LIMIT 10").setPageSize(2);
+
+    List<String> ids = new ArrayList<>();
+    AsyncResultSet page = session.executeAsync(statement).toCompletableFuture().join();
+    int pages = 1;
+    page.currentPage().forEach(row -> ids.add(row.getTupleValue(0).getString(1)));
+    while (page.hasMorePages()) {
+      page = page.fetchNextPage().toCompletableFuture().join();
+      pages++;
+      page.currentPage().forEach(row -> ids.add(row.getTupleValue(0).getString(1)));
+    }
+
+    assertThat(pages).isEqualTo(3);
+    assertThat(ids).containsExactlyInAnyOrder("doc0", "doc1", "doc2", "doc3", "doc4");
+  }
+
+  @Test
+  public void countAndSizeEstimates() {
+    for (int i = 0; i < 3; i++) {
+      insert("doc" + i, i == 0 ? "a" : "b", 1f, i);
+    }
+
+    Row count =
+        execute(
+                "SELECT COUNT(1) AS count FROM \"ks\".\"col\" WHERE query_text_values[?] = ?",
+                "name",
+                "b")
+            .one();
+    AsyncResultSet estimates =
+        execute(
+            "SELECT * FROM system.size_estimates WHERE keyspace_name = ? AND table_name = ?",
+            "ks",
+            "col");
+
+    assertThat(count.getLong("count")).isEqualTo(2);
+    long partitions = 0;
+    for (Row row : estimates.currentPage()) {
+      partitions += row.getLong("partitions_count");
+    }
+    assertThat(partitions).isEqualTo(3);
+  }
+
+  @Test
+  public void annSearch() {
+    insert("doc1", "a", 1f, 0f);
+    insert("doc2", "b", 0f, 1f);
+    insert("doc3", "c", 0.5f, 0.5f);
+
+    List<Row> rows = new ArrayList<>();
+    execute(
+            "SELECT key, similarity_dot_product(query_vector_value, ?) FROM \"ks\".\"col\""
+                + " ORDER BY query_vector_value ANN OF ? LIMIT 2",
+            vector(0f, 1f),
+            vector(0f, 1f))
+        .currentPage()
+        .forEach(rows::add);
+
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0).getTupleValue(0).getString(1)).isEqualTo("doc2");
+    assertThat(rows.get(1).getTupleValue(0).getString(1)).isEqualTo("doc3");
+    assertThat(rows.get(0).getFloat(1)).isEqualTo(1f);
+  }
+
+  @Test
+  public void preparedStatements() {
+    PreparedStatement insert = prepare(INSERT);
+    PreparedStatement select =
+        prepare(
+            "SELECT key, doc_json FROM \"ks\".\"col\" WHERE query_text_values[?] = ? LIMIT ?");
+    PreparedStatement byKey = prepare("SELECT doc_json FROM \"ks\".\"col\" WHERE key = ?");
+
+    BoundStatement boundInsert =
+        insert.bind(
+            key("doc1"),
+            Uuids.timeBased(),
+            "{\"_id\":\"doc1\",\"name\":\"a\"}",
+            Map.of("name", "a"),
+            Set.of("optional"),
+            vector(1f, 0f));
+    assertThat(boundInsert.getRoutingKeyspace()).isEqualTo(CqlIdentifier.fromInternal("ks"));
+    assertThat(boundInsert.getRoutingKey()).isNotNull();
+    assertThat(execute(boundInsert).wasApplied()).isTrue();
+
+    assertThat(select.getVariableDefinitions().get(0).getType()).isEqualTo(DataTypes.TEXT);
+    assertThat(select.getVariableDefinitions().get(2).getType()).isEqualTo(DataTypes.INT);
+    assertThat(select.getPartitionKeyIndices()).isEmpty();
+    Row row = execute(select.bind("name", "a", 10)).one();
+    assertThat(row.getTupleValue("key").getString(1)).isEqualTo("doc1");
+
+    assertThat(byKey.getPartitionKeyIndices()).containsExactly(0);
+    assertThat(execute(byKey.bind(key("doc1"))).one().getString("doc_json"))
+        .isEqualTo("{\"_id\":\"doc1\",\"name\":\"a\"}");
+  }
+
+  @Test
+  public void prepareUnknownTable() {
+    assertThatThrownBy(
+            () ->
+                session
+                    .prepareAsync("SELECT key FROM \"ks\".\"other\" WHERE key = ?")
+                    .toCompletableFuture()
+                    .join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(InvalidQueryException.class);
+  }
+
+  @Test
+  public void unknownTable() {
+    assertThatThrownBy(() -> execute("SELECT key FROM \"ks\".\"other\" LIMIT 1"))
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(InvalidQueryException.class);
+  }
+
+  private AsyncResultSet insert(String id, String name, float x, float y) {
+    return execute(
+        INSERT,
+        key(id),
+        Uuids.timeBased(),
+        "{\"_id\":\"%s\",\"name\":\"%s\"}".formatted(id, name),
+        Map.of("name", name),
+        Set.of("optional"),
+        vector(x, y));
+  }
+
+  private List<Row> select(String where, Object... values) {
+    List<Row> rows = new ArrayList<>();
+    execute("SELECT key, tx_id, doc_json FROM \"ks\".\"col\" " + where, values)
+        .currentPage()
+        .forEach(rows::add);
+    return rows;
+  }
+
+  private AsyncResultSet execute(String query, Object... values) {
+    return session
+        .executeAsync(SimpleStatement.newInstance(query, values))
+        .toCompletableFuture()
+        .join();
+  }
+
+  private PreparedStatement prepare(String query) {
+    return session.prepareAsync(query).toCompletableFuture().join();
+  }
+
+  private AsyncResultSet execute(BoundStatement statement) {
+    return session.executeAsync(statement).toCompletableFuture().join();
+  }
+
+  private static TupleValue key(String id) {
+    return CQLBindValues.getDocumentIdValue(DocumentId.fromString(id));
+  }
+
+  private static Object vector(float x, float y) {
+    return CQLBindValues.getVectorValue(new float[] {x, y});
+  }
+}
@@ -0,0 +1,133 @@
+package io.stargate.sgv2.jsonapi.service.embedding.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import io.stargate.sgv2.jsonapi.service.embedding.operation.EmbeddingProvider.EmbeddingRequestType;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchingEmbeddingProviderTest {
+
+  private static final EmbeddingRequestType SEARCH = EmbeddingRequestType.SEARCH;
+
+  private ScheduledExecutorService scheduler;
+
+  /** Texts vectorized by the provider, per call. */
+  private List<List<String>> calls;
+
+  /** Provider returning the length of each text, failing the calls with a "bad" text. */
+  private EmbeddingProvider countingProvider;
+
+  @BeforeEach
+  public void init() {
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    calls = new CopyOnWriteArrayList<>();
+    countingProvider =
+        (texts, apiKey, requestType) -> {
+          calls.add(List.copyOf(texts));
+          if (texts.contains("bad")) {
+            return Uni.createFrom()
+                .failure(ErrorCode.EMBEDDING_PROVIDER_INVALID_REQUEST.toApiException());
+          }
+          return Uni.createFrom()
+              .item(texts.stream().map(text -> new float[] {text.length()}).toList());
+        };
+  }
+
+  @AfterEach
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void batchConcurrentCalls() {
+    BatchingEmbeddingProvider provider = provider(countingProvider, Duration.ofMillis(50), 10);
+
+    CompletableFuture<List<float[]>> first = vectorize(provider, "a", Optional.empty());
+    CompletableFuture<List<float[]>> second = vectorize(provider, "bb", Optional.empty());
+
+    assertThat(first.join()).singleElement().satisfies(v -> assertThat(v).containsExactly(1f));
+    assertThat(second.join()).singleElement().satisfies(v -> assertThat(v).containsExactly(2f));
+    assertThat(calls).containsExactly(List.of("a", "bb"));
+  }
+
+  @Test
+  public void batchPerApiKey() {
+    BatchingEmbeddingProvider provider = provider(countingProvider, Duration.ofMillis(50), 10);
+
+    CompletableFuture<List<float[]>> first = vectorize(provider, "a", Optional.empty());
+    CompletableFuture<List<float[]>> second = vectorize(provider, "bb", Optional.of("key"));
+    first.join();
+    second.join();
+
+    assertThat(calls).containsExactlyInAnyOrder(List.of("a"), List.of("bb"));
+  }
+
+  @Test
+  public void sendFullBatchBeforeWindow() {
+    BatchingEmbeddingProvider provider = provider(countingProvider, Duration.ofMinutes(1), 2);
+
+    CompletableFuture<List<float[]>> first = vectorize(provider, "a", Optional.empty());
+    CompletableFuture<List<float[]>> second = vectorize(provider, "bb", Optional.empty());
+
+    assertThat(second.orTimeout(5, TimeUnit.SECONDS).join()).hasSize(1);
+    assertThat(first.join()).hasSize(1);
+    assertThat(calls).containsExactly(List.of("a", "bb"));
+  }
+
+  @Test
+  public void isolateInvalidRequest() {
+    BatchingEmbeddingProvider provider = provider(countingProvider, Duration.ofMillis(50), 10);
+
+    CompletableFuture<List<float[]>> good = vectorize(provider, "a", Optional.empty());
+    CompletableFuture<List<float[]>> bad = vectorize(provider, "bad", Optional.empty());
+
+    assertThat(good.join()).singleElement().satisfies(v -> assertThat(v).containsExactly(1f));
+    Throwable error = bad.handle((result, failure) -> failure).join();
+    assertThat(error).isInstanceOf(JsonApiException.class);
+    assertThat(((JsonApiException) error).getErrorCode())
+        .isEqualTo(ErrorCode.EMBEDDING_PROVIDER_INVALID_REQUEST);
+    assertThat(calls)
+        .containsExactlyInAnyOrder(List.of("a", "bad"), List.of("a"), List.of("bad"));
+  }
+
+  @Test
+  public void failBatchOnProviderError() {
+    EmbeddingProvider timingOutProvider =
+        (texts, apiKey, requestType) -> {
+          calls.add(List.copyOf(texts));
+          return Uni.createFrom().failure(ErrorCode.EMBEDDING_PROVIDER_TIMEOUT.toApiException());
+        };
+    BatchingEmbeddingProvider provider = provider(timingOutProvider, Duration.ofMillis(50), 10);
+
+    CompletableFuture<List<float[]>> first = vectorize(provider, "a", Optional.empty());
+    CompletableFuture<List<float[]>> second = vectorize(provider, "bb", Optional.empty());
+
+    assertThatThrownBy(first::join).hasCauseInstanceOf(JsonApiException.class);
+    assertThatThrownBy(second::join).hasCauseInstanceOf(JsonApiException.class);
+    assertThat(calls).containsExactly(List.of("a", "bb"));
+  }
+
+  private BatchingEmbeddingProvider provider(
+      EmbeddingProvider embeddingProvider, Duration window, int maxBatchSize) {
+    return new BatchingEmbeddingProvider(embeddingProvider, window, maxBatchSize, scheduler);
+  }
+
+  private static CompletableFuture<List<float[]>> vectorize(
+      BatchingEmbeddingProvider provider, String text, Optional<String> apiKey) {
+    return provider.vectorize(List.of(text), apiKey, SEARCH).subscribeAsCompletionStage();
+  }
+}
@@ -0,0 +1,126 @@
+package io.stargate.sgv2.jsonapi.service.embedding.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.service.embedding.operation.EmbeddingProvider.EmbeddingRequestType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingEmbeddingProviderTest {
+
+  private static final EmbeddingRequestType INDEX = EmbeddingRequestType.INDEX;
+
+  private static final EmbeddingRequestType SEARCH = EmbeddingRequestType.SEARCH;
+
+  private MeterRegistry meterRegistry;
+
+  private EmbeddingCache embeddingCache;
+
+  /** Texts vectorized by the provider, per call. */
+  private List<List<String>> calls;
+
+  private EmbeddingProvider countingProvider;
+
+  @BeforeEach
+  public void init() {
+    OperationsConfig operationsConfig = mock(OperationsConfig.class);
+    OperationsConfig.EmbeddingCacheConfig cacheConfig =
+        mock(OperationsConfig.EmbeddingCacheConfig.class);
+    when(operationsConfig.embeddingCache()).thenReturn(cacheConfig);
+    when(cacheConfig.enabled()).thenReturn(true);
+    when(cacheConfig.maxSizeBytes()).thenReturn(1024L * 1024);
+    when(cacheConfig.ttlSeconds()).thenReturn(3600L);
+    meterRegistry = new SimpleMeterRegistry();
+    embeddingCache = new EmbeddingCache(operationsConfig, meterRegistry);
+    calls = new ArrayList<>();
+    countingProvider =
+        (texts, apiKey, requestType) -> {
+          calls.add(List.copyOf(texts));
+          return Uni.createFrom()
+              .item(texts.stream().map(text -> new float[] {text.length(), 1f}).toList());
+        };
+  }
+
+  @Test
+  public void vectorizeDistinctTextsOnce() {
+    List<float[]> vectors =
+        provider("tenant")
+            .vectorize(List.of("a", "bb", "a"), Optional.empty(), INDEX)
+            .await()
+            .indefinitely();
+
+    assertThat(calls).containsExactly(List.of("a", "bb"));
+    assertThat(vectors).hasSize(3);
+    assertThat(vectors.get(0)).containsExactly(1f, 1f);
+    assertThat(vectors.get(1)).containsExactly(2f, 1f);
+    assertThat(vectors.get(2)).containsExactly(1f, 1f);
+  }
+
+  @Test
+  public void vectorizeMissingTextsOnly() {
+    provider("tenant").vectorize(List.of("a"), Optional.empty(), SEARCH).await().indefinitely();
+
+    List<float[]> vectors =
+        provider("tenant")
+            .vectorize(List.of("a", "ccc"), Optional.empty(), SEARCH)
+            .await()
+            .indefinitely();
+
+    assertThat(calls).containsExactly(List.of("a"), List.of("ccc"));
+    assertThat(vectors.get(0)).containsExactly(1f, 1f);
+    assertThat(vectors.get(1)).containsExactly(3f, 1f);
+    assertThat(lookups("hit")).isEqualTo(1.0);
+    assertThat(meterRegistry.get(EmbeddingCache.BYTES_METRIC).gauge().value()).isPositive();
+  }
+
+  @Test
+  public void cachePerTenantAndRequestType() {
+    provider("tenant").vectorize(List.of("a"), Optional.empty(), SEARCH).await().indefinitely();
+
+    provider("tenant").vectorize(List.of("a"), Optional.empty(), INDEX).await().indefinitely();
+    provider("other").vectorize(List.of("a"), Optional.empty(), SEARCH).await().indefinitely();
+
+    assertThat(calls).hasSize(3);
+  }
+
+  @Test
+  public void invalidResponseNotCached() {
+    EmbeddingProvider emptyProvider =
+        (texts, apiKey, requestType) -> Uni.createFrom().item(List.of());
+    CachingEmbeddingProvider provider =
+        new CachingEmbeddingProvider(
+            embeddingCache, emptyProvider, "tenant", "provider", "model", null);
+
+    List<float[]> vectors =
+        provider.vectorize(List.of("a"), Optional.empty(), SEARCH).await().indefinitely();
+
+    assertThat(vectors).isEmpty();
+    assertThat(
+            embeddingCache.get(
+                EmbeddingCache.key("tenant", "provider", "model", null, SEARCH, "a")))
+        .isNull();
+  }
+
+  private CachingEmbeddingProvider provider(String tenant) {
+    return new CachingEmbeddingProvider(
+        embeddingCache, countingProvider, tenant, "provider", "model", null);
+  }
+
+  private double lookups(String result) {
+    return meterRegistry
+        .get("cache.gets")
+        .tag("cache", "embedding_cache")
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+}
@@ -0,0 +1,96 @@
+package io.stargate.sgv2.jsonapi.service.embedding.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.service.embedding.configuration.EmbeddingProviderConfigStore;
+import io.stargate.sgv2.jsonapi.service.embedding.configuration.EmbeddingProviderConfigStore.ServiceConfig;
+import jakarta.enterprise.inject.Instance;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EmbeddingProviderFactoryTest {
+
+  private MeterRegistry meterRegistry;
+
+  private EmbeddingProviderConfigStore configStore;
+
+  private EmbeddingProviderFactory factory;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void init() {
+    OperationsConfig operationsConfig = mock(OperationsConfig.class);
+    OperationsConfig.EmbeddingProviderCacheConfig cacheConfig =
+        mock(OperationsConfig.EmbeddingProviderCacheConfig.class);
+    when(operationsConfig.embeddingProviderCache()).thenReturn(cacheConfig);
+    when(cacheConfig.maxSize()).thenReturn(10);
+    when(cacheConfig.ttlSeconds()).thenReturn(300L);
+    OperationsConfig.EmbeddingBatchingConfig batchingConfig =
+        mock(OperationsConfig.EmbeddingBatchingConfig.class);
+    when(operationsConfig.embeddingBatching()).thenReturn(batchingConfig);
+    when(batchingConfig.enabled()).thenReturn(false);
+    meterRegistry = new SimpleMeterRegistry();
+    configStore = mock(EmbeddingProviderConfigStore.class);
+    when(configStore.getConfiguration(any(), anyString()))
+        .thenReturn(ServiceConfig.custom(Optional.of(TestEmbeddingProvider.class)));
+    factory = new EmbeddingProviderFactory(operationsConfig, meterRegistry);
+    factory.embeddingProviderConfigStore = mock(Instance.class);
+    when(factory.embeddingProviderConfigStore.get()).thenReturn(configStore);
+  }
+
+  @Test
+  public void reuseProvider() {
+    EmbeddingProvider first = factory.getConfiguration(Optional.of("tenant"), "custom", "model");
+    EmbeddingProvider second = factory.getConfiguration(Optional.of("tenant"), "custom", "model");
+
+    assertThat(first).isInstanceOf(TestEmbeddingProvider.class);
+    assertThat(second).isSameAs(first);
+    assertThat(lookups("hit")).isEqualTo(1.0);
+    assertThat(lookups("miss")).isEqualTo(1.0);
+  }
+
+  @Test
+  public void providerPerTenantAndModel() {
+    EmbeddingProvider provider = factory.getConfiguration(Optional.of("tenant"), "custom", "a");
+
+    assertThat(factory.getConfiguration(Optional.of("tenant"), "custom", "b"))
+        .isNotSameAs(provider);
+    assertThat(factory.getConfiguration(Optional.of("other"), "custom", "a"))
+        .isNotSameAs(provider);
+    assertThat(lookups("miss")).isEqualTo(3.0);
+  }
+
+  @Test
+  public void newProviderOnConfigurationChange() {
+    EmbeddingProvider provider = factory.getConfiguration(Optional.empty(), "custom", "model");
+    when(configStore.getConfiguration(any(), anyString()))
+        .thenReturn(
+            new ServiceConfig(
+                "custom",
+                "custom",
+                "key",
+                null,
+                Optional.of(TestEmbeddingProvider.class),
+                null));
+
+    assertThat(factory.getConfiguration(Optional.empty(), "custom", "model"))
+        .isNotSameAs(provider);
+  }
+
+  private double lookups(String result) {
+    return meterRegistry
+        .get("cache.gets")
+        .tag("cache", "embedding_providers_cache")
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+}
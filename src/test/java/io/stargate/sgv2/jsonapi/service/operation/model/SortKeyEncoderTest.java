@@ -0,0 +1,314 @@
+package io.stargate.sgv2.jsonapi.service.operation.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.POJONode;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.stargate.sgv2.common.testprofiles.NoGlobalResourcesTestProfile;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.FindOperation;
+import io.stargate.sgv2.jsonapi.service.operation.model.impl.ReadDocument;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
+import io.stargate.sgv2.jsonapi.util.JsonNodeComparator;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@TestProfile(NoGlobalResourcesTestProfile.Impl.class)
+public class SortKeyEncoderTest {
+  @Inject ObjectMapper objectMapper;
+
+  @Nested
+  class Compare {
+
+    @Test
+    public void compareBool() {
+      Comparator<ReadDocument> comparator = SortKeyEncoder.documentOrder();
+      // Already ordered
+      assertThat(
+              comparator.compare(
+                  document("key1", objectMapper.getNodeFactory().booleanNode(false)),
+                  document("key2", objectMapper.getNodeFactory().booleanNode(true))))
+          .isLessThan(0);
+
+      // Has to reverse
+      assertThat(
+              comparator.compare(
+                  document("key2", objectMapper.getNodeFactory().booleanNode(true)),
+                  document("key1", objectMapper.getNodeFactory().booleanNode(false))))
+          .isGreaterThan(0);
+      // Same value ordered by document id - already ordered
+      assertThat(
+              comparator.compare(
+                  document("key1", objectMapper.getNodeFactory().booleanNode(true)),
+                  document("key2", objectMapper.getNodeFactory().booleanNode(true))))
+          .isLessThan(0);
+
+      // Same value ordered by document id - order reversed
+      assertThat(
+              comparator.compare(
+                  document("key2", objectMapper.getNodeFactory().booleanNode(true)),
+                  document("key1", objectMapper.getNodeFactory().booleanNode(true))))
+          .isGreaterThan(0);
+    }
+
+    @Test
+    public void compareText() {
+      Comparator<ReadDocument> comparator = SortKeyEncoder.documentOrder();
+      // Already ordered
+      assertThat(
+              comparator.compare(
+                  document("key1", objectMapper.getNodeFactory().textNode("abc")),
+                  document("key2", objectMapper.getNodeFactory().textNode("xyz"))))
+          .isLessThan(0);
+
+      // Has to reverse
+      assertThat(
+              comparator.compare(
+                  document("key2", objectMapper.getNodeFactory().textNode("xyz")),
+                  document("key1", objectMapper.getNodeFactory().textNode("abc"))))
+          .isGreaterThan(0);
+      // Same value ordered by document id - already ordered
+      assertThat(
+              comparator.compare(
+                  document("key1", objectMapper.getNodeFactory().textNode("abc")),
+                  document("key2", objectMapper.getNodeFactory().textNode("abc"))))
+          .isLessThan(0);
+
+      // Same value ordered by document id - order reversed
+      assertThat(
+              comparator.compare(
+                  document("key2", objectMapper.getNodeFactory().textNode("abc")),
+                  document("key1", objectMapper.getNodeFactory().textNode("abc"))))
+          .isGreaterThan(0);
+    }
+
+    @Test
+    public void compareNumber() {
+      Comparator<ReadDocument> comparator = SortKeyEncoder.documentOrder();
+      // Already ordered
+      assertThat(
+              comparator.compare(
+                  document("key1", objectMapper.getNodeFactory().numberNode(new BigDecimal(1))),
+                  document("key2", objectMapper.getNodeFactory().numberNode(new BigDecimal(2)))))
+          .isLessThan(0);
+
+      // Has to reverse
+      assertThat(
+              comparator.compare(
+                  document("key2", objectMapper.getNodeFactory().numberNode(new BigDecimal(2))),
+                  document("key1", objectMapper.getNodeFactory().numberNode(new BigDecimal(1)))))
+          .isGreaterThan(0);
+      // Same value ordered by document id - already ordered
+      assertThat(
+              comparator.compare(
+                  document("key1", objectMapper.getNodeFactory().numberNode(new BigDecimal(1))),
+                  document("key2", objectMapper.getNodeFactory().numberNode(new BigDecimal(1)))))
+          .isLessThan(0);
+
+      // Same value ordered by document id - order reversed
+      assertThat(
+              comparator.compare(
+                  document("key2", objectMapper.getNodeFactory().numberNode(new BigDecimal(1))),
+                  document("key1", objectMapper.getNodeFactory().numberNode(new BigDecimal(1)))))
+          .isGreaterThan(0);
+    }
+
+    @Test
+    public void compareDifferentTypes() {
+      Comparator<ReadDocument> comparator = SortKeyEncoder.documentOrder();
+      // Compare different data type boolean and text
+      assertThat(
+              comparator.compare(
+                  document("key2", objectMapper.getNodeFactory().booleanNode(true)),
+                  document("key1", objectMapper.getNodeFactory().textNode("abc"))))
+          .isGreaterThan(0);
+
+      // Compare different data type null and number
+      assertThat(
+              comparator.compare(
+                  document("key2", objectMapper.getNodeFactory().nullNode()),
+                  document("key1", objectMapper.getNodeFactory().numberNode(new BigDecimal(1)))))
+          .isLessThan(0);
+
+      // Compare different data type missing data and number
+      assertThat(
+              comparator.compare(
+                  document("key1", objectMapper.getNodeFactory().numberNode(new BigDecimal(1))),
+                  document("key2", objectMapper.getNodeFactory().missingNode())))
+          .isGreaterThan(0);
+
+      // Compare different data type missing data and null - ordered by document id - order reversed
+      assertThat(
+              comparator.compare(
+                  document("key2", objectMapper.getNodeFactory().nullNode()),
+                  document("key1", objectMapper.getNodeFactory().missingNode())))
+          .isGreaterThan(0);
+    }
+  }
+
+  @Nested
+  class ConsistentWithJsonNodeComparator {
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void randomValues() {
+      for (int round = 0; round < 200; ++round) {
+        int fieldCount = 1 + random.nextInt(3);
+        List<FindOperation.OrderBy> orderBy = new ArrayList<>();
+        for (int i = 0; i < fieldCount; ++i) {
+          orderBy.add(new FindOperation.OrderBy("col" + i, random.nextBoolean()));
+        }
+        SortKeyEncoder encoder = new SortKeyEncoder(orderBy);
+
+        List<JsonNode> values1 = randomValues(fieldCount);
+        List<JsonNode> values2 = random.nextBoolean() ? values1 : randomValues(fieldCount);
+        DocumentId id1 = randomId();
+        DocumentId id2 = randomId();
+
+        int expected = Integer.signum(referenceCompare(orderBy, values1, id1, values2, id2));
+        byte[] key1 = encode(encoder, values1, id1);
+        byte[] key2 = encode(encoder, values2, id2);
+        int actual = Integer.signum(Arrays.compareUnsigned(key1, key2));
+        assertThat(actual)
+            .describedAs("%s %s vs %s %s, order %s", values1, id1, values2, id2, orderBy)
+            .isEqualTo(expected);
+      }
+    }
+
+    @Test
+    public void documentIdsOfAllTypes() {
+      SortKeyEncoder encoder = new SortKeyEncoder(List.of(new FindOperation.OrderBy("a", true)));
+      List<DocumentId> ids =
+          List.of(
+              DocumentId.fromNull(),
+              DocumentId.fromNumber(new BigDecimal("-1.5")),
+              DocumentId.fromNumber(new BigDecimal(10)),
+              DocumentId.fromString(""),
+              DocumentId.fromString("caf\u00e9"),
+              DocumentId.fromBoolean(false),
+              DocumentId.fromBoolean(true),
+              DocumentId.fromTimestamp(-1000),
+              DocumentId.fromTimestamp(1700000000000L));
+
+      // same sort value, ids are the tie breaker, in the JsonNodeComparator order
+      for (DocumentId id1 : ids) {
+        for (DocumentId id2 : ids) {
+          int expected =
+              Integer.signum(
+                  JsonNodeComparator.ascending()
+                      .compare(id1.asJson(objectMapper), id2.asJson(objectMapper)));
+          byte[] key1 = encoder.newKey().addText("value").build(id1);
+          byte[] key2 = encoder.newKey().addText("value").build(id2);
+          assertThat(Integer.signum(Arrays.compareUnsigned(key1, key2)))
+              .describedAs("%s vs %s", id1, id2)
+              .isEqualTo(expected);
+        }
+      }
+    }
+
+    private int referenceCompare(
+        List<FindOperation.OrderBy> orderBy,
+        List<JsonNode> values1,
+        DocumentId id1,
+        List<JsonNode> values2,
+        DocumentId id2) {
+      for (int i = 0; i < orderBy.size(); ++i) {
+        Comparator<JsonNode> comparator =
+            orderBy.get(i).ascending()
+                ? JsonNodeComparator.ascending()
+                : JsonNodeComparator.descending();
+        int diff = comparator.compare(values1.get(i), values2.get(i));
+        if (diff != 0) {
+          return diff;
+        }
+      }
+      return JsonNodeComparator.ascending()
+          .compare(id1.asJson(objectMapper), id2.asJson(objectMapper));
+    }
+
+    private byte[] encode(SortKeyEncoder encoder, List<JsonNode> values, DocumentId id) {
+      SortKeyEncoder.Builder builder = encoder.newKey();
+      values.forEach(value -> add(builder, value));
+      return builder.build(id);
+    }
+
+    private List<JsonNode> randomValues(int count) {
+      List<JsonNode> values = new ArrayList<>(count);
+      for (int i = 0; i < count; ++i) {
+        values.add(randomValue());
+      }
+      return values;
+    }
+
+    private JsonNode randomValue() {
+      JsonNodeFactory nodeFactory = objectMapper.getNodeFactory();
+      return switch (random.nextInt(7)) {
+        case 0 -> nodeFactory.missingNode();
+        case 1 -> nodeFactory.nullNode();
+        case 2 -> nodeFactory.booleanNode(random.nextBoolean());
+        case 3 -> nodeFactory.pojoNode(new Date(random.nextLong() % 4_000_000_000_000L));
+        case 4 -> nodeFactory.numberNode(randomNumber());
+        default -> nodeFactory.textNode(randomText());
+      };
+    }
+
+    private BigDecimal randomNumber() {
+      // small domain to get equal values and common prefixes too
+      BigDecimal value = BigDecimal.valueOf(random.nextInt(2001) - 1000, random.nextInt(4));
+      return random.nextBoolean() ? value : value.setScale(value.scale() + 2);
+    }
+
+    private String randomText() {
+      char[] alphabet = {'a', 'b', 'z', '\u0000', '\u007f', '\u00e9', '\uffff'};
+      char[] chars = new char[random.nextInt(4)];
+      for (int i = 0; i < chars.length; ++i) {
+        chars[i] = alphabet[random.nextInt(alphabet.length)];
+      }
+      return new String(chars);
+    }
+
+    private DocumentId randomId() {
+      return switch (random.nextInt(5)) {
+        case 0 -> DocumentId.fromNumber(randomNumber());
+        case 1 -> DocumentId.fromBoolean(random.nextBoolean());
+        case 2 -> DocumentId.fromNull();
+        case 3 -> DocumentId.fromTimestamp(random.nextInt(1000));
+        default -> DocumentId.fromString(randomText());
+      };
+    }
+  }
+
+  private ReadDocument document(String id, JsonNode sortValue) {
+    SortKeyEncoder encoder = new SortKeyEncoder(List.of(new FindOperation.OrderBy("col", true)));
+    DocumentId documentId = DocumentId.fromString(id);
+    return ReadDocument.from(
+        documentId, UUID.randomUUID(), null, add(encoder.newKey(), sortValue).build(documentId));
+  }
+
+  /** Adds the value with the typed method used for the values read from the sort columns. */
+  private static SortKeyEncoder.Builder add(SortKeyEncoder.Builder builder, JsonNode value) {
+    return switch (value.getNodeType()) {
+      case MISSING -> builder.addMissing();
+      case NULL -> builder.addNull();
+      case BOOLEAN -> builder.addBoolean(value.booleanValue());
+      case NUMBER -> builder.addNumber(value.decimalValue());
+      case STRING -> builder.addText(value.textValue());
+      case POJO -> builder.addDate(((Date) ((POJONode) value).getPojo()).getTime());
+      default -> throw new IllegalArgumentException("Not a sort column value: " + value);
+    };
+  }
+}
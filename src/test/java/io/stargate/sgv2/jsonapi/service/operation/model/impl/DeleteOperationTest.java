@@ -81,7 +81,7 @@ public class DeleteOperationTest extends OperationTestBase {
           "SELECT key, tx_id FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
       final TupleValue keyValue = CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc1"));
-      SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql, keyValue);
+      SimpleStatement stmt = routedStatement(collectionReadCql, keyValue);
 
       List<Row> rows =
           Arrays.asList(
@@ -103,8 +103,7 @@ public class DeleteOperationTest extends OperationTestBase {
       String collectionDeleteCql =
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue, tx_id);
       List<Row> deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -161,7 +160,7 @@ public class DeleteOperationTest extends OperationTestBase {
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
       final TupleValue keyValue = CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc1"));
-      SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql, keyValue);
+      SimpleStatement stmt = routedStatement(collectionReadCql, keyValue);
 
       List<Row> rows =
           Arrays.asList(
@@ -185,8 +184,7 @@ public class DeleteOperationTest extends OperationTestBase {
       String collectionDeleteCql =
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue, tx_id);
       List<Row> deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -367,8 +365,7 @@ public class DeleteOperationTest extends OperationTestBase {
       String collectionDeleteCql =
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id1);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue1, tx_id1);
       List<Row> deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -490,8 +487,7 @@ public class DeleteOperationTest extends OperationTestBase {
       String collectionDeleteCql =
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue2, tx_id2);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue2, tx_id2);
       List<Row> deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -553,7 +549,7 @@ public class DeleteOperationTest extends OperationTestBase {
           "SELECT key, tx_id FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
       final TupleValue keyValue = CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc1"));
-      SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql, keyValue);
+      SimpleStatement stmt = routedStatement(collectionReadCql, keyValue);
 
       List<Row> rows = Arrays.asList();
 
@@ -631,8 +627,7 @@ public class DeleteOperationTest extends OperationTestBase {
       String collectionDeleteCql =
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue, tx_id);
       List<Row> deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -715,7 +710,7 @@ public class DeleteOperationTest extends OperationTestBase {
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
       stmt =
-          SimpleStatement.newInstance(
+          routedStatement(
               collectionReadCql2,
               keyValue,
               "username " + new DocValueHasher().getHash("user1").hash());
@@ -739,8 +734,7 @@ public class DeleteOperationTest extends OperationTestBase {
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id1);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue, tx_id1);
       List<Row> deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -755,7 +749,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id2);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue, tx_id2);
       deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -836,7 +830,7 @@ public class DeleteOperationTest extends OperationTestBase {
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
       stmt =
-          SimpleStatement.newInstance(
+          routedStatement(
               collectionReadCql2,
               keyValue,
               "username " + new DocValueHasher().getHash("user1").hash());
@@ -860,8 +854,7 @@ public class DeleteOperationTest extends OperationTestBase {
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id1);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue, tx_id1);
       List<Row> deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -876,7 +869,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id2);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue, tx_id2);
       deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -957,7 +950,7 @@ public class DeleteOperationTest extends OperationTestBase {
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
       stmt =
-          SimpleStatement.newInstance(
+          routedStatement(
               collectionReadCql2,
               keyValue,
               "username " + new DocValueHasher().getHash("user1").hash());
@@ -976,8 +969,7 @@ public class DeleteOperationTest extends OperationTestBase {
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue, tx_id1);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue, tx_id1);
       List<Row> deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -1063,8 +1055,7 @@ public class DeleteOperationTest extends OperationTestBase {
       String collectionDeleteCql =
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id1);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue1, tx_id1);
       List<Row> deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -1078,7 +1069,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue2, tx_id2);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue2, tx_id2);
       deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -1223,7 +1214,7 @@ public class DeleteOperationTest extends OperationTestBase {
           "SELECT key, tx_id FROM \"%s\".\"%s\" WHERE (key = ? AND array_contains CONTAINS ?) LIMIT 3"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
       stmt =
-          SimpleStatement.newInstance(
+          routedStatement(
               collectionReadCql2,
               keyValue1,
               "username " + new DocValueHasher().getHash("user1").hash());
@@ -1246,8 +1237,7 @@ public class DeleteOperationTest extends OperationTestBase {
       String collectionDeleteCql =
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id1);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue1, tx_id1);
       List<Row> deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -1262,7 +1252,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue2, tx_id2);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue2, tx_id2);
       deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -1275,7 +1265,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults1);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id3);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue1, tx_id3);
       deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -1381,7 +1371,7 @@ public class DeleteOperationTest extends OperationTestBase {
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
       stmt =
-          SimpleStatement.newInstance(
+          routedStatement(
               collectionReadCql2,
               keyValue1,
               "username " + new DocValueHasher().getHash("user1").hash());
@@ -1402,7 +1392,7 @@ public class DeleteOperationTest extends OperationTestBase {
               });
 
       stmt =
-          SimpleStatement.newInstance(
+          routedStatement(
               collectionReadCql2,
               keyValue2,
               "username " + new DocValueHasher().getHash("user1").hash());
@@ -1425,8 +1415,7 @@ public class DeleteOperationTest extends OperationTestBase {
       String collectionDeleteCql =
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id1);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue1, tx_id1);
       List<Row> deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -1441,7 +1430,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue2, tx_id2);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue2, tx_id2);
       deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -1455,7 +1444,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults2);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id3);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue1, tx_id3);
       deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -1469,7 +1458,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults3);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue2, tx_id4);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue2, tx_id4);
       deleteRows =
           Arrays.asList(
               new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(false))));
@@ -1594,8 +1583,7 @@ public class DeleteOperationTest extends OperationTestBase {
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id1);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue1, tx_id1);
       List<Row> deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -1609,7 +1597,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue2, tx_id2);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue2, tx_id2);
       deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -1659,6 +1647,136 @@ public class DeleteOperationTest extends OperationTestBase {
       assertThat(result.status()).hasSize(1).containsEntry(CommandStatus.DELETED_COUNT, 2);
     }
 
+    @Test
+    public void deleteManyWithPagePrefetch() {
+      UUID tx_id1 = UUID.randomUUID();
+      UUID tx_id2 = UUID.randomUUID();
+      String pagingState = "pagingState";
+      ByteBuffer pagingStateBB = ByteBuffer.wrap(pagingState.getBytes());
+      String collectionReadCql =
+          "SELECT key, tx_id FROM \"%s\".\"%s\" WHERE array_contains CONTAINS ? LIMIT 3"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      final TupleValue keyValue1 = CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc1"));
+      final TupleValue keyValue2 = CQLBindValues.getDocumentIdValue(DocumentId.fromString("doc2"));
+      SimpleStatement stmt =
+          SimpleStatement.newInstance(
+              collectionReadCql, "username " + new DocValueHasher().getHash("user1").hash());
+
+      List<Row> rows =
+          Arrays.asList(
+              new MockRow(
+                  SELECT_RESULT_COLUMNS,
+                  0,
+                  Arrays.asList(byteBufferFrom(keyValue1), byteBufferFrom(tx_id1))));
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+      when(executionInfo.getPagingState()).thenReturn(pagingStateBB);
+      final CompletableFuture<AsyncResultSet> asyncResultSetCompletableFuture =
+          mock(CompletableFuture.class);
+      AsyncResultSet mockResults =
+          new MockAsyncResultSet(
+              SELECT_RESULT_COLUMNS, rows, asyncResultSetCompletableFuture, executionInfo);
+      final AtomicInteger selectCallCount = new AtomicInteger();
+      when(queryExecutor.executeRead(eq(stmt), eq(Optional.empty()), anyInt()))
+          .then(
+              invocation -> {
+                selectCallCount.incrementAndGet();
+                return Uni.createFrom().item(mockResults);
+              });
+
+      rows =
+          Arrays.asList(
+              new MockRow(
+                  SELECT_RESULT_COLUMNS,
+                  0,
+                  Arrays.asList(byteBufferFrom(keyValue2), byteBufferFrom(tx_id2))));
+
+      // delete of the first page completes only once the second page is read
+      final CompletableFuture<Void> secondPageRead = new CompletableFuture<>();
+      AsyncResultSet mockResults1 = new MockAsyncResultSet(SELECT_RESULT_COLUMNS, rows, null);
+      when(queryExecutor.executeRead(
+              eq(stmt),
+              eq(Optional.of(Base64.getEncoder().encodeToString(pagingStateBB.array()))),
+              anyInt()))
+          .then(
+              invocation -> {
+                selectCallCount.incrementAndGet();
+                secondPageRead.complete(null);
+                return Uni.createFrom().item(mockResults1);
+              });
+
+      String collectionDeleteCql =
+          "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue1, tx_id1);
+      List<Row> deleteRows =
+          Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
+
+      AsyncResultSet deleteResults =
+          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+      final AtomicInteger deleteCallCount = new AtomicInteger();
+      when(queryExecutor.executeWrite(eq(deleteStmt)))
+          .then(
+              invocation -> {
+                deleteCallCount.incrementAndGet();
+                return Uni.createFrom()
+                    .completionStage(secondPageRead)
+                    .onItem()
+                    .transform(ignored -> deleteResults);
+              });
+
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue2, tx_id2);
+      deleteRows =
+          Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
+
+      AsyncResultSet deleteResults2 =
+          new MockAsyncResultSet(DELETE_RESULT_COLUMNS, deleteRows, null);
+
+      when(queryExecutor.executeWrite(eq(deleteStmt)))
+          .then(
+              invocation -> {
+                deleteCallCount.incrementAndGet();
+                return Uni.createFrom().item(deleteResults2);
+              });
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.TextFilter(
+                  "username", DBFilterBase.MapFilterBase.Operator.EQ, "user1"));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+
+      FindOperation findOperation =
+          FindOperation.unsorted(
+              COMMAND_CONTEXT,
+              implicitAnd,
+              DocumentProjector.identityProjector(),
+              null,
+              3,
+              1,
+              ReadType.KEY,
+              objectMapper);
+      DeleteOperation operation =
+          DeleteOperation.delete(COMMAND_CONTEXT, findOperation, 2, 3).withPagePrefetch(true);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      assertThat(selectCallCount.get()).isEqualTo(2);
+      assertThat(deleteCallCount.get()).isEqualTo(2);
+
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.status()).hasSize(1).containsEntry(CommandStatus.DELETED_COUNT, 2);
+    }
+
     @Test
     public void deleteManyWithDynamicPagingAndMoreData() {
       UUID tx_id1 = UUID.randomUUID();
@@ -1744,8 +1862,7 @@ public class DeleteOperationTest extends OperationTestBase {
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
-      SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, keyValue1, tx_id1);
+      SimpleStatement deleteStmt = routedStatement(collectionDeleteCql, keyValue1, tx_id1);
       List<Row> deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -1759,7 +1876,7 @@ public class DeleteOperationTest extends OperationTestBase {
                 return Uni.createFrom().item(deleteResults);
               });
 
-      deleteStmt = SimpleStatement.newInstance(collectionDeleteCql, keyValue2, tx_id2);
+      deleteStmt = routedStatement(collectionDeleteCql, keyValue2, tx_id2);
       deleteRows =
           Arrays.asList(new MockRow(DELETE_RESULT_COLUMNS, 0, Arrays.asList(byteBufferFrom(true))));
 
@@ -14,10 +14,12 @@ import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.data.CqlVector;
+import com.datastax.oss.driver.api.core.data.TupleValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import io.stargate.sgv2.api.common.cql.builder.BuiltCondition;
 import io.stargate.sgv2.common.testprofiles.NoGlobalResourcesTestProfile;
@@ -27,6 +29,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.ComparisonExpres
 import io.stargate.sgv2.jsonapi.api.model.command.clause.filter.LogicalExpression;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.cqldriver.executor.QueryExecutor;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.StatementRouting;
 import io.stargate.sgv2.jsonapi.service.operation.model.ReadType;
 import io.stargate.sgv2.jsonapi.service.projection.DocumentProjector;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHasher;
@@ -37,12 +40,16 @@ import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -214,6 +221,53 @@ public class FindOperationTest extends OperationTestBase {
           });
     }
 
+    @Test
+    public void findAllDocumentPassthrough() throws Exception {
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" LIMIT %s"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME, 20);
+
+      String doc1 = "{\"_id\":\"doc1\",\"username\":\"user1\"}";
+      String doc2 = "{\"_id\":\"doc2\",\"username\":\"user2\"}";
+      SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql);
+      List<Row> rows =
+          Arrays.asList(
+              resultRow(0, "doc1", UUID.randomUUID(), doc1),
+              resultRow(1, "doc2", UUID.randomUUID(), doc2));
+      AsyncResultSet results = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows, null);
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.executeRead(eq(stmt), any(), anyInt()))
+          .then(invocation -> Uni.createFrom().item(results));
+
+      FindOperation operation =
+          FindOperation.unsorted(
+                  COMMAND_CONTEXT,
+                  LogicalExpression.and(),
+                  DocumentProjector.identityProjector(),
+                  null,
+                  20,
+                  20,
+                  ReadType.DOCUMENT,
+                  objectMapper)
+              .withOptions(new FindOperation.ExecutionOptions(true, false, 8));
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // then result, documents are not parsed but written as stored
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .hasSize(2)
+          .allSatisfy(document -> assertThat(document.isPojo()).isTrue());
+      assertThat(objectMapper.writeValueAsString(result.data().getResponseDocuments()))
+          .isEqualTo("[%s,%s]".formatted(doc1, doc2));
+    }
+
     @Test
     public void byIdWithInOperator() throws Exception {
       String collectionReadCql =
@@ -234,11 +288,9 @@ public class FindOperationTest extends OperationTestBase {
               }
               """;
 
-      SimpleStatement stmt1 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows1 = Arrays.asList(resultRow(0, "doc1", UUID.randomUUID(), doc1));
-      SimpleStatement stmt2 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc2"));
+      SimpleStatement stmt2 = routedStatement(collectionReadCql, boundKeyForStatement("doc2"));
       List<Row> rows2 = Arrays.asList(resultRow(0, "doc2", UUID.randomUUID(), doc2));
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       AsyncResultSet results2 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows2, null);
@@ -299,6 +351,92 @@ public class FindOperationTest extends OperationTestBase {
       assertThat(result.errors()).isNullOrEmpty();
     }
 
+    @Test
+    public void byIdWithInOperatorGroupedByReplica() throws Exception {
+      String collectionReadByKeysCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key IN ? LIMIT 2"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 3"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String doc1 = "{\"_id\": \"doc1\"}";
+      String doc2 = "{\"_id\": \"doc2\"}";
+      String doc3 = "{\"_id\": \"doc3\"}";
+
+      // doc1 and doc3 owned by the same replica, read together
+      List<TupleValue> groupedKeys =
+          List.of(boundKeyForStatement("doc1"), boundKeyForStatement("doc3"));
+      SimpleStatement groupedStmt =
+          StatementRouting.routeToKey(
+              SimpleStatement.newInstance(collectionReadByKeysCql)
+                  .setPositionalValues(List.of(groupedKeys)),
+              KEYSPACE_NAME,
+              groupedKeys.get(0));
+      List<Row> groupedRows =
+          Arrays.asList(
+              resultRow(0, "doc1", UUID.randomUUID(), doc1),
+              resultRow(1, "doc3", UUID.randomUUID(), doc3));
+      SimpleStatement stmt2 = routedStatement(collectionReadCql, boundKeyForStatement("doc2"));
+      List<Row> rows2 = Arrays.asList(resultRow(0, "doc2", UUID.randomUUID(), doc2));
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.groupByReplica(any()))
+          .then(
+              invocation -> {
+                List<SimpleStatement> statements = invocation.getArgument(0);
+                return Optional.of(
+                    List.of(
+                        List.of(statements.get(0), statements.get(2)),
+                        List.of(statements.get(1))));
+              });
+      when(queryExecutor.executeRead(eq(groupedStmt), any(), anyInt()))
+          .thenReturn(
+              Uni.createFrom()
+                  .item(new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, groupedRows, null)));
+      when(queryExecutor.executeRead(eq(stmt2), any(), anyInt()))
+          .thenReturn(
+              Uni.createFrom().item(new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows2, null)));
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.IDFilter(
+                  DBFilterBase.IDFilter.Operator.IN,
+                  List.of(
+                      DocumentId.fromString("doc1"),
+                      DocumentId.fromString("doc2"),
+                      DocumentId.fromString("doc3"))));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+
+      FindOperation operation =
+          FindOperation.unsorted(
+              COMMAND_CONTEXT,
+              implicitAnd,
+              DocumentProjector.identityProjector(),
+              null,
+              3,
+              3,
+              ReadType.DOCUMENT,
+              objectMapper);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .hasSize(3)
+          .contains(
+              objectMapper.readTree(doc1),
+              objectMapper.readTree(doc2),
+              objectMapper.readTree(doc3));
+      assertThat(result.errors()).isNullOrEmpty();
+    }
+
     @Test
     public void byIdWithInEmptyArray() {
       LogicalExpression implicitAnd = LogicalExpression.and();
@@ -356,12 +494,10 @@ public class FindOperationTest extends OperationTestBase {
 
       final String textFilterValue = "username " + new DocValueHasher().getHash("user1").hash();
       SimpleStatement stmt1 =
-          SimpleStatement.newInstance(
-              collectionReadCql, boundKeyForStatement("doc1"), textFilterValue);
+          routedStatement(collectionReadCql, boundKeyForStatement("doc1"), textFilterValue);
       List<Row> rows1 = Arrays.asList(resultRow(0, "doc1", UUID.randomUUID(), doc1));
       SimpleStatement stmt2 =
-          SimpleStatement.newInstance(
-              collectionReadCql, boundKeyForStatement("doc2"), textFilterValue);
+          routedStatement(collectionReadCql, boundKeyForStatement("doc2"), textFilterValue);
       List<Row> rows2 = Arrays.asList(resultRow(0, "doc2", UUID.randomUUID(), doc2));
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       AsyncResultSet results2 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows2, null);
@@ -447,11 +583,9 @@ public class FindOperationTest extends OperationTestBase {
                     "username": "user2"
                   }
                   """;
-      SimpleStatement stmt1 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows1 = Arrays.asList(resultRow(0, "doc1", UUID.randomUUID(), doc1));
-      SimpleStatement stmt2 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc2"));
+      SimpleStatement stmt2 = routedStatement(collectionReadCql, boundKeyForStatement("doc2"));
       List<Row> rows2 = Arrays.asList(resultRow(0, "doc2", UUID.randomUUID(), doc2));
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       AsyncResultSet results2 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows2, null);
@@ -499,9 +633,9 @@ public class FindOperationTest extends OperationTestBase {
               .awaitItem()
               .getItem();
 
-      // assert query execution
+      // assert query execution, second query is not needed once first one found the document
       assertThat(callCount1.get()).isEqualTo(1);
-      assertThat(callCount2.get()).isEqualTo(1);
+      assertThat(callCount2.get()).isLessThanOrEqualTo(1);
       // then result
       CommandResult result = execute.get();
       assertThat(result.data().getResponseDocuments())
@@ -511,6 +645,138 @@ public class FindOperationTest extends OperationTestBase {
       assertThat(result.errors()).isNullOrEmpty();
     }
 
+    @Test
+    public void findOneByIdWithInOperatorCancelsSlowQueries() throws Exception {
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String doc2 =
+          """
+                  {
+                    "_id": "doc2",
+                    "username": "user2"
+                  }
+                  """;
+      // doc1 query never completes
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
+      final AtomicBoolean cancelled = new AtomicBoolean();
+      // doc2 found
+      SimpleStatement stmt2 = routedStatement(collectionReadCql, boundKeyForStatement("doc2"));
+      List<Row> rows2 = Arrays.asList(resultRow(0, "doc2", UUID.randomUUID(), doc2));
+      AsyncResultSet results2 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows2, null);
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.executeRead(eq(stmt1), any(), anyInt()))
+          .then(
+              invocation ->
+                  Uni.createFrom()
+                      .<AsyncResultSet>emitter(
+                          emitter -> emitter.onTermination(() -> cancelled.set(true))));
+      when(queryExecutor.executeRead(eq(stmt2), any(), anyInt()))
+          .then(invocation -> Uni.createFrom().item(results2));
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.IDFilter(
+                  DBFilterBase.IDFilter.Operator.IN,
+                  List.of(DocumentId.fromString("doc1"), DocumentId.fromString("doc2"))));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+
+      FindOperation operation =
+          FindOperation.unsortedSingle(
+              COMMAND_CONTEXT,
+              implicitAnd,
+              DocumentProjector.identityProjector(),
+              ReadType.DOCUMENT,
+              objectMapper);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // slow query cancelled once the document is found
+      assertThat(cancelled.get()).isTrue();
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .singleElement()
+          .isEqualTo(objectMapper.readTree(doc2));
+      assertThat(result.status()).isNullOrEmpty();
+      assertThat(result.errors()).isNullOrEmpty();
+    }
+
+    @Test
+    public void findByIdWithInOperatorConcurrencyLimit() throws Exception {
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 3"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      final AtomicInteger inFlight = new AtomicInteger();
+      final AtomicInteger maxInFlight = new AtomicInteger();
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      List<DocumentId> ids = new ArrayList<>();
+      for (int i = 1; i <= 3; ++i) {
+        String id = "doc" + i;
+        ids.add(DocumentId.fromString(id));
+        SimpleStatement stmt = routedStatement(collectionReadCql, boundKeyForStatement(id));
+        String doc = "{\"_id\": \"%s\"}".formatted(id);
+        List<Row> rows = Arrays.asList(resultRow(0, id, UUID.randomUUID(), doc));
+        AsyncResultSet results = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows, null);
+        when(queryExecutor.executeRead(eq(stmt), any(), anyInt()))
+            .then(
+                invocation ->
+                    Uni.createFrom()
+                        .item(results)
+                        .onSubscription()
+                        .invoke(
+                            () ->
+                                maxInFlight.accumulateAndGet(
+                                    inFlight.incrementAndGet(), Math::max))
+                        .onItem()
+                        .delayIt()
+                        .by(Duration.ofMillis(20))
+                        .onTermination()
+                        .invoke(inFlight::decrementAndGet));
+      }
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(new DBFilterBase.IDFilter(DBFilterBase.IDFilter.Operator.IN, ids));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+
+      FindOperation operation =
+          FindOperation.unsorted(
+                  COMMAND_CONTEXT,
+                  implicitAnd,
+                  DocumentProjector.identityProjector(),
+                  null,
+                  3,
+                  3,
+                  ReadType.DOCUMENT,
+                  objectMapper)
+              .withOptions(new FindOperation.ExecutionOptions(false, false, 1));
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // queries executed one by one
+      assertThat(maxInFlight.get()).isEqualTo(1);
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments()).hasSize(3);
+      assertThat(result.errors()).isNullOrEmpty();
+    }
+
     @Test
     public void findWithId() throws Exception {
       String collectionReadCql =
@@ -524,8 +790,7 @@ public class FindOperationTest extends OperationTestBase {
             }
             """;
 
-      SimpleStatement stmt =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows = Arrays.asList(resultRow(0, "doc1", UUID.randomUUID(), doc1));
       AsyncResultSet results = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows, null);
       final AtomicInteger callCount = new AtomicInteger();
@@ -578,8 +843,7 @@ public class FindOperationTest extends OperationTestBase {
           "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
-      SimpleStatement stmt =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       AsyncResultSet results = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, Arrays.asList(), null);
       final AtomicInteger callCount = new AtomicInteger();
       QueryExecutor queryExecutor = mock(QueryExecutor.class);
@@ -1691,8 +1955,7 @@ public class FindOperationTest extends OperationTestBase {
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
       RuntimeException exception = new RuntimeException("Ivan breaks tests.");
 
-      SimpleStatement stmt =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       final AtomicInteger callCount = new AtomicInteger();
       QueryExecutor queryExecutor = mock(QueryExecutor.class);
       when(queryExecutor.executeRead(eq(stmt), any(), anyInt()))
@@ -2286,6 +2549,249 @@ public class FindOperationTest extends OperationTestBase {
       assertThat(result.errors()).isNullOrEmpty();
     }
 
+    @Test
+    public void findAllSortTwoPhase() throws Exception {
+      String documentReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String doc2 = "{\"_id\": \"doc2\", \"username\": \"user2\"}";
+      String doc3 = "{\"_id\": \"doc3\", \"username\": \"user3\"}";
+      UUID txId2 = UUID.randomUUID();
+      UUID txId3 = UUID.randomUUID();
+
+      final AtomicInteger callCount = new AtomicInteger();
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      mockTwoPhaseSortKeys(queryExecutor, callCount, txId2, txId3);
+
+      // documents of the page fetched by key
+      SimpleStatement doc2Stmt = routedStatement(documentReadCql, boundKeyForStatement("doc2"));
+      AsyncResultSet doc2Results =
+          new MockAsyncResultSet(
+              KEY_TXID_JSON_COLUMNS, List.of(resultRow(0, "doc2", txId2, doc2)), null);
+      final AtomicInteger doc2CallCount = new AtomicInteger();
+      when(queryExecutor.executeRead(eq(doc2Stmt), any(), anyInt()))
+          .then(
+              invocation -> {
+                doc2CallCount.incrementAndGet();
+                return Uni.createFrom().item(doc2Results);
+              });
+      SimpleStatement doc3Stmt = routedStatement(documentReadCql, boundKeyForStatement("doc3"));
+      AsyncResultSet doc3Results =
+          new MockAsyncResultSet(
+              KEY_TXID_JSON_COLUMNS, List.of(resultRow(0, "doc3", txId3, doc3)), null);
+      final AtomicInteger doc3CallCount = new AtomicInteger();
+      when(queryExecutor.executeRead(eq(doc3Stmt), any(), anyInt()))
+          .then(
+              invocation -> {
+                doc3CallCount.incrementAndGet();
+                return Uni.createFrom().item(doc3Results);
+              });
+
+      Supplier<CommandResult> execute =
+          twoPhaseSortOperation()
+              .execute(queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // assert query execution, only the documents of the page are fetched
+      assertThat(callCount.get()).isEqualTo(1);
+      assertThat(doc2CallCount.get()).isEqualTo(1);
+      assertThat(doc3CallCount.get()).isEqualTo(1);
+
+      // then result
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .isEqualTo(List.of(objectMapper.readTree(doc2), objectMapper.readTree(doc3)));
+      assertThat(result.status()).isNullOrEmpty();
+      assertThat(result.errors()).isNullOrEmpty();
+    }
+
+    @Test
+    public void findAllSortTwoPhaseDocumentChanged() throws Exception {
+      String documentReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+      String singlePhaseReadCql =
+          "SELECT key, tx_id, doc_json, query_text_values['username'], query_dbl_values['username'], query_bool_values['username'], query_null_values['username'], query_timestamp_values['username'] FROM \"%s\".\"%s\" LIMIT %s"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME, 20);
+      String doc2 = "{\"_id\": \"doc2\", \"username\": \"user2\"}";
+      String doc3 = "{\"_id\": \"doc3\", \"username\": \"user3\"}";
+      String doc3Updated = "{\"_id\": \"doc3\", \"username\": \"user0\"}";
+      UUID txId2 = UUID.randomUUID();
+      UUID txId3 = UUID.randomUUID();
+
+      final AtomicInteger callCount = new AtomicInteger();
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      mockTwoPhaseSortKeys(queryExecutor, callCount, txId2, txId3);
+
+      // doc3 updated between the phases, its sort value changed
+      SimpleStatement doc2Stmt = routedStatement(documentReadCql, boundKeyForStatement("doc2"));
+      when(queryExecutor.executeRead(eq(doc2Stmt), any(), anyInt()))
+          .thenReturn(
+              Uni.createFrom()
+                  .item(
+                      new MockAsyncResultSet(
+                          KEY_TXID_JSON_COLUMNS,
+                          List.of(resultRow(0, "doc2", txId2, doc2)),
+                          null)));
+      SimpleStatement doc3Stmt = routedStatement(documentReadCql, boundKeyForStatement("doc3"));
+      when(queryExecutor.executeRead(eq(doc3Stmt), any(), anyInt()))
+          .thenReturn(
+              Uni.createFrom()
+                  .item(
+                      new MockAsyncResultSet(
+                          KEY_TXID_JSON_COLUMNS,
+                          List.of(resultRow(0, "doc3", UUID.randomUUID(), doc3Updated)),
+                          null)));
+
+      // so the page is sorted again, from the full documents
+      ColumnDefinitions columnDefs =
+          buildColumnDefs(
+              TestColumn.keyColumn(),
+              TestColumn.ofUuid("tx_id"),
+              TestColumn.ofVarchar("doc_json"),
+              TestColumn.ofVarchar("query_text_values['username']"),
+              TestColumn.ofDecimal("query_dbl_values['username']"),
+              TestColumn.ofBoolean("query_bool_values['username']"),
+              TestColumn.ofVarchar("query_null_values['username']"),
+              TestColumn.ofDate("query_timestamp_values['username']"));
+      List<Row> rows =
+          Arrays.asList(
+              resultRow(
+                  columnDefs,
+                  0,
+                  byteBufferForKey("doc3"),
+                  UUID.randomUUID(),
+                  doc3Updated,
+                  "user0",
+                  null,
+                  null,
+                  null,
+                  null),
+              resultRow(
+                  columnDefs,
+                  1,
+                  byteBufferForKey("doc2"),
+                  txId2,
+                  doc2,
+                  "user2",
+                  null,
+                  null,
+                  null,
+                  null));
+      final AtomicInteger singlePhaseCallCount = new AtomicInteger();
+      when(queryExecutor.executeRead(
+              eq(SimpleStatement.newInstance(singlePhaseReadCql)), any(), anyInt()))
+          .then(
+              invocation -> {
+                singlePhaseCallCount.incrementAndGet();
+                return Uni.createFrom().item(new MockAsyncResultSet(columnDefs, rows, null));
+              });
+
+      Supplier<CommandResult> execute =
+          twoPhaseSortOperation()
+              .execute(queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      assertThat(callCount.get()).isEqualTo(1);
+      assertThat(singlePhaseCallCount.get()).isEqualTo(1);
+
+      // then result, sorted by the current values
+      CommandResult result = execute.get();
+      assertThat(result.data().getResponseDocuments())
+          .isEqualTo(List.of(objectMapper.readTree(doc2)));
+      assertThat(result.errors()).isNullOrEmpty();
+    }
+
+    /** Mocks the first phase of the {@link #twoPhaseSortOperation()}, sorting doc1 to doc4. */
+    private void mockTwoPhaseSortKeys(
+        QueryExecutor queryExecutor, AtomicInteger callCount, UUID txId2, UUID txId3) {
+      String collectionReadCql =
+          "SELECT key, tx_id, query_text_values['username'], query_dbl_values['username'], query_bool_values['username'], query_null_values['username'], query_timestamp_values['username'] FROM \"%s\".\"%s\" LIMIT %s"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME, 20);
+      ColumnDefinitions columnDefs =
+          buildColumnDefs(
+              TestColumn.keyColumn(),
+              TestColumn.ofUuid("tx_id"),
+              TestColumn.ofVarchar("query_text_values['username']"),
+              TestColumn.ofDecimal("query_dbl_values['username']"),
+              TestColumn.ofBoolean("query_bool_values['username']"),
+              TestColumn.ofVarchar("query_null_values['username']"),
+              TestColumn.ofDate("query_timestamp_values['username']"));
+      List<Row> rows =
+          Arrays.asList(
+              resultRow(
+                  columnDefs,
+                  0,
+                  byteBufferForKey("doc4"),
+                  UUID.randomUUID(),
+                  "user4",
+                  null,
+                  null,
+                  null,
+                  null),
+              resultRow(
+                  columnDefs,
+                  1,
+                  byteBufferForKey("doc2"),
+                  txId2,
+                  "user2",
+                  null,
+                  null,
+                  null,
+                  null),
+              resultRow(
+                  columnDefs,
+                  2,
+                  byteBufferForKey("doc1"),
+                  UUID.randomUUID(),
+                  "user1",
+                  null,
+                  null,
+                  null,
+                  null),
+              resultRow(
+                  columnDefs,
+                  3,
+                  byteBufferForKey("doc3"),
+                  txId3,
+                  "user3",
+                  null,
+                  null,
+                  null,
+                  null));
+      AsyncResultSet results = new MockAsyncResultSet(columnDefs, rows, null);
+      when(queryExecutor.executeRead(
+              eq(SimpleStatement.newInstance(collectionReadCql)), any(), anyInt()))
+          .then(
+              invocation -> {
+                callCount.incrementAndGet();
+                return Uni.createFrom().item(results);
+              });
+    }
+
+    /** Sorted read by username, skipping the first document, returning the next two. */
+    private FindOperation twoPhaseSortOperation() {
+      return FindOperation.sorted(
+              COMMAND_CONTEXT,
+              LogicalExpression.and(),
+              DocumentProjector.identityProjector(),
+              null,
+              2,
+              20,
+              ReadType.SORTED_DOCUMENT,
+              objectMapper,
+              List.of(new FindOperation.OrderBy("username", true)),
+              1,
+              20)
+          .withOptions(new FindOperation.ExecutionOptions(false, true, 8));
+    }
+
     @Test
     public void findAllSortDescending() throws Exception {
       String collectionReadCql =
@@ -2467,6 +2973,96 @@ public class FindOperationTest extends OperationTestBase {
     }
   }
 
+  @Nested
+  class StreamDocuments {
+
+    @Test
+    public void streamAll() throws Exception {
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" LIMIT %s"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME, 20);
+
+      String doc1 =
+          """
+                  {
+                    "_id": "doc1",
+                    "username": "user1"
+                  }
+                  """;
+      String doc2 =
+          """
+                  {
+                    "_id": "doc2",
+                    "username": "user2"
+                  }
+                  """;
+      SimpleStatement stmt = SimpleStatement.newInstance(collectionReadCql);
+      List<Row> rows =
+          Arrays.asList(
+              resultRow(0, "doc1", UUID.randomUUID(), doc1),
+              resultRow(1, "doc2", UUID.randomUUID(), doc2));
+      AsyncResultSet results = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows, null);
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+      when(queryExecutor.executeRead(eq(stmt), any(), anyInt()))
+          .then(invocation -> Uni.createFrom().item(results));
+
+      FindOperation operation =
+          FindOperation.unsorted(
+              COMMAND_CONTEXT,
+              LogicalExpression.and(),
+              DocumentProjector.identityProjector(),
+              null,
+              20,
+              20,
+              ReadType.DOCUMENT,
+              objectMapper);
+
+      assertThat(operation.isStreamable()).isTrue();
+      List<CommandResult> streamed =
+          operation
+              .stream(queryExecutor)
+              .map(Supplier::get)
+              .subscribe()
+              .withSubscriber(AssertSubscriber.create(Long.MAX_VALUE))
+              .awaitCompletion()
+              .getItems();
+
+      // one result per document, followed by the page trailer
+      assertThat(streamed).hasSize(3);
+      assertThat(streamed.get(0).data().getResponseDocuments())
+          .containsExactly(objectMapper.readTree(doc1));
+      assertThat(streamed.get(1).data().getResponseDocuments())
+          .containsExactly(objectMapper.readTree(doc2));
+      assertThat(streamed.get(2).data())
+          .isInstanceOfSatisfying(
+              CommandResult.MultiResponseData.class,
+              data -> {
+                assertThat(data.documents()).isEmpty();
+                assertThat(data.nextPageState()).isNull();
+              });
+      assertThat(streamed).allSatisfy(result -> assertThat(result.errors()).isNullOrEmpty());
+    }
+
+    @Test
+    public void sortedNotStreamable() {
+      FindOperation operation =
+          FindOperation.sorted(
+              COMMAND_CONTEXT,
+              LogicalExpression.and(),
+              DocumentProjector.identityProjector(),
+              null,
+              20,
+              20,
+              ReadType.SORTED_DOCUMENT,
+              objectMapper,
+              List.of(new FindOperation.OrderBy("username", true)),
+              0,
+              20);
+
+      assertThat(operation.isStreamable()).isFalse();
+    }
+  }
+
   @Test
   public void findAllSortByUUIDv6() throws Exception {
     // same for uuidv7
@@ -3,6 +3,7 @@ package io.stargate.sgv2.jsonapi.service.operation.model.impl;
 import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.data.CqlVector;
 import com.datastax.oss.driver.api.core.data.TupleValue;
 import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
@@ -19,6 +20,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonProcessingMetricsReporter;
 import io.stargate.sgv2.jsonapi.config.constants.DocumentConstants;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.StatementRouting;
 import io.stargate.sgv2.jsonapi.service.cqldriver.serializer.CQLBindValues;
 import io.stargate.sgv2.jsonapi.service.shredding.model.DocumentId;
 import jakarta.inject.Inject;
@@ -128,6 +130,26 @@ public class OperationTestBase {
     return CQLBindValues.getDocumentIdValue(DocumentId.fromString(key));
   }
 
+  /**
+   * Factory method for the {@code SimpleStatement} targeting a single document, routed to the
+   * replicas of the document key like the operations do. The document key must be the only tuple
+   * among the bound values.
+   *
+   * @param query CQL of the statement
+   * @param values Bound values, including the document key
+   * @return Statement with the routing info
+   */
+  protected SimpleStatement routedStatement(String query, Object... values) {
+    TupleValue key =
+        Arrays.stream(values)
+            .filter(TupleValue.class::isInstance)
+            .map(TupleValue.class::cast)
+            .findFirst()
+            .orElseThrow();
+    return StatementRouting.routeToKey(
+        SimpleStatement.newInstance(query, values), KEYSPACE_NAME, key);
+  }
+
   protected CqlVector<Float> vectorForStatement(Float... value) {
     return CqlVector.newInstance(value);
   }
@@ -86,16 +86,16 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
   private SimpleStatement nonVectorUpdateStatement(
       WritableShreddedDocument shredDocument, UUID tx_id) {
     String updateCql = UPDATE.formatted(KEYSPACE_NAME, COLLECTION_NAME);
-    return SimpleStatement.newInstance(
+    return routedStatement(
         updateCql,
-        CQLBindValues.getSetValue(shredDocument.existKeys()),
-        CQLBindValues.getIntegerMapValues(shredDocument.arraySize()),
-        CQLBindValues.getStringSetValue(shredDocument.arrayContains()),
-        CQLBindValues.getBooleanMapValues(shredDocument.queryBoolValues()),
-        CQLBindValues.getDoubleMapValues(shredDocument.queryNumberValues()),
-        CQLBindValues.getStringMapValues(shredDocument.queryTextValues()),
-        CQLBindValues.getSetValue(shredDocument.queryNullValues()),
-        CQLBindValues.getTimestampMapValues(shredDocument.queryTimestampValues()),
+        shredDocument.existKeys(),
+        shredDocument.arraySize(),
+        shredDocument.arrayContains(),
+        shredDocument.queryBoolValues(),
+        shredDocument.queryNumberValues(),
+        shredDocument.queryTextValues(),
+        shredDocument.queryNullValues(),
+        shredDocument.queryTimestampValues(),
         shredDocument.docJson(),
         CQLBindValues.getDocumentIdValue(shredDocument.id()),
         tx_id);
@@ -160,7 +160,7 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
     SimpleStatement stmt2 =
-        SimpleStatement.newInstance(
+        routedStatement(
             collectionReadCql,
             boundKeyForStatement("doc1"),
             "username " + new DocValueHasher().getHash("user1").hash());
@@ -302,7 +302,7 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
     SimpleStatement stmt2 =
-        SimpleStatement.newInstance(
+        routedStatement(
             collectionReadCql,
             boundKeyForStatement("doc1"),
             "username " + new DocValueHasher().getHash("user1").hash());
@@ -453,7 +453,7 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
     SimpleStatement stmt2 =
-        SimpleStatement.newInstance(
+        routedStatement(
             collectionReadCql,
             boundKeyForStatement("doc1"),
             "username " + new DocValueHasher().getHash("user1").hash());
@@ -632,7 +632,7 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
     SimpleStatement stmt2 =
-        SimpleStatement.newInstance(
+        routedStatement(
             collectionReadCql,
             boundKeyForStatement("doc1"),
             "status " + new DocValueHasher().getHash("active").hash());
@@ -817,7 +817,7 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
         "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE (key = ? AND array_contains CONTAINS ?) LIMIT 3"
             .formatted(KEYSPACE_NAME, COLLECTION_NAME);
     SimpleStatement stmt2 =
-        SimpleStatement.newInstance(
+        routedStatement(
             collectionReadCql,
             boundKeyForStatement("doc1"),
             "status " + new DocValueHasher().getHash("active").hash());
@@ -832,7 +832,7 @@ public class ReadAndUpdateOperationRetryTest extends OperationTestBase {
             });
 
     SimpleStatement stmt3 =
-        SimpleStatement.newInstance(
+        routedStatement(
             collectionReadCql,
             boundKeyForStatement("doc2"),
             "status " + new DocValueHasher().getHash("active").hash());
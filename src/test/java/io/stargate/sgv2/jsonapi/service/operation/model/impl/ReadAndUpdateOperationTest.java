@@ -45,6 +45,7 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -140,16 +141,16 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
   private SimpleStatement nonVectorUpdateStatement(
       WritableShreddedDocument shredDocument, UUID tx_id) {
     String updateCql = UPDATE.formatted(KEYSPACE_NAME, COLLECTION_NAME);
-    return SimpleStatement.newInstance(
+    return routedStatement(
         updateCql,
-        CQLBindValues.getSetValue(shredDocument.existKeys()),
-        CQLBindValues.getIntegerMapValues(shredDocument.arraySize()),
-        CQLBindValues.getStringSetValue(shredDocument.arrayContains()),
-        CQLBindValues.getBooleanMapValues(shredDocument.queryBoolValues()),
-        CQLBindValues.getDoubleMapValues(shredDocument.queryNumberValues()),
-        CQLBindValues.getStringMapValues(shredDocument.queryTextValues()),
-        CQLBindValues.getSetValue(shredDocument.queryNullValues()),
-        CQLBindValues.getTimestampMapValues(shredDocument.queryTimestampValues()),
+        shredDocument.existKeys(),
+        shredDocument.arraySize(),
+        shredDocument.arrayContains(),
+        shredDocument.queryBoolValues(),
+        shredDocument.queryNumberValues(),
+        shredDocument.queryTextValues(),
+        shredDocument.queryNullValues(),
+        shredDocument.queryTimestampValues(),
         shredDocument.docJson(),
         CQLBindValues.getDocumentIdValue(shredDocument.id()),
         tx_id);
@@ -158,16 +159,16 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
   private SimpleStatement vectorUpdateStatement(
       WritableShreddedDocument shredDocument, UUID tx_id) {
     String updateCql = UPDATE_VECTOR.formatted(KEYSPACE_NAME, COLLECTION_NAME);
-    return SimpleStatement.newInstance(
+    return routedStatement(
         updateCql,
-        CQLBindValues.getSetValue(shredDocument.existKeys()),
-        CQLBindValues.getIntegerMapValues(shredDocument.arraySize()),
-        CQLBindValues.getStringSetValue(shredDocument.arrayContains()),
-        CQLBindValues.getBooleanMapValues(shredDocument.queryBoolValues()),
-        CQLBindValues.getDoubleMapValues(shredDocument.queryNumberValues()),
-        CQLBindValues.getStringMapValues(shredDocument.queryTextValues()),
-        CQLBindValues.getSetValue(shredDocument.queryNullValues()),
-        CQLBindValues.getTimestampMapValues(shredDocument.queryTimestampValues()),
+        shredDocument.existKeys(),
+        shredDocument.arraySize(),
+        shredDocument.arrayContains(),
+        shredDocument.queryBoolValues(),
+        shredDocument.queryNumberValues(),
+        shredDocument.queryTextValues(),
+        shredDocument.queryNullValues(),
+        shredDocument.queryTimestampValues(),
         CQLBindValues.getVectorValue(shredDocument.queryVectorValues()),
         shredDocument.docJson(),
         CQLBindValues.getDocumentIdValue(shredDocument.id()),
@@ -192,8 +193,7 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
               "username": "user1"
             }
             """;
-      SimpleStatement stmt1 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows1 = Arrays.asList(resultRow(0, "doc1", tx_id, doc1));
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       final AtomicInteger callCount1 = new AtomicInteger();
@@ -299,8 +299,7 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
                   "username": "user1"
                 }
                 """;
-      SimpleStatement stmt1 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows1 = Arrays.asList(resultRow(0, "doc1", tx_id, doc1));
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       final AtomicInteger callCount1 = new AtomicInteger();
@@ -804,8 +803,7 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
                 }
                 """;
 
-      SimpleStatement stmt1 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows1 = Arrays.asList(resultRow(0, "doc1", tx_id, doc1));
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       final AtomicInteger callCount1 = new AtomicInteger();
@@ -912,8 +910,7 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
                 }
                 """;
 
-      SimpleStatement stmt1 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows1 = Arrays.asList();
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       final AtomicInteger callCount1 = new AtomicInteger();
@@ -1335,8 +1332,7 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
           "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
-      SimpleStatement stmt1 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows1 = Arrays.asList();
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       final AtomicInteger callCount1 = new AtomicInteger();
@@ -1432,8 +1428,7 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
           "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 1"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
-      SimpleStatement stmt1 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows1 = Arrays.asList();
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       final AtomicInteger callCount1 = new AtomicInteger();
@@ -1649,6 +1644,134 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
       assertThat(result.errors()).isNull();
     }
 
+    @Test
+    public void concurrentUpdatesKeepOrder() throws Exception {
+      QueryExecutor queryExecutor = mock(QueryExecutor.class);
+
+      // read
+      String collectionReadCql =
+          "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE array_contains CONTAINS ? LIMIT 21"
+              .formatted(KEYSPACE_NAME, COLLECTION_NAME);
+
+      UUID tx_id1 = UUID.randomUUID();
+      UUID tx_id2 = UUID.randomUUID();
+      String doc1 =
+          """
+                      {
+                        "_id": "doc1",
+                        "status" : "active"
+                      }
+                      """;
+
+      String doc1Updated =
+          """
+                      {
+                        "_id": "doc1",
+                        "status" : "active",
+                        "name" : "test"
+                      }
+                      """;
+
+      String doc2 =
+          """
+                      {
+                        "_id": "doc2",
+                        "status" : "active"
+                      }
+                      """;
+
+      String doc2Updated =
+          """
+                      {
+                        "_id": "doc2",
+                        "status" : "active",
+                        "name" : "test"
+                      }
+                      """;
+
+      SimpleStatement stmt1 =
+          SimpleStatement.newInstance(
+              collectionReadCql, "status " + new DocValueHasher().getHash("active").hash());
+      List<Row> rows1 =
+          Arrays.asList(resultRow(0, "doc1", tx_id1, doc1), resultRow(0, "doc2", tx_id2, doc2));
+      AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
+      when(queryExecutor.executeRead(eq(stmt1), any(), anyInt()))
+          .thenReturn(Uni.createFrom().item(results1));
+
+      // update of the first document completes only after the second one is executed
+      List<Row> appliedRows = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, Boolean.TRUE));
+      AsyncResultSet appliedResults = new MockAsyncResultSet(COLUMNS_APPLIED, appliedRows, null);
+      CompletableFuture<AsyncResultSet> secondUpdate = new CompletableFuture<>();
+      SimpleStatement stmt2 =
+          nonVectorUpdateStatement(shredder.shred(objectMapper.readTree(doc1Updated)), tx_id1);
+      when(queryExecutor.executeWrite(eq(stmt2)))
+          .thenReturn(Uni.createFrom().completionStage(secondUpdate));
+
+      SimpleStatement stmt3 =
+          nonVectorUpdateStatement(shredder.shred(objectMapper.readTree(doc2Updated)), tx_id2);
+      when(queryExecutor.executeWrite(eq(stmt3)))
+          .then(
+              invocation -> {
+                secondUpdate.complete(appliedResults);
+                return Uni.createFrom().item(appliedResults);
+              });
+
+      LogicalExpression implicitAnd = LogicalExpression.and();
+      implicitAnd.comparisonExpressions.add(new ComparisonExpression(null, null, null));
+      List<DBFilterBase> filters =
+          List.of(
+              new DBFilterBase.TextFilter(
+                  "status", DBFilterBase.MapFilterBase.Operator.EQ, "active"));
+      implicitAnd.comparisonExpressions.get(0).setDBFilters(filters);
+      FindOperation findOperation =
+          FindOperation.unsorted(
+              COMMAND_CONTEXT,
+              implicitAnd,
+              DocumentProjector.identityProjector(),
+              null,
+              21,
+              20,
+              ReadType.DOCUMENT,
+              objectMapper);
+
+      DocumentUpdater documentUpdater =
+          DocumentUpdater.construct(
+              DocumentUpdaterUtils.updateClause(
+                  UpdateOperator.SET, objectMapper.createObjectNode().put("name", "test")));
+      ReadAndUpdateOperation operation =
+          new ReadAndUpdateOperation(
+              COMMAND_CONTEXT,
+              findOperation,
+              documentUpdater,
+              true,
+              true,
+              false,
+              shredder,
+              DocumentProjector.identityProjector(),
+              20,
+              3,
+              2);
+
+      Supplier<CommandResult> execute =
+          operation
+              .execute(queryExecutor)
+              .subscribe()
+              .withSubscriber(UniAssertSubscriber.create())
+              .awaitItem()
+              .getItem();
+
+      // then result, with the first read document, even if updated last
+      CommandResult result = execute.get();
+      assertThat(result.status())
+          .hasSize(2)
+          .containsEntry(CommandStatus.MATCHED_COUNT, 2)
+          .containsEntry(CommandStatus.MODIFIED_COUNT, 2);
+      assertThat(result.errors()).isNull();
+      assertThat(result.data().getResponseDocuments())
+          .singleElement()
+          .isEqualTo(objectMapper.readTree(doc1Updated));
+    }
+
     @Test
     public void withUpsert() throws Exception {
       QueryExecutor queryExecutor = mock(QueryExecutor.class);
@@ -1657,8 +1780,7 @@ public class ReadAndUpdateOperationTest extends OperationTestBase {
           "SELECT key, tx_id, doc_json FROM \"%s\".\"%s\" WHERE key = ? LIMIT 21"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
 
-      SimpleStatement stmt1 =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement stmt1 = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> rows1 = Arrays.asList();
       AsyncResultSet results1 = new MockAsyncResultSet(KEY_TXID_JSON_COLUMNS, rows1, null);
       final AtomicInteger callCount1 = new AtomicInteger();
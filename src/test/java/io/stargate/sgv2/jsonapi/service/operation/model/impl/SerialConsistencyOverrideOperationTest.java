@@ -92,8 +92,7 @@ public class SerialConsistencyOverrideOperationTest extends OperationTestBase {
 
       final ColumnDefinitions keyAndTxtIdColumns =
           buildColumnDefs(TestColumn.keyColumn(), TestColumn.ofUuid("tx_id"));
-      SimpleStatement selectStmt =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement selectStmt = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> selectRows =
           Arrays.asList(resultRow(keyAndTxtIdColumns, 0, byteBufferForKey("doc1"), tx_id));
       AsyncResultSet selectResults = new MockAsyncResultSet(keyAndTxtIdColumns, selectRows, null);
@@ -110,7 +109,7 @@ public class SerialConsistencyOverrideOperationTest extends OperationTestBase {
           "DELETE FROM \"%s\".\"%s\" WHERE key = ? IF tx_id = ?"
               .formatted(KEYSPACE_NAME, COLLECTION_NAME);
       SimpleStatement deleteStmt =
-          SimpleStatement.newInstance(collectionDeleteCql, boundKeyForStatement("doc1"), tx_id);
+          routedStatement(collectionDeleteCql, boundKeyForStatement("doc1"), tx_id);
       List<Row> deleteRows = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, byteBufferFrom(true)));
       AsyncResultSet deleteResults = new MockAsyncResultSet(COLUMNS_APPLIED, deleteRows, null);
       final AtomicInteger callCountDelete = new AtomicInteger();
@@ -183,19 +182,19 @@ public class SerialConsistencyOverrideOperationTest extends OperationTestBase {
       WritableShreddedDocument shredDocument = shredder.shred(jsonNode);
 
       SimpleStatement stmt =
-          SimpleStatement.newInstance(
+          routedStatement(
               INSERT_CQL.formatted(KEYSPACE_NAME, COLLECTION_NAME),
               CQLBindValues.getDocumentIdValue(shredDocument.id()),
               shredDocument.nextTxID(),
               shredDocument.docJson(),
-              CQLBindValues.getSetValue(shredDocument.existKeys()),
-              CQLBindValues.getIntegerMapValues(shredDocument.arraySize()),
+              shredDocument.existKeys(),
+              shredDocument.arraySize(),
               shredDocument.arrayContains(),
-              CQLBindValues.getBooleanMapValues(shredDocument.queryBoolValues()),
-              CQLBindValues.getDoubleMapValues(shredDocument.queryNumberValues()),
-              CQLBindValues.getStringMapValues(shredDocument.queryTextValues()),
-              CQLBindValues.getSetValue(shredDocument.queryNullValues()),
-              CQLBindValues.getTimestampMapValues(shredDocument.queryTimestampValues()));
+              shredDocument.queryBoolValues(),
+              shredDocument.queryNumberValues(),
+              shredDocument.queryTextValues(),
+              shredDocument.queryNullValues(),
+              shredDocument.queryTimestampValues());
 
       List<Row> resultRows = Arrays.asList(resultRow(COLUMNS_APPLIED, 0, byteBufferFrom(true)));
       AsyncResultSet results = new MockAsyncResultSet(COLUMNS_APPLIED, resultRows, null);
@@ -250,8 +249,7 @@ public class SerialConsistencyOverrideOperationTest extends OperationTestBase {
       final ColumnDefinitions keyTxIdDocColumns =
           buildColumnDefs(
               TestColumn.keyColumn(), TestColumn.ofUuid("tx_id"), TestColumn.ofVarchar("doc_json"));
-      SimpleStatement selectStmt =
-          SimpleStatement.newInstance(collectionReadCql, boundKeyForStatement("doc1"));
+      SimpleStatement selectStmt = routedStatement(collectionReadCql, boundKeyForStatement("doc1"));
       List<Row> selectRows =
           Arrays.asList(resultRow(keyTxIdDocColumns, 0, byteBufferForKey("doc1"), tx_id, doc1));
       AsyncResultSet selectResults = new MockAsyncResultSet(keyTxIdDocColumns, selectRows, null);
@@ -295,16 +293,16 @@ public class SerialConsistencyOverrideOperationTest extends OperationTestBase {
       WritableShreddedDocument shredDocument = shredder.shred(jsonNode);
 
       SimpleStatement updateStmt =
-          SimpleStatement.newInstance(
+          routedStatement(
               updateCql.formatted(KEYSPACE_NAME, COLLECTION_NAME),
-              CQLBindValues.getSetValue(shredDocument.existKeys()),
-              CQLBindValues.getIntegerMapValues(shredDocument.arraySize()),
+              shredDocument.existKeys(),
+              shredDocument.arraySize(),
               shredDocument.arrayContains(),
-              CQLBindValues.getBooleanMapValues(shredDocument.queryBoolValues()),
-              CQLBindValues.getDoubleMapValues(shredDocument.queryNumberValues()),
-              CQLBindValues.getStringMapValues(shredDocument.queryTextValues()),
-              CQLBindValues.getSetValue(shredDocument.queryNullValues()),
-              CQLBindValues.getTimestampMapValues(shredDocument.queryTimestampValues()),
+              shredDocument.queryBoolValues(),
+              shredDocument.queryNumberValues(),
+              shredDocument.queryTextValues(),
+              shredDocument.queryNullValues(),
+              shredDocument.queryTimestampValues(),
               shredDocument.docJson(),
               CQLBindValues.getDocumentIdValue(shredDocument.id()),
               tx_id);
@@ -0,0 +1,179 @@
+package io.stargate.sgv2.jsonapi.service.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.common.testprofiles.NoGlobalResourcesTestProfile;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
+import io.stargate.sgv2.jsonapi.api.model.command.CommandStatus;
+import io.stargate.sgv2.jsonapi.api.model.command.impl.InsertManyCommand;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import jakarta.inject.Inject;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@QuarkusTest
+@TestProfile(NoGlobalResourcesTestProfile.Impl.class)
+public class BulkInsertProcessorTest {
+
+  private static final CommandContext COMMAND_CONTEXT =
+      new CommandContext("namespace", "collection");
+
+  @Inject BulkInsertProcessor bulkInsertProcessor;
+  @Inject OperationsConfig operationsConfig;
+  @InjectMock MeteredCommandProcessor meteredCommandProcessor;
+
+  @Nested
+  class InsertDocuments {
+
+    @Test
+    public void insertedInBatches() {
+      int batchSize = operationsConfig.maxDocumentInsertCount();
+      int documentCount = batchSize * 2 + 1;
+      when(meteredCommandProcessor.processCommand(
+              eq(COMMAND_CONTEXT), any(InsertManyCommand.class)))
+          .thenReturn(Uni.createFrom().item(new CommandResult(Collections.emptyList())));
+
+      List<CommandResult> results =
+          bulkInsertProcessor
+              .insertDocuments(COMMAND_CONTEXT, ndjson(documentCount, ""), true)
+              .collect()
+              .asList()
+              .await()
+              .atMost(Duration.ofMinutes(1));
+
+      assertThat(results).hasSize(3);
+      ArgumentCaptor<InsertManyCommand> commands =
+          ArgumentCaptor.forClass(InsertManyCommand.class);
+      verify(meteredCommandProcessor, times(3))
+          .processCommand(eq(COMMAND_CONTEXT), commands.capture());
+      assertThat(commands.getAllValues())
+          .extracting(command -> command.documents().size())
+          .containsExactly(batchSize, batchSize, 1);
+      assertThat(commands.getAllValues())
+          .allSatisfy(
+              command -> {
+                assertThat(command.options().ordered()).isFalse();
+                assertThat(command.options().skipExistenceCheck()).isTrue();
+              });
+    }
+
+    @Test
+    public void resultsInBatchOrder() {
+      int batchSize = operationsConfig.maxDocumentInsertCount();
+      mockFirstBatchesSlower(batchSize);
+
+      List<CommandResult> results =
+          bulkInsertProcessor
+              .insertDocuments(COMMAND_CONTEXT, ndjson(batchSize * 3, ""), null)
+              .collect()
+              .asList()
+              .await()
+              .atMost(Duration.ofMinutes(1));
+
+      // batches complete in the reverse order, results keep the order of the batches
+      assertThat(results)
+          .extracting(result -> result.status().get(CommandStatus.INSERTED_IDS))
+          .containsExactly(
+              List.of("doc0"), List.of("doc" + batchSize), List.of("doc" + batchSize * 2));
+    }
+
+    @Test
+    public void unparseableDocumentAfterBatchesInOrder() {
+      int batchSize = operationsConfig.maxDocumentInsertCount();
+      mockFirstBatchesSlower(batchSize);
+
+      List<CommandResult> results =
+          bulkInsertProcessor
+              .insertDocuments(COMMAND_CONTEXT, ndjson(batchSize * 2, "{\"_id\": "), null)
+              .collect()
+              .asList()
+              .await()
+              .atMost(Duration.ofMinutes(1));
+
+      assertThat(results).hasSize(3);
+      assertThat(results.subList(0, 2))
+          .extracting(result -> result.status().get(CommandStatus.INSERTED_IDS))
+          .containsExactly(List.of("doc0"), List.of("doc" + batchSize));
+      assertThat(results.get(2).errors())
+          .singleElement()
+          .satisfies(
+              error ->
+                  assertThat(error.fields())
+                      .containsEntry("errorCode", ErrorCode.DOCUMENT_UNPARSEABLE.name()));
+    }
+
+    @Test
+    public void unparseableDocument() {
+      int batchSize = operationsConfig.maxDocumentInsertCount();
+      when(meteredCommandProcessor.processCommand(
+              eq(COMMAND_CONTEXT), any(InsertManyCommand.class)))
+          .thenReturn(Uni.createFrom().item(new CommandResult(Collections.emptyList())));
+
+      List<CommandResult> results =
+          bulkInsertProcessor
+              .insertDocuments(COMMAND_CONTEXT, ndjson(batchSize, "{\"_id\": "), null)
+              .collect()
+              .asList()
+              .await()
+              .atMost(Duration.ofMinutes(1));
+
+      // the complete first batch is inserted, the failure is the last result
+      verify(meteredCommandProcessor, times(1))
+          .processCommand(eq(COMMAND_CONTEXT), any(InsertManyCommand.class));
+      assertThat(results).hasSize(2);
+      assertThat(results.get(1).errors())
+          .singleElement()
+          .satisfies(
+              error ->
+                  assertThat(error.fields())
+                      .containsEntry("errorCode", ErrorCode.DOCUMENT_UNPARSEABLE.name()));
+    }
+  }
+
+  /**
+   * Mocks the insert of a batch to return the id of its first document, the batches starting with
+   * the first documents of the stream completing last.
+   */
+  private void mockFirstBatchesSlower(int batchSize) {
+    when(meteredCommandProcessor.processCommand(
+            eq(COMMAND_CONTEXT), any(InsertManyCommand.class)))
+        .thenAnswer(
+            invocation -> {
+              InsertManyCommand command = invocation.getArgument(1);
+              String firstId = command.documents().get(0).get("_id").asText();
+              int batch = Integer.parseInt(firstId.substring("doc".length())) / batchSize;
+              return Uni.createFrom()
+                  .item(new CommandResult(Map.of(CommandStatus.INSERTED_IDS, List.of(firstId))))
+                  .onItem()
+                  .delayIt()
+                  .by(Duration.ofMillis(100L * (3 - batch)));
+            });
+  }
+
+  private static ByteArrayInputStream ndjson(int documentCount, String trailer) {
+    StringBuilder ndjson = new StringBuilder();
+    for (int i = 0; i < documentCount; ++i) {
+      ndjson.append("{\"_id\": \"doc").append(i).append("\", \"value\": ").append(i).append("}\n");
+    }
+    ndjson.append(trailer);
+    return new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8));
+  }
+}
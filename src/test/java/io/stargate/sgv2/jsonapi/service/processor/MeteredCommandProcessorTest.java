@@ -2,18 +2,26 @@ package io.stargate.sgv2.jsonapi.service.processor;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.stargate.sgv2.api.common.config.MetricsConfig;
 import io.stargate.sgv2.common.testprofiles.NoGlobalResourcesTestProfile;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandContext;
 import io.stargate.sgv2.jsonapi.api.model.command.CommandResult;
 import io.stargate.sgv2.jsonapi.api.model.command.impl.CountDocumentsCommand;
 import io.stargate.sgv2.jsonapi.api.model.command.impl.FindCommand;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonApiMetricsConfig;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
 import java.time.Duration;
@@ -33,6 +41,9 @@ public class MeteredCommandProcessorTest {
   @InjectMock protected CommandProcessor commandProcessor;
   @InjectMock protected DataApiRequestInfo dataApiRequestInfo;
   @Inject ObjectMapper objectMapper;
+  @Inject MeterRegistry meterRegistry;
+  @Inject JsonApiMetricsConfig jsonApiMetricsConfig;
+  @Inject MetricsConfig metricsConfig;
 
   @Nested
   class CustomMetrics {
@@ -196,4 +207,111 @@ public class MeteredCommandProcessorTest {
               });
     }
   }
+
+  @Nested
+  class StreamMetrics {
+
+    private final CommandContext commandContext = new CommandContext("namespace", "collection");
+
+    @Test
+    public void streamFailure() throws Exception {
+      FindCommand command = findCommand();
+      Mockito.when(commandProcessor.streamCommand(commandContext, command))
+          .thenReturn(
+              Multi.createFrom().failure(new JsonApiException(ErrorCode.COMMAND_NOT_IMPLEMENTED)));
+      Mockito.when(dataApiRequestInfo.getTenantId()).thenReturn(Optional.of("stream-failure"));
+
+      Throwable failure =
+          catchThrowable(
+              () ->
+                  meteredCommandProcessor
+                      .streamCommand(commandContext, command)
+                      .collect()
+                      .asList()
+                      .await()
+                      .atMost(Duration.ofMinutes(1)));
+
+      assertThat(failure).isInstanceOf(JsonApiException.class);
+      assertThat(streamTimer("stream-failure"))
+          .satisfies(
+              timer -> {
+                assertThat(timer.count()).isEqualTo(1);
+                assertThat(errorTag(timer)).isEqualTo("true");
+                assertThat(timer.getId().getTag(jsonApiMetricsConfig.errorCode()))
+                    .isEqualTo(ErrorCode.COMMAND_NOT_IMPLEMENTED.name());
+              });
+    }
+
+    @Test
+    public void streamCancelled() throws Exception {
+      FindCommand command = findCommand();
+      // emits one result, then never completes
+      Mockito.when(commandProcessor.streamCommand(commandContext, command))
+          .thenReturn(
+              Multi.createBy()
+                  .concatenating()
+                  .streams(
+                      Multi.createFrom().item(new CommandResult(Collections.emptyList())),
+                      Multi.createFrom().nothing()));
+      Mockito.when(dataApiRequestInfo.getTenantId()).thenReturn(Optional.of("stream-cancelled"));
+
+      List<CommandResult> results =
+          meteredCommandProcessor
+              .streamCommand(commandContext, command)
+              .select()
+              .first()
+              .collect()
+              .asList()
+              .await()
+              .atMost(Duration.ofMinutes(1));
+
+      assertThat(results).hasSize(1);
+      assertThat(streamTimer("stream-cancelled"))
+          .satisfies(
+              timer -> {
+                assertThat(timer.count()).isEqualTo(1);
+                assertThat(errorTag(timer)).isEqualTo("false");
+              });
+    }
+
+    @Test
+    public void streamEmpty() throws Exception {
+      FindCommand command = findCommand();
+      Mockito.when(commandProcessor.streamCommand(commandContext, command))
+          .thenReturn(Multi.createFrom().empty());
+      Mockito.when(dataApiRequestInfo.getTenantId()).thenReturn(Optional.of("stream-empty"));
+
+      List<CommandResult> results =
+          meteredCommandProcessor
+              .streamCommand(commandContext, command)
+              .collect()
+              .asList()
+              .await()
+              .atMost(Duration.ofMinutes(1));
+
+      assertThat(results).isEmpty();
+      assertThat(streamTimer("stream-empty"))
+          .satisfies(
+              timer -> {
+                assertThat(timer.count()).isEqualTo(1);
+                assertThat(errorTag(timer)).isEqualTo("false");
+              });
+    }
+
+    private FindCommand findCommand() throws Exception {
+      return objectMapper.readValue("{\"find\": {}}", FindCommand.class);
+    }
+
+    private String errorTag(Timer timer) {
+      return timer.getId().getTag(metricsConfig.tenantRequestCounter().errorTag());
+    }
+
+    private Timer streamTimer(String tenant) {
+      return meterRegistry
+          .find(jsonApiMetricsConfig.metricsName())
+          .tag(jsonApiMetricsConfig.command(), "FindCommand")
+          .tag(metricsConfig.tenantRequestCounter().tenantTag(), tenant)
+          .timer();
+    }
+  }
 }
@@ -13,6 +13,8 @@ import io.stargate.sgv2.jsonapi.exception.JsonApiException;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 @QuarkusTest
 @TestProfile(NoGlobalResourcesTestProfile.Impl.class)
@@ -1268,4 +1270,72 @@ public class DocumentProjectorTest {
                             """));
     }
   }
+
+  // Token-stream projection must produce the same result as the tree-based one
+  @Nested
+  class ProjectorReadWithProjection {
+    private static final String DOC =
+        """
+        {
+          "_id" : "doc1",
+          "value1" : 42,
+          "value2" : "text",
+          "nested" : {
+            "x" : 1,
+            "y" : { "z" : true, "w" : [ 1, 2, 3 ] },
+            "empty" : { }
+          },
+          "array" : [ 1, { "x" : 1, "y" : 2 }, [ { "x" : 3 } ], "a", "b" ],
+          "scalarAtBranch" : 5,
+          "$vector" : [ 0.25, 0.5 ]
+        }
+        """;
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "{ \"value1\" : 1 }",
+          "{ \"value1\" : 1, \"_id\" : 0 }",
+          "{ \"nested.y.z\" : 1, \"nested.empty\" : 1 }",
+          "{ \"nested\" : { \"y\" : 1 } }",
+          "{ \"array.x\" : 1 }",
+          "{ \"scalarAtBranch.x\" : 1 }",
+          "{ \"missing\" : 1 }",
+          "{ \"value1\" : 0 }",
+          "{ \"_id\" : 0 }",
+          "{ \"nested.y\" : 0, \"array.x\" : 0 }",
+          "{ \"$vector\" : 0 }",
+          "{ \"array\" : { \"$slice\" : 2 } }",
+          "{ \"array\" : { \"$slice\" : -2 } }",
+          "{ \"array\" : { \"$slice\" : [ 1, 2 ] }, \"value1\" : 1 }",
+          "{ \"array\" : { \"$slice\" : [ -3, 2 ] }, \"value1\" : 1 }",
+          "{ \"nested.y.w\" : { \"$slice\" : 1 }, \"value2\" : 0 }",
+          "{ \"value1\" : { \"$slice\" : 1 } }",
+        })
+    public void sameAsTreeProjection(String definition) throws Exception {
+      DocumentProjector projector =
+          DocumentProjector.createFromDefinition(objectMapper.readTree(definition));
+
+      JsonNode expected = objectMapper.readTree(DOC);
+      projector.applyProjection(expected);
+      JsonNode actual =
+          projector.readWithProjection(objectMapper, objectMapper.createParser(DOC), null);
+
+      assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void includeSimilarity() throws Exception {
+      DocumentProjector projector =
+          DocumentProjector.createFromDefinition(objectMapper.readTree("{ \"value1\" : 1 }"), true);
+
+      JsonNode expected = objectMapper.readTree(DOC);
+      projector.applyProjection(expected, 0.5f);
+      JsonNode actual =
+          projector.readWithProjection(objectMapper, objectMapper.createParser(DOC), 0.5f);
+
+      assertThat(actual).isEqualTo(expected);
+      assertThat(actual.get("$similarity").floatValue()).isEqualTo(0.5f);
+    }
+  }
 }
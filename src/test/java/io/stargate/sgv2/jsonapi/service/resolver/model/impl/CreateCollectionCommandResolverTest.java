@@ -12,8 +12,10 @@ import io.stargate.sgv2.jsonapi.api.model.command.impl.CreateCollectionCommand;
 import io.stargate.sgv2.jsonapi.config.constants.TableCommentConstants;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.CreateCollectionOperation;
+import io.stargate.sgv2.jsonapi.service.shredding.model.DocValueHashFormat;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -175,6 +177,48 @@ class CreateCollectionCommandResolverTest {
               });
     }
 
+    @Test
+    public void happyPathInsertDefaults() throws Exception {
+      String json =
+          """
+          {
+            "createCollection": {
+              "name" : "my_collection",
+              "options": {
+                "insert": {
+                  "skipExistenceCheck" : true
+                }
+              }
+            }
+          }
+          """;
+
+      CreateCollectionCommand command = objectMapper.readValue(json, CreateCollectionCommand.class);
+      Operation result = resolver.resolveCommand(commandContext, command);
+
+      assertThat(result)
+          .isInstanceOfSatisfying(
+              CreateCollectionOperation.class,
+              op -> {
+                assertThat(op.name()).isEqualTo("my_collection");
+                assertThat(op.vectorSearch()).isEqualTo(false);
+                assertThat(op.comment())
+                    .isEqualTo(
+                        "{\"collection\":{\"name\":\"my_collection\",\"schema_version\":%s,\"options\":{\"defaultId\":{\"type\":\"\"},\"insert\":{\"skipExistenceCheck\":true}}}}",
+                        TableCommentConstants.SCHEMA_VERSION_VALUE);
+                CollectionSettings settings =
+                    CollectionSettings.getCollectionSettings(
+                        "my_collection",
+                        false,
+                        0,
+                        CollectionSettings.SimilarityFunction.UNDEFINED,
+                        op.comment(),
+                        objectMapper);
+                assertThat(settings.skipExistenceCheck()).isTrue();
+                assertThat(settings.docValueHashFormat()).isEqualTo(DocValueHashFormat.V1);
+              });
+    }
+
     @Test
     public void indexingOptionsError() throws Exception {
       String json =
@@ -54,6 +54,8 @@ public class DeleteManyCommandResolverTest {
                 assertThat(op.commandContext()).isEqualTo(commandContext);
                 assertThat(op.deleteLimit()).isEqualTo(operationsConfig.maxDocumentDeleteCount());
                 assertThat(op.retryLimit()).isEqualTo(operationsConfig.lwt().retries());
+                assertThat(op.prefetchNextPage())
+                    .isEqualTo(operationsConfig.deletePagePrefetchEnabled());
                 assertThat(op.findOperation())
                     .isInstanceOfSatisfying(
                         FindOperation.class,
@@ -341,6 +341,8 @@ public class FindCommandResolverTest {
                     .isEqualTo(operationsConfig.maxDocumentSortCount());
                 assertThat(find.singleResponse()).isFalse();
                 assertThat(find.orderBy()).containsOnly(orderBy);
+                assertThat(find.options().twoPhaseSort())
+                    .isEqualTo(operationsConfig.twoPhaseSortEnabled());
                 assertThat(find.logicalExpression().comparisonExpressions).isEmpty();
               });
     }
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
@@ -13,6 +15,7 @@ import io.stargate.sgv2.jsonapi.api.model.command.impl.InsertManyCommand;
 import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
 import io.stargate.sgv2.jsonapi.exception.ErrorCode;
 import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
 import io.stargate.sgv2.jsonapi.service.operation.model.Operation;
 import io.stargate.sgv2.jsonapi.service.operation.model.impl.InsertOperation;
 import io.stargate.sgv2.jsonapi.service.shredding.Shredder;
@@ -67,6 +70,7 @@ public class InsertManyCommandResolverTest {
 
                 assertThat(op.commandContext()).isEqualTo(commandContext);
                 assertThat(op.ordered()).isFalse();
+                assertThat(op.skipExistenceCheck()).isFalse();
                 assertThat(op.documents()).containsExactly(first, second);
               });
     }
@@ -186,6 +190,114 @@ public class InsertManyCommandResolverTest {
               });
     }
 
+    @Test
+    public void optionsSkipExistenceCheck() throws Exception {
+      String json =
+          """
+          {
+            "insertMany": {
+              "documents": [
+                {
+                  "_id": "1",
+                  "location": "London"
+                }
+              ],
+              "options": {
+                "skipExistenceCheck": true
+              }
+            }
+          }
+          """;
+
+      InsertManyCommand command = objectMapper.readValue(json, InsertManyCommand.class);
+      Operation result = resolver.resolveCommand(commandContext, command);
+
+      assertThat(result)
+          .isInstanceOfSatisfying(
+              InsertOperation.class,
+              op -> {
+                assertThat(op.ordered()).isFalse();
+                assertThat(op.skipExistenceCheck()).isTrue();
+              });
+    }
+
+    @Test
+    public void collectionSkipExistenceCheck() throws Exception {
+      String json =
+          """
+          {
+            "insertMany": {
+              "documents": [
+                {
+                  "_id": "1",
+                  "location": "London"
+                }
+              ]
+            }
+          }
+          """;
+      CommandContext skipExistenceCheckContext =
+          new CommandContext(
+              "namespace",
+              "collection",
+              new CollectionSettings(
+                  "collection",
+                  CollectionSettings.IdConfig.defaultIdConfig(),
+                  CollectionSettings.VectorConfig.notEnabledVectorConfig(),
+                  null,
+                  true),
+              null,
+              null,
+              null);
+
+      InsertManyCommand command = objectMapper.readValue(json, InsertManyCommand.class);
+      Operation result = resolver.resolveCommand(skipExistenceCheckContext, command);
+
+      assertThat(result)
+          .isInstanceOfSatisfying(
+              InsertOperation.class, op -> assertThat(op.skipExistenceCheck()).isTrue());
+    }
+
+    @Test
+    public void optionsOverrideCollectionSkipExistenceCheck() throws Exception {
+      String json =
+          """
+          {
+            "insertMany": {
+              "documents": [
+                {
+                  "_id": "1",
+                  "location": "London"
+                }
+              ],
+              "options": {
+                "skipExistenceCheck": false
+              }
+            }
+          }
+          """;
+      CommandContext skipExistenceCheckContext =
+          new CommandContext(
+              "namespace",
+              "collection",
+              new CollectionSettings(
+                  "collection",
+                  CollectionSettings.IdConfig.defaultIdConfig(),
+                  CollectionSettings.VectorConfig.notEnabledVectorConfig(),
+                  null,
+                  true),
+              null,
+              null,
+              null);
+
+      InsertManyCommand command = objectMapper.readValue(json, InsertManyCommand.class);
+      Operation result = resolver.resolveCommand(skipExistenceCheckContext, command);
+
+      assertThat(result)
+          .isInstanceOfSatisfying(
+              InsertOperation.class, op -> assertThat(op.skipExistenceCheck()).isFalse());
+    }
+
     @Test
     public void shredderFailure() throws Exception {
       String json =
@@ -210,5 +322,51 @@ public class InsertManyCommandResolverTest {
           .isInstanceOf(JsonApiException.class)
           .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SHRED_BAD_DOCUMENT_TYPE);
     }
+
+    @Test
+    public void manyDocumentsKeepOrder() throws Exception {
+      ArrayNode documents = objectMapper.createArrayNode();
+      for (int i = 0; i < 20; ++i) {
+        documents.addObject().put("_id", String.valueOf(i)).put("value", i);
+      }
+      InsertManyCommand command = insertManyCommand(documents);
+
+      Operation result =
+          resolver.resolveCommandAsync(commandContext, command).await().indefinitely();
+
+      assertThat(result)
+          .isInstanceOfSatisfying(
+              InsertOperation.class,
+              op ->
+                  assertThat(op.documents())
+                      .containsExactlyElementsOf(
+                          command.documents().stream().map(shredder::shred).toList()));
+    }
+
+    @Test
+    public void firstShredderFailureInDocumentOrder() throws Exception {
+      ArrayNode documents = objectMapper.createArrayNode();
+      for (int i = 0; i < 20; ++i) {
+        documents.addObject().put("_id", String.valueOf(i));
+      }
+      // both documents fail, failure of the first one is reported
+      documents.set(5, objectMapper.getNodeFactory().textNode("primitive"));
+      ((ObjectNode) documents.get(10)).putObject("date").put("$date", "not-a-date");
+      InsertManyCommand command = insertManyCommand(documents);
+
+      Throwable failure =
+          catchThrowable(
+              () -> resolver.resolveCommandAsync(commandContext, command).await().indefinitely());
+
+      assertThat(failure)
+          .isInstanceOf(JsonApiException.class)
+          .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SHRED_BAD_DOCUMENT_TYPE);
+    }
+
+    private InsertManyCommand insertManyCommand(ArrayNode documents) throws Exception {
+      ObjectNode json = objectMapper.createObjectNode();
+      json.putObject("insertMany").set("documents", documents);
+      return objectMapper.treeToValue(json, InsertManyCommand.class);
+    }
   }
 }
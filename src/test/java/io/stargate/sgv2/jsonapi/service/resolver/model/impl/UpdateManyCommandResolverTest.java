@@ -67,6 +67,8 @@ public class UpdateManyCommandResolverTest {
                 assertThat(op.shredder()).isEqualTo(shredder);
                 assertThat(op.updateLimit()).isEqualTo(operationsConfig.maxDocumentUpdateCount());
                 assertThat(op.retryLimit()).isEqualTo(operationsConfig.lwt().retries());
+                assertThat(op.updateConcurrency())
+                    .isEqualTo(operationsConfig.maxDocumentUpdateConcurrency());
                 assertThat(op.documentUpdater())
                     .isInstanceOfSatisfying(
                         DocumentUpdater.class,
@@ -21,6 +21,7 @@ import io.stargate.sgv2.jsonapi.service.shredding.model.WritableShreddedDocument
 import jakarta.inject.Inject;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -58,24 +59,22 @@ public class ShredderTest {
       final JsonNode inputDoc = objectMapper.readTree(inputJson);
       WritableShreddedDocument doc = shredder.shred(inputDoc);
       assertThat(doc.id()).isEqualTo(DocumentId.fromString("abc"));
-      List<JsonPath> expPaths =
+      List<String> expPaths =
           Arrays.asList(
-              JsonPath.from("_id"),
-              JsonPath.from("name"),
-              JsonPath.from("values"),
-              JsonPath.from("values.0", true),
-              JsonPath.from("values.1", true),
-              JsonPath.from("extra_stuff"),
-              JsonPath.from("nullable"),
-              JsonPath.from("$vector"));
+              "_id",
+              "name",
+              "values",
+              "values.0",
+              "values.1",
+              "extra_stuff",
+              "nullable",
+              "$vector");
 
       // First verify paths
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
 
       // Then array info (doc has one array, with 2 elements)
-      assertThat(doc.arraySize())
-          .hasSize(1)
-          .containsEntry(JsonPath.from("values"), Integer.valueOf(2));
+      assertThat(doc.arraySize()).hasSize(1).containsEntry("values", Integer.valueOf(2));
 
       // We have 2 from array, plus 3 main level properties (_id excluded)
       assertThat(doc.arrayContains()).hasSize(7);
@@ -95,23 +94,23 @@ public class ShredderTest {
 
       // Then atomic value containers
       assertThat(doc.queryBoolValues())
-          .isEqualTo(Collections.singletonMap(JsonPath.from("extra_stuff"), Boolean.TRUE));
-      Map<JsonPath, BigDecimal> expNums = new LinkedHashMap<>();
-      expNums.put(JsonPath.from("values.0", true), BigDecimal.valueOf(1));
-      expNums.put(JsonPath.from("values.1", true), BigDecimal.valueOf(2));
+          .isEqualTo(Collections.singletonMap("extra_stuff", (byte) 1));
+      Map<String, BigDecimal> expNums = new LinkedHashMap<>();
+      expNums.put("values.0", BigDecimal.valueOf(1));
+      expNums.put("values.1", BigDecimal.valueOf(2));
       assertThat(doc.queryNumberValues()).isEqualTo(expNums);
       assertThat(doc.queryTextValues())
           .isEqualTo(
               Map.of(
-                  JsonPath.from("_id"),
+                  "_id",
                   "abc",
-                  JsonPath.from("name"),
+                  "name",
                   "Bob",
-                  JsonPath.from("values"),
+                  "values",
                   new DocValueHasher()
                       .getHash(List.of(new BigDecimal(1), new BigDecimal(2)))
                       .hash()));
-      assertThat(doc.queryNullValues()).isEqualTo(Collections.singleton(JsonPath.from("nullable")));
+      assertThat(doc.queryNullValues()).isEqualTo(Collections.singleton("nullable"));
       float[] vector = {0.11f, 0.22f, 0.33f, 0.44f};
       assertThat(doc.queryVectorValues()).containsOnly(0.11f, 0.22f, 0.33f, 0.44f);
     }
@@ -131,8 +130,7 @@ public class ShredderTest {
       assertThat(doc.id()).isInstanceOf(DocumentId.StringId.class);
       // should be auto-generated UUID:
       assertThat(UUID.fromString(doc.id().asDBKey())).isNotNull();
-      List<JsonPath> expPaths =
-          Arrays.asList(JsonPath.from("_id"), JsonPath.from("age"), JsonPath.from("name"));
+      List<String> expPaths = Arrays.asList("_id", "age", "name");
 
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
       assertThat(doc.arraySize()).isEmpty();
@@ -151,10 +149,8 @@ public class ShredderTest {
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
       assertThat(doc.queryNullValues()).isEmpty();
-      assertThat(doc.queryNumberValues())
-          .isEqualTo(Map.of(JsonPath.from("age"), BigDecimal.valueOf(39)));
-      assertThat(doc.queryTextValues())
-          .isEqualTo(Map.of(JsonPath.from("_id"), generatedId, JsonPath.from("name"), "Chuck"));
+      assertThat(doc.queryNumberValues()).isEqualTo(Map.of("age", BigDecimal.valueOf(39)));
+      assertThat(doc.queryTextValues()).isEqualTo(Map.of("_id", generatedId, "name", "Chuck"));
     }
 
     @Test
@@ -176,10 +172,10 @@ public class ShredderTest {
       // 1 non-doc-id main-level property
       assertThat(doc.arrayContains()).containsExactlyInAnyOrder("name SBob");
 
-      assertThat(doc.queryBoolValues()).isEqualTo(Map.of(JsonPath.from("_id"), Boolean.TRUE));
+      assertThat(doc.queryBoolValues()).isEqualTo(Map.of("_id", (byte) 1));
       assertThat(doc.queryNullValues()).isEmpty();
       assertThat(doc.queryNumberValues()).isEmpty();
-      assertThat(doc.queryTextValues()).isEqualTo(Map.of(JsonPath.from("name"), "Bob"));
+      assertThat(doc.queryTextValues()).isEqualTo(Map.of("name", "Bob"));
     }
 
     @Test
@@ -203,9 +199,8 @@ public class ShredderTest {
 
       assertThat(doc.queryBoolValues()).isEmpty();
       assertThat(doc.queryNullValues()).isEmpty();
-      assertThat(doc.queryNumberValues())
-          .isEqualTo(Map.of(JsonPath.from("_id"), new BigDecimal(123L)));
-      assertThat(doc.queryTextValues()).isEqualTo(Map.of(JsonPath.from("name"), "Bob"));
+      assertThat(doc.queryNumberValues()).isEqualTo(Map.of("_id", new BigDecimal(123L)));
+      assertThat(doc.queryTextValues()).isEqualTo(Map.of("name", "Bob"));
     }
 
     // [json-api#210]: accidental use of Engineering notation with trailing zeroes
@@ -249,11 +244,10 @@ public class ShredderTest {
 
       assertThat(doc.queryBoolValues()).isEmpty();
       assertThat(doc.queryNullValues()).isEmpty();
-      assertThat(doc.queryNumberValues())
-          .isEqualTo(Map.of(JsonPath.from("_id"), new BigDecimal(123L)));
-      assertThat(doc.queryTextValues()).isEqualTo(Map.of(JsonPath.from("name"), "Bob"));
+      assertThat(doc.queryNumberValues()).isEqualTo(Map.of("_id", new BigDecimal(123L)));
+      assertThat(doc.queryTextValues()).isEqualTo(Map.of("name", "Bob"));
       assertThat(doc.queryTimestampValues())
-          .isEqualTo(Map.of(JsonPath.from("datetime"), new Date(testTimestamp)));
+          .isEqualTo(Map.of("datetime", Instant.ofEpochMilli(testTimestamp)));
     }
 
     @Test
@@ -371,15 +365,15 @@ public class ShredderTest {
       WritableShreddedDocument doc =
           shredder.shred(inputDoc, null, indexProjector, "testCommand", CollectionSettings.empty());
       assertThat(doc.id()).isEqualTo(DocumentId.fromNumber(BigDecimal.valueOf(123)));
-      List<JsonPath> expPaths =
+      List<String> expPaths =
           Arrays.asList(
               // NOTE: "$vector" is implicitly added to non-empty "allow" List
-              JsonPath.from("$vector"),
-              JsonPath.from("$vectorize"),
-              JsonPath.from("name"),
-              JsonPath.from("metadata"),
-              JsonPath.from("metadata.x"),
-              JsonPath.from("metadata.y"));
+              "$vector",
+              "$vectorize",
+              "name",
+              "metadata",
+              "metadata.x",
+              "metadata.y");
 
       // First verify paths
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
@@ -398,15 +392,12 @@ public class ShredderTest {
 
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
-      Map<JsonPath, BigDecimal> expNums = new LinkedHashMap<>();
-      expNums.put(JsonPath.from("metadata.x"), BigDecimal.valueOf(28));
-      expNums.put(JsonPath.from("metadata.y"), BigDecimal.valueOf(12));
+      Map<String, BigDecimal> expNums = new LinkedHashMap<>();
+      expNums.put("metadata.x", BigDecimal.valueOf(28));
+      expNums.put("metadata.y", BigDecimal.valueOf(12));
       assertThat(doc.queryNumberValues()).isEqualTo(expNums);
       assertThat(doc.queryTextValues())
-          .hasSize(2)
-          .isEqualTo(
-              Map.of(
-                  JsonPath.from("name"), "Bob", JsonPath.from("metadata"), "O2\nx\nN28\ny\nN12"));
+          .hasSize(2).isEqualTo(Map.of("name", "Bob", "metadata", "O2\nx\nN28\ny\nN12"));
       assertThat(doc.queryNullValues()).isEmpty();
       float[] vector = {0.11f, 0.22f, 0.33f, 0.44f};
       assertThat(doc.queryVectorValues()).containsOnly(vector);
@@ -439,15 +430,15 @@ public class ShredderTest {
       WritableShreddedDocument doc =
           shredder.shred(inputDoc, null, indexProjector, "testCommand", CollectionSettings.empty());
       assertThat(doc.id()).isEqualTo(DocumentId.fromNumber(BigDecimal.valueOf(123)));
-      List<JsonPath> expPaths =
+      List<String> expPaths =
           Arrays.asList(
               // NOTE: "$vector" is implicitly added to non-empty "allow" List
-              JsonPath.from("$vector"),
-              JsonPath.from("$vectorize"),
-              JsonPath.from("name"),
-              JsonPath.from("metadata"),
-              JsonPath.from("metadata.x"),
-              JsonPath.from("metadata.y"));
+              "$vector",
+              "$vectorize",
+              "name",
+              "metadata",
+              "metadata.x",
+              "metadata.y");
 
       // First verify paths
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
@@ -466,15 +457,12 @@ public class ShredderTest {
 
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
-      Map<JsonPath, BigDecimal> expNums = new LinkedHashMap<>();
-      expNums.put(JsonPath.from("metadata.x"), BigDecimal.valueOf(28));
-      expNums.put(JsonPath.from("metadata.y"), BigDecimal.valueOf(12));
+      Map<String, BigDecimal> expNums = new LinkedHashMap<>();
+      expNums.put("metadata.x", BigDecimal.valueOf(28));
+      expNums.put("metadata.y", BigDecimal.valueOf(12));
       assertThat(doc.queryNumberValues()).isEqualTo(expNums);
       assertThat(doc.queryTextValues())
-          .hasSize(2)
-          .isEqualTo(
-              Map.of(
-                  JsonPath.from("name"), "Bob", JsonPath.from("metadata"), "O2\nx\nN28\ny\nN12"));
+          .hasSize(2).isEqualTo(Map.of("name", "Bob", "metadata", "O2\nx\nN28\ny\nN12"));
       assertThat(doc.queryNullValues()).isEmpty();
       float[] vector = {0.11f, 0.22f, 0.33f, 0.44f};
       assertThat(doc.queryVectorValues()).containsOnly(vector);
@@ -501,13 +489,13 @@ public class ShredderTest {
       WritableShreddedDocument doc =
           shredder.shred(inputDoc, null, indexProjector, "testCommand", CollectionSettings.empty());
       assertThat(doc.id()).isEqualTo(DocumentId.fromNumber(BigDecimal.valueOf(123)));
-      List<JsonPath> expPaths =
+      List<String> expPaths =
           Arrays.asList(
               // NOTE: "$vector" is implicitly added to non-empty "allow" List
-              JsonPath.from("$vector"),
-              JsonPath.from("name"),
-              JsonPath.from("metadata"),
-              JsonPath.from("metadata.x"));
+              "$vector",
+              "name",
+              "metadata",
+              "metadata.x");
 
       // First verify paths
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
@@ -525,12 +513,11 @@ public class ShredderTest {
 
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
-      Map<JsonPath, BigDecimal> expNums = new LinkedHashMap<>();
-      expNums.put(JsonPath.from("metadata.x"), BigDecimal.valueOf(28));
+      Map<String, BigDecimal> expNums = new LinkedHashMap<>();
+      expNums.put("metadata.x", BigDecimal.valueOf(28));
       assertThat(doc.queryNumberValues()).isEqualTo(expNums);
       assertThat(doc.queryTextValues())
-          .hasSize(2)
-          .isEqualTo(Map.of(JsonPath.from("name"), "Bob", JsonPath.from("metadata"), "O1\nx\nN28"));
+          .hasSize(2).isEqualTo(Map.of("name", "Bob", "metadata", "O1\nx\nN28"));
       assertThat(doc.queryNullValues()).isEmpty();
       float[] vector = {0.25f, -0.5f};
       assertThat(doc.queryVectorValues()).containsOnly(vector);
@@ -558,15 +545,15 @@ public class ShredderTest {
       WritableShreddedDocument doc =
           shredder.shred(inputDoc, null, indexProjector, "testCommand", CollectionSettings.empty());
       assertThat(doc.id()).isEqualTo(DocumentId.fromNumber(BigDecimal.valueOf(123)));
-      List<JsonPath> expPaths =
+      List<String> expPaths =
           Arrays.asList(
-              JsonPath.from("_id"),
-              JsonPath.from("metadata"),
-              JsonPath.from("metadata.x"),
-              JsonPath.from("metadata.y"),
-              JsonPath.from("nullable"),
-              JsonPath.from("$vector"),
-              JsonPath.from("$vectorize"));
+              "_id",
+              "metadata",
+              "metadata.x",
+              "metadata.y",
+              "nullable",
+              "$vector",
+              "$vectorize");
 
       // First verify paths
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
@@ -585,15 +572,14 @@ public class ShredderTest {
 
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
-      Map<JsonPath, BigDecimal> expNums = new LinkedHashMap<>();
-      expNums.put(JsonPath.from("_id"), BigDecimal.valueOf(123));
-      expNums.put(JsonPath.from("metadata.x"), BigDecimal.valueOf(28));
-      expNums.put(JsonPath.from("metadata.y"), BigDecimal.valueOf(12));
+      Map<String, BigDecimal> expNums = new LinkedHashMap<>();
+      expNums.put("_id", BigDecimal.valueOf(123));
+      expNums.put("metadata.x", BigDecimal.valueOf(28));
+      expNums.put("metadata.y", BigDecimal.valueOf(12));
       assertThat(doc.queryNumberValues()).isEqualTo(expNums);
       assertThat(doc.queryTextValues())
-          .hasSize(1)
-          .isEqualTo(Map.of(JsonPath.from("metadata"), "O2\nx\nN28\ny\nN12"));
-      assertThat(doc.queryNullValues()).hasSize(1).containsExactly(JsonPath.from("nullable"));
+          .hasSize(1).isEqualTo(Map.of("metadata", "O2\nx\nN28\ny\nN12"));
+      assertThat(doc.queryNullValues()).hasSize(1).containsExactly("nullable");
       float[] vector = {0.11f, 0.22f, 0.33f, 0.44f};
       assertThat(doc.queryVectorValues()).containsOnly(vector);
     }
@@ -621,8 +607,7 @@ public class ShredderTest {
           shredder.shred(inputDoc, null, indexProjector, "testCommand", CollectionSettings.empty());
       assertThat(doc.id()).isEqualTo(DocumentId.fromNumber(BigDecimal.valueOf(123)));
 
-      List<JsonPath> expPaths =
-          Arrays.asList(JsonPath.from("$vector"), JsonPath.from("$vectorize"));
+      List<String> expPaths = Arrays.asList("$vector", "$vectorize");
       // First verify paths
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
 
@@ -663,7 +648,7 @@ public class ShredderTest {
       WritableShreddedDocument doc =
           shredder.shred(inputDoc, null, indexProjector, "testCommand", CollectionSettings.empty());
       assertThat(doc.id()).isEqualTo(DocumentId.fromNumber(BigDecimal.valueOf(1)));
-      List<JsonPath> expPaths = Arrays.asList(JsonPath.from("_id"), JsonPath.from("name"));
+      List<String> expPaths = Arrays.asList("_id", "name");
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
       assertThat(doc.arraySize()).isEmpty();
 
@@ -677,9 +662,8 @@ public class ShredderTest {
 
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
-      assertThat(doc.queryNumberValues())
-          .isEqualTo(Map.of(JsonPath.from("_id"), BigDecimal.valueOf(1)));
-      assertThat(doc.queryTextValues()).isEqualTo(Map.of(JsonPath.from("name"), "Mo"));
+      assertThat(doc.queryNumberValues()).isEqualTo(Map.of("_id", BigDecimal.valueOf(1)));
+      assertThat(doc.queryTextValues()).isEqualTo(Map.of("name", "Mo"));
       assertThat(doc.queryNullValues()).isEmpty();
       assertThat(doc.queryVectorValues()).isNull();
     }
@@ -66,8 +66,7 @@ public class ShredderWithExtendedTypesTest {
           .isEqualTo(
               DocumentId.fromExtensionType(
                   JsonExtensionType.UUID, objectMapper.getNodeFactory().textNode(idUUID)));
-      List<JsonPath> expPaths =
-          Arrays.asList(JsonPath.from("_id"), JsonPath.from("name"), JsonPath.from("extraId"));
+      List<String> expPaths = Arrays.asList("_id", "name", "extraId");
 
       // First verify paths
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
@@ -87,14 +86,7 @@ public class ShredderWithExtendedTypesTest {
       assertThat(doc.queryBoolValues()).isEmpty();
       assertThat(doc.queryNumberValues()).isEmpty();
       assertThat(doc.queryTextValues())
-          .isEqualTo(
-              Map.of(
-                  JsonPath.from("_id"),
-                  idUUID,
-                  JsonPath.from("name"),
-                  "Bob",
-                  JsonPath.from("extraId"),
-                  valueUUID));
+          .isEqualTo(Map.of("_id", idUUID, "name", "Bob", "extraId", valueUUID));
       assertThat(doc.queryNullValues()).isEmpty();
       assertThat(doc.queryVectorValues()).isNull();
     }
@@ -118,8 +110,7 @@ public class ShredderWithExtendedTypesTest {
           .isEqualTo(
               DocumentId.fromExtensionType(
                   JsonExtensionType.OBJECT_ID, objectMapper.getNodeFactory().textNode(idObjectId)));
-      List<JsonPath> expPaths =
-          Arrays.asList(JsonPath.from("_id"), JsonPath.from("name"), JsonPath.from("objectId2"));
+      List<String> expPaths = Arrays.asList("_id", "name", "objectId2");
 
       // First verify paths
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
@@ -139,14 +130,7 @@ public class ShredderWithExtendedTypesTest {
       assertThat(doc.queryBoolValues()).isEmpty();
       assertThat(doc.queryNumberValues()).isEmpty();
       assertThat(doc.queryTextValues())
-          .isEqualTo(
-              Map.of(
-                  JsonPath.from("_id"),
-                  idObjectId,
-                  JsonPath.from("name"),
-                  "Bob",
-                  JsonPath.from("objectId2"),
-                  valueObjectId));
+          .isEqualTo(Map.of("_id", idObjectId, "name", "Bob", "objectId2", valueObjectId));
       assertThat(doc.queryNullValues()).isEmpty();
       assertThat(doc.queryVectorValues()).isNull();
     }
@@ -166,8 +150,7 @@ public class ShredderWithExtendedTypesTest {
       assertThat(doc.id()).isInstanceOf(DocumentId.StringId.class);
       // should be auto-generated UUID:
       assertThat(UUID.fromString(doc.id().asDBKey())).isNotNull();
-      List<JsonPath> expPaths =
-          Arrays.asList(JsonPath.from("_id"), JsonPath.from("age"), JsonPath.from("name"));
+      List<String> expPaths = Arrays.asList("_id", "age", "name");
 
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
       assertThat(doc.arraySize()).isEmpty();
@@ -186,10 +169,8 @@ public class ShredderWithExtendedTypesTest {
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
       assertThat(doc.queryNullValues()).isEmpty();
-      assertThat(doc.queryNumberValues())
-          .isEqualTo(Map.of(JsonPath.from("age"), BigDecimal.valueOf(39)));
-      assertThat(doc.queryTextValues())
-          .isEqualTo(Map.of(JsonPath.from("_id"), generatedId, JsonPath.from("name"), "Chuck"));
+      assertThat(doc.queryNumberValues()).isEqualTo(Map.of("age", BigDecimal.valueOf(39)));
+      assertThat(doc.queryTextValues()).isEqualTo(Map.of("_id", generatedId, "name", "Chuck"));
     }
   }
 
@@ -214,7 +195,7 @@ public class ShredderWithExtendedTypesTest {
       // should be auto-generated ObjectId: verify by constructing from String representation:
       UUID typedId = UUIDUtil.uuid(((DocumentId.StringId) docId).key());
       assertThat(typedId).isNotNull();
-      List<JsonPath> expPaths = Arrays.asList(JsonPath.from("_id"), JsonPath.from("value"));
+      List<String> expPaths = Arrays.asList("_id", "value");
 
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
       assertThat(doc.arraySize()).isEmpty();
@@ -229,9 +210,8 @@ public class ShredderWithExtendedTypesTest {
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
       assertThat(doc.queryNullValues()).isEmpty();
-      assertThat(doc.queryNumberValues())
-          .isEqualTo(Map.of(JsonPath.from("value"), BigDecimal.valueOf(42)));
-      assertThat(doc.queryTextValues()).isEqualTo(Map.of(JsonPath.from("_id"), typedId.toString()));
+      assertThat(doc.queryNumberValues()).isEqualTo(Map.of("value", BigDecimal.valueOf(42)));
+      assertThat(doc.queryTextValues()).isEqualTo(Map.of("_id", typedId.toString()));
     }
 
     @Test
@@ -252,7 +232,7 @@ public class ShredderWithExtendedTypesTest {
       // should be auto-generated ObjectId: verify by constructing from String representation:
       ObjectId typedId = new ObjectId(((DocumentId.ExtensionTypeId) docId).valueAsString());
       assertThat(typedId).isNotNull();
-      List<JsonPath> expPaths = Arrays.asList(JsonPath.from("_id"), JsonPath.from("value"));
+      List<String> expPaths = Arrays.asList("_id", "value");
 
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
       assertThat(doc.arraySize()).isEmpty();
@@ -269,9 +249,8 @@ public class ShredderWithExtendedTypesTest {
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
       assertThat(doc.queryNullValues()).isEmpty();
-      assertThat(doc.queryNumberValues())
-          .isEqualTo(Map.of(JsonPath.from("value"), BigDecimal.valueOf(42)));
-      assertThat(doc.queryTextValues()).isEqualTo(Map.of(JsonPath.from("_id"), typedId.toString()));
+      assertThat(doc.queryNumberValues()).isEqualTo(Map.of("value", BigDecimal.valueOf(42)));
+      assertThat(doc.queryTextValues()).isEqualTo(Map.of("_id", typedId.toString()));
     }
 
     @Test
@@ -308,7 +287,7 @@ public class ShredderWithExtendedTypesTest {
       // representation
       UUID typedId = UUIDUtil.uuid(((DocumentId.ExtensionTypeId) docId).valueAsString());
       assertThat(typedId.version()).isEqualTo(uuidVersion);
-      List<JsonPath> expPaths = Arrays.asList(JsonPath.from("_id"), JsonPath.from("value"));
+      List<String> expPaths = Arrays.asList("_id", "value");
 
       assertThat(doc.existKeys()).isEqualTo(new HashSet<>(expPaths));
       assertThat(doc.arraySize()).isEmpty();
@@ -325,9 +304,8 @@ public class ShredderWithExtendedTypesTest {
       // Then atomic value containers
       assertThat(doc.queryBoolValues()).isEmpty();
       assertThat(doc.queryNullValues()).isEmpty();
-      assertThat(doc.queryNumberValues())
-          .isEqualTo(Map.of(JsonPath.from("value"), BigDecimal.valueOf(42)));
-      assertThat(doc.queryTextValues()).isEqualTo(Map.of(JsonPath.from("_id"), typedId.toString()));
+      assertThat(doc.queryNumberValues()).isEqualTo(Map.of("value", BigDecimal.valueOf(42)));
+      assertThat(doc.queryTextValues()).isEqualTo(Map.of("_id", typedId.toString()));
     }
   }
 
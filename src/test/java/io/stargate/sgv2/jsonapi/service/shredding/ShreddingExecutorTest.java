@@ -0,0 +1,120 @@
+package io.stargate.sgv2.jsonapi.service.shredding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.stargate.sgv2.jsonapi.config.OperationsConfig;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ShreddingExecutorTest {
+
+  private MeterRegistry meterRegistry;
+
+  private ShreddingExecutor executor;
+
+  private Vertx vertx;
+
+  @BeforeEach
+  public void init() {
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  public void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+    if (vertx != null) {
+      vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+  }
+
+  @Test
+  public void runsOnPoolInOrder() {
+    executor = new ShreddingExecutor(config(true), meterRegistry);
+
+    List<String> threads =
+        executor.runAll(threadNameTasks(10)).await().atMost(Duration.ofSeconds(5));
+
+    assertThat(threads)
+        .hasSize(10)
+        .allSatisfy(thread -> assertThat(thread).startsWith(ShreddingExecutor.POOL_NAME + "-"));
+    assertThat(meterRegistry.find("executor").tag("name", ShreddingExecutor.POOL_NAME).timer())
+        .isNotNull();
+  }
+
+  @Test
+  public void emitsOnCallerContext() {
+    executor = new ShreddingExecutor(config(true), meterRegistry);
+    vertx = Vertx.vertx();
+    Context context = vertx.getOrCreateContext();
+    CompletableFuture<Boolean> onCallerContext = new CompletableFuture<>();
+
+    context.runOnContext(
+        ignored ->
+            executor
+                .runAll(threadNameTasks(10))
+                .subscribe()
+                .with(
+                    threads -> onCallerContext.complete(Vertx.currentContext() == context),
+                    onCallerContext::completeExceptionally));
+
+    assertThat(onCallerContext.join()).isTrue();
+  }
+
+  @Test
+  public void failure() {
+    executor = new ShreddingExecutor(config(true), meterRegistry);
+    List<Supplier<String>> tasks = new ArrayList<>(threadNameTasks(3));
+    tasks.add(
+        () -> {
+          throw new IllegalStateException("failed");
+        });
+
+    Throwable failure =
+        catchThrowable(() -> executor.runAll(tasks).await().atMost(Duration.ofSeconds(5)));
+
+    assertThat(failure).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+  }
+
+  @Test
+  public void disabled() {
+    executor = new ShreddingExecutor(config(false), meterRegistry);
+
+    List<String> threads =
+        executor.runAll(threadNameTasks(2)).await().atMost(Duration.ofSeconds(5));
+
+    assertThat(executor.isEnabled()).isFalse();
+    assertThat(threads).containsOnly(Thread.currentThread().getName());
+    assertThat(meterRegistry.find("executor").timer()).isNull();
+  }
+
+  private static List<Supplier<String>> threadNameTasks(int count) {
+    List<Supplier<String>> tasks = new ArrayList<>(count);
+    for (int i = 0; i < count; ++i) {
+      tasks.add(() -> Thread.currentThread().getName());
+    }
+    return tasks;
+  }
+
+  private static OperationsConfig config(boolean enabled) {
+    OperationsConfig config = mock(OperationsConfig.class);
+    when(config.parallelShreddingEnabled()).thenReturn(enabled);
+    when(config.parallelShreddingThreads()).thenReturn(Optional.of(2));
+    return config;
+  }
+}
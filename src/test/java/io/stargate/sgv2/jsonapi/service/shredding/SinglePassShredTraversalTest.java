@@ -0,0 +1,215 @@
+package io.stargate.sgv2.jsonapi.service.shredding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.stargate.sgv2.common.testprofiles.NoGlobalResourcesTestProfile;
+import io.stargate.sgv2.jsonapi.api.request.DataApiRequestInfo;
+import io.stargate.sgv2.jsonapi.api.v1.metrics.JsonProcessingMetricsReporter;
+import io.stargate.sgv2.jsonapi.config.DocumentLimitsConfig;
+import io.stargate.sgv2.jsonapi.exception.ErrorCode;
+import io.stargate.sgv2.jsonapi.exception.JsonApiException;
+import io.stargate.sgv2.jsonapi.service.cqldriver.executor.CollectionSettings;
+import io.stargate.sgv2.jsonapi.service.projection.IndexingProjector;
+import io.stargate.sgv2.jsonapi.service.shredding.model.WritableShreddedDocument;
+import jakarta.inject.Inject;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the single pass shredding produces the same results, and the same failures, as the
+ * shredding with a separate traversal per step.
+ */
+@QuarkusTest
+@TestProfile(NoGlobalResourcesTestProfile.Impl.class)
+public class SinglePassShredTraversalTest {
+  private static final String DOC =
+      """
+      { "name" : "Bob",
+        "_id" : "abc",
+        "values" : [ 1, 2.5, "x", null, true, { "a" : 1, "b" : [ 3 ] }, [ 4, 5 ] ],
+        "metadata" : {
+          "x" : 28,
+          "y" : { "z" : "deep", "w" : false },
+          "created" : { "$date" : 1672531200000 }
+        },
+        "tags" : [ { "name" : "t1", "score" : 1 }, { "name" : "t2", "score" : 2 } ],
+        "nullable" : null,
+        "big" : 1.0E+10,
+        "$vector" : [ 0.11, 0.22, 0.33, 0.44 ],
+        "$vectorize" : "some data"
+      }
+      """;
+
+  @Inject ObjectMapper objectMapper;
+
+  @Inject Shredder shredder;
+
+  @Inject DocumentLimitsConfig docLimits;
+
+  @Inject JsonProcessingMetricsReporter metricsReporter;
+
+  @InjectMock protected DataApiRequestInfo dataApiRequestInfo;
+
+  private Shredder multiPassShredder;
+
+  @BeforeEach
+  public void init() {
+    multiPassShredder = new Shredder(objectMapper, docLimits, metricsReporter, false);
+  }
+
+  @Nested
+  class SameAsMultiPass {
+    @Test
+    public void identityProjection() throws Exception {
+      assertSameResult(DOC, IndexingProjector.identityProjector());
+    }
+
+    @Test
+    public void allowProjection() throws Exception {
+      assertSameResult(
+          DOC,
+          IndexingProjector.createForIndexing(
+              new HashSet<>(Arrays.asList("name", "metadata.y.z", "tags.name", "values")), null));
+    }
+
+    @Test
+    public void denyProjection() throws Exception {
+      assertSameResult(
+          DOC,
+          IndexingProjector.createForIndexing(
+              null, new HashSet<>(Arrays.asList("metadata.x", "tags.score", "values"))));
+    }
+
+    @Test
+    public void denyAllProjection() throws Exception {
+      assertSameResult(
+          DOC, IndexingProjector.createForIndexing(null, new HashSet<>(Arrays.asList("*"))));
+    }
+
+    @Test
+    public void documentIdFirst() throws Exception {
+      final JsonNode inputDoc =
+          objectMapper.readTree(
+              """
+              { "_id" : { "$uuid" : "%s" }, "a" : [ 1 ] }
+              """
+                  .formatted(UUID.randomUUID()));
+      final String inputJson = inputDoc.toString();
+
+      WritableShreddedDocument singlePass = shredder.shred(inputDoc);
+      assertThat(singlePass).isEqualTo(multiPassShredder.shred(inputDoc));
+      // document with the id as the first property is used as-is, not modified
+      assertThat(singlePass.docJsonNode()).isSameAs(inputDoc);
+      assertThat(inputDoc.toString()).isEqualTo(inputJson);
+    }
+
+    @Test
+    public void generatedDocumentId() throws Exception {
+      final JsonNode inputDoc = objectMapper.readTree("{ \"a\" : 1 }");
+
+      WritableShreddedDocument doc = shredder.shred(inputDoc);
+      assertThat(doc.docJson()).isEqualTo("{\"_id\":\"" + doc.id().value() + "\",\"a\":1}");
+      assertThat(inputDoc.has("_id")).isFalse();
+    }
+
+    private void assertSameResult(String json, IndexingProjector projector) throws Exception {
+      final JsonNode inputDoc = objectMapper.readTree(json);
+      final String inputJson = inputDoc.toString();
+
+      WritableShreddedDocument singlePass =
+          shredder.shred(inputDoc, null, projector, "testCommand", CollectionSettings.empty());
+      WritableShreddedDocument multiPass =
+          multiPassShredder.shred(
+              inputDoc, null, projector, "testCommand", CollectionSettings.empty());
+
+      assertThat(singlePass.docJson()).isEqualTo(multiPass.docJson());
+      assertThat(singlePass).isEqualTo(multiPass);
+      // Input document must not be modified by the projection
+      assertThat(inputDoc.toString()).isEqualTo(inputJson);
+    }
+  }
+
+  @Nested
+  class SameFailureAsMultiPass {
+    @Test
+    public void structureViolationBeforeValueViolation() {
+      // long String comes first, but too deep nesting is reported
+      ObjectNode doc = objectMapper.createObjectNode();
+      doc.put("text", "x".repeat(docLimits.maxStringLengthInBytes() + 1));
+      ObjectNode nested = doc.putObject("nested");
+      for (int i = 0; i < docLimits.maxDepth(); ++i) {
+        nested = nested.putObject("n");
+      }
+
+      assertSameFailure(doc, IndexingProjector.identityProjector());
+    }
+
+    @Test
+    public void valueViolationBeforeShredFailure() {
+      // invalid EJSON value comes first, but the long String is reported
+      ObjectNode doc = objectMapper.createObjectNode();
+      doc.putObject("date").put("$date", "not-a-date");
+      doc.put("text", "x".repeat(docLimits.maxStringLengthInBytes() + 1));
+
+      Exception e = assertSameFailure(doc, IndexingProjector.identityProjector());
+      assertThat(e)
+          .isInstanceOf(JsonApiException.class)
+          .hasFieldOrPropertyWithValue("errorCode", ErrorCode.SHRED_DOC_LIMIT_VIOLATION);
+    }
+
+    @Test
+    public void valueViolationNotIndexed() throws Exception {
+      ObjectNode doc = objectMapper.createObjectNode();
+      doc.put("_id", "doc1");
+      doc.put("text", "x".repeat(docLimits.maxStringLengthInBytes() + 1));
+      IndexingProjector projector =
+          IndexingProjector.createForIndexing(null, new HashSet<>(Arrays.asList("text")));
+
+      assertThat(shredder.shred(doc, null, projector, "testCommand", CollectionSettings.empty()))
+          .isEqualTo(
+              multiPassShredder.shred(
+                  doc, null, projector, "testCommand", CollectionSettings.empty()));
+    }
+
+    @Test
+    public void tooManyProperties() {
+      ObjectNode doc = objectMapper.createObjectNode();
+      for (int i = 0; i < docLimits.maxDocumentProperties() / 100 + 1; ++i) {
+        ObjectNode sub = doc.putObject("sub" + i);
+        for (int j = 0; j < 100; ++j) {
+          sub.put("p" + j, j);
+        }
+      }
+
+      assertSameFailure(doc, IndexingProjector.identityProjector());
+    }
+
+    private Exception assertSameFailure(ObjectNode doc, IndexingProjector projector) {
+      doc.put("_id", "doc1");
+      Exception singlePass =
+          catchException(
+              () ->
+                  shredder.shred(doc, null, projector, "testCommand", CollectionSettings.empty()));
+      Exception multiPass =
+          catchException(
+              () ->
+                  multiPassShredder.shred(
+                      doc, null, projector, "testCommand", CollectionSettings.empty()));
+
+      assertThat(singlePass).isNotNull().isInstanceOf(JsonApiException.class);
+      assertThat(singlePass).hasMessage(multiPass.getMessage());
+      return singlePass;
+    }
+  }
+}
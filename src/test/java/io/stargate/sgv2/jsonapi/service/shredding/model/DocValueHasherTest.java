@@ -330,6 +330,98 @@ public class DocValueHasherTest {
     }
   }
 
+  @Nested
+  class V2Format {
+    @Test
+    public void shortArrayFixedWidth() throws Exception {
+      JsonNode doc = objectMapper.readTree("[1, true, null]");
+      DocValueHash hash = new DocValueHasher(DocValueHashFormat.V2).hash(doc);
+      assertThat(hash.type()).isEqualTo(DocValueType.ARRAY);
+      // unlike with V1, short Arrays are digested too
+      assertDigestBase64(hash);
+      assertThat(hash.hash()).isNotEqualTo(new DocValueHasher().hash(doc).hash());
+    }
+
+    @Test
+    public void emptyArrayAndObjectDiffer() throws Exception {
+      DocValueHasher hasher = new DocValueHasher(DocValueHashFormat.V2);
+      DocValueHash arrayHash = hasher.hash(objectMapper.readTree("[]"));
+      DocValueHash objectHash = hasher.hash(objectMapper.readTree("{}"));
+      assertDigestBase64(arrayHash);
+      assertDigestBase64(objectHash);
+      assertThat(arrayHash.hash()).isNotEqualTo(objectHash.hash());
+    }
+
+    @Test
+    public void sameForSameContents() throws Exception {
+      final String json =
+          """
+          { "name" : "Bob", "values" : [ 1, 2, true, null ], "address" : { "zip" : 21040 } }
+          """;
+      DocValueHash hash1 = v2Hash(json);
+      assertDigestBase64(hash1);
+      assertThat(v2Hash(json)).isEqualTo(hash1);
+
+      // Order of the properties matters, same as for V1
+      DocValueHash reordered =
+          v2Hash(
+              """
+              { "values" : [ 1, 2, true, null ], "name" : "Bob", "address" : { "zip" : 21040 } }
+              """);
+      assertThat(reordered.hash()).isNotEqualTo(hash1.hash());
+    }
+
+    @Test
+    public void nameAndValueBoundaries() throws Exception {
+      DocValueHasher hasher = new DocValueHasher(DocValueHashFormat.V2);
+      DocValueHash hash1 = hasher.hash(objectMapper.readTree("{\"ab\" : \"c\"}"));
+      DocValueHash hash2 = hasher.hash(objectMapper.readTree("{\"a\" : \"bc\"}"));
+      assertThat(hash1.hash()).isNotEqualTo(hash2.hash());
+    }
+
+    @Test
+    public void atomicValuesSameAsV1() throws Exception {
+      DocValueHasher hasher = new DocValueHasher(DocValueHashFormat.V2);
+      assertThat(hasher.hash(objectMapper.readTree("25.3")).hash()).isEqualTo("N25.3");
+      assertThat(hasher.hash(objectMapper.readTree("\"Some text\"")).hash())
+          .isEqualTo("SSome text");
+      assertThat(hasher.hash(objectMapper.readTree("{\"$date\":123}")).hash())
+          .isEqualTo("T123");
+    }
+
+    @Test
+    public void sameForFilterValues() throws Exception {
+      JsonNode doc =
+          objectMapper.readTree(
+              """
+              {"a1" : 5, "b1" : { "a2" : "abc", "b2" : [ true, null ] }}
+              """);
+      DocValueHash hash = new DocValueHasher(DocValueHashFormat.V2).hash(doc);
+
+      Map<String, Object> values = new LinkedHashMap<>();
+      values.put("a1", new BigDecimal(5));
+      Map<String, Object> innerValues = new LinkedHashMap<>();
+      innerValues.put("a2", "abc");
+      List<Object> arrayValues = new ArrayList<>();
+      arrayValues.add(true);
+      arrayValues.add(null);
+      innerValues.put("b2", arrayValues);
+      values.put("b1", innerValues);
+      DocValueHash hashFromMap = new DocValueHasher(DocValueHashFormat.V2).getHash(values);
+      assertThat(hashFromMap).isEqualTo(hash);
+    }
+
+    private DocValueHash v2Hash(String json) throws Exception {
+      return new DocValueHasher(DocValueHashFormat.V2).hash(objectMapper.readTree(json));
+    }
+
+    private void assertDigestBase64(DocValueHash hash) {
+      assertThat(hash.usesMD5()).isFalse();
+      assertThat(hash.hash()).hasSize(22);
+      assertThat(Base64.getDecoder().decode(hash.hash())).hasSize(16);
+    }
+  }
+
   /**
    * Helper method for checking that given String is valid Base64 encoded representation of a
    * 16-byte value -- presumably MD5 hash (but that can not be validated without knowing input etc)
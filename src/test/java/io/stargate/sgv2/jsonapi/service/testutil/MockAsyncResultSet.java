@@ -57,6 +57,10 @@ public class MockAsyncResultSet implements AsyncResultSet {
 
   @Override
   public Row one() {
+    // same as the driver, null once the page is exhausted
+    if (!iterator.hasNext()) {
+      return null;
+    }
     Row next = iterator.next();
     remaining--;
     return next;